@@ -13,6 +13,7 @@ CREATE TABLE interests (
                            interest_id UUID PRIMARY KEY ,
                            name VARCHAR(100) NOT NULL UNIQUE,
                            subscriber_counts INTEGER NOT NULL DEFAULT 0,
+                           keyword_text TEXT,
                            created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
                            updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP
 );
@@ -52,6 +53,9 @@ CREATE TABLE users_subscribes (
                                   CONSTRAINT uk_users_subscribers UNIQUE (user_id, interest_id)
 );
 
+-- 관심사별 구독자 조회/구독자 수 집계용 (uk_users_subscribers 는 user_id 로 시작해 쓸 수 없음)
+CREATE INDEX idx_users_subscribes_interest_id ON users_subscribes (interest_id);
+
 -- Interests Keywords (Many-to-Many between Interests and Keywords)
 CREATE TABLE interests_keywords (
                                     interest_keyword_id UUID PRIMARY KEY ,
@@ -125,7 +129,50 @@ CREATE TABLE notifications (
                                resource_type VARCHAR(255) NOT NULL,
                                resource_id UUID NOT NULL,
                                confirmed BOOLEAN NOT NULL DEFAULT FALSE,
+                               actor_count INTEGER NOT NULL DEFAULT 1,
                                created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
                                updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
                                CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users(user_id) ON DELETE CASCADE
 );
+
+-- 미확인 알림 목록 키셋 페이지네이션용 (created_at DESC, notification_id)
+CREATE INDEX idx_notifications_user_unconfirmed ON notifications (user_id, confirmed, created_at DESC, notification_id);
+
+-- 보존 기간이 지난 확인 알림 삭제용 (미확인 알림은 인덱스에 포함하지 않음)
+CREATE INDEX idx_notifications_confirmed_updated_at ON notifications (updated_at) WHERE confirmed = true;
+
+-- 관심사 부분 일치 검색용 trigram 인덱스 (LIKE '%검색어%', 키워드는 keyword_text 로 검색)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX idx_interests_name_trgm ON interests USING gin (lower(name) gin_trgm_ops);
+CREATE INDEX idx_interests_keyword_text_trgm ON interests USING gin (lower(keyword_text) gin_trgm_ops);
+
+-- 같은 기사(source_url)는 한 번만 저장한다. 백업 복구는 INSERT ... ON CONFLICT DO NOTHING 으로 기존 기사를 건너뛴다
+CREATE UNIQUE INDEX uk_news_articles_source_url ON news_articles (source_url);
+
+-- 증분 백업: updated_at 워터마크 이후 변경분 조회
+CREATE INDEX idx_news_articles_updated_at ON news_articles (updated_at);
+
+-- 증분 백업은 updated_at 으로 변경분을 찾으므로, updated_at 을 바꾸지 않은 UPDATE(일괄 SQL 등)는 현재 시각으로 채운다
+CREATE OR REPLACE FUNCTION touch_news_articles_updated_at() RETURNS trigger AS $$
+BEGIN
+    IF NEW.updated_at IS NOT DISTINCT FROM OLD.updated_at THEN
+        NEW.updated_at := clock_timestamp();
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_news_articles_touch_updated_at
+    BEFORE UPDATE ON news_articles
+    FOR EACH ROW EXECUTE FUNCTION touch_news_articles_updated_at();
+
+-- 기사 물리 삭제: 의존 행을 FK 컬럼으로 batch 단위 조회/삭제 (FK 컬럼에는 자동 인덱스가 없다)
+CREATE INDEX idx_comments_managements_news_article_id ON comments_managements (news_article_id);
+CREATE INDEX idx_comments_like_comment_management_id ON comments_like (comment_management_id);
+CREATE INDEX idx_activity_details_news_article_id ON activity_details (news_article_id);
+CREATE INDEX idx_activity_details_comment_management_id ON activity_details (comment_management_id);
+CREATE INDEX idx_activity_details_comment_like_id ON activity_details (comment_like_id);
+CREATE INDEX idx_interests_news_articles_news_article_id ON interests_news_articles (news_article_id);
+
+-- 기간 물리 삭제 작업: 논리 삭제된 기사만 발행일 구간으로 조회
+CREATE INDEX idx_news_articles_deleted_published_date ON news_articles (published_date) WHERE is_deleted = true;
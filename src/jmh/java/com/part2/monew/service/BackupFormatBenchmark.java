@@ -0,0 +1,139 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.part2.monew.service.NewsRestoreEngine.BackupArticle;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * 일일 백업 형식 비교 (gzip NDJSON vs 컬럼형)
+ * - write*: 기사 목록을 백업 바이트로 인코딩, read*: 백업 바이트를 기사로 복원 (복구 경로의 파싱 비용)
+ * - 두 형식의 백업 크기는 write* 결과의 보조 카운터(backupBytes)로 보고한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BackupFormatBenchmark {
+
+    private static final String[] SOURCES = {"NAVER", "한국경제 전체뉴스", "조선일보 경제", "연합뉴스TV 최신", "한국경제 IT"};
+
+    @Param({"10000"})
+    public int articles;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final ObjectReader ndjsonReader = objectMapper.readerFor(BackupArticle.class);
+
+    private List<BackupArticle> data;
+    private byte[] ndjson;
+    private byte[] columnar;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        Random random = new Random(42);
+        long publishedAt = 1_735_657_200_000L;
+        data = new ArrayList<>(articles);
+        for (int i = 0; i < articles; i++) {
+            publishedAt += random.nextInt(60_000);
+            Timestamp published = new Timestamp(publishedAt);
+            data.add(new BackupArticle(
+                UUID.randomUUID(),
+                SOURCES[random.nextInt(SOURCES.length)],
+                "https://www.hankyung.com/article/2025" + (100_000_000 + i),
+                "경제 지표 발표 이후 시장 반응과 전망 " + i,
+                published,
+                "국내외 경제 지표가 발표된 뒤 증시와 환율이 움직였다. 전문가들은 당분간 변동성이 이어질 것으로 본다. " + i,
+                (long) random.nextInt(5_000),
+                (long) random.nextInt(100),
+                false,
+                published,
+                new Timestamp(publishedAt + random.nextInt(3_600_000))
+            ));
+        }
+        ndjson = encodeNdjson();
+        columnar = encodeColumnar();
+    }
+
+    @Benchmark
+    public byte[] writeNdjson(BackupSize size) throws IOException {
+        byte[] backup = encodeNdjson();
+        size.backupBytes = backup.length;
+        return backup;
+    }
+
+    @Benchmark
+    public byte[] writeColumnar(BackupSize size) throws IOException {
+        byte[] backup = encodeColumnar();
+        size.backupBytes = backup.length;
+        return backup;
+    }
+
+    private byte[] encodeNdjson() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n")
+            .writeValues(new GZIPOutputStream(out, 64 * 1024))) {
+            writer.writeAll(data);
+        }
+        return out.toByteArray();
+    }
+
+    private byte[] encodeColumnar() throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ColumnarBackupWriter writer = new ColumnarBackupWriter(out, 4096);
+        for (BackupArticle article : data) {
+            writer.write(article);
+        }
+        writer.finish();
+        return out.toByteArray();
+    }
+
+    @Benchmark
+    public void readNdjson(Blackhole blackhole) throws IOException {
+        try (MappingIterator<BackupArticle> values = ndjsonReader.readValues(
+            new GZIPInputStream(new ByteArrayInputStream(ndjson), 64 * 1024))) {
+            while (values.hasNextValue()) {
+                blackhole.consume(values.nextValue());
+            }
+        }
+    }
+
+    @Benchmark
+    public void readColumnar(Blackhole blackhole) throws IOException {
+        try (ColumnarBackupReader reader = new ColumnarBackupReader(new ByteArrayInputStream(columnar))) {
+            while (reader.hasNext()) {
+                blackhole.consume(reader.next());
+            }
+        }
+    }
+
+    // 마지막으로 만든 백업 크기 (반복이 끝날 때의 값이 보고된다)
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class BackupSize {
+
+        public long backupBytes;
+    }
+}
@@ -0,0 +1,60 @@
+package com.part2.monew.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 유사 관심사 후보 조회 (자모 bigram 인덱스)
+ * - 관심사 이름 수에 따른 findCandidates 한 번의 평균 시간. 전체 스캔(Jaro-Winkler) 과 비교할 때 기준으로 쓴다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InterestNameIndexBenchmark {
+
+    @Param({"100000"})
+    public int interests;
+
+    private InterestNameIndex index;
+    private List<String> queries;
+    private int next;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // replaceAll/findCandidates 는 저장소를 쓰지 않는다
+        index = new InterestNameIndex(null, 20);
+        index.replaceAll(randomNames(interests, new Random(42)));
+        queries = randomNames(1_000, new Random(7));
+    }
+
+    @Benchmark
+    public List<String> findCandidates() {
+        String query = queries.get(next);
+        next = (next + 1) % queries.size();
+        return index.findCandidates(query);
+    }
+
+    private static List<String> randomNames(int count, Random random) {
+        List<String> names = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int length = 2 + random.nextInt(5);
+            StringBuilder name = new StringBuilder(length);
+            for (int j = 0; j < length; j++) {
+                name.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+            }
+            names.add(name.toString());
+        }
+        return names;
+    }
+}
@@ -0,0 +1,108 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.part2.monew.service.NewsRestoreEngine.BackupArticle;
+import com.part2.monew.storage.BackupUpload;
+import com.part2.monew.storage.LocalBackupStorage;
+import com.part2.monew.storage.S3LogUploader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.zip.GZIPOutputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+/**
+ * 백업 복구 처리량 (H2 PostgreSQL 모드, 로컬 저장소)
+ * - 매 반복 빈 테이블에 일일 백업 하나를 복구하는 시간을 잰다. 처리량(건/초)은 articles / 측정 시간이다.
+ * - DB 왕복 비용은 실제 PostgreSQL 과 다르므로 chunk 크기별 상대 비교와 파싱/배치 경로 회귀 확인용이다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NewsRestoreBenchmark {
+
+    private static final LocalDate DATE = LocalDate.of(2025, 1, 1);
+
+    @Param({"10000"})
+    public int articles;
+
+    @Param({"500", "1000", "5000"})
+    public int chunkSize;
+
+    private JdbcTemplate jdbcTemplate;
+    private NewsRestoreEngine engine;
+    private String key;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:restore-bench;MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE IF NOT EXISTS news_articles (
+                news_article_id UUID PRIMARY KEY,
+                source_in VARCHAR(255),
+                source_url VARCHAR(2048) NOT NULL,
+                title VARCHAR(255),
+                published_date TIMESTAMP,
+                summary TEXT,
+                view_counts BIGINT NOT NULL DEFAULT 0,
+                comment_counts BIGINT NOT NULL DEFAULT 0,
+                is_deleted BOOLEAN NOT NULL DEFAULT false,
+                created_at TIMESTAMP,
+                updated_at TIMESTAMP
+            );
+            CREATE UNIQUE INDEX IF NOT EXISTS uk_news_articles_source_url ON news_articles (source_url);
+            """);
+
+        Path root = Files.createTempDirectory("monew-restore-bench");
+        S3LogUploader s3LogUploader = new S3LogUploader(null, new LocalBackupStorage(root.toString()));
+        key = s3LogUploader.getBackupFileKey(DATE);
+        writeBackup(s3LogUploader);
+        engine = new NewsRestoreEngine(s3LogUploader, jdbcTemplate, new DataSourceTransactionManager(dataSource), chunkSize);
+    }
+
+    @Setup(Level.Iteration)
+    public void truncate() {
+        jdbcTemplate.execute("TRUNCATE TABLE news_articles");
+    }
+
+    @Benchmark
+    public long restore() throws IOException {
+        return engine.restore(key, false).getRestored();
+    }
+
+    private void writeBackup(S3LogUploader s3LogUploader) throws IOException {
+        long publishedAt = 1_735_657_200_000L;
+        List<BackupArticle> data = new ArrayList<>(articles);
+        for (int i = 0; i < articles; i++) {
+            Timestamp published = new Timestamp(publishedAt + i * 1_000L);
+            data.add(new BackupArticle(UUID.randomUUID(), "NAVER", "https://www.hankyung.com/article/2025" + (100_000_000 + i),
+                "경제 지표 발표 이후 시장 반응과 전망 " + i, published,
+                "국내외 경제 지표가 발표된 뒤 증시와 환율이 움직였다. " + i, 0L, 0L, false, published, published));
+        }
+        BackupUpload upload = s3LogUploader.openBackupUpload(key, NewsBackupWriter.CONTENT_TYPE);
+        try (SequenceWriter writer = new ObjectMapper().writer().withRootValueSeparator("\n")
+            .writeValues(new GZIPOutputStream(upload, 64 * 1024))) {
+            writer.writeAll(data);
+        }
+    }
+}
@@ -1,17 +1,32 @@
 package com.part2.monew.config;
 
 
+import java.net.URI;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.S3CrtAsyncClientBuilder;
+import software.amazon.awssdk.services.s3.crt.S3CrtHttpConfiguration;
 import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 
+/**
+ * S3 클라이언트 설정
+ * - 모든 S3 접근은 여기서 만든 클라이언트(같은 자격 증명/리전/엔드포인트)를 공유한다.
+ * - 작은 요청(목록/삭제/manifest)과 스트리밍 멀티파트 업로드는 동기 클라이언트, 큰 객체 다운로드는 CRT 비동기 클라이언트로 한다.
+ * - monew.storage.s3.endpoint 를 지정하면 MinIO/LocalStack 같은 S3 호환 저장소에 path-style 로 붙는다.
+ */
 @Configuration
 public class AWSS3Config {
 
@@ -27,6 +42,9 @@ public class AWSS3Config {
     @Value("${monew.storage.s3.bucket}")
     private String bucketName;
 
+    @Value("${monew.storage.s3.endpoint:}")
+    private String endpoint;
+
     @Value("${AWS_S3_PRESIGNED_URL_EXPIRATION:3600}")
     private long preSignedUrlExpiration;
 
@@ -41,15 +59,53 @@ public class AWSS3Config {
     }
 
     @Bean
-    public S3Client s3Client(AwsCredentialsProvider credentialsProvider, Region awsRegion) {
-        return S3Client.builder().credentialsProvider(credentialsProvider).region(awsRegion)
-            .build();
+    public S3Client s3Client(AwsCredentialsProvider credentialsProvider, Region awsRegion,
+        @Value("${monew.storage.s3.max-connections:64}") int maxConnections,
+        @Value("${monew.storage.s3.connection-timeout-seconds:5}") long connectionTimeoutSeconds) {
+        S3ClientBuilder builder = S3Client.builder().credentialsProvider(credentialsProvider).region(awsRegion)
+            .httpClientBuilder(ApacheHttpClient.builder()
+                .maxConnections(maxConnections)
+                .connectionTimeout(Duration.ofSeconds(connectionTimeoutSeconds))
+                .tcpKeepAlive(true));
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
+    }
+
+    // 큰 객체 다운로드는 range GET 을 병렬로 보내 순서대로 이어 붙인다
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "monew.storage.type", havingValue = "s3")
+    public S3AsyncClient s3AsyncClient(AwsCredentialsProvider credentialsProvider, Region awsRegion,
+        @Value("${monew.storage.s3.transfer.target-throughput-gbps:5.0}") double targetThroughputGbps,
+        @Value("${monew.storage.s3.transfer.max-concurrency:32}") int maxConcurrency,
+        @Value("${monew.storage.s3.transfer.minimum-part-size-mb:8}") long minimumPartSizeMb,
+        @Value("${monew.storage.s3.connection-timeout-seconds:5}") long connectionTimeoutSeconds) {
+        S3CrtAsyncClientBuilder builder = S3AsyncClient.crtBuilder()
+            .credentialsProvider(credentialsProvider)
+            .region(awsRegion)
+            .targetThroughputInGbps(targetThroughputGbps)
+            .maxConcurrency(maxConcurrency)
+            .minimumPartSizeInBytes(minimumPartSizeMb * 1024 * 1024)
+            // 응답 체크섬이 있으면 받은 바이트와 대조한다
+            .checksumValidationEnabled(true)
+            .httpConfiguration(S3CrtHttpConfiguration.builder()
+                .connectionTimeout(Duration.ofSeconds(connectionTimeoutSeconds))
+                .build());
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+        }
+        return builder.build();
     }
 
     @Bean
     public S3Presigner s3Presigner(AwsCredentialsProvider credentialsProvider, Region awsRegion) {
-        return S3Presigner.builder().region(awsRegion).credentialsProvider(credentialsProvider)
-            .build();
+        S3Presigner.Builder builder = S3Presigner.builder().region(awsRegion).credentialsProvider(credentialsProvider);
+        if (hasEndpoint()) {
+            builder.endpointOverride(URI.create(endpoint))
+                .serviceConfiguration(S3Configuration.builder().pathStyleAccessEnabled(true).build());
+        }
+        return builder.build();
     }
 
     @Bean
@@ -63,4 +119,8 @@ public class AWSS3Config {
     public Long s3PresignedUrlExpirationSeconds() {
         return preSignedUrlExpiration;
     }
+
+    private boolean hasEndpoint() {
+        return endpoint != null && !endpoint.isBlank();
+    }
 }
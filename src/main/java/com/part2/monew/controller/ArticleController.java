@@ -3,15 +3,22 @@ package com.part2.monew.controller;
 
 import com.part2.monew.dto.request.FilterDto;
 import com.part2.monew.dto.request.RequestCursorDto;
+import com.part2.monew.dto.response.IncrementalRestoreJobResponse;
 import com.part2.monew.dto.response.NewsArticleResponseDto;
 import com.part2.monew.dto.response.PaginatedResponseDto;
+import com.part2.monew.dto.response.PurgeJobResponse;
+import com.part2.monew.dto.response.RestoreJobResponse;
 import com.part2.monew.dto.response.RestoreResultDto;
+import com.part2.monew.service.NewsIncrementalBackupService;
+import com.part2.monew.service.NewsPurgeJobService;
+import com.part2.monew.service.NewsRestoreJobService;
 import com.part2.monew.service.impl.NewsArticleService;
 import com.part2.monew.util.DateTimeUtil;
 import lombok.extern.slf4j.Slf4j;
 import java.sql.Timestamp;
 import java.util.List;
 import java.util.UUID;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,9 +35,18 @@ import org.springframework.web.bind.annotation.RestController;
 public class ArticleController {
 
     private final NewsArticleService newsArticleService;
+    private final NewsRestoreJobService newsRestoreJobService;
+    private final NewsIncrementalBackupService newsIncrementalBackupService;
+    private final NewsPurgeJobService newsPurgeJobService;
 
-    public ArticleController(NewsArticleService newsArticleService) {
+    public ArticleController(NewsArticleService newsArticleService,
+        NewsRestoreJobService newsRestoreJobService,
+        NewsIncrementalBackupService newsIncrementalBackupService,
+        NewsPurgeJobService newsPurgeJobService) {
         this.newsArticleService = newsArticleService;
+        this.newsRestoreJobService = newsRestoreJobService;
+        this.newsIncrementalBackupService = newsIncrementalBackupService;
+        this.newsPurgeJobService = newsPurgeJobService;
     }
 
     @GetMapping
@@ -127,22 +143,54 @@ public class ArticleController {
         @RequestParam(value = "toDate", required = false) String toDate) {
         
         if (fromDate != null && toDate != null) {
-            newsArticleService.restoreDataByDateRange(fromDate, toDate);
+            long restoredCount = newsArticleService.restoreDataByDateRange(fromDate, toDate);
             return ResponseEntity.ok(RestoreResultDto.builder()
                 .restoreDate(new Timestamp(System.currentTimeMillis()))
                 .restoredArticleIds(List.of())
-                .restoredArticleCount(0L)
+                .restoredArticleCount(restoredCount)
                 .build());
         } else {
-            int restoredCount = newsArticleService.restoreFromLatestBackup();
+            long restoredCount = newsArticleService.restoreFromLatestBackup();
             return ResponseEntity.ok(RestoreResultDto.builder()
                 .restoreDate(new Timestamp(System.currentTimeMillis()))
                 .restoredArticleIds(List.of())
-                .restoredArticleCount((long) restoredCount)
+                .restoredArticleCount(restoredCount)
                 .build());
         }
     }
 
+    // 기간 복구는 비동기 작업으로 실행하고 작업 ID 로 진행 상태를 조회한다
+    @PostMapping("/restore/jobs")
+    public ResponseEntity<RestoreJobResponse> startRestoreJob(
+        @RequestParam("fromDate") String fromDate,
+        @RequestParam("toDate") String toDate) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(newsRestoreJobService.start(fromDate, toDate));
+    }
+
+    @GetMapping("/restore/jobs/{jobId}")
+    public ResponseEntity<RestoreJobResponse> getRestoreJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(newsRestoreJobService.status(jobId));
+    }
+
+    @PostMapping("/restore/jobs/{jobId}/resume")
+    public ResponseEntity<RestoreJobResponse> resumeRestoreJob(@PathVariable String jobId) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(newsRestoreJobService.resume(jobId));
+    }
+
+    // 증분 백업(스냅샷 + 변경분)을 재생해 수정/삭제 상태까지 복구한다. 비동기 작업으로 실행하고 작업 ID 로 조회한다
+    @PostMapping("/restore/incremental")
+    public ResponseEntity<IncrementalRestoreJobResponse> restoreIncremental() {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(newsIncrementalBackupService.startRestore());
+    }
+
+    @GetMapping("/restore/incremental/{jobId}")
+    public ResponseEntity<IncrementalRestoreJobResponse> getIncrementalRestoreJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(newsIncrementalBackupService.restoreStatus(jobId));
+    }
+
     @PostMapping("/backup")
     public ResponseEntity<String> backupArticles(
         @RequestParam(value = "date", required = false) String date) {
@@ -187,5 +235,19 @@ public class ArticleController {
         }
     }
 
+    // 발행일 기간의 논리 삭제된 기사를 비동기 작업으로 물리 삭제하고 작업 ID 로 진행 상태를 조회한다
+    @PostMapping("/purge/jobs")
+    public ResponseEntity<PurgeJobResponse> startPurgeJob(
+        @RequestParam("fromDate") String fromDate,
+        @RequestParam("toDate") String toDate) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+            .body(newsPurgeJobService.start(fromDate, toDate));
+    }
+
+    @GetMapping("/purge/jobs/{jobId}")
+    public ResponseEntity<PurgeJobResponse> getPurgeJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(newsPurgeJobService.status(jobId));
+    }
+
 
 }
@@ -5,9 +5,11 @@ import com.part2.monew.dto.request.InterestSearchRequest;
 import com.part2.monew.dto.request.InterestUpdateRequestDto;
 import com.part2.monew.dto.response.CursorPageResponse;
 import com.part2.monew.dto.response.InterestDto;
+import com.part2.monew.dto.response.InterestSuggestionResponse;
 import com.part2.monew.dto.response.SubscriptionResponse;
 import com.part2.monew.service.InterestService;
 import jakarta.validation.Valid;
+import java.util.List;
 import java.util.UUID;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
@@ -20,6 +22,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -58,11 +61,20 @@ public class InterestController {
         searchRequestDto.cursor(),
         searchRequestDto.after(),
         searchRequestDto.limit(),
+        searchRequestDto.includeTotal(),
         requestUserId
     );
     return ResponseEntity.ok(response);
   }
 
+  @GetMapping("/autocomplete")
+  public ResponseEntity<List<InterestSuggestionResponse>> autocomplete(
+      @RequestParam String prefix,
+      @RequestParam(defaultValue = "10") int limit
+  ) {
+    return ResponseEntity.ok(interestService.autocomplete(prefix, limit));
+  }
+
   @PostMapping("/{interestId}/subscriptions")
   public ResponseEntity<SubscriptionResponse> subscribeToInterest(@PathVariable UUID interestId,
       @RequestHeader(value = "Monew-Request-User-Id", required = false) UUID requestUserId) {
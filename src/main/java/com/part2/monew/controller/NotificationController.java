@@ -1,12 +1,19 @@
 package com.part2.monew.controller;
 
+import com.part2.monew.dto.request.NotificationBulkConfirmRequest;
 import com.part2.monew.dto.request.NotificationCursorRequest;
+import com.part2.monew.dto.response.NotificationBulkConfirmResponse;
 import com.part2.monew.dto.response.CursorPageResponse;
 import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.dto.response.UnreadNotificationCountResponse;
+import com.part2.monew.service.NotificationPushService;
 import com.part2.monew.service.NotificationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.UUID;
 
@@ -15,6 +22,7 @@ import java.util.UUID;
 @RequiredArgsConstructor
 public class NotificationController {
     private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
 
     @PatchMapping("")
     public ResponseEntity<Void> updated_AllNotifications(@RequestHeader(value = "Monew-Request-User-ID", required = false) UUID userId){
@@ -23,6 +31,13 @@ public class NotificationController {
         return ResponseEntity.noContent().build();
     }
 
+    @PatchMapping("/bulk")
+    public ResponseEntity<NotificationBulkConfirmResponse> updated_BulkNotifications(
+            @RequestHeader(value = "Monew-Request-User-ID") UUID userId,
+            @Valid @RequestBody NotificationBulkConfirmRequest request){
+        return ResponseEntity.ok(notificationService.updatedBulk(userId, request.notificationIds()));
+    }
+
     @PatchMapping("/{notificationId}")
     public ResponseEntity<Void> updated_Notifications(
             @RequestHeader(value = "Monew-Request-User-ID", required = false) UUID userId,
@@ -42,4 +57,16 @@ public class NotificationController {
         return ResponseEntity.ok(result);
     }
 
+    @GetMapping("/unread-count")
+    public ResponseEntity<UnreadNotificationCountResponse> count_UnreadNotifications(
+            @RequestHeader(value = "Monew-Request-User-ID") UUID userId){
+        return ResponseEntity.ok(notificationService.getUnreadCount(userId));
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter stream_Notifications(
+            @RequestHeader(value = "Monew-Request-User-ID") UUID userId){
+        return notificationPushService.connect(userId);
+    }
+
 }
@@ -12,11 +12,15 @@ public record InterestSearchRequest(
     String cursor,
     String after,
     @Min(value = 1, message = "페이지 크기(limit)는 1 이상이어야 합니다.")
-    Integer limit
+    Integer limit,
+    Boolean includeTotal
 ) {
   public InterestSearchRequest {
     if (limit == null) {
       limit = 50;
     }
+    if (includeTotal == null) {
+      includeTotal = true;
+    }
   }
 }
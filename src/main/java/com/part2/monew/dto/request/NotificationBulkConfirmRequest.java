@@ -0,0 +1,14 @@
+package com.part2.monew.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import java.util.UUID;
+
+public record NotificationBulkConfirmRequest(
+    @NotEmpty(message = "확인할 알림을 1개 이상 선택해야 합니다.")
+    @Size(max = 1000, message = "알림은 한 번에 1000개까지 확인할 수 있습니다.")
+    List<UUID> notificationIds
+) {
+
+}
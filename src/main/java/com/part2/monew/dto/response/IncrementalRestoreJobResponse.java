@@ -0,0 +1,12 @@
+package com.part2.monew.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IncrementalRestoreJobResponse(
+    String jobId,
+    String status,
+    long restoredArticleCount,
+    String error
+) {
+}
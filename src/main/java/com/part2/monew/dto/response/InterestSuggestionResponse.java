@@ -0,0 +1,14 @@
+package com.part2.monew.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import java.util.UUID;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record InterestSuggestionResponse(
+    String type,
+    String text,
+    UUID interestId,
+    long subscriberCount
+) {
+
+}
@@ -0,0 +1,6 @@
+package com.part2.monew.dto.response;
+
+public record NotificationBulkConfirmResponse(
+        int confirmedCount
+) {
+}
@@ -1,5 +1,7 @@
 package com.part2.monew.dto.response;
 
+import com.part2.monew.entity.Notification;
+
 import java.sql.Timestamp;
 import java.util.UUID;
 
@@ -12,4 +14,17 @@ public record NotificationResponse(
         String content,
         String resourceType,
         UUID resourceId
-) {}
+) {
+    public static NotificationResponse of(Notification notification) {
+        return new NotificationResponse(
+                notification.getId(),
+                notification.getCreatedAt(),
+                notification.getUpdatedAt(),
+                notification.isConfirmed(),
+                notification.getUser().getId(),
+                notification.getContent(),
+                notification.getResourceType(),
+                notification.getResourceId()
+        );
+    }
+}
@@ -0,0 +1,12 @@
+package com.part2.monew.dto.response;
+
+public record PurgeJobResponse(
+    String jobId,
+    String status,
+    String fromDate,
+    String toDate,
+    long purgedArticleCount,
+    long failedArticleCount,
+    long deletedRowCount
+) {
+}
@@ -0,0 +1,14 @@
+package com.part2.monew.dto.response;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record RestoreJobDayResponse(
+    String date,
+    String status,
+    long read,
+    long restored,
+    long skipped,
+    String error
+) {
+}
@@ -0,0 +1,13 @@
+package com.part2.monew.dto.response;
+
+import java.util.List;
+
+public record RestoreJobResponse(
+    String jobId,
+    String status,
+    String fromDate,
+    String toDate,
+    long restoredArticleCount,
+    List<RestoreJobDayResponse> days
+) {
+}
@@ -4,12 +4,14 @@ import com.part2.monew.entity.ActivityDetail;
 import com.part2.monew.entity.NewsArticle;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.sql.Timestamp;
 import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 public class UserArticleViewsActivityDto {
   private UUID id;
   private UUID viewedBy;
@@ -35,7 +37,7 @@ public class UserArticleViewsActivityDto {
         .articleTitle(article.getTitle())
         .articlePublishedDate(article.getPublishedDate())
         .articleSummary(article.getSummary())
-        .articleCommentCount((long) article.getComments().size())
+        .articleCommentCount(article.getCommentCount())
         .articleViewCount(article.getViewCount())
         .build();
   }
@@ -4,12 +4,14 @@ import com.part2.monew.entity.CommentLike;
 import com.part2.monew.entity.CommentsManagement;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.sql.Timestamp;
 import java.util.UUID;
 
 @Getter
 @Builder
+@Jacksonized
 public class UserCommentLikeActivityDto {
   private UUID id;
   private Timestamp createdAt;
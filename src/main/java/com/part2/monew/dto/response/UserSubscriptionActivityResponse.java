@@ -6,6 +6,7 @@ import com.part2.monew.entity.Keyword;
 import com.part2.monew.entity.UserSubscriber;
 import lombok.Builder;
 import lombok.Getter;
+import lombok.extern.jackson.Jacksonized;
 
 import java.sql.Timestamp;
 import java.util.List;
@@ -14,6 +15,7 @@ import java.util.stream.Collectors;
 
 @Getter
 @Builder
+@Jacksonized
 public class UserSubscriptionActivityResponse {
 
   private UUID id;
@@ -12,6 +12,7 @@ import java.sql.Timestamp;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Entity
 @Getter
@@ -31,6 +32,10 @@ public class Interest {
     @ColumnDefault("0")
     private Integer subscriberCount = 0;
 
+    // 키워드 이름을 줄바꿈으로 이어 붙인 검색용 비정규화 컬럼 (pg_trgm GIN 인덱스 대상)
+    @Column(name = "keyword_text", columnDefinition = "TEXT")
+    private String keywordText;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Timestamp createdAt;
@@ -47,4 +52,10 @@ public class Interest {
 
     @OneToMany(mappedBy = "interest", cascade = CascadeType.ALL, orphanRemoval = true)
     private List<UserSubscriber> userSubscribers = new ArrayList<>();
+
+    public void syncKeywordText() {
+        this.keywordText = interestKeywords.stream()
+            .map(interestKeyword -> interestKeyword.getKeyword().getName())
+            .collect(Collectors.joining("\n"));
+    }
 }
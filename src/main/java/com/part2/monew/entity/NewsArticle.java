@@ -31,7 +31,7 @@ public class NewsArticle {
     @Column(name = "source_in", length = 100)
     private String sourceIn;
 
-    @Column(name = "source_url", nullable = false, length = 2048)
+    @Column(name = "source_url", nullable = false, length = 2048, unique = true)
     private String sourceUrl;
 
     @Column(nullable = false, length = 500)
@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.ColumnDefault;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
@@ -15,7 +16,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @NoArgsConstructor
-@Table(name = "notifications")
+@Table(name = "notifications", indexes = {
+        @Index(name = "idx_notifications_user_unconfirmed", columnList = "user_id, confirmed, created_at DESC, notification_id")
+})
 public class Notification {
     @Id
     @UuidGenerator
@@ -38,6 +41,11 @@ public class Notification {
     @Column(nullable = false)
     private boolean confirmed = false;
 
+    // 묶음 알림에 포함된 행위자 수 (단건 알림은 1)
+    @Column(name = "actor_count", nullable = false)
+    @ColumnDefault("1")
+    private int actorCount = 1;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private Timestamp createdAt;
@@ -16,7 +16,9 @@ import java.util.UUID;
 @Getter
 @Setter
 @Table(name = "users_subscribes", uniqueConstraints = {
-    @UniqueConstraint(columnNames = {"user_id", "interest_id"})
+    @UniqueConstraint(name = "uk_users_subscribers", columnNames = {"user_id", "interest_id"})
+}, indexes = {
+    @Index(name = "idx_users_subscribes_interest_id", columnList = "interest_id")
 })
 public class UserSubscriber {
 
@@ -39,6 +39,9 @@ public enum ErrorCode {
   ARTICLE_RESTORE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "A007", "기사 복구 중 오류가 발생했습니다."),
   ARTICLE_DELETE_FAILED(HttpStatus.INTERNAL_SERVER_ERROR, "A008", "기사 삭제 중 오류가 발생했습니다."),
   ARTICLE_ALREADY_DELETED(HttpStatus.BAD_REQUEST, "A009", "이미 삭제된 기사입니다."),
+  RESTORE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "A010", "해당 복구 작업을 찾을 수 없습니다."),
+  RESTORE_JOB_ALREADY_RUNNING(HttpStatus.CONFLICT, "A011", "이미 진행 중인 복구 작업입니다."),
+  PURGE_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "A012", "해당 삭제 작업을 찾을 수 없습니다."),
 
   // Comment Errors (Cxxx)
   COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "C001", "해당 댓글을 찾을 수 없습니다."),
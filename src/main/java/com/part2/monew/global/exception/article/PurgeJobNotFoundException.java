@@ -0,0 +1,11 @@
+package com.part2.monew.global.exception.article;
+
+import com.part2.monew.global.exception.BusinessException;
+import com.part2.monew.global.exception.ErrorCode;
+
+public class PurgeJobNotFoundException extends BusinessException {
+
+    public PurgeJobNotFoundException() {
+        super(ErrorCode.PURGE_JOB_NOT_FOUND);
+    }
+}
@@ -0,0 +1,11 @@
+package com.part2.monew.global.exception.article;
+
+import com.part2.monew.global.exception.BusinessException;
+import com.part2.monew.global.exception.ErrorCode;
+
+public class RestoreJobNotFoundException extends BusinessException {
+
+    public RestoreJobNotFoundException() {
+        super(ErrorCode.RESTORE_JOB_NOT_FOUND);
+    }
+}
@@ -1,7 +1,7 @@
 package com.part2.monew.repository;
 
 import com.part2.monew.entity.ActivityDetail;
-import com.part2.monew.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.util.List;
@@ -15,11 +15,25 @@ public interface ActivityDetailRepository extends JpaRepository<ActivityDetail,
   @Query("SELECT COUNT(ad) > 0 FROM ActivityDetail ad WHERE ad.user.id = :userId AND ad.newsArticle.id = :articleId")
   boolean existsByUserIdAndArticleId(@Param("userId") UUID userId, @Param("articleId") UUID articleId);
 
+  // 최근 조회 기사는 필요한 개수만 기사와 함께 가져온다
   @Query("""
   SELECT ad FROM ActivityDetail ad
-  WHERE ad.user = :user AND ad.newsArticle IS NOT NULL
+  JOIN FETCH ad.newsArticle
+  WHERE ad.user.id = :userId
   ORDER BY ad.viewedAt DESC
 """)
-  List<ActivityDetail> findRecentViewedArticlesByUser(@Param("user") User user);
+  List<ActivityDetail> findRecentViewedArticlesByUserId(@Param("userId") UUID userId, Pageable pageable);
+
+  // 기사를 조회했거나, 기사에 댓글/댓글 좋아요를 남긴 사용자 (기사 삭제 시 활동 문서 무효화용)
+  @Query(value = """
+  SELECT ad.user_id FROM activity_details ad WHERE ad.news_article_id = :articleId
+  UNION
+  SELECT cm.user_id FROM comments_managements cm WHERE cm.news_article_id = :articleId AND cm.user_id IS NOT NULL
+  UNION
+  SELECT cl.user_id FROM comments_like cl
+  JOIN comments_managements cm ON cm.comment_management_id = cl.comment_management_id
+  WHERE cm.news_article_id = :articleId AND cl.user_id IS NOT NULL
+""", nativeQuery = true)
+  List<UUID> findActivityUserIdsByArticleId(@Param("articleId") UUID articleId);
 
 }
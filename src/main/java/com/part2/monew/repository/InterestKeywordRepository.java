@@ -22,12 +22,14 @@ public interface InterestKeywordRepository extends JpaRepository<InterestKeyword
     List<String> findKeywordsByInterestName(@Param("interestName") String interestName);
     
    
+    // 구독자가 있는 관심사의 (관심사 이름, 키워드 이름) 만 조회한다
     @Query(value = """
         SELECT i.name as interest_name, k.name as keyword_name
         FROM interests_keywords ik
         JOIN interests i ON ik.interest_id = i.interest_id
         JOIN keywords k ON ik.keyword_id = k.keyword_id
+        WHERE EXISTS (SELECT 1 FROM users_subscribes us WHERE us.interest_id = i.interest_id)
         ORDER BY i.name, k.name
         """, nativeQuery = true)
-    List<Object[]> findAllInterestKeywordMappings();
+    List<Object[]> findSubscribedInterestKeywordMappings();
 } 
\ No newline at end of file
@@ -2,8 +2,12 @@ package com.part2.monew.repository;
 
 import com.part2.monew.entity.Interest;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -15,4 +19,79 @@ public interface InterestRepository extends JpaRepository<Interest, UUID>,
 
   @Query("SELECT i.name FROM Interest i")
   List<String> findAllNames();
+
+  // 자동완성 인덱스 재구성용 (id, name, subscriberCount, keywordText)
+  @Query("SELECT i.id, i.name, i.subscriberCount, i.keywordText FROM Interest i")
+  List<Object[]> findAllCatalogRows();
+
+  @Query("SELECT DISTINCT i FROM Interest i LEFT JOIN FETCH i.interestKeywords ik LEFT JOIN FETCH ik.keyword WHERE i.id IN :interestIds")
+  List<Interest> findAllWithKeywordsByIdIn(@Param("interestIds") Collection<UUID> interestIds);
+
+  // 구독자 수는 읽고-쓰기 대신 SQL 에서 원자적으로 증감한다
+  @Modifying
+  @Query("UPDATE Interest i SET i.subscriberCount = i.subscriberCount + 1 WHERE i.id = :interestId")
+  int incrementSubscriberCount(@Param("interestId") UUID interestId);
+
+  @Modifying
+  @Query("UPDATE Interest i SET i.subscriberCount = i.subscriberCount - 1 WHERE i.id = :interestId AND i.subscriberCount > 0")
+  int decrementSubscriberCount(@Param("interestId") UUID interestId);
+
+  // 구독자 수 보정 대상을 interest_id 순서로 limit 개씩 훑는다
+  @Query(value = "SELECT interest_id FROM interests WHERE interest_id > :afterId ORDER BY interest_id LIMIT :limit",
+      nativeQuery = true)
+  List<UUID> findIdsAfter(@Param("afterId") UUID afterId, @Param("limit") int limit);
+
+  // 주어진 관심사 중 users_subscribes 집계와 구독자 수가 어긋난 것 (잠그지 않고 한 번의 GROUP BY 로 센다)
+  @Query(value = """
+      SELECT i.interest_id
+      FROM interests i
+      LEFT JOIN (
+          SELECT interest_id, COUNT(*) AS subscriber_counts
+          FROM users_subscribes
+          WHERE interest_id IN (:interestIds)
+          GROUP BY interest_id
+      ) us ON us.interest_id = i.interest_id
+      WHERE i.interest_id IN (:interestIds)
+        AND i.subscriber_counts <> COALESCE(us.subscriber_counts, 0)
+      """, nativeQuery = true)
+  List<UUID> findSubscriberCountDrift(@Param("interestIds") Collection<UUID> interestIds);
+
+  // 보정 중에 구독/취소가 끼어들지 않도록 어긋난 관심사 행만 잠근다 (reconcileSubscriberCounts 와 같은 트랜잭션에서 호출)
+  @Query(value = "SELECT interest_id FROM interests WHERE interest_id IN (:interestIds) ORDER BY interest_id FOR UPDATE",
+      nativeQuery = true)
+  List<UUID> lockForSubscriberCountReconcile(@Param("interestIds") Collection<UUID> interestIds);
+
+  // 잠근 뒤 다시 센 값으로 보정한다. 잠금 이전에 계산한 집계로 덮어쓰지 않는다
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE interests i
+      SET subscriber_counts = c.subscriber_counts
+      FROM (
+          SELECT ids.interest_id, COUNT(us.user_subscribe_id) AS subscriber_counts
+          FROM interests ids
+          LEFT JOIN users_subscribes us ON us.interest_id = ids.interest_id
+          WHERE ids.interest_id IN (:interestIds)
+          GROUP BY ids.interest_id
+      ) c
+      WHERE i.interest_id = c.interest_id
+        AND i.subscriber_counts <> c.subscriber_counts
+      """, nativeQuery = true)
+  int reconcileSubscriberCounts(@Param("interestIds") Collection<UUID> interestIds);
+
+  // keyword_text 도입 이전에 만들어진 관심사의 검색용 키워드 문자열을 limit 개씩 채운다
+  @Transactional
+  @Modifying
+  @Query(value = """
+      UPDATE interests i
+      SET keyword_text = COALESCE((
+          SELECT string_agg(k.name, E'\\n')
+          FROM interests_keywords ik
+          JOIN keywords k ON k.keyword_id = ik.keyword_id
+          WHERE ik.interest_id = i.interest_id
+      ), '')
+      WHERE i.interest_id IN (
+          SELECT interest_id FROM interests WHERE keyword_text IS NULL LIMIT :limit)
+      """, nativeQuery = true)
+  int backfillKeywordText(@Param("limit") int limit);
 }
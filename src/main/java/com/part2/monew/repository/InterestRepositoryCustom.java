@@ -2,6 +2,7 @@ package com.part2.monew.repository;
 
 import com.part2.monew.dto.response.CursorPageResponse;
 import com.part2.monew.dto.response.InterestDto;
+import java.util.Set;
 import java.util.UUID;
 
 public interface InterestRepositoryCustom {
@@ -12,6 +13,8 @@ public interface InterestRepositoryCustom {
       String primaryCursorValue,
       String secondaryCursorValue,
       int limit,
-      UUID requestUserId
+      Set<UUID> subscribedInterestIds
   );
+
+  long countInterests(String keywordSearchTerm);
 }
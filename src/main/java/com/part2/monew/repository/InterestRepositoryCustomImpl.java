@@ -6,14 +6,10 @@ import com.part2.monew.entity.Interest;
 import com.part2.monew.entity.QInterest;
 import com.part2.monew.entity.QInterestKeyword;
 import com.part2.monew.entity.QKeyword;
-import com.part2.monew.entity.QUserSubscriber;
 import com.part2.monew.mapper.InterestMapper;
-import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Order;
 import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.dsl.BooleanExpression;
-import com.querydsl.jpa.JPAExpressions;
-import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import jakarta.persistence.EntityManager;
 import lombok.extern.slf4j.Slf4j;
@@ -32,7 +28,6 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
   private static final QInterest interest = QInterest.interest;
   private static final QKeyword keyword = QKeyword.keyword;
   private static final QInterestKeyword interestKeyword = QInterestKeyword.interestKeyword;
-  private static final QUserSubscriber userSubscriber = QUserSubscriber.userSubscriber;
 
   public InterestRepositoryCustomImpl(EntityManager em, InterestMapper interestMapper) {
     this.queryFactory = new JPAQueryFactory(em);
@@ -42,45 +37,31 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
   @Override
   public CursorPageResponse<InterestDto> searchInterestsWithQueryDsl(
       String keywordSearchTerm, String orderByField, String direction,
-      String primaryCursorValue, String idCursorValue, int limit, UUID requestUserId) {
+      String primaryCursorValue, String idCursorValue, int limit, Set<UUID> subscribedInterestIds) {
 
     List<OrderSpecifier<?>> orderSpecifiers = buildOrderByClause(orderByField, direction);
     BooleanExpression predicate = buildWhereClause(keywordSearchTerm, orderByField, direction, primaryCursorValue, idCursorValue);
 
-    JPAQuery<UUID> idQuery = queryFactory
+    // 검색 조건이 interests 단일 테이블 컬럼뿐이라 조인/중복 제거 없이 ID 를 가져온다
+    List<UUID> interestIds = queryFactory
         .select(interest.id)
         .from(interest)
-        .where(predicate);
-
-    if (keywordSearchTerm != null && !keywordSearchTerm.isEmpty()) {
-      idQuery.leftJoin(interest.interestKeywords, interestKeyword)
-          .leftJoin(interestKeyword.keyword, keyword);
-    }
-
-    List<UUID> interestIds = idQuery
+        .where(predicate)
         .orderBy(orderSpecifiers.toArray(new OrderSpecifier[0]))
         .limit(limit + 1)
-        .fetch()
-        .stream().distinct().collect(Collectors.toList());
+        .fetch();
 
     boolean hasNext = interestIds.size() > limit;
     List<UUID> contentInterestIds = hasNext ? interestIds.subList(0, limit) : interestIds;
 
+    // totalElements 는 서비스의 InterestCountStrategy 가 채운다
     if (contentInterestIds.isEmpty()) {
-      long totalElements = countTotalElements(keywordSearchTerm);
-      return CursorPageResponse.of(Collections.emptyList(), null, null, totalElements, false);
+      return CursorPageResponse.of(Collections.emptyList(), null, null, false);
     }
 
-    List<Tuple> results = queryFactory
-        .select(
-            interest,
-            JPAExpressions.selectOne()
-                .from(userSubscriber)
-                .where(userSubscriber.user.id.eq(requestUserId)
-                    .and(userSubscriber.interest.id.eq(interest.id)))
-                .exists()
-        )
-        .from(interest)
+    // subscribedByMe 는 사용자별 구독 ID 집합으로 판단한다 (행마다 EXISTS 서브쿼리 없음)
+    List<Interest> results = queryFactory
+        .selectFrom(interest)
         .leftJoin(interest.interestKeywords, interestKeyword).fetchJoin()
         .leftJoin(interestKeyword.keyword, keyword).fetchJoin()
         .where(interest.id.in(contentInterestIds))
@@ -88,20 +69,14 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
         .distinct()
         .fetch();
 
-    Map<UUID, Tuple> resultMap = results.stream()
-        .collect(Collectors.toMap(
-            t -> Objects.requireNonNull(t.get(interest)).getId(),
-            t -> t,
-            (t1, t2) -> t1
-        ));
+    Map<UUID, Interest> resultMap = results.stream()
+        .collect(Collectors.toMap(Interest::getId, i -> i, (i1, i2) -> i1));
 
     List<InterestDto> interestDtos = contentInterestIds.stream()
         .map(id -> {
-          Tuple tuple = resultMap.get(id);
-          if (tuple == null) return null;
-          Interest fetchedInterest = tuple.get(interest);
-          Boolean isSubscribed = tuple.get(1, Boolean.class);
-          return interestMapper.toDto(fetchedInterest, Boolean.TRUE.equals(isSubscribed));
+          Interest fetchedInterest = resultMap.get(id);
+          if (fetchedInterest == null) return null;
+          return interestMapper.toDto(fetchedInterest, subscribedInterestIds.contains(id));
         })
         .filter(Objects::nonNull)
         .collect(Collectors.toList());
@@ -118,25 +93,21 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
       nextIdCursor = lastDto.id().toString();
     }
 
-    long totalElements = countTotalElements(keywordSearchTerm);
-
     return CursorPageResponse.of(
         interestDtos,
         nextPrimaryCursor,
         nextIdCursor,
-        totalElements,
         hasNext
     );
   }
 
-  private Long countTotalElements(String keywordSearchTerm) {
+  @Override
+  public long countInterests(String keywordSearchTerm) {
     BooleanExpression countPredicate = buildWhereClause(keywordSearchTerm, null, null, null, null);
-    JPAQuery<Long> countBaseQuery = queryFactory.select(interest.countDistinct()).from(interest);
-    if (keywordSearchTerm != null && !keywordSearchTerm.isEmpty()) {
-      countBaseQuery.leftJoin(interest.interestKeywords, interestKeyword)
-          .leftJoin(interestKeyword.keyword, keyword);
-    }
-    Long total = countBaseQuery.where(countPredicate).fetchOne();
+    Long total = queryFactory.select(interest.count())
+        .from(interest)
+        .where(countPredicate)
+        .fetchOne();
     return total == null ? 0L : total;
   }
 
@@ -145,8 +116,9 @@ public class InterestRepositoryCustomImpl implements InterestRepositoryCustom {
     BooleanExpression predicate = null;
 
     if (keywordSearchTerm != null && !keywordSearchTerm.isEmpty()) {
+      // lower(name), lower(keyword_text) 의 trigram GIN 인덱스를 BitmapOr 로 함께 사용한다
       predicate = interest.name.containsIgnoreCase(keywordSearchTerm)
-          .or(interest.interestKeywords.any().keyword.name.containsIgnoreCase(keywordSearchTerm));
+          .or(interest.keywordText.containsIgnoreCase(keywordSearchTerm));
     }
 
     if (orderByField != null && primaryCursorValue != null && !primaryCursorValue.isEmpty()) {
@@ -1,6 +1,8 @@
 package com.part2.monew.repository;
 
 import com.part2.monew.entity.Keyword;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -8,4 +10,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 public interface KeywordRepository extends JpaRepository<Keyword, UUID> {
 
   Optional<Keyword> findByName(String name);
+
+  List<Keyword> findAllByNameIn(Collection<String> names);
 }
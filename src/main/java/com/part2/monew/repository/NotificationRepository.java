@@ -5,19 +5,58 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.sql.Timestamp;
-import java.util.List;
+import java.util.Collection;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface NotificationRepository extends JpaRepository<Notification, UUID> {
-    List<Notification> findByUserIdAndConfirmedFalse(UUID userId);
-    List<Notification> findTop51ByUserIdAndConfirmedFalseOrderByCreatedAtDesc(UUID userId);
-    List<Notification> findTop51ByUserIdAndConfirmedFalseAndCreatedAtLessThanOrderByCreatedAtDesc(UUID userId, Timestamp cursor);
-
+public interface NotificationRepository extends JpaRepository<Notification, UUID>, NotificationRepositoryCustom {
+    // idx_notifications_confirmed_updated_at (부분 인덱스) 를 사용해 오래된 확인 알림을 PK 배치로 삭제한다
+    @Transactional
     @Modifying
-    @Query("DELETE FROM Notification n WHERE n.confirmed = true AND n.updatedAt < :oneWeekAgo")
-    void deleteConfirmedNotificationsBefore(@Param("oneWeekAgo") Timestamp oneWeekAgo);
+    @Query(value = """
+        DELETE FROM notifications
+        WHERE notification_id IN (
+            SELECT notification_id FROM notifications
+            WHERE confirmed = true AND updated_at < :before
+            LIMIT :batchSize
+        )
+        """, nativeQuery = true)
+    int deleteConfirmedBatchBefore(@Param("before") Timestamp before, @Param("batchSize") int batchSize);
 
     long countByUserIdAndConfirmedFalse(UUID userId);
+
+    Optional<Notification> findFirstByUserIdAndResourceTypeAndResourceIdAndConfirmedFalseOrderByCreatedAtDesc(
+            UUID userId, String resourceType, UUID resourceId);
+
+    // 묶음 알림 갱신. 미확인 목록(created_at DESC) 맨 앞으로 다시 올라오도록 생성 시각도 옮긴다
+    @Modifying
+    @Query(value = """
+        UPDATE notifications SET actor_count = :actorCount, content = :content, created_at = :now, updated_at = :now
+        WHERE notification_id = :notificationId
+        """, nativeQuery = true)
+    int updateDigest(@Param("notificationId") UUID notificationId, @Param("actorCount") int actorCount,
+        @Param("content") String content, @Param("now") Timestamp now);
+
+    // 청크 단위로 커밋되도록 호출마다 별도 트랜잭션으로 실행한다
+    @Transactional
+    @Modifying
+    @Query(value = """
+        UPDATE notifications SET confirmed = true, updated_at = CURRENT_TIMESTAMP
+        WHERE notification_id IN (
+            SELECT notification_id FROM notifications
+            WHERE user_id = :userId AND confirmed = false
+            LIMIT :chunkSize
+        )
+        """, nativeQuery = true)
+    int confirmUnconfirmedChunk(@Param("userId") UUID userId, @Param("chunkSize") int chunkSize);
+
+    @Modifying
+    @Query("""
+        UPDATE Notification n SET n.confirmed = true, n.updatedAt = CURRENT_TIMESTAMP
+        WHERE n.user.id = :userId AND n.confirmed = false AND n.id IN :notificationIds
+        """)
+    int confirmByIds(@Param("userId") UUID userId, @Param("notificationIds") Collection<UUID> notificationIds);
 }
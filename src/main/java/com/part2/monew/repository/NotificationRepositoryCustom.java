@@ -0,0 +1,11 @@
+package com.part2.monew.repository;
+
+import com.part2.monew.entity.Notification;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+public interface NotificationRepositoryCustom {
+    List<Notification> findUnconfirmedByUserId(UUID userId, Timestamp cursorCreatedAt, UUID cursorId, int limit);
+}
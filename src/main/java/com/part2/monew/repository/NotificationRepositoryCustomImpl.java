@@ -0,0 +1,50 @@
+package com.part2.monew.repository;
+
+import com.part2.monew.entity.Notification;
+import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import jakarta.persistence.EntityManager;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+
+import static com.part2.monew.entity.QNotification.notification;
+
+public class NotificationRepositoryCustomImpl implements NotificationRepositoryCustom {
+    private final JPAQueryFactory queryFactory;
+
+    public NotificationRepositoryCustomImpl(EntityManager em) {
+        this.queryFactory = new JPAQueryFactory(em);
+    }
+
+    // (created_at, notification_id) 키셋으로 limit + 1 건만 조회 (idx_notifications_user_unconfirmed 사용)
+    @Override
+    public List<Notification> findUnconfirmedByUserId(UUID userId, Timestamp cursorCreatedAt, UUID cursorId, int limit) {
+        return queryFactory
+                .selectFrom(notification)
+                .where(
+                        notification.user.id.eq(userId),
+                        notification.confirmed.isFalse(),
+                        afterCursor(cursorCreatedAt, cursorId)
+                )
+                .orderBy(
+                        notification.createdAt.desc(),
+                        notification.id.desc()
+                )
+                .limit(limit + 1)
+                .fetch();
+    }
+
+    private BooleanExpression afterCursor(Timestamp cursorCreatedAt, UUID cursorId) {
+        if (cursorCreatedAt == null) {
+            return null;
+        }
+        // 이전 형식의 커서(createdAt 만 있음)
+        if (cursorId == null) {
+            return notification.createdAt.lt(cursorCreatedAt);
+        }
+        return notification.createdAt.lt(cursorCreatedAt)
+                .or(notification.createdAt.eq(cursorCreatedAt).and(notification.id.lt(cursorId)));
+    }
+}
@@ -7,7 +7,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -23,7 +25,27 @@ public interface UserSubscriberRepository extends JpaRepository<UserSubscriber,
   @Query("SELECT us.interest FROM UserSubscriber us WHERE us.user = :user")
   List<Interest> findInterestsByUser(@Param("user") User user);
 
+  // uk_users_subscribers 제약으로 중복 구독을 막는다 (삽입되면 1, 이미 구독 중이면 0)
+  @Modifying
+  @Query(value = """
+      INSERT INTO users_subscribes (user_subscribe_id, user_id, interest_id, created_at, updated_at)
+      VALUES (:id, :userId, :interestId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)
+      ON CONFLICT (user_id, interest_id) DO NOTHING
+      """, nativeQuery = true)
+  int insertIfAbsent(@Param("id") UUID id, @Param("userId") UUID userId, @Param("interestId") UUID interestId);
+
+  @Modifying
+  @Query("DELETE FROM UserSubscriber us WHERE us.user.id = :userId AND us.interest.id = :interestId")
+  int deleteByUserIdAndInterestId(@Param("userId") UUID userId, @Param("interestId") UUID interestId);
+
   @Query("SELECT us FROM UserSubscriber us JOIN FETCH us.interest")
   List<UserSubscriber> findAllWithInterest();
 
+  @Query("SELECT us.interest.id FROM UserSubscriber us WHERE us.user.id = :userId")
+  List<UUID> findInterestIdsByUserId(@Param("userId") UUID userId);
+
+  // 구독자 ID 를 user_id 순 키셋으로 나눠 조회 (알림 fan-out 용)
+  @Query("SELECT us.user.id FROM UserSubscriber us WHERE us.interest.id = :interestId AND us.user.id > :afterUserId ORDER BY us.user.id")
+  List<UUID> findSubscriberUserIdsAfter(@Param("interestId") UUID interestId, @Param("afterUserId") UUID afterUserId, Pageable pageable);
+
 }
@@ -0,0 +1,274 @@
+package com.part2.monew.service;
+
+import static com.part2.monew.service.ColumnarBackupWriter.COLUMN_COUNT;
+
+import com.part2.monew.service.NewsRestoreEngine.BackupArticle;
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 컬럼형 뉴스 백업 reader (형식은 ColumnarBackupWriter 참고)
+ * - 블록 하나씩 컬럼을 풀어 두고 행 단위로 꺼내므로 메모리는 블록 하나로 묶인다.
+ * - 끝 표시 없이 스트림이 끝나면 잘린 파일로 보고 실패한다.
+ * - 길이/행 수/사전 번호를 모두 검사해, 손상된 파일은 배열 범위 오류 대신 IOException(순회 중에는 UncheckedIOException)으로 실패한다.
+ */
+final class ColumnarBackupReader implements Iterator<BackupArticle>, Closeable {
+
+    // 손상된 헤더로 거대한 배열을 잡지 않도록 하는 상한 (writer 의 블록은 이보다 훨씬 작다)
+    private static final int MAX_BLOCK_ROWS = 1 << 20;
+    private static final int MAX_COLUMN_BYTES = 64 * 1024 * 1024;
+
+    private final DataInputStream in;
+    private final Inflater inflater = new Inflater();
+    private final Column[] columns = new Column[COLUMN_COUNT];
+    private final List<String> sourceDictionary = new ArrayList<>();
+    private final long[] previousTimes = new long[COLUMN_COUNT];
+    private byte[] compressBuffer = new byte[64 * 1024];
+    private int remainingInBlock;
+    private boolean finished;
+
+    ColumnarBackupReader(InputStream source) throws IOException {
+        this.in = new DataInputStream(new BufferedInputStream(source, 64 * 1024));
+        byte[] magic = new byte[ColumnarBackupWriter.MAGIC.length];
+        in.readFully(magic);
+        if (!Arrays.equals(magic, ColumnarBackupWriter.MAGIC)) {
+            throw new IOException("컬럼형 백업 파일이 아닙니다");
+        }
+        int version = in.readInt();
+        if (version > ColumnarBackupWriter.FORMAT_VERSION) {
+            throw new IOException("지원하지 않는 컬럼형 백업 버전: " + version);
+        }
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (remainingInBlock > 0) {
+            return true;
+        }
+        if (finished) {
+            return false;
+        }
+        try {
+            readBlock();
+        } catch (EOFException e) {
+            throw new UncheckedIOException("컬럼형 백업 파일이 중간에 끝났습니다", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return remainingInBlock > 0;
+    }
+
+    @Override
+    public BackupArticle next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        try {
+            BackupArticle article = new BackupArticle(
+                readId(columns[ColumnarBackupWriter.ID]),
+                readSource(columns[ColumnarBackupWriter.SOURCE_IN]),
+                columns[ColumnarBackupWriter.SOURCE_URL].readText(),
+                columns[ColumnarBackupWriter.TITLE].readText(),
+                readTime(ColumnarBackupWriter.PUBLISHED_DATE),
+                columns[ColumnarBackupWriter.SUMMARY].readText(),
+                columns[ColumnarBackupWriter.VIEW_COUNT].readNullableLong(),
+                columns[ColumnarBackupWriter.COMMENT_COUNT].readNullableLong(),
+                readBoolean(columns[ColumnarBackupWriter.IS_DELETED]),
+                readTime(ColumnarBackupWriter.CREATED_AT),
+                readTime(ColumnarBackupWriter.UPDATED_AT)
+            );
+            if (--remainingInBlock == 0) {
+                verifyBlockConsumed();
+            }
+            return article;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        inflater.end();
+        in.close();
+    }
+
+    private void readBlock() throws IOException {
+        int rows = in.readInt();
+        if (rows == 0) {
+            finished = true;
+            return;
+        }
+        if (rows < 0 || rows > MAX_BLOCK_ROWS) {
+            throw new IOException("컬럼형 백업 블록의 행 수가 올바르지 않습니다: " + rows);
+        }
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns[i] = new Column(inflate(in.readInt(), in.readInt()));
+        }
+        Column sources = columns[ColumnarBackupWriter.SOURCE_IN];
+        long newSources = sources.readVarLong();
+        // 사전 항목은 최소 1 byte 씩이므로 남은 크기보다 많을 수 없다
+        if (newSources < 0 || newSources > sources.remaining()) {
+            throw new IOException("컬럼형 백업의 출처 사전 크기가 올바르지 않습니다: " + newSources);
+        }
+        for (long i = 0; i < newSources; i++) {
+            sourceDictionary.add(sources.readText());
+        }
+        Arrays.fill(previousTimes, 0);
+        remainingInBlock = rows;
+    }
+
+    // 블록의 행을 다 읽었으면 모든 컬럼도 정확히 끝나야 한다 (행 수와 컬럼 내용이 맞는지)
+    private void verifyBlockConsumed() throws IOException {
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            if (columns[i].remaining() != 0) {
+                throw new IOException("컬럼형 백업 블록의 행 수와 컬럼 " + i + " 의 내용이 맞지 않습니다");
+            }
+        }
+    }
+
+    private byte[] inflate(int rawLength, int compressedLength) throws IOException {
+        if (rawLength < 0 || rawLength > MAX_COLUMN_BYTES || compressedLength < 0 || compressedLength > MAX_COLUMN_BYTES) {
+            throw new IOException("컬럼 길이가 올바르지 않습니다: " + rawLength + "/" + compressedLength);
+        }
+        if (compressBuffer.length < compressedLength) {
+            compressBuffer = new byte[compressedLength];
+        }
+        in.readFully(compressBuffer, 0, compressedLength);
+        byte[] raw = new byte[rawLength];
+        inflater.reset();
+        inflater.setInput(compressBuffer, 0, compressedLength);
+        try {
+            int position = 0;
+            while (position < rawLength) {
+                int inflated = inflater.inflate(raw, position, rawLength - position);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    throw new IOException("컬럼 압축 해제 실패: 길이가 맞지 않습니다");
+                }
+                position += inflated;
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("컬럼 압축 해제 실패", e);
+        }
+        return raw;
+    }
+
+    private static UUID readId(Column column) throws IOException {
+        if (column.readByte() == 0) {
+            return null;
+        }
+        return new UUID(column.readFixedLong(), column.readFixedLong());
+    }
+
+    private String readSource(Column column) throws IOException {
+        long index = column.readVarLong();
+        if (index == 0) {
+            return null;
+        }
+        if (index < 0 || index > sourceDictionary.size()) {
+            throw new IOException("컬럼형 백업의 출처 번호가 사전 범위를 벗어났습니다: " + index);
+        }
+        return sourceDictionary.get((int) (index - 1));
+    }
+
+    private Timestamp readTime(int column) throws IOException {
+        long value = columns[column].readVarLong();
+        if (value == 0) {
+            return null;
+        }
+        long millis = previousTimes[column] + unZigZag(value - 1);
+        previousTimes[column] = millis;
+        return new Timestamp(millis);
+    }
+
+    private static Boolean readBoolean(Column column) throws IOException {
+        int value = column.readByte();
+        if (value > 2) {
+            throw new IOException("컬럼형 백업의 삭제 여부 값이 올바르지 않습니다: " + value);
+        }
+        return value == 0 ? null : value == 2;
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static final class Column {
+
+        private final byte[] data;
+        private int position;
+
+        private Column(byte[] data) {
+            this.data = data;
+        }
+
+        int remaining() {
+            return data.length - position;
+        }
+
+        int readByte() throws IOException {
+            require(1);
+            return data[position++] & 0xFF;
+        }
+
+        long readVarLong() throws IOException {
+            long value = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                require(1);
+                byte b = data[position++];
+                value |= (long) (b & 0x7F) << shift;
+                if (b >= 0) {
+                    return value;
+                }
+            }
+            throw new IOException("컬럼형 백업의 가변 길이 정수가 너무 깁니다");
+        }
+
+        long readFixedLong() throws IOException {
+            require(8);
+            long value = 0;
+            for (int i = 0; i < 8; i++) {
+                value = (value << 8) | (data[position++] & 0xFF);
+            }
+            return value;
+        }
+
+        Long readNullableLong() throws IOException {
+            long value = readVarLong();
+            return value == 0 ? null : unZigZag(value - 1);
+        }
+
+        String readText() throws IOException {
+            long length = readVarLong();
+            if (length == 0) {
+                return null;
+            }
+            if (length < 0 || length - 1 > remaining()) {
+                throw new IOException("컬럼형 백업의 문자열 길이가 컬럼 크기를 넘습니다: " + (length - 1));
+            }
+            String text = new String(data, position, (int) (length - 1), StandardCharsets.UTF_8);
+            position += (int) (length - 1);
+            return text;
+        }
+
+        private void require(int bytes) throws IOException {
+            if (remaining() < bytes) {
+                throw new IOException("컬럼형 백업 블록의 컬럼 데이터가 행 수보다 짧습니다");
+            }
+        }
+    }
+}
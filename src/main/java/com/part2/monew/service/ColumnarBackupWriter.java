@@ -0,0 +1,225 @@
+package com.part2.monew.service;
+
+import com.part2.monew.service.NewsRestoreEngine.BackupArticle;
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.zip.Deflater;
+
+/**
+ * 컬럼형 뉴스 백업 writer
+ * <pre>
+ * 파일   = "MNWC" | version(int) | block* | 0(int)
+ * block  = rowCount(int) | column[11]
+ * column = rawLength(int) | compressedLength(int) | deflate(raw)
+ * </pre>
+ * - 행을 blockRows 개씩 모아 컬럼별로 인코딩/압축하므로 메모리는 블록 하나로 묶이고, 같은 종류의 값끼리 압축되어 크기가 작다.
+ * - sourceIn 은 파일 전체에서 공유하는 사전 번호로, 시각은 블록 안에서 이전 값과의 차이로, 문자열은 길이 + UTF-8 로 쓴다.
+ * - 가변 길이 정수는 0 을 null 로 쓰고 실제 값은 1 을 더해 쓴다. 블록마다 차이 기준값을 초기화하므로 블록 단위로 독립적으로 읽힌다.
+ */
+final class ColumnarBackupWriter {
+
+    static final byte[] MAGIC = {'M', 'N', 'W', 'C'};
+    static final int FORMAT_VERSION = 1;
+
+    static final int ID = 0;
+    static final int SOURCE_IN = 1;
+    static final int SOURCE_URL = 2;
+    static final int TITLE = 3;
+    static final int PUBLISHED_DATE = 4;
+    static final int SUMMARY = 5;
+    static final int VIEW_COUNT = 6;
+    static final int COMMENT_COUNT = 7;
+    static final int IS_DELETED = 8;
+    static final int CREATED_AT = 9;
+    static final int UPDATED_AT = 10;
+    static final int COLUMN_COUNT = 11;
+
+    private final DataOutputStream out;
+    private final int blockRows;
+    private final Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION);
+    private final ColumnBuffer[] columns = new ColumnBuffer[COLUMN_COUNT];
+    // 이번 블록에서 처음 나온 sourceIn (블록의 sourceIn 컬럼 앞에 함께 쓴다)
+    private final ColumnBuffer newSources = new ColumnBuffer();
+    private final Map<String, Integer> sourceDictionary = new HashMap<>();
+    private final ColumnBuffer compressed = new ColumnBuffer();
+    private final byte[] compressBuffer = new byte[64 * 1024];
+    private final long[] previousTimes = new long[COLUMN_COUNT];
+    private int newSourceCount;
+    private int blockSize;
+    private long rows;
+
+    ColumnarBackupWriter(OutputStream out, int blockRows) throws IOException {
+        this.out = new DataOutputStream(new BufferedOutputStream(out, 64 * 1024));
+        this.blockRows = blockRows;
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            columns[i] = new ColumnBuffer();
+        }
+        this.out.write(MAGIC);
+        this.out.writeInt(FORMAT_VERSION);
+    }
+
+    void write(BackupArticle article) throws IOException {
+        writeId(article.id());
+        writeSource(article.sourceIn());
+        columns[SOURCE_URL].writeText(article.sourceUrl());
+        columns[TITLE].writeText(article.title());
+        writeTime(PUBLISHED_DATE, article.publishedDate());
+        columns[SUMMARY].writeText(article.summary());
+        columns[VIEW_COUNT].writeNullableLong(article.viewCount());
+        columns[COMMENT_COUNT].writeNullableLong(article.commentCount());
+        columns[IS_DELETED].write(article.isDeleted() == null ? 0 : article.isDeleted() ? 2 : 1);
+        writeTime(CREATED_AT, article.createdAt());
+        writeTime(UPDATED_AT, article.updatedAt());
+        rows++;
+        if (++blockSize == blockRows) {
+            flushBlock();
+        }
+    }
+
+    // 남은 블록과 끝 표시를 쓴다. 하위 스트림은 닫지 않는다 (업로드 완료/중단은 호출 측이 정한다)
+    void finish() throws IOException {
+        try {
+            if (blockSize > 0) {
+                flushBlock();
+            }
+            out.writeInt(0);
+            out.flush();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    // 실패 시 finish() 없이 Deflater 만 해제한다
+    void release() {
+        deflater.end();
+    }
+
+    long getRows() {
+        return rows;
+    }
+
+    private void writeId(UUID id) {
+        ColumnBuffer column = columns[ID];
+        if (id == null) {
+            column.write(0);
+            return;
+        }
+        column.write(1);
+        column.writeFixedLong(id.getMostSignificantBits());
+        column.writeFixedLong(id.getLeastSignificantBits());
+    }
+
+    private void writeSource(String sourceIn) {
+        if (sourceIn == null) {
+            columns[SOURCE_IN].writeVarLong(0);
+            return;
+        }
+        Integer index = sourceDictionary.get(sourceIn);
+        if (index == null) {
+            index = sourceDictionary.size();
+            sourceDictionary.put(sourceIn, index);
+            newSources.writeText(sourceIn);
+            newSourceCount++;
+        }
+        columns[SOURCE_IN].writeVarLong(index + 1L);
+    }
+
+    private void writeTime(int column, Timestamp value) {
+        if (value == null) {
+            columns[column].writeVarLong(0);
+            return;
+        }
+        long millis = value.getTime();
+        columns[column].writeVarLong(zigZag(millis - previousTimes[column]) + 1);
+        previousTimes[column] = millis;
+    }
+
+    private void flushBlock() throws IOException {
+        out.writeInt(blockSize);
+        for (int i = 0; i < COLUMN_COUNT; i++) {
+            ColumnBuffer column = columns[i];
+            if (i == SOURCE_IN) {
+                ColumnBuffer withDictionary = new ColumnBuffer();
+                withDictionary.writeVarLong(newSourceCount);
+                newSources.writeTo(withDictionary);
+                column.writeTo(withDictionary);
+                column = withDictionary;
+            }
+            writeCompressed(column);
+        }
+        for (ColumnBuffer column : columns) {
+            column.reset();
+        }
+        newSources.reset();
+        newSourceCount = 0;
+        blockSize = 0;
+        Arrays.fill(previousTimes, 0);
+    }
+
+    private void writeCompressed(ColumnBuffer column) throws IOException {
+        compressed.reset();
+        deflater.reset();
+        deflater.setInput(column.buffer(), 0, column.size());
+        deflater.finish();
+        while (!deflater.finished()) {
+            int length = deflater.deflate(compressBuffer);
+            compressed.write(compressBuffer, 0, length);
+        }
+        out.writeInt(column.size());
+        out.writeInt(compressed.size());
+        compressed.writeTo(out);
+    }
+
+    static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    static final class ColumnBuffer extends ByteArrayOutputStream {
+
+        ColumnBuffer() {
+            super(4 * 1024);
+        }
+
+        byte[] buffer() {
+            return buf;
+        }
+
+        // 부호 없는 LEB128
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeFixedLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        void writeNullableLong(Long value) {
+            writeVarLong(value == null ? 0 : zigZag(value) + 1);
+        }
+
+        void writeText(String value) {
+            if (value == null) {
+                writeVarLong(0);
+                return;
+            }
+            byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+            writeVarLong(bytes.length + 1L);
+            write(bytes, 0, bytes.length);
+        }
+    }
+}
@@ -0,0 +1,438 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.repository.UserSubscriberRepository;
+import com.part2.monew.util.TransactionUtil;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.redisson.client.protocol.ScoredEntry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관심사 신규 기사 알림 (push/pull 혼합 fan-out)
+ * - 구독자 수가 기준 이하인 관심사는 쓰기 시점에 구독자별 알림 행을 배치 INSERT 한다.
+ *   작업(관심사, 내용, 마지막 사용자 cursor)을 Redis hash 에 먼저 기록하고 배치마다 cursor 를 옮기므로,
+ *   중간에 실패해도 resumePendingFanOuts 가 남은 구독자부터 이어서 보낸다.
+ *   알림 ID 는 (사용자, 작업) 으로 정해지므로 다시 보낸 배치가 이미 들어간 행을 중복 삽입하지 않는다.
+ * - 기준을 넘는 관심사는 Redis 이벤트 로그에만 기록하고, 사용자가 알림을 조회할 때 워터마크 이후 이벤트를 행으로 반영한다.
+ * - 워터마크는 구독 시점에 심어 두므로 구독 전에 등록된 기사는 알리지 않는다.
+ * - pull 로 만든 알림 ID 는 (사용자, 이벤트) 로 정해지므로, 행을 먼저 넣고 워터마크를 올려도 중복 삽입되지 않는다.
+ */
+@Slf4j
+@Service
+public class InterestArticleNotifier {
+
+    public static final String RESOURCE_TYPE = "INTEREST";
+
+    private static final String EVENT_LOG_KEY_PREFIX = "notification:interest-events:";
+    private static final String PULL_INTERESTS_KEY = "notification:pull-interests";
+    private static final String WATERMARK_KEY_PREFIX = "notification:interest-watermark:";
+    private static final String FANOUT_JOBS_KEY = "notification:interest-fanout:jobs";
+    private static final String FANOUT_FAILED_KEY = "notification:interest-fanout:failed";
+    private static final String FANOUT_LOCK_KEY_PREFIX = "lock:notification:interest-fanout:";
+    private static final UUID MIN_UUID = new UUID(0L, 0L);
+    // 재시도/동시 조회로 같은 알림을 다시 넣으면 충돌로 건너뛴다
+    private static final String INSERT_IF_ABSENT_SQL = """
+        INSERT INTO notifications
+            (notification_id, user_id, content, resource_type, resource_id, confirmed, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, false, ?, ?)
+        ON CONFLICT (notification_id) DO NOTHING
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate requiresNewTransaction;
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+    private final UserSubscriberRepository userSubscriberRepository;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final NotificationPushService notificationPushService;
+    private final int pushThreshold;
+    private final int batchSize;
+    private final int eventLogMaxSize;
+    private final Duration eventRetention;
+    private final int maxFanOutAttempts;
+
+    public InterestArticleNotifier(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        RedissonClient redisson,
+        ObjectMapper objectMapper,
+        UserSubscriberRepository userSubscriberRepository,
+        NotificationUnreadCounter notificationUnreadCounter,
+        NotificationPushService notificationPushService,
+        @Value("${monew.notification.interest-fanout.push-threshold:1000}") int pushThreshold,
+        @Value("${monew.notification.interest-fanout.batch-size:500}") int batchSize,
+        @Value("${monew.notification.interest-fanout.event-log-max-size:1000}") int eventLogMaxSize,
+        @Value("${monew.notification.interest-fanout.event-retention-days:7}") int eventRetentionDays,
+        @Value("${monew.notification.interest-fanout.max-attempts:20}") int maxFanOutAttempts) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.requiresNewTransaction = new TransactionTemplate(transactionManager);
+        this.requiresNewTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+        this.userSubscriberRepository = userSubscriberRepository;
+        this.notificationUnreadCounter = notificationUnreadCounter;
+        this.notificationPushService = notificationPushService;
+        this.pushThreshold = pushThreshold;
+        this.batchSize = batchSize;
+        this.eventLogMaxSize = eventLogMaxSize;
+        this.eventRetention = Duration.ofDays(eventRetentionDays);
+        this.maxFanOutAttempts = maxFanOutAttempts;
+    }
+
+    // 기사 매핑 트랜잭션이 커밋된 뒤에 관심사별로 한 번씩 알림을 보낸다
+    public void notifyAfterCommit(Collection<InterestArticles> interestArticles) {
+        if (interestArticles.isEmpty()) {
+            return;
+        }
+        List<InterestArticles> snapshot = List.copyOf(interestArticles);
+        TransactionUtil.runAfterCommit(() -> snapshot.forEach(this::notifyInterest));
+    }
+
+    public void notifyInterest(InterestArticles interestArticles) {
+        String content = interestArticles.interestName() + "와 관련된 기사가 " + interestArticles.articleCount() + "건 등록되었습니다.";
+        try {
+            if (interestArticles.subscriberCount() <= pushThreshold) {
+                FanOutJob job = new FanOutJob(UUID.randomUUID(), interestArticles.interestId(),
+                    interestArticles.interestName(), content, MIN_UUID, 0);
+                // 보내기 전에 기록해 두어야 이 노드가 중간에 죽어도 다른 노드가 이어서 보낸다
+                saveJob(job);
+                runFanOut(job);
+            } else {
+                appendEvent(interestArticles.interestId(), content);
+                log.info("관심사 알림 이벤트 기록 (pull) - 관심사: {}, 구독자: {}명",
+                    interestArticles.interestName(), interestArticles.subscriberCount());
+            }
+        } catch (Exception e) {
+            // 알림 실패가 기사 수집 결과에 영향을 주지 않도록 한다
+            log.error("관심사 알림 생성 실패 - 관심사: {}, 오류: {}", interestArticles.interestName(), e.getMessage(), e);
+        }
+    }
+
+    // 실패했거나 실행하던 노드가 사라진 push 작업을 cursor 다음 구독자부터 이어서 보낸다
+    @Scheduled(fixedDelayString = "${monew.notification.interest-fanout.resume-interval-millis:60000}")
+    public void resumePendingFanOuts() {
+        try {
+            for (String value : fanOutJobs().readAllValues()) {
+                FanOutJob job = readJob(value);
+                if (job != null) {
+                    runFanOut(job);
+                }
+            }
+        } catch (Exception e) {
+            log.error("관심사 알림 재시도 중 오류 발생: {}", e.getMessage(), e);
+        }
+    }
+
+    // 구독한 시점 이후의 이벤트만 반영되도록 워터마크를 현재 시각으로 둔다 (재구독 시 다시 심는다)
+    public void seedWatermarkAfterCommit(UUID userId, UUID interestId) {
+        TransactionUtil.runAfterCommit(() -> {
+            RMap<String, String> watermarks = redisson.getMap(WATERMARK_KEY_PREFIX + userId, StringCodec.INSTANCE);
+            watermarks.fastPut(interestId.toString(), new Watermark(System.currentTimeMillis(), Set.of()).format());
+            watermarks.expire(eventRetention);
+        });
+    }
+
+    // 조회 시점에 사용자가 구독한 pull 관심사의 새 이벤트를 알림 행으로 반영한다
+    public void materializePulledNotifications(UUID userId) {
+        RSet<String> pullInterests = redisson.getSet(PULL_INTERESTS_KEY, StringCodec.INSTANCE);
+        Set<String> pullInterestIds = pullInterests.readAll();
+        if (pullInterestIds.isEmpty()) {
+            return;
+        }
+
+        List<UUID> candidates = pullInterestIds.stream().map(UUID::fromString).toList();
+        Set<UUID> subscribed = userSubscriberRepository.findSubscribedInterestIdsByUserIdAndInterestIdsIn(userId, candidates);
+        if (subscribed.isEmpty()) {
+            return;
+        }
+
+        RMap<String, String> watermarks = redisson.getMap(WATERMARK_KEY_PREFIX + userId, StringCodec.INSTANCE);
+        long floor = System.currentTimeMillis() - eventRetention.toMillis();
+        List<Object[]> rows = new ArrayList<>();
+        Map<String, Watermark> advanced = new HashMap<>();
+
+        for (UUID interestId : subscribed) {
+            RScoredSortedSet<String> events = eventLog(interestId);
+            if (!events.isExists()) {
+                pullInterests.remove(interestId.toString());
+                continue;
+            }
+
+            String key = interestId.toString();
+            Watermark previous = Watermark.parse(watermarks.get(key), floor);
+            // 같은 ms 에 기록된 이벤트를 놓치지 않도록 워터마크 시각을 포함해 읽고, 이미 반영한 이벤트 ID 로 거른다
+            Collection<ScoredEntry<String>> entries = events.entryRange(previous.millis(), true, Double.POSITIVE_INFINITY, true);
+
+            Watermark next = previous;
+            for (ScoredEntry<String> entry : entries) {
+                InterestArticleEvent event = readEvent(entry.getValue());
+                long millis = entry.getScore().longValue();
+                if (event == null || previous.covers(millis, event.eventId())) {
+                    continue;
+                }
+                next = next.advance(millis, event.eventId());
+                Timestamp createdAt = new Timestamp(event.createdAtMillis());
+                rows.add(new Object[]{derivedNotificationId(userId, event.eventId()), userId, event.content(),
+                    RESOURCE_TYPE, interestId, createdAt, createdAt});
+            }
+            if (next != previous) {
+                advanced.put(key, next);
+            }
+        }
+
+        if (!rows.isEmpty()) {
+            // 삽입에 실패하면 워터마크를 그대로 두어 다음 조회에서 다시 반영한다
+            List<Object[]> inserted = insertIfAbsent(rows);
+            if (!inserted.isEmpty()) {
+                notificationUnreadCounter.increment(userId, inserted.size());
+                notificationPushService.publishAll(inserted.stream().map(InterestArticleNotifier::toResponse).toList());
+            }
+        }
+        advanced.forEach((key, watermark) -> watermarks.fastPut(key, watermark.format()));
+        watermarks.expire(eventRetention);
+    }
+
+    // 작업 lock 을 잡은 노드만 보낸다. 실패하면 기록된 cursor 가 남아 resumePendingFanOuts 가 다시 시도한다
+    private void runFanOut(FanOutJob job) {
+        RLock lock = redisson.getLock(FANOUT_LOCK_KEY_PREFIX + job.jobId());
+        if (!lock.tryLock()) {
+            return;
+        }
+        try {
+            // lock 을 기다리는 사이 다른 노드가 끝냈거나 cursor 를 옮겼을 수 있으므로 저장된 작업으로 이어간다
+            FanOutJob current = readJob(fanOutJobs().get(job.jobId().toString()));
+            if (current == null) {
+                return;
+            }
+            int inserted = fanOutOnWrite(current);
+            fanOutJobs().fastRemove(job.jobId().toString());
+            log.info("관심사 알림 push 완료 - 관심사: {}, 알림: {}건", job.interestName(), inserted);
+        } catch (Exception e) {
+            recordFailure(job.jobId(), e);
+        } finally {
+            if (lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private int fanOutOnWrite(FanOutJob job) {
+        int total = 0;
+        UUID lastUserId = job.lastUserId();
+        while (true) {
+            List<UUID> userIds = userSubscriberRepository.findSubscriberUserIdsAfter(job.interestId(), lastUserId,
+                PageRequest.of(0, batchSize));
+            if (userIds.isEmpty()) {
+                break;
+            }
+
+            Timestamp now = new Timestamp(System.currentTimeMillis());
+            List<Object[]> rows = new ArrayList<>(userIds.size());
+            for (UUID userId : userIds) {
+                rows.add(new Object[]{derivedNotificationId(userId, job.jobId()), userId, job.content(), RESOURCE_TYPE,
+                    job.interestId(), now, now});
+            }
+            List<Object[]> inserted = insertIfAbsent(rows);
+            if (inserted.size() < rows.size()) {
+                // 이전 시도에서 들어간 행: 카운터 증가가 반영됐는지 알 수 없으므로 재조정에 맡긴다
+                Set<UUID> insertedUsers = inserted.stream().map(row -> (UUID) row[1]).collect(Collectors.toSet());
+                notificationUnreadCounter.markForReconcile(userIds.stream()
+                    .filter(userId -> !insertedUsers.contains(userId)).toList());
+            }
+            notificationUnreadCounter.incrementAll(inserted.stream().map(row -> (UUID) row[1]).toList(), 1);
+            notificationPushService.publishAll(inserted.stream().map(InterestArticleNotifier::toResponse).toList());
+
+            total += inserted.size();
+            lastUserId = userIds.get(userIds.size() - 1);
+            saveJob(job.withCursor(lastUserId));
+            if (userIds.size() < batchSize) {
+                break;
+            }
+        }
+        return total;
+    }
+
+    // 저장된 작업(마지막으로 끝낸 배치의 cursor)에 시도 횟수를 올린다. 상한을 넘으면 실패 목록으로 옮긴다
+    private void recordFailure(UUID jobId, Exception cause) {
+        try {
+            FanOutJob stored = readJob(fanOutJobs().get(jobId.toString()));
+            if (stored == null) {
+                return;
+            }
+            FanOutJob failed = stored.withAttempt();
+            if (failed.attempts() >= maxFanOutAttempts) {
+                redisson.<String, String>getMap(FANOUT_FAILED_KEY, StringCodec.INSTANCE)
+                    .fastPut(jobId.toString(), objectMapper.writeValueAsString(failed));
+                fanOutJobs().fastRemove(jobId.toString());
+                log.error("관심사 알림 재시도 상한 도달 - 관심사: {}, 작업: {}, cursor: {}, 오류: {}",
+                    failed.interestName(), jobId, failed.lastUserId(), cause.getMessage(), cause);
+                return;
+            }
+            saveJob(failed);
+            log.warn("관심사 알림 push 실패, 다음 주기에 이어서 보냅니다 - 관심사: {}, 작업: {}, cursor: {}, 시도: {}, 오류: {}",
+                failed.interestName(), jobId, failed.lastUserId(), failed.attempts(), cause.getMessage(), cause);
+        } catch (Exception e) {
+            log.error("관심사 알림 실패 기록 실패 - 작업: {}, 오류: {}", jobId, e.getMessage(), cause);
+        }
+    }
+
+    private void saveJob(FanOutJob job) {
+        try {
+            fanOutJobs().fastPut(job.jobId().toString(), objectMapper.writeValueAsString(job));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("관심사 알림 작업 직렬화 실패", e);
+        }
+    }
+
+    private FanOutJob readJob(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(value, FanOutJob.class);
+        } catch (JsonProcessingException e) {
+            log.warn("관심사 알림 작업 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private RMap<String, String> fanOutJobs() {
+        return redisson.getMap(FANOUT_JOBS_KEY, StringCodec.INSTANCE);
+    }
+
+    private void appendEvent(UUID interestId, String content) throws JsonProcessingException {
+        long now = System.currentTimeMillis();
+        String event = objectMapper.writeValueAsString(new InterestArticleEvent(UUID.randomUUID(), content, now));
+
+        RScoredSortedSet<String> events = eventLog(interestId);
+        events.add(now, event);
+        // 오래된 이벤트는 개수/기간 기준으로 잘라낸다
+        events.removeRangeByRank(0, -(eventLogMaxSize + 1));
+        events.removeRangeByScore(Double.NEGATIVE_INFINITY, true, now - eventRetention.toMillis(), false);
+        events.expire(eventRetention);
+
+        redisson.getSet(PULL_INTERESTS_KEY, StringCodec.INSTANCE).add(interestId.toString());
+    }
+
+    // 배치마다 별도 트랜잭션으로 커밋해 한 번의 수집이 긴 트랜잭션을 만들지 않게 한다.
+    // 이미 있는 알림(재시도, 동시에 들어온 조회)은 충돌로 건너뛰므로 실제로 들어간 행만 돌려준다
+    private List<Object[]> insertIfAbsent(List<Object[]> rows) {
+        int[] counts = requiresNewTransaction.execute(status -> jdbcTemplate.batchUpdate(INSERT_IF_ABSENT_SQL, rows));
+        List<Object[]> inserted = new ArrayList<>(rows.size());
+        for (int i = 0; i < rows.size(); i++) {
+            if (counts[i] != 0) {
+                inserted.add(rows.get(i));
+            }
+        }
+        return inserted;
+    }
+
+    // pull 은 (사용자, 이벤트), push 는 (사용자, 작업) 으로 알림 ID 를 정한다
+    private static UUID derivedNotificationId(UUID userId, UUID sourceId) {
+        return UUID.nameUUIDFromBytes((userId + ":" + sourceId).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static NotificationResponse toResponse(Object[] row) {
+        return new NotificationResponse((UUID) row[0], (Timestamp) row[5], (Timestamp) row[6], false,
+            (UUID) row[1], (String) row[2], (String) row[3], (UUID) row[4]);
+    }
+
+    private InterestArticleEvent readEvent(String value) {
+        try {
+            return objectMapper.readValue(value, InterestArticleEvent.class);
+        } catch (JsonProcessingException e) {
+            log.warn("관심사 알림 이벤트 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private RScoredSortedSet<String> eventLog(UUID interestId) {
+        return redisson.getScoredSortedSet(EVENT_LOG_KEY_PREFIX + interestId, StringCodec.INSTANCE);
+    }
+
+    public record InterestArticles(UUID interestId, String interestName, int subscriberCount, int articleCount) {
+    }
+
+    record InterestArticleEvent(UUID eventId, String content, long createdAtMillis) {
+    }
+
+    // push 작업: lastUserId 까지의 구독자에게는 이미 보냈다
+    record FanOutJob(UUID jobId, UUID interestId, String interestName, String content, UUID lastUserId, int attempts) {
+
+        FanOutJob withCursor(UUID userId) {
+            return new FanOutJob(jobId, interestId, interestName, content, userId, attempts);
+        }
+
+        FanOutJob withAttempt() {
+            return new FanOutJob(jobId, interestId, interestName, content, lastUserId, attempts + 1);
+        }
+    }
+
+    /**
+     * 사용자별 관심사 워터마크: 마지막으로 반영한 이벤트 시각과, 그 시각에 반영한 이벤트 ID 들
+     * - 형식: "millis|eventId,eventId"
+     */
+    record Watermark(long millis, Set<UUID> eventIds) {
+
+        static Watermark parse(String value, long floor) {
+            int separator = value != null ? value.indexOf('|') : -1;
+            // 없거나 형식이 맞지 않는 값은 보존 기간 시작부터 읽는다
+            if (separator < 0) {
+                return new Watermark(floor, Set.of());
+            }
+            Set<UUID> eventIds = separator == value.length() - 1
+                ? Set.of()
+                : Arrays.stream(value.substring(separator + 1).split(","))
+                    .map(UUID::fromString)
+                    .collect(Collectors.toSet());
+            return new Watermark(Long.parseLong(value.substring(0, separator)), eventIds);
+        }
+
+        boolean covers(long eventMillis, UUID eventId) {
+            return eventMillis < millis || (eventMillis == millis && eventIds.contains(eventId));
+        }
+
+        Watermark advance(long eventMillis, UUID eventId) {
+            if (eventMillis > millis) {
+                return new Watermark(eventMillis, Set.of(eventId));
+            }
+            if (eventMillis < millis) {
+                return this;
+            }
+            Set<UUID> merged = new HashSet<>(eventIds);
+            merged.add(eventId);
+            return new Watermark(millis, merged);
+        }
+
+        String format() {
+            return millis + "|" + eventIds.stream().map(UUID::toString).collect(Collectors.joining(","));
+        }
+    }
+}
@@ -0,0 +1,400 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.InterestSuggestionResponse;
+import com.part2.monew.entity.Interest;
+import com.part2.monew.repository.InterestRepository;
+import com.part2.monew.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사/키워드 이름 자동완성 인덱스
+ * - 관심사 카탈로그를 메모리에 두고 InterestPrefixTrie 스냅샷으로 조회하므로 입력마다 DB 를 조회하지 않는다.
+ * - 등록/수정/삭제는 커밋 후 Redis 채널로 모든 노드에 알리고, 각 노드는 바뀐 관심사/키워드만 작은 변경분(overlay)으로 반영한다.
+ *   trie 는 노드마다 top-k + max-pending-changes 개를 담아 두므로, 변경분이 그 이하일 때는 변경된 항목을 걸러내도 상위 k 개가 남는다.
+ *   변경분이 한도를 넘으면 그때만 trie 를 다시 만든다.
+ * - 구독자 수 변화(순위)는 주기적인 전체 재구성으로 따라간다. 재구성 중 도착한 변경은 기록해 두었다가 읽어 온 카탈로그 위에 다시 반영한다.
+ */
+@Slf4j
+@Component
+public class InterestAutocompleteIndex {
+
+    public static final String TYPE_INTEREST = "INTEREST";
+    public static final String TYPE_KEYWORD = "KEYWORD";
+
+    private static final String TOPIC_NAME = "channel:interest-catalog";
+
+    private static final Comparator<Candidate> RANK = Comparator
+        .comparingLong((Candidate candidate) -> candidate.suggestion().subscriberCount()).reversed()
+        .thenComparing(Candidate::key);
+
+    private final InterestRepository interestRepository;
+    private final InterestNameIndex interestNameIndex;
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+    private final int topK;
+    private final int maxPendingChanges;
+
+    // 아래 상태는 this 로 보호하고, 조회는 volatile snapshot 만 읽는다
+    private final Map<UUID, CatalogEntry> entries = new HashMap<>();
+    private final Map<String, Set<UUID>> keywordOwners = new HashMap<>();
+    private final Set<UUID> pendingInterests = new HashSet<>();
+    private final Set<String> pendingKeywords = new HashSet<>();
+    private final Map<UUID, CatalogEntry> changesDuringRebuild = new HashMap<>();
+    private boolean rebuilding;
+
+    private final AtomicBoolean dirty = new AtomicBoolean();
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
+    private RTopic topic;
+    private int listenerId;
+
+    public InterestAutocompleteIndex(InterestRepository interestRepository,
+        InterestNameIndex interestNameIndex,
+        RedissonClient redisson,
+        ObjectMapper objectMapper,
+        @Value("${monew.interest.autocomplete.top-k:20}") int topK,
+        @Value("${monew.interest.autocomplete.max-pending-changes:64}") int maxPendingChanges) {
+        this.interestRepository = interestRepository;
+        this.interestNameIndex = interestNameIndex;
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+        this.topK = topK;
+        this.maxPendingChanges = maxPendingChanges;
+    }
+
+    @PostConstruct
+    public void subscribeTopic() {
+        topic = redisson.getTopic(TOPIC_NAME, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> applyChange(message));
+    }
+
+    @PreDestroy
+    public void unsubscribeTopic() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${monew.interest.autocomplete.rebuild-interval-millis:300000}",
+        initialDelayString = "${monew.interest.autocomplete.rebuild-interval-millis:300000}")
+    public void rebuild() {
+        synchronized (this) {
+            rebuilding = true;
+            changesDuringRebuild.clear();
+        }
+        Map<UUID, CatalogEntry> loaded = new HashMap<>();
+        try {
+            for (Object[] row : interestRepository.findAllCatalogRows()) {
+                UUID id = (UUID) row[0];
+                loaded.put(id, new CatalogEntry(id, (String) row[1], ((Number) row[2]).longValue(), splitKeywords((String) row[3])));
+            }
+        } finally {
+            synchronized (this) {
+                rebuilding = false;
+            }
+        }
+        synchronized (this) {
+            // 읽는 동안 반영된 변경은 읽어 온 값보다 늦게 커밋되었을 수 있으므로 다시 덮어쓴다
+            changesDuringRebuild.forEach((id, entry) -> {
+                if (entry == null) {
+                    loaded.remove(id);
+                } else {
+                    loaded.put(id, entry);
+                }
+            });
+            changesDuringRebuild.clear();
+            entries.clear();
+            keywordOwners.clear();
+            loaded.values().forEach(entry -> {
+                entries.put(entry.id(), entry);
+                indexKeywords(entry);
+            });
+            dirty.set(false);
+            publishBase();
+        }
+        log.info("관심사 자동완성 인덱스 재구성 완료: 관심사 {}개, 노드 {}개", loaded.size(), snapshot.trie().nodeCount());
+    }
+
+    // 변경 메시지가 몰려도 변경분은 짧은 주기로 한 번만 다시 만든다
+    @Scheduled(fixedDelayString = "${monew.interest.autocomplete.refresh-delay-millis:500}")
+    public void refreshIfDirty() {
+        if (!dirty.compareAndSet(true, false)) {
+            return;
+        }
+        synchronized (this) {
+            if (pendingInterests.size() + pendingKeywords.size() > maxPendingChanges) {
+                publishBase();
+            } else {
+                publishOverlay();
+            }
+        }
+    }
+
+    public int maxLimit() {
+        return topK;
+    }
+
+    public List<InterestSuggestionResponse> suggest(String prefix, int limit) {
+        String key = normalize(prefix);
+        if (key.isEmpty() || limit < 1) {
+            return List.of();
+        }
+        Snapshot current = snapshot;
+        int size = Math.min(limit, topK);
+        int[] hits = current.trie().lookup(key, topK + maxPendingChanges);
+        if (current.overlay().isEmpty()) {
+            List<InterestSuggestionResponse> suggestions = new ArrayList<>(Math.min(size, hits.length));
+            for (int i = 0; i < hits.length && i < size; i++) {
+                suggestions.add(current.suggestions()[hits[i]]);
+            }
+            return suggestions;
+        }
+
+        // 변경된 항목은 trie 결과에서 빼고, 변경분의 최신 값과 합쳐 다시 순위를 매긴다
+        Overlay overlay = current.overlay();
+        List<Candidate> candidates = new ArrayList<>();
+        for (int hit : hits) {
+            InterestSuggestionResponse suggestion = current.suggestions()[hit];
+            boolean stale = TYPE_INTEREST.equals(suggestion.type())
+                ? overlay.staleInterests().contains(suggestion.interestId())
+                : overlay.staleKeywords().contains(current.keys()[hit]);
+            if (!stale) {
+                candidates.add(new Candidate(current.keys()[hit], suggestion));
+            }
+        }
+        for (Candidate fresh : overlay.fresh()) {
+            if (fresh.key().startsWith(key)) {
+                candidates.add(fresh);
+            }
+        }
+        candidates.sort(RANK);
+        List<InterestSuggestionResponse> suggestions = new ArrayList<>(Math.min(size, candidates.size()));
+        for (int i = 0; i < candidates.size() && i < size; i++) {
+            suggestions.add(candidates.get(i).suggestion());
+        }
+        return suggestions;
+    }
+
+    public void upsertAfterCommit(UUID interestId, String name) {
+        TransactionUtil.runAfterCommit(() -> publish(new CatalogChange(ChangeType.UPSERT, interestId, name)));
+    }
+
+    public void deleteAfterCommit(UUID interestId, String name) {
+        TransactionUtil.runAfterCommit(() -> publish(new CatalogChange(ChangeType.DELETE, interestId, name)));
+    }
+
+    private void publish(CatalogChange change) {
+        try {
+            topic.publish(objectMapper.writeValueAsString(change));
+        } catch (Exception e) {
+            // 발행 실패 시 현재 노드만이라도 반영하고, 다른 노드는 주기적 재구성으로 따라간다
+            log.warn("관심사 카탈로그 변경 발행 실패 - 관심사 ID: {}, 오류: {}", change.interestId(), e.getMessage());
+            apply(change);
+        }
+    }
+
+    private void applyChange(String message) {
+        try {
+            apply(objectMapper.readValue(message, CatalogChange.class));
+        } catch (Exception e) {
+            log.warn("관심사 카탈로그 변경 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void apply(CatalogChange change) {
+        if (change.type() == ChangeType.DELETE) {
+            applyEntry(change.interestId(), null);
+            interestNameIndex.remove(change.name());
+        } else {
+            interestRepository.findById(change.interestId()).ifPresent(interest -> {
+                applyEntry(interest.getId(), CatalogEntry.of(interest));
+                interestNameIndex.add(interest.getName());
+            });
+        }
+        dirty.set(true);
+    }
+
+    private synchronized void applyEntry(UUID interestId, CatalogEntry entry) {
+        CatalogEntry previous = entry == null ? entries.remove(interestId) : entries.put(interestId, entry);
+        if (previous != null) {
+            for (String keyword : previous.keywords()) {
+                String key = normalize(keyword);
+                Set<UUID> owners = keywordOwners.get(key);
+                if (owners != null && owners.remove(interestId) && owners.isEmpty()) {
+                    keywordOwners.remove(key);
+                }
+                pendingKeywords.add(key);
+            }
+        }
+        if (entry != null) {
+            indexKeywords(entry);
+            entry.keywords().forEach(keyword -> pendingKeywords.add(normalize(keyword)));
+        }
+        pendingInterests.add(interestId);
+        if (rebuilding) {
+            changesDuringRebuild.put(interestId, entry);
+        }
+    }
+
+    private void indexKeywords(CatalogEntry entry) {
+        for (String keyword : entry.keywords()) {
+            keywordOwners.computeIfAbsent(normalize(keyword), key -> new HashSet<>()).add(entry.id());
+        }
+    }
+
+    // 전체 카탈로그로 trie 를 다시 만들고 변경분을 비운다 (this 잠금 안에서 호출)
+    private void publishBase() {
+        List<Candidate> candidates = new ArrayList<>();
+        Map<String, KeywordTotal> keywordTotals = new LinkedHashMap<>();
+        for (CatalogEntry entry : entries.values()) {
+            candidates.add(interestCandidate(entry));
+
+            // 키워드는 그 키워드를 가진 관심사들의 구독자 수 합으로 순위를 매긴다
+            for (String keyword : entry.keywords()) {
+                keywordTotals.computeIfAbsent(normalize(keyword), key -> new KeywordTotal(keyword))
+                    .add(entry.subscriberCount());
+            }
+        }
+        keywordTotals.forEach((key, total) -> candidates.add(new Candidate(key,
+            new InterestSuggestionResponse(TYPE_KEYWORD, total.name, null, total.subscriberCount))));
+
+        List<InterestPrefixTrie.Term> terms = new ArrayList<>(candidates.size());
+        String[] keys = new String[candidates.size()];
+        InterestSuggestionResponse[] suggestions = new InterestSuggestionResponse[candidates.size()];
+        for (int i = 0; i < candidates.size(); i++) {
+            Candidate candidate = candidates.get(i);
+            terms.add(new InterestPrefixTrie.Term(candidate.key(), candidate.suggestion().subscriberCount(), i));
+            keys[i] = candidate.key();
+            suggestions[i] = candidate.suggestion();
+        }
+        pendingInterests.clear();
+        pendingKeywords.clear();
+        snapshot = new Snapshot(InterestPrefixTrie.build(terms, topK + maxPendingChanges), keys, suggestions,
+            Overlay.EMPTY);
+    }
+
+    // 마지막 trie 이후 바뀐 관심사/키워드의 최신 값만 다시 계산한다 (this 잠금 안에서 호출)
+    private void publishOverlay() {
+        List<Candidate> fresh = new ArrayList<>();
+        for (UUID interestId : pendingInterests) {
+            CatalogEntry entry = entries.get(interestId);
+            if (entry != null) {
+                fresh.add(interestCandidate(entry));
+            }
+        }
+        for (String key : pendingKeywords) {
+            Set<UUID> owners = keywordOwners.get(key);
+            if (owners == null || owners.isEmpty()) {
+                continue;
+            }
+            KeywordTotal total = null;
+            for (UUID owner : owners) {
+                CatalogEntry entry = entries.get(owner);
+                if (total == null) {
+                    total = new KeywordTotal(entry.keywords().stream()
+                        .filter(keyword -> normalize(keyword).equals(key)).findFirst().orElse(key));
+                }
+                total.add(entry.subscriberCount());
+            }
+            fresh.add(new Candidate(key, new InterestSuggestionResponse(TYPE_KEYWORD, total.name, null, total.subscriberCount)));
+        }
+        Snapshot current = snapshot;
+        snapshot = new Snapshot(current.trie(), current.keys(), current.suggestions(),
+            new Overlay(Set.copyOf(pendingInterests), Set.copyOf(pendingKeywords), List.copyOf(fresh)));
+    }
+
+    private static Candidate interestCandidate(CatalogEntry entry) {
+        return new Candidate(normalize(entry.name()),
+            new InterestSuggestionResponse(TYPE_INTEREST, entry.name(), entry.id(), entry.subscriberCount()));
+    }
+
+    // 소문자화 후 NFD 로 분해해 입력 중인 음절(예: "겨" → "경제")도 prefix 로 일치시킨다
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return Normalizer.normalize(text.trim().toLowerCase(Locale.ROOT), Normalizer.Form.NFD);
+    }
+
+    private static List<String> splitKeywords(String keywordText) {
+        if (keywordText == null || keywordText.isEmpty()) {
+            return List.of();
+        }
+        return List.of(keywordText.split("\n"));
+    }
+
+    private record CatalogEntry(UUID id, String name, long subscriberCount, List<String> keywords) {
+
+        static CatalogEntry of(Interest interest) {
+            return new CatalogEntry(interest.getId(), interest.getName(), interest.getSubscriberCount(),
+                splitKeywords(interest.getKeywordText()));
+        }
+    }
+
+    private static final class KeywordTotal {
+
+        private final String name;
+        private long subscriberCount;
+
+        private KeywordTotal(String name) {
+            this.name = name;
+        }
+
+        private void add(long count) {
+            subscriberCount += count;
+        }
+    }
+
+    private record Candidate(String key, InterestSuggestionResponse suggestion) {
+    }
+
+    private record Overlay(Set<UUID> staleInterests, Set<String> staleKeywords, List<Candidate> fresh) {
+
+        static final Overlay EMPTY = new Overlay(Set.of(), Set.of(), List.of());
+
+        boolean isEmpty() {
+            return staleInterests.isEmpty() && staleKeywords.isEmpty();
+        }
+    }
+
+    private record Snapshot(InterestPrefixTrie trie, String[] keys, InterestSuggestionResponse[] suggestions,
+                            Overlay overlay) {
+
+        static final Snapshot EMPTY = new Snapshot(InterestPrefixTrie.EMPTY, new String[0],
+            new InterestSuggestionResponse[0], Overlay.EMPTY);
+    }
+
+    enum ChangeType {
+        UPSERT, DELETE
+    }
+
+    record CatalogChange(ChangeType type, UUID interestId, String name) {
+    }
+}
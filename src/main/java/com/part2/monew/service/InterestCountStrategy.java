@@ -0,0 +1,95 @@
+package com.part2.monew.service;
+
+import com.part2.monew.util.TransactionUtil;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.LongSupplier;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.LongCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사 검색 totalElements 계산 전략
+ * - 검색어별 정확한 COUNT 결과를 짧은 TTL 로 캐시하고, 관심사가 바뀌면 세대(generation) 값을 올려 한 번에 무효화한다.
+ * - 검색어가 없는 전체 조회는 테이블이 충분히 크면 planner 통계(pg_class.reltuples)의 근사값을 사용한다.
+ */
+@Slf4j
+@Component
+public class InterestCountStrategy {
+
+    private static final String GENERATION_KEY = "interest:count:generation";
+    private static final String COUNT_KEY_PREFIX = "interest:count:";
+    private static final String ESTIMATE_SQL = "SELECT reltuples::bigint FROM pg_class WHERE relname = 'interests'";
+
+    private final RedissonClient redisson;
+    private final JdbcTemplate jdbcTemplate;
+    private final Duration ttl;
+    private final long estimateThreshold;
+
+    public InterestCountStrategy(RedissonClient redisson, JdbcTemplate jdbcTemplate,
+        @Value("${monew.interest.count.ttl-seconds:60}") long ttlSeconds,
+        @Value("${monew.interest.count.estimate-threshold:100000}") long estimateThreshold) {
+        this.redisson = redisson;
+        this.jdbcTemplate = jdbcTemplate;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.estimateThreshold = estimateThreshold;
+    }
+
+    public long count(String keyword, LongSupplier exactCounter) {
+        String term = normalize(keyword);
+
+        if (term.isEmpty()) {
+            Long estimate = estimateUnfiltered();
+            if (estimate != null && estimate >= estimateThreshold) {
+                return estimate;
+            }
+        }
+
+        try {
+            RBucket<Long> cached = redisson.getBucket(countKey(term), LongCodec.INSTANCE);
+            Long value = cached.get();
+            if (value != null) {
+                return value;
+            }
+            long exact = exactCounter.getAsLong();
+            cached.set(exact, ttl);
+            return exact;
+        } catch (Exception e) {
+            // 캐시 장애 시에도 검색은 정확한 COUNT 로 동작한다
+            log.warn("관심사 COUNT 캐시 조회 실패: {}", e.getMessage());
+            return exactCounter.getAsLong();
+        }
+    }
+
+    // 관심사 등록/수정/삭제 커밋 후 모든 검색어의 캐시를 무효화한다
+    public void invalidateAfterCommit() {
+        TransactionUtil.runAfterCommit(() -> generation().incrementAndGet());
+    }
+
+    private Long estimateUnfiltered() {
+        try {
+            Long estimate = jdbcTemplate.queryForObject(ESTIMATE_SQL, Long.class);
+            // 한 번도 ANALYZE 되지 않은 테이블은 -1 (PostgreSQL 14+) 또는 0 을 반환한다
+            return estimate != null && estimate > 0 ? estimate : null;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private String countKey(String term) {
+        return COUNT_KEY_PREFIX + generation().get() + ":" + term;
+    }
+
+    private RAtomicLong generation() {
+        return redisson.getAtomicLong(GENERATION_KEY);
+    }
+
+    private String normalize(String keyword) {
+        return keyword == null ? "" : keyword.toLowerCase(Locale.ROOT);
+    }
+}
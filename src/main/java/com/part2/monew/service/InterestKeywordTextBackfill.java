@@ -0,0 +1,66 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.InterestRepository;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * keyword_text 일회성 채움
+ * - keyword_text 는 관심사 생성/키워드 수정 시 Interest.syncKeywordText() 로 함께 저장된다.
+ * - 컬럼 도입 이전에 만들어진 관심사만 기동 시 한 번, batch-size 개씩 나눠 채운다. 채울 행이 없으면 조회 한 번으로 끝난다.
+ * - 여러 인스턴스가 동시에 기동해도 락을 잡은 한 곳만 실행한다.
+ */
+@Slf4j
+@Component
+public class InterestKeywordTextBackfill {
+
+    private static final String LOCK_KEY = "lock:interest:keyword-text-backfill";
+
+    private final InterestRepository interestRepository;
+    private final RedissonClient redisson;
+    private final int batchSize;
+
+    public InterestKeywordTextBackfill(InterestRepository interestRepository,
+        RedissonClient redisson,
+        @Value("${monew.interest.keyword-text-backfill.batch-size:1000}") int batchSize) {
+        this.interestRepository = interestRepository;
+        this.redisson = redisson;
+        this.batchSize = batchSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(0, 10, TimeUnit.MINUTES);
+            if (!locked) {
+                return;
+            }
+            long total = 0;
+            int filled;
+            do {
+                filled = interestRepository.backfillKeywordText(batchSize);
+                total += filled;
+            } while (filled >= batchSize);
+            if (total > 0) {
+                log.info("관심사 검색용 키워드 문자열 채움: {}건", total);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 채우지 못한 관심사는 다음 기동 때 다시 대상이 된다
+            log.error("관심사 검색용 키워드 문자열 채움 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+}
@@ -0,0 +1,195 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.InterestRepository;
+import com.part2.monew.util.TransactionUtil;
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 관심사 이름 유사도 후보 인덱스
+ * - 이름을 자모 단위로 분해한 뒤 bigram 역색인을 만들어, 겹치는 bigram 이 많은 상위 후보만 돌려준다.
+ * - 등록/삭제 시 커밋 이후 즉시 반영하고, 다른 인스턴스의 변경은 주기적 재구성으로 따라간다.
+ */
+@Slf4j
+@Component
+public class InterestNameIndex {
+
+    private static final char BOUNDARY = '\u0002';
+
+    private final InterestRepository interestRepository;
+    private final int maxCandidates;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<String, Integer> idsByName = new HashMap<>();
+    private final List<String> names = new ArrayList<>();
+    private final List<Integer> gramCounts = new ArrayList<>();
+    private final Map<String, Set<Integer>> postings = new HashMap<>();
+
+    public InterestNameIndex(InterestRepository interestRepository,
+        @Value("${monew.interest.similarity.max-candidates:20}") int maxCandidates) {
+        this.interestRepository = interestRepository;
+        this.maxCandidates = maxCandidates;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${monew.interest.similarity.rebuild-interval-millis:300000}",
+        initialDelayString = "${monew.interest.similarity.rebuild-interval-millis:300000}")
+    public void rebuild() {
+        List<String> allNames = interestRepository.findAllNames();
+        replaceAll(allNames);
+        log.info("관심사 이름 인덱스 재구성 완료: {}개", allNames.size());
+    }
+
+    public void replaceAll(Collection<String> allNames) {
+        lock.writeLock().lock();
+        try {
+            idsByName.clear();
+            names.clear();
+            gramCounts.clear();
+            postings.clear();
+            allNames.forEach(this::addInternal);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void addAfterCommit(String name) {
+        TransactionUtil.runAfterCommit(() -> add(name));
+    }
+
+    public void removeAfterCommit(String name) {
+        TransactionUtil.runAfterCommit(() -> remove(name));
+    }
+
+    public void add(String name) {
+        lock.writeLock().lock();
+        try {
+            addInternal(name);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String name) {
+        lock.writeLock().lock();
+        try {
+            Integer id = idsByName.remove(name);
+            if (id == null) {
+                return;
+            }
+            for (String gram : grams(normalize(name))) {
+                Set<Integer> ids = postings.get(gram);
+                if (ids != null) {
+                    ids.remove(id);
+                    if (ids.isEmpty()) {
+                        postings.remove(gram);
+                    }
+                }
+            }
+            names.set(id, null);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 겹치는 bigram 비율(Dice 계수)이 높은 순으로 최대 maxCandidates 개의 이름을 반환한다
+    public List<String> findCandidates(String name) {
+        Set<String> queryGrams = grams(normalize(name));
+        if (queryGrams.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, Integer> overlaps = new HashMap<>();
+            for (String gram : queryGrams) {
+                Set<Integer> ids = postings.get(gram);
+                if (ids != null) {
+                    for (Integer id : ids) {
+                        overlaps.merge(id, 1, Integer::sum);
+                    }
+                }
+            }
+
+            return overlaps.entrySet().stream()
+                .sorted((a, b) -> Double.compare(
+                    dice(b.getValue(), queryGrams.size(), gramCounts.get(b.getKey())),
+                    dice(a.getValue(), queryGrams.size(), gramCounts.get(a.getKey()))))
+                .limit(maxCandidates)
+                .map(entry -> names.get(entry.getKey()))
+                .toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return idsByName.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void addInternal(String name) {
+        if (name == null || idsByName.containsKey(name)) {
+            return;
+        }
+        int id = names.size();
+        Set<String> nameGrams = grams(normalize(name));
+        names.add(name);
+        gramCounts.add(nameGrams.size());
+        idsByName.put(name, id);
+        for (String gram : nameGrams) {
+            postings.computeIfAbsent(gram, key -> new HashSet<>()).add(id);
+        }
+    }
+
+    private static double dice(int overlap, int queryGramCount, int candidateGramCount) {
+        return (2.0 * overlap) / (queryGramCount + candidateGramCount);
+    }
+
+    // 소문자화 후 한글 음절을 초성/중성/종성 자모로 분해하고 공백·기호는 제거한다
+    static String normalize(String name) {
+        if (name == null) {
+            return "";
+        }
+        String decomposed = Normalizer.normalize(name.toLowerCase(), Normalizer.Form.NFD);
+        StringBuilder normalized = new StringBuilder(decomposed.length());
+        decomposed.codePoints()
+            .filter(Character::isLetterOrDigit)
+            .forEach(normalized::appendCodePoint);
+        return normalized.toString();
+    }
+
+    static Set<String> grams(String normalized) {
+        if (normalized.isEmpty()) {
+            return Set.of();
+        }
+        String padded = BOUNDARY + normalized + BOUNDARY;
+        Set<String> result = new LinkedHashSet<>();
+        for (int i = 0; i + 2 <= padded.length(); i++) {
+            result.add(padded.substring(i, i + 2));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,151 @@
+package com.part2.monew.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+
+/**
+ * 자동완성용 불변 prefix trie
+ * - 노드를 BFS 순서로 배열에 담아 형제 노드가 연속되게 하고, 자식 탐색은 label 이진 탐색으로 한다.
+ * - 노드마다 하위 항목 중 점수 상위 K 개를 미리 계산해 두어 조회는 prefix 길이만큼의 탐색으로 끝난다.
+ */
+final class InterestPrefixTrie {
+
+    static final InterestPrefixTrie EMPTY = build(List.of(), 1);
+
+    private final char[] labels;
+    private final int[] childStart;
+    private final int[] childCount;
+    private final int[] topOffsets;
+    private final int[] topPayloads;
+
+    private InterestPrefixTrie(char[] labels, int[] childStart, int[] childCount, int[] topOffsets, int[] topPayloads) {
+        this.labels = labels;
+        this.childStart = childStart;
+        this.childCount = childCount;
+        this.topOffsets = topOffsets;
+        this.topPayloads = topPayloads;
+    }
+
+    static InterestPrefixTrie build(Collection<Term> terms, int topK) {
+        Term[] sorted = terms.toArray(new Term[0]);
+        Arrays.sort(sorted, Comparator.comparing(Term::key));
+
+        int maxNodes = 1;
+        for (Term term : sorted) {
+            maxNodes += term.key().length();
+        }
+        char[] labels = new char[maxNodes];
+        int[] childStart = new int[maxNodes];
+        int[] childCount = new int[maxNodes];
+        int[] topOffsets = new int[maxNodes + 1];
+        int[] rangeLo = new int[maxNodes];
+        int[] rangeHi = new int[maxNodes];
+        int[] depths = new int[maxNodes];
+        int[] topPayloads = new int[Math.max(16, Math.min(maxNodes * topK, sorted.length * 4))];
+
+        rangeHi[0] = sorted.length;
+        int nodeCount = 1;
+        int topSize = 0;
+
+        for (int node = 0; node < nodeCount; node++) {
+            int lo = rangeLo[node];
+            int hi = rangeHi[node];
+            int depth = depths[node];
+
+            List<Integer> top = selectTop(sorted, lo, hi, topK);
+            if (topSize + top.size() > topPayloads.length) {
+                topPayloads = Arrays.copyOf(topPayloads, Math.max(topPayloads.length * 2, topSize + top.size()));
+            }
+            topOffsets[node] = topSize;
+            for (int index : top) {
+                topPayloads[topSize++] = sorted[index].payload();
+            }
+
+            // 정렬되어 있으므로 현재 깊이에서 끝나는 항목이 범위 앞쪽에 모여 있다
+            int i = lo;
+            while (i < hi && sorted[i].key().length() == depth) {
+                i++;
+            }
+            childStart[node] = nodeCount;
+            while (i < hi) {
+                char label = sorted[i].key().charAt(depth);
+                int j = i;
+                while (j < hi && sorted[j].key().charAt(depth) == label) {
+                    j++;
+                }
+                labels[nodeCount] = label;
+                rangeLo[nodeCount] = i;
+                rangeHi[nodeCount] = j;
+                depths[nodeCount] = depth + 1;
+                nodeCount++;
+                childCount[node]++;
+                i = j;
+            }
+        }
+        topOffsets[nodeCount] = topSize;
+
+        return new InterestPrefixTrie(
+            Arrays.copyOf(labels, nodeCount),
+            Arrays.copyOf(childStart, nodeCount),
+            Arrays.copyOf(childCount, nodeCount),
+            Arrays.copyOf(topOffsets, nodeCount + 1),
+            Arrays.copyOf(topPayloads, topSize));
+    }
+
+    // prefix 로 시작하는 항목 중 점수 상위 payload 를 최대 limit 개 반환한다
+    int[] lookup(String prefix, int limit) {
+        int node = 0;
+        for (int i = 0; i < prefix.length(); i++) {
+            node = findChild(node, prefix.charAt(i));
+            if (node < 0) {
+                return new int[0];
+            }
+        }
+        int from = topOffsets[node];
+        int to = Math.min(topOffsets[node + 1], from + limit);
+        return Arrays.copyOfRange(topPayloads, from, to);
+    }
+
+    int nodeCount() {
+        return labels.length;
+    }
+
+    private int findChild(int node, char label) {
+        int lo = childStart[node];
+        int hi = lo + childCount[node] - 1;
+        while (lo <= hi) {
+            int mid = (lo + hi) >>> 1;
+            if (labels[mid] < label) {
+                lo = mid + 1;
+            } else if (labels[mid] > label) {
+                hi = mid - 1;
+            } else {
+                return mid;
+            }
+        }
+        return -1;
+    }
+
+    // 범위 안에서 점수 내림차순(동점이면 키 오름차순) 상위 k 개의 인덱스
+    private static List<Integer> selectTop(Term[] sorted, int lo, int hi, int k) {
+        Comparator<Integer> rank = Comparator.<Integer>comparingLong(index -> sorted[index].score())
+            .thenComparing(index -> -index);
+        PriorityQueue<Integer> heap = new PriorityQueue<>(k + 1, rank);
+        for (int i = lo; i < hi; i++) {
+            heap.offer(i);
+            if (heap.size() > k) {
+                heap.poll();
+            }
+        }
+        List<Integer> top = new ArrayList<>(heap);
+        top.sort(rank.reversed());
+        return top;
+    }
+
+    record Term(String key, long score, int payload) {
+    }
+}
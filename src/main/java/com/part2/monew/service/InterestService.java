@@ -4,7 +4,9 @@ import com.part2.monew.dto.request.InterestRegisterRequestDto;
 import com.part2.monew.dto.request.InterestUpdateRequestDto;
 import com.part2.monew.dto.response.CursorPageResponse;
 import com.part2.monew.dto.response.InterestDto;
+import com.part2.monew.dto.response.InterestSuggestionResponse;
 import com.part2.monew.dto.response.SubscriptionResponse;
+import java.util.List;
 import java.util.UUID;
 
 public interface InterestService {
@@ -14,7 +16,9 @@ public interface InterestService {
   InterestDto updateInterestKeywords(UUID interestId, InterestUpdateRequestDto requestDto, UUID requestId);
 
   CursorPageResponse<InterestDto> searchInterests(String keyword, String orderBy, String direction,
-      String cursor, String after, int limit, UUID requestUserId);
+      String cursor, String after, int limit, boolean includeTotal, UUID requestUserId);
+
+  List<InterestSuggestionResponse> autocomplete(String prefix, int limit);
 
   void deleteInterest(UUID interestId, UUID requestUserId);
 
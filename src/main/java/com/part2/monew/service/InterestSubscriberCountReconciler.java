@@ -0,0 +1,92 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.InterestRepository;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 관심사 구독자 수 보정
+ * - 구독/취소는 SQL 증감으로 처리하고, 예외 상황으로 어긋난 값은 users_subscribes 를 기준으로 주기적으로 맞춘다.
+ * - 관심사를 batch-size 개씩 훑으며 GROUP BY 한 번으로 어긋난 관심사만 고르고, 그 행들만 잠가 다시 센 값으로 맞춘다.
+ *   배치마다 트랜잭션을 나누므로 전체 관심사를 한 번에 잠그지 않는다.
+ * - 구독은 행을 넣고 같은 트랜잭션에서 관심사 행을 증가시키므로,
+ *   잠금 이후의 COUNT 는 커밋된 구독만 세고 아직 커밋되지 않은 구독의 증가분은 보정 뒤에 더해진다.
+ */
+@Slf4j
+@Component
+public class InterestSubscriberCountReconciler {
+
+    private static final String LOCK_KEY = "lock:interest:subscriber-count-reconcile";
+
+    private final InterestRepository interestRepository;
+    private final RedissonClient redisson;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+
+    public InterestSubscriberCountReconciler(InterestRepository interestRepository,
+        RedissonClient redisson,
+        PlatformTransactionManager transactionManager,
+        @Value("${monew.interest.subscriber-count.reconcile-batch-size:500}") int batchSize) {
+        this.interestRepository = interestRepository;
+        this.redisson = redisson;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(cron = "${monew.interest.subscriber-count.reconcile-cron:0 30 * * * *}")
+    public void reconcileScheduled() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(0, 10, TimeUnit.MINUTES);
+            if (!locked) {
+                return;
+            }
+            int corrected = reconcileAll();
+            if (corrected > 0) {
+                log.warn("관심사 구독자 수 보정: {}건", corrected);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("관심사 구독자 수 보정 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    int reconcileAll() {
+        int corrected = 0;
+        UUID after = new UUID(0L, 0L);
+        while (true) {
+            List<UUID> page = interestRepository.findIdsAfter(after, batchSize);
+            if (page.isEmpty()) {
+                break;
+            }
+            List<UUID> drifted = interestRepository.findSubscriberCountDrift(page);
+            if (!drifted.isEmpty()) {
+                Integer updated = transactionTemplate.execute(status -> {
+                    interestRepository.lockForSubscriberCountReconcile(drifted);
+                    return interestRepository.reconcileSubscriberCounts(drifted);
+                });
+                corrected += updated != null ? updated : 0;
+            }
+            if (page.size() < batchSize) {
+                break;
+            }
+            after = page.get(page.size() - 1);
+        }
+        return corrected;
+    }
+}
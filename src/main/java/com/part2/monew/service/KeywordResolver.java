@@ -0,0 +1,132 @@
+package com.part2.monew.service;
+
+import com.part2.monew.entity.Keyword;
+import com.part2.monew.repository.KeywordRepository;
+import com.part2.monew.util.TransactionUtil;
+import java.sql.Array;
+import java.sql.PreparedStatement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * 키워드 이름 목록을 한 번에 조회/생성
+ * - 캐시에 없는 이름은 IN 쿼리 한 번으로 조회하고, 없는 이름은 INSERT … ON CONFLICT DO NOTHING RETURNING 으로 생성한다.
+ * - 키워드 수와 관계없이 왕복 횟수가 일정하며, 동시 등록 시 unique 제약 충돌이 나지 않는다.
+ */
+@Slf4j
+@Component
+public class KeywordResolver {
+
+    private static final String INSERT_MISSING_SQL = """
+        INSERT INTO keywords (keyword_id, name, created_at, updated_at)
+        SELECT k.keyword_id, k.name, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+        FROM unnest(?::uuid[], ?::varchar[]) AS k(keyword_id, name)
+        ON CONFLICT (name) DO NOTHING
+        RETURNING keyword_id, name
+        """;
+
+    private final KeywordRepository keywordRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final Map<String, UUID> idCache;
+
+    public KeywordResolver(KeywordRepository keywordRepository, JdbcTemplate jdbcTemplate,
+        @Value("${monew.interest.keyword-cache-size:10000}") int cacheSize) {
+        this.keywordRepository = keywordRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.idCache = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, UUID> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    // 입력 순서를 유지하고 중복 이름은 한 번만 반환한다
+    public List<Keyword> resolve(Collection<String> names) {
+        List<String> distinctNames = names.stream()
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+        if (distinctNames.isEmpty()) {
+            return List.of();
+        }
+
+        Map<String, Keyword> resolved = new HashMap<>();
+        List<String> misses = new ArrayList<>();
+        for (String name : distinctNames) {
+            UUID cachedId = idCache.get(name);
+            if (cachedId != null) {
+                resolved.put(name, reference(cachedId, name));
+            } else {
+                misses.add(name);
+            }
+        }
+
+        if (!misses.isEmpty()) {
+            findExisting(misses, resolved);
+
+            List<String> missing = misses.stream().filter(name -> !resolved.containsKey(name)).toList();
+            if (!missing.isEmpty()) {
+                Map<String, UUID> inserted = insertMissing(missing);
+                inserted.forEach((name, id) -> resolved.put(name, reference(id, name)));
+                // 롤백되면 존재하지 않는 ID 가 캐시에 남으므로 커밋 후에만 캐시한다
+                TransactionUtil.runAfterCommit(() -> idCache.putAll(inserted));
+
+                // 다른 트랜잭션이 먼저 넣은 이름은 RETURNING 에 나오지 않으므로 다시 조회한다
+                List<String> conflicted = missing.stream().filter(name -> !resolved.containsKey(name)).toList();
+                if (!conflicted.isEmpty()) {
+                    findExisting(conflicted, resolved);
+                }
+            }
+        }
+
+        return distinctNames.stream()
+            .map(resolved::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    private void findExisting(List<String> names, Map<String, Keyword> resolved) {
+        for (Keyword keyword : keywordRepository.findAllByNameIn(names)) {
+            resolved.put(keyword.getName(), keyword);
+            idCache.put(keyword.getName(), keyword.getId());
+        }
+    }
+
+    private Map<String, UUID> insertMissing(List<String> names) {
+        UUID[] ids = names.stream().map(name -> UUID.randomUUID()).toArray(UUID[]::new);
+        Map<String, UUID> inserted = new LinkedHashMap<>();
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(INSERT_MISSING_SQL);
+            Array idArray = connection.createArrayOf("uuid", ids);
+            Array nameArray = connection.createArrayOf("varchar", names.toArray());
+            statement.setArray(1, idArray);
+            statement.setArray(2, nameArray);
+            return statement;
+        }, rs -> {
+            inserted.put(rs.getString("name"), rs.getObject("keyword_id", UUID.class));
+        });
+        log.debug("신규 키워드 {}개 생성 (요청 {}개)", inserted.size(), names.size());
+        return inserted;
+    }
+
+    // 영속성 컨텍스트 밖의 키워드는 ID/이름만 채워 FK 연결과 응답 변환에 사용한다
+    private Keyword reference(UUID id, String name) {
+        Keyword keyword = new Keyword();
+        keyword.setId(id);
+        keyword.setName(name);
+        return keyword;
+    }
+}
@@ -0,0 +1,243 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.storage.BackupStorage;
+import com.part2.monew.storage.S3LogUploader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 일일 뉴스 백업 카탈로그
+ * - 모든 일일 백업의 기간/건수/크기/체크섬/형식 버전을 manifest 객체 하나에 모아, 최신 백업 조회와 기간 복구 계획을 한 번의 작은 읽기로 끝낸다.
+ * - 백업 업로드가 끝난 뒤 분산 락 안에서 읽고-고치고-통째로 교체하므로 동시에 기록해도 항목이 사라지지 않는다.
+ * - 카탈로그가 없으면(도입 이전 백업) 저장소 목록을 한 번 읽어 만든다.
+ * - 업로드 후 등록이 실패한 백업이나 지워진 백업은 주기적으로 저장소 목록과 맞춘다(reconcile). 목록으로 찾은 항목은 체크섬이 없어 검증 없이 복구된다.
+ */
+@Slf4j
+@Component
+public class NewsBackupCatalog {
+
+    static final int CATALOG_VERSION = 1;
+    // 백업 형식 버전 (0 은 도입 이전 JSON 배열). 같은 날짜에 여러 형식이 있으면 큰 값을 복구에 쓴다
+    public static final int FORMAT_LEGACY_JSON = 0;
+    public static final int FORMAT_NDJSON_GZIP = 1;
+    public static final int FORMAT_COLUMNAR = 2;
+
+    private static final String CATALOG_KEY = "backups/news/catalog.json";
+    private static final String LOCK_KEY = "lock:backup:news-catalog";
+    private static final Pattern DAILY_KEY = Pattern.compile("^backups/news/(\\d{4}-\\d{2}-\\d{2})\\.(ndjson\\.gz|json|mnwc)$");
+
+    private final S3LogUploader s3LogUploader;
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+
+    public NewsBackupCatalog(S3LogUploader s3LogUploader, RedissonClient redisson, ObjectMapper objectMapper) {
+        this.s3LogUploader = s3LogUploader;
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+    }
+
+    // 업로드가 끝난 백업을 등록한다. 같은 키가 있으면 교체한다
+    public void record(Entry entry) {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(10, TimeUnit.SECONDS);
+            if (!locked) {
+                throw new IllegalStateException("백업 카탈로그 락 획득 실패: " + entry.key());
+            }
+            List<Entry> entries = new ArrayList<>(load().backups());
+            entries.removeIf(existing -> existing.key().equals(entry.key()));
+            entries.add(entry);
+            save(entries);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("백업 카탈로그 기록 중단: " + entry.key(), e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 저장소 목록에는 있지만 카탈로그에 없는 일일 백업을 등록하고, 저장소에서 사라진 항목은 뺀다
+    @Scheduled(cron = "${monew.backup.catalog.reconcile-cron:0 45 * * * *}")
+    public void scheduledReconcile() {
+        try {
+            reconcile();
+        } catch (Exception e) {
+            log.error("백업 카탈로그 reconcile 실패: {}", e.getMessage(), e);
+        }
+    }
+
+    public void reconcile() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(10, TimeUnit.SECONDS);
+            if (!locked) {
+                throw new IllegalStateException("백업 카탈로그 락 획득 실패");
+            }
+            Catalog current = read();
+            if (current == null) {
+                buildFromListing();
+                return;
+            }
+            Map<String, Entry> recorded = new HashMap<>();
+            current.backups().forEach(entry -> recorded.put(entry.key(), entry));
+
+            List<Entry> entries = new ArrayList<>();
+            int added = 0;
+            for (Entry listed : listDailyBackups()) {
+                Entry existing = recorded.remove(listed.key());
+                if (existing != null) {
+                    entries.add(existing);
+                } else {
+                    entries.add(listed);
+                    added++;
+                }
+            }
+            if (added == 0 && recorded.isEmpty()) {
+                return;
+            }
+            log.info("백업 카탈로그 reconcile - 추가 {}개, 제거 {}개", added, recorded.size());
+            save(entries);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("백업 카탈로그 reconcile 중단", e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    public Optional<Entry> latest() {
+        return load().backups().stream()
+            .max(Comparator.comparing(Entry::toDate).thenComparing(Entry::formatVersion));
+    }
+
+    // 날짜별로 복구할 백업 (같은 날짜면 새 형식 우선). 백업이 없는 날짜는 포함되지 않는다
+    public TreeMap<LocalDate, Entry> plan(LocalDate from, LocalDate to) {
+        TreeMap<LocalDate, Entry> plan = new TreeMap<>();
+        for (Entry entry : load().backups()) {
+            if (entry.toDate().isBefore(from) || entry.fromDate().isAfter(to)) {
+                continue;
+            }
+            plan.merge(entry.fromDate(), entry,
+                (current, candidate) -> candidate.formatVersion() > current.formatVersion() ? candidate : current);
+        }
+        return plan;
+    }
+
+    private Catalog load() {
+        Catalog catalog = read();
+        return catalog != null ? catalog : bootstrap();
+    }
+
+    private Catalog read() {
+        try (InputStream stream = s3LogUploader.downloadNewsBackup(CATALOG_KEY)) {
+            if (stream == null) {
+                return null;
+            }
+            Catalog catalog = objectMapper.readValue(stream, Catalog.class);
+            if (catalog.version() > CATALOG_VERSION) {
+                throw new IllegalStateException("지원하지 않는 백업 카탈로그 버전: " + catalog.version());
+            }
+            return catalog;
+        } catch (IOException e) {
+            throw new IllegalStateException("백업 카탈로그 읽기 실패", e);
+        }
+    }
+
+    // 카탈로그 도입 이전 백업을 목록에서 찾아 등록한다 (건수/체크섬은 알 수 없음)
+    private Catalog bootstrap() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            // record() 와 겹쳐 새 항목을 덮어쓰지 않도록 같은 락 안에서 다시 확인한다 (RLock 은 재진입 가능)
+            locked = lock.tryLock(10, TimeUnit.SECONDS);
+            if (!locked) {
+                throw new IllegalStateException("백업 카탈로그 락 획득 실패");
+            }
+            Catalog existing = read();
+            return existing != null ? existing : buildFromListing();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("백업 카탈로그 생성 중단", e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private Catalog buildFromListing() {
+        List<Entry> entries = listDailyBackups();
+        log.info("백업 카탈로그가 없어 저장소 목록으로 생성합니다: {}개", entries.size());
+        return save(entries);
+    }
+
+    // 목록에서는 건수/체크섬을 알 수 없다
+    private List<Entry> listDailyBackups() {
+        List<Entry> entries = new ArrayList<>();
+        for (BackupStorage.StoredObject object : s3LogUploader.listBackupObjects(s3LogUploader.getBackupFilePrefix())) {
+            Matcher matcher = DAILY_KEY.matcher(object.key());
+            if (matcher.matches()) {
+                LocalDate date = LocalDate.parse(matcher.group(1));
+                int format = s3LogUploader.isLegacyBackupKey(object.key()) ? FORMAT_LEGACY_JSON
+                    : s3LogUploader.isColumnarBackupKey(object.key()) ? FORMAT_COLUMNAR : FORMAT_NDJSON_GZIP;
+                entries.add(new Entry(object.key(), date, date, -1, object.size(), null, format, 0));
+            }
+        }
+        return entries;
+    }
+
+    private Catalog save(List<Entry> entries) {
+        entries.sort(Comparator.comparing(Entry::fromDate).thenComparing(Entry::key));
+        Catalog catalog = new Catalog(CATALOG_VERSION, List.copyOf(entries));
+        try {
+            s3LogUploader.putBackupObject(CATALOG_KEY, objectMapper.writeValueAsBytes(catalog), "application/json");
+        } catch (IOException e) {
+            throw new IllegalStateException("백업 카탈로그 저장 실패", e);
+        }
+        return catalog;
+    }
+
+    record Catalog(int version, List<Entry> backups) {
+    }
+
+    /**
+     * @param rows      백업된 기사 수 (알 수 없으면 -1)
+     * @param bytes     저장된(압축된) 크기
+     * @param checksum  저장된 바이트의 SHA-256 (hex)
+     * @param createdAt 등록 시각 (epoch millis)
+     */
+    public record Entry(
+        String key,
+        LocalDate fromDate,
+        LocalDate toDate,
+        long rows,
+        long bytes,
+        String checksum,
+        int formatVersion,
+        long createdAt
+    ) {
+    }
+}
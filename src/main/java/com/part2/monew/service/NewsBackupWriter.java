@@ -0,0 +1,272 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.part2.monew.storage.S3LogUploader;
+import com.part2.monew.storage.BackupUpload;
+import com.part2.monew.util.DateTimeUtil;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 뉴스 백업 스트리밍 writer
+ * - 대상 기사를 forward-only JDBC 커서(fetchSize)로 읽으면서 NDJSON 한 줄씩 gzip 으로 압축해 S3 멀티파트로 바로 올린다.
+ * - 엔티티/리스트/byte[] 를 만들지 않으므로 메모리는 데이터 크기와 무관하게 파트 버퍼 몇 개로 고정된다.
+ * - 일일 백업(발행일 기준), 변경분 백업(updated_at 구간), 전체 스냅샷이 같은 경로를 쓴다.
+ * - monew.backup.format=columnar 면 일일 백업을 컬럼형(ColumnarBackupWriter)으로 쓴다. 증분 백업은 항상 NDJSON 이다.
+ */
+@Component
+public class NewsBackupWriter {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsBackupWriter.class);
+
+    public static final String CONTENT_TYPE = "application/x-ndjson";
+    public static final String COLUMNAR_CONTENT_TYPE = "application/octet-stream";
+    public static final String FORMAT_COLUMNAR = "columnar";
+
+    private static final String SELECT_SQL = """
+        SELECT news_article_id, source_in, source_url, title, published_date, summary,
+               view_counts, comment_counts, is_deleted, created_at, updated_at
+        FROM news_articles
+        WHERE\s""";
+
+    private static final String DAY_CONDITION = "is_deleted = false AND published_date >= ? AND published_date < ?";
+    // 변경분은 소프트 삭제된 기사도 포함해야 복구 시 삭제 상태가 반영된다
+    private static final String CHANGES_CONDITION = "updated_at > ? AND updated_at <= ?";
+    private static final String SNAPSHOT_CONDITION = "(updated_at IS NULL OR updated_at <= ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final S3LogUploader s3LogUploader;
+    private final NewsBackupCatalog newsBackupCatalog;
+    private final JsonFactory jsonFactory = new JsonFactory();
+    private final int fetchSize;
+    private final boolean columnar;
+    private final int columnarBlockRows;
+
+    public NewsBackupWriter(JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        S3LogUploader s3LogUploader,
+        NewsBackupCatalog newsBackupCatalog,
+        @Value("${monew.backup.fetch-size:1000}") int fetchSize,
+        @Value("${monew.backup.format:ndjson}") String format,
+        @Value("${monew.backup.columnar.block-rows:4096}") int columnarBlockRows) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.s3LogUploader = s3LogUploader;
+        this.newsBackupCatalog = newsBackupCatalog;
+        this.fetchSize = fetchSize;
+        this.columnar = FORMAT_COLUMNAR.equalsIgnoreCase(format);
+        this.columnarBlockRows = columnarBlockRows;
+    }
+
+    // 백업한 기사 수를 반환한다. 업로드가 끝나면 백업 카탈로그에 등록한다
+    public long backupDay(LocalDate date) {
+        Timestamp from = DateTimeUtil.parseTimestamp(date.toString());
+        Timestamp to = DateTimeUtil.parseTimestampAsNextDayStart(date.toString());
+        String key = columnar ? s3LogUploader.getColumnarBackupFileKey(date) : s3LogUploader.getBackupFileKey(date);
+        ExportResult result = export(key, columnar, DAY_CONDITION, from, to);
+        try {
+            newsBackupCatalog.record(new NewsBackupCatalog.Entry(key, date, date, result.rows(), result.bytes(),
+                result.checksum(), columnar ? NewsBackupCatalog.FORMAT_COLUMNAR : NewsBackupCatalog.FORMAT_NDJSON_GZIP,
+                System.currentTimeMillis()));
+        } catch (RuntimeException e) {
+            // 업로드는 끝났으므로 백업은 성공으로 두고, 카탈로그는 reconcile 이 저장소 목록으로 채운다
+            logger.error("백업 카탈로그 등록 실패, 다음 reconcile 에서 등록됩니다: {} - {}", key, e.getMessage(), e);
+        }
+        return result.rows();
+    }
+
+    // (after, until] 구간에 수정된 기사
+    public long backupChanges(String key, Timestamp after, Timestamp until) {
+        return export(key, false, CHANGES_CONDITION, after, until).rows();
+    }
+
+    // until 시점까지 반영된 전체 기사 (이후 수정분은 다음 변경분 백업이 담는다)
+    public long backupSnapshot(String key, Timestamp until) {
+        return export(key, false, SNAPSHOT_CONDITION, until).rows();
+    }
+
+    private ExportResult export(String key, boolean columnar, String condition, Timestamp... params) {
+        BackupUpload upload = s3LogUploader.openBackupUpload(key, columnar ? COLUMNAR_CONTENT_TYPE : CONTENT_TYPE);
+        RowSink sink = null;
+        try {
+            // 체크섬은 저장되는(압축된) 바이트 기준
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            OutputStream stored = new DigestOutputStream(upload, digest);
+            sink = columnar ? new ColumnarSink(stored) : new JsonSink(stored);
+
+            // PostgreSQL 은 autocommit 이 꺼진 트랜잭션 안에서만 fetchSize 단위 커서로 읽는다
+            long rows = readOnlyTransaction.execute(status -> writeRows(sink, condition, params));
+
+            // 성공한 경우에만 닫아 멀티파트 업로드를 완료한다 (실패 시 아래에서 abort)
+            sink.finish();
+            logger.info("뉴스 백업 업로드 완료: {} ({}건, 압축 후 {} bytes)", key, rows, upload.getBytesWritten());
+            return new ExportResult(rows, upload.getBytesWritten(), HexFormat.of().formatHex(digest.digest()));
+        } catch (IOException | NoSuchAlgorithmException | RuntimeException e) {
+            upload.abort();
+            if (sink != null) {
+                sink.release();
+            }
+            throw new IllegalStateException("뉴스 백업 실패: " + key, e);
+        }
+    }
+
+    private long writeRows(RowSink sink, String condition, Timestamp... params) {
+        long[] rows = {0};
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(SELECT_SQL + condition,
+                ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < params.length; i++) {
+                statement.setTimestamp(i + 1, params[i]);
+            }
+            return statement;
+        }, resultSet -> {
+            try {
+                sink.write(resultSet);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            rows[0]++;
+        });
+        return rows[0];
+    }
+
+    private interface RowSink {
+
+        void write(ResultSet rs) throws SQLException, IOException;
+
+        // 남은 내용을 쓰고 스트림을 닫는다 (업로드 완료)
+        void finish() throws IOException;
+
+        // 실패(abort) 후 업로드를 완료하지 않고 압축기의 native 메모리만 돌려준다
+        void release();
+    }
+
+    private final class JsonSink implements RowSink {
+
+        private final ReleasableGzipOutputStream gzip;
+        private final JsonGenerator generator;
+
+        private JsonSink(OutputStream stored) throws IOException {
+            this.gzip = new ReleasableGzipOutputStream(stored);
+            this.generator = jsonFactory.createGenerator(gzip, JsonEncoding.UTF8);
+            // NDJSON 이므로 루트 값 사이에 기본 구분자(공백) 대신 줄바꿈만 쓴다
+            generator.setRootValueSeparator(null);
+        }
+
+        // 기존 JSON 백업(NewsArticle 직렬화)과 같은 필드명을 쓴다
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            generator.writeStartObject();
+            generator.writeStringField("id", rs.getString("news_article_id"));
+            generator.writeStringField("sourceIn", rs.getString("source_in"));
+            generator.writeStringField("sourceUrl", rs.getString("source_url"));
+            generator.writeStringField("title", rs.getString("title"));
+            writeTimestamp("publishedDate", rs.getTimestamp("published_date"));
+            generator.writeStringField("summary", rs.getString("summary"));
+            generator.writeNumberField("viewCount", rs.getLong("view_counts"));
+            generator.writeNumberField("commentCount", rs.getLong("comment_counts"));
+            generator.writeBooleanField("isDeleted", rs.getBoolean("is_deleted"));
+            writeTimestamp("createdAt", rs.getTimestamp("created_at"));
+            writeTimestamp("updatedAt", rs.getTimestamp("updated_at"));
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        @Override
+        public void finish() throws IOException {
+            generator.close();
+        }
+
+        @Override
+        public void release() {
+            gzip.release();
+        }
+
+        private void writeTimestamp(String field, Timestamp value) throws IOException {
+            if (value == null) {
+                generator.writeNullField(field);
+            } else {
+                generator.writeNumberField(field, value.getTime());
+            }
+        }
+    }
+
+    private final class ColumnarSink implements RowSink {
+
+        private final OutputStream stored;
+        private final ColumnarBackupWriter writer;
+
+        private ColumnarSink(OutputStream stored) throws IOException {
+            this.stored = stored;
+            this.writer = new ColumnarBackupWriter(stored, columnarBlockRows);
+        }
+
+        @Override
+        public void write(ResultSet rs) throws SQLException, IOException {
+            String id = rs.getString("news_article_id");
+            writer.write(new NewsRestoreEngine.BackupArticle(
+                id != null ? UUID.fromString(id) : null,
+                rs.getString("source_in"),
+                rs.getString("source_url"),
+                rs.getString("title"),
+                rs.getTimestamp("published_date"),
+                rs.getString("summary"),
+                rs.getLong("view_counts"),
+                rs.getLong("comment_counts"),
+                rs.getBoolean("is_deleted"),
+                rs.getTimestamp("created_at"),
+                rs.getTimestamp("updated_at")
+            ));
+        }
+
+        @Override
+        public void finish() throws IOException {
+            writer.finish();
+            stored.close();
+        }
+
+        @Override
+        public void release() {
+            writer.release();
+        }
+    }
+
+    // close() 없이 Deflater 를 해제할 수 있는 GZIPOutputStream
+    private static final class ReleasableGzipOutputStream extends GZIPOutputStream {
+
+        private ReleasableGzipOutputStream(OutputStream out) throws IOException {
+            super(out, 64 * 1024);
+        }
+
+        private void release() {
+            def.end();
+        }
+    }
+
+    private record ExportResult(long rows, long bytes, String checksum) {
+    }
+}
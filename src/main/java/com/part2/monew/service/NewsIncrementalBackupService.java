@@ -0,0 +1,296 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.IncrementalRestoreJobResponse;
+import com.part2.monew.global.exception.article.RestoreJobNotFoundException;
+import com.part2.monew.storage.S3LogUploader;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 뉴스 증분 백업
+ * - updated_at 워터마크 이후 수정된 기사만 변경분 파일로 내보내므로 비용이 테이블 크기가 아닌 변경량에 비례한다.
+ * - 주기적으로 전체 스냅샷을 새로 만들고(compaction) 그 이전 스냅샷/변경분은 manifest 에서 빼고 삭제한다.
+ * - 복구는 manifest 순서대로 스냅샷 → 변경분을 재생한다. 요청 시 작업 ID 만 돌려주고 진행 상태는 Redis hash 로 조회한다.
+ * - 워터마크는 현재보다 safety-lag 만큼 뒤에 두고, 쓰기 중인 트랜잭션이 있으면 그중 가장 오래된 시작 시각을 넘지 않는다.
+ *   (updated_at 은 커밋 전에 정해지므로, 오래 걸리는 트랜잭션의 행이 커밋될 때 이미 지나간 구간에 들어가지 않게 한다)
+ * - news_articles 의 모든 UPDATE 는 updated_at 을 바꿔야 변경분에 잡힌다. 엔티티는 @UpdateTimestamp 가, 일괄 SQL 은 직접 설정하고
+ *   빠뜨려도 트리거(trg_news_articles_touch_updated_at, create_tables.sql)가 현재 시각으로 채운다.
+ */
+@Slf4j
+@Component
+public class NewsIncrementalBackupService {
+
+    static final int FORMAT_VERSION = 1;
+
+    private static final String PREFIX = "backups/news/incremental/";
+    private static final String MANIFEST_KEY = PREFIX + "manifest.json";
+    private static final String LOCK_KEY = "lock:backup:news-incremental";
+    private static final String JOB_KEY_PREFIX = "restore:incremental:job:";
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_RESTORED = "restored";
+    private static final String FIELD_ERROR = "error";
+
+    // 쓰기(xid 할당)를 한 진행 중 트랜잭션 중 가장 오래된 시작 시각. 같은 DB 사용자 세션만 보이므로 앱 계정 하나로 쓰는 전제
+    private static final String OLDEST_WRITE_TRANSACTION_SQL = """
+        SELECT min(xact_start) FROM pg_stat_activity
+        WHERE datname = current_database() AND backend_xid IS NOT NULL AND pid <> pg_backend_pid()
+        """;
+
+    private final NewsBackupWriter newsBackupWriter;
+    private final NewsRestoreEngine newsRestoreEngine;
+    private final S3LogUploader s3LogUploader;
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate jdbcTemplate;
+    private final ExecutorService restoreWorker;
+    private final Duration safetyLag;
+    private final Duration jobTtl;
+
+    public NewsIncrementalBackupService(NewsBackupWriter newsBackupWriter,
+        NewsRestoreEngine newsRestoreEngine,
+        S3LogUploader s3LogUploader,
+        RedissonClient redisson,
+        ObjectMapper objectMapper,
+        JdbcTemplate jdbcTemplate,
+        @Value("${monew.backup.incremental.safety-lag-seconds:60}") long safetyLagSeconds,
+        @Value("${monew.backup.incremental.job-ttl-days:7}") long jobTtlDays) {
+        this.newsBackupWriter = newsBackupWriter;
+        this.newsRestoreEngine = newsRestoreEngine;
+        this.s3LogUploader = s3LogUploader;
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+        this.jdbcTemplate = jdbcTemplate;
+        this.restoreWorker = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "news-incremental-restore");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.safetyLag = Duration.ofSeconds(safetyLagSeconds);
+        this.jobTtl = Duration.ofDays(jobTtlDays);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 재생은 updated_at 비교 upsert 라 중단된 작업은 처음부터 다시 요청하면 된다
+        restoreWorker.shutdownNow();
+    }
+
+    @Scheduled(cron = "${monew.backup.incremental.delta-cron:0 */15 * * * *}")
+    public void scheduledDelta() {
+        withLock("변경분 백업", this::backupChanges);
+    }
+
+    @Scheduled(cron = "${monew.backup.incremental.compaction-cron:0 0 4 * * SUN}")
+    public void scheduledCompaction() {
+        withLock("스냅샷 compaction", this::compact);
+    }
+
+    // 마지막 워터마크 이후 변경분을 내보낸다. 스냅샷이 아직 없으면 스냅샷부터 만든다
+    void backupChanges() {
+        Manifest manifest = loadManifest();
+        if (manifest == null || manifest.snapshot() == null) {
+            compact();
+            return;
+        }
+        long until = watermarkNow();
+        if (until <= manifest.watermark()) {
+            return;
+        }
+
+        String key = PREFIX + "deltas/" + manifest.watermark() + "-" + until + ".ndjson.gz";
+        long rows = newsBackupWriter.backupChanges(key, new Timestamp(manifest.watermark()), new Timestamp(until));
+        List<Entry> deltas = new ArrayList<>(manifest.deltas());
+        if (rows > 0) {
+            deltas.add(new Entry(key, manifest.watermark(), until, rows));
+        } else {
+            // 변경이 없으면 파일은 남기지 않고 워터마크만 옮긴다
+            s3LogUploader.deleteBackupObjects(List.of(key));
+        }
+        saveManifest(new Manifest(FORMAT_VERSION, until, manifest.snapshot(), deltas));
+        log.info("뉴스 변경분 백업 완료 - 구간: {} ~ {}, {}건", new Timestamp(manifest.watermark()), new Timestamp(until), rows);
+    }
+
+    // 전체 스냅샷을 새로 만들고, 그 시점까지의 스냅샷/변경분을 정리한다
+    void compact() {
+        Manifest previous = loadManifest();
+        long until = watermarkNow();
+        String key = PREFIX + "snapshots/" + until + ".ndjson.gz";
+        long rows = newsBackupWriter.backupSnapshot(key, new Timestamp(until));
+
+        // manifest 를 먼저 교체한 뒤 지우므로, 중간에 실패해도 manifest 는 항상 존재하는 파일만 가리킨다
+        saveManifest(new Manifest(FORMAT_VERSION, until, new Entry(key, 0, until, rows), List.of()));
+        if (previous != null) {
+            List<String> obsolete = new ArrayList<>();
+            if (previous.snapshot() != null) {
+                obsolete.add(previous.snapshot().key());
+            }
+            previous.deltas().forEach(delta -> obsolete.add(delta.key()));
+            s3LogUploader.deleteBackupObjects(obsolete);
+        }
+        log.info("뉴스 스냅샷 compaction 완료 - 기준: {}, {}건", new Timestamp(until), rows);
+    }
+
+    // 복구는 HTTP 스레드를 잡지 않도록 작업으로 실행하고 작업 ID 를 돌려준다
+    public IncrementalRestoreJobResponse startRestore() {
+        String jobId = UUID.randomUUID().toString();
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_STATUS, STATUS_RUNNING);
+        fields.put(FIELD_RESTORED, "0");
+        RMap<String, String> job = jobMap(jobId);
+        job.putAll(fields);
+        job.expire(jobTtl);
+
+        log.info("증분 백업 복구 작업 시작 - 작업 ID: {}", jobId);
+        restoreWorker.execute(() -> runRestore(jobId));
+        return restoreStatus(jobId);
+    }
+
+    public IncrementalRestoreJobResponse restoreStatus(String jobId) {
+        Map<String, String> fields = jobMap(jobId).readAllMap();
+        if (!fields.containsKey(FIELD_STATUS)) {
+            throw new RestoreJobNotFoundException();
+        }
+        return new IncrementalRestoreJobResponse(jobId, fields.get(FIELD_STATUS),
+            Long.parseLong(fields.getOrDefault(FIELD_RESTORED, "0")), fields.get(FIELD_ERROR));
+    }
+
+    private void runRestore(String jobId) {
+        RMap<String, String> job = jobMap(jobId);
+        try {
+            long restored = restore();
+            job.fastPut(FIELD_RESTORED, String.valueOf(restored));
+            job.fastPut(FIELD_STATUS, STATUS_COMPLETED);
+        } catch (Exception e) {
+            log.error("증분 백업 복구 작업 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage(), e);
+            job.fastPut(FIELD_ERROR, String.valueOf(e.getMessage()));
+            job.fastPut(FIELD_STATUS, STATUS_FAILED);
+        }
+    }
+
+    // manifest 의 스냅샷과 변경분을 순서대로 재생하고, 반영된 기사 수를 반환한다
+    long restore() {
+        Manifest manifest = loadManifest();
+        if (manifest == null || manifest.snapshot() == null) {
+            log.warn("증분 백업 manifest 가 없어 복구할 수 없습니다.");
+            return 0;
+        }
+        List<Entry> files = new ArrayList<>();
+        files.add(manifest.snapshot());
+        files.addAll(manifest.deltas());
+
+        long applied = 0;
+        for (Entry file : files) {
+            try {
+                NewsRestoreEngine.RestoreResult result = newsRestoreEngine.replay(file.key());
+                if (result == null) {
+                    throw new IllegalStateException("manifest 에 있는 백업 파일이 없습니다: " + file.key());
+                }
+                applied += result.getRestored();
+            } catch (IOException e) {
+                throw new IllegalStateException("증분 백업 재생 실패: " + file.key(), e);
+            }
+        }
+        log.info("증분 백업 복구 완료 - 파일 {}개, 반영 {}건, 워터마크: {}", files.size(), applied,
+            new Timestamp(manifest.watermark()));
+        return applied;
+    }
+
+    long watermarkNow() {
+        long lagged = System.currentTimeMillis() - safetyLag.toMillis();
+        Timestamp oldest = oldestWriteTransactionStart();
+        return oldest != null ? Math.min(lagged, oldest.getTime()) : lagged;
+    }
+
+    private Timestamp oldestWriteTransactionStart() {
+        try {
+            return jdbcTemplate.queryForObject(OLDEST_WRITE_TRANSACTION_SQL, Timestamp.class);
+        } catch (DataAccessException e) {
+            // 통계 뷰를 못 읽으면 safety-lag 만으로 워터마크를 정한다
+            log.warn("진행 중 트랜잭션 조회 실패, safety-lag 만 적용합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private void withLock(String name, Runnable task) {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(0, TimeUnit.SECONDS);
+            if (!locked) {
+                log.info("다른 인스턴스에서 뉴스 증분 백업이 진행 중이어서 {}을 건너뜁니다.", name);
+                return;
+            }
+            task.run();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 워터마크는 성공한 경우에만 옮겨지므로 다음 실행에서 같은 구간부터 다시 내보낸다
+            log.error("뉴스 {} 실패: {}", name, e.getMessage(), e);
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private RMap<String, String> jobMap(String jobId) {
+        return redisson.getMap(JOB_KEY_PREFIX + jobId, StringCodec.INSTANCE);
+    }
+
+    Manifest loadManifest() {
+        try (InputStream stream = s3LogUploader.downloadNewsBackup(MANIFEST_KEY)) {
+            if (stream == null) {
+                return null;
+            }
+            Manifest manifest = objectMapper.readValue(stream, Manifest.class);
+            if (manifest.formatVersion() > FORMAT_VERSION) {
+                throw new IllegalStateException("지원하지 않는 증분 백업 manifest 버전: " + manifest.formatVersion());
+            }
+            return manifest;
+        } catch (IOException e) {
+            throw new IllegalStateException("증분 백업 manifest 읽기 실패", e);
+        }
+    }
+
+    private void saveManifest(Manifest manifest) {
+        try {
+            s3LogUploader.putBackupObject(MANIFEST_KEY, objectMapper.writeValueAsBytes(manifest), "application/json");
+        } catch (IOException e) {
+            throw new IllegalStateException("증분 백업 manifest 저장 실패", e);
+        }
+    }
+
+    record Manifest(int formatVersion, long watermark, Entry snapshot, List<Entry> deltas) {
+    }
+
+    // from/to 는 updated_at 구간 (epoch millis, from 초과 ~ to 이하)
+    record Entry(String key, long from, long to, long rows) {
+    }
+}
@@ -0,0 +1,181 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.ActivityDetailRepository;
+import java.sql.Array;
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.UUID;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 기사 물리 삭제 엔진
+ * - 엔티티 cascade(댓글/좋아요/활동 내역을 전부 메모리에 올려 한 건씩 삭제) 대신, 의존 행을 FK 순서대로 집합 DELETE 로 지운다.
+ * - 모든 DELETE 는 batch-size 행 이하로 나눠 각각 커밋하므로 힙 사용량과 락 보유 시간이 기사 크기와 무관하게 묶인다.
+ * - 먼저 기사를 논리 삭제해 새 댓글/조회가 붙지 않게 한 뒤 지운다. 중간에 실패해도 다시 실행하면 남은 행부터 이어서 지운다.
+ * - 지우기 전에 기사에 활동이 있는 사용자를 모아 두었다가, 삭제가 끝나면 그 사용자들의 활동 문서를 비운다.
+ */
+@Component
+public class NewsPurgeEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsPurgeEngine.class);
+
+    private static final String MARK_DELETED_SQL = "UPDATE news_articles SET is_deleted = true, updated_at = now() WHERE news_article_id = ? AND is_deleted = false";
+
+    // 기사 조회 활동 (JPA cascade 와 같이 삭제)
+    private static final String DELETE_VIEWS_SQL = """
+        DELETE FROM activity_details WHERE activity_detail_id IN (
+            SELECT activity_detail_id FROM activity_details WHERE news_article_id = ? LIMIT ?)
+        """;
+
+    private static final String SELECT_COMMENTS_SQL = "SELECT comment_management_id FROM comments_managements WHERE news_article_id = ? LIMIT ?";
+    private static final String SELECT_LIKES_SQL = "SELECT comment_like_id FROM comments_like WHERE comment_management_id = ANY (?) LIMIT ?";
+
+    // 댓글/좋아요 활동은 FK(ON DELETE SET NULL) 와 같게 참조만 끊는다
+    private static final String DETACH_LIKE_ACTIVITIES_SQL = "UPDATE activity_details SET comment_like_id = NULL WHERE comment_like_id = ANY (?)";
+    private static final String DELETE_LIKES_SQL = "DELETE FROM comments_like WHERE comment_like_id = ANY (?)";
+    private static final String DETACH_COMMENT_ACTIVITIES_SQL = "UPDATE activity_details SET comment_management_id = NULL WHERE comment_management_id = ANY (?)";
+    private static final String DELETE_COMMENTS_SQL = "DELETE FROM comments_managements WHERE comment_management_id = ANY (?)";
+
+    private static final String DELETE_INTEREST_MAPPINGS_SQL = """
+        DELETE FROM interests_news_articles WHERE interest_news_article_id IN (
+            SELECT interest_news_article_id FROM interests_news_articles WHERE news_article_id = ? LIMIT ?)
+        """;
+
+    // 마지막 댓글 batch 이후에 들어온 행은 FK ON DELETE CASCADE/SET NULL 이 정리한다
+    private static final String DELETE_ARTICLE_SQL = "DELETE FROM news_articles WHERE news_article_id = ?";
+
+    private static final String SELECT_SOFT_DELETED_SQL = """
+        SELECT news_article_id FROM news_articles
+        WHERE is_deleted = true AND published_date >= ? AND published_date < ? AND news_article_id > ?
+        ORDER BY news_article_id
+        LIMIT ?
+        """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityDetailRepository activityDetailRepository;
+    private final UserActivityReadModel userActivityReadModel;
+    private final TransactionTemplate batchTransaction;
+    private final int batchSize;
+    private final long pauseMillis;
+
+    public NewsPurgeEngine(JdbcTemplate jdbcTemplate,
+        ActivityDetailRepository activityDetailRepository,
+        UserActivityReadModel userActivityReadModel,
+        PlatformTransactionManager transactionManager,
+        @Value("${monew.article.purge.batch-size:1000}") int batchSize,
+        @Value("${monew.article.purge.pause-millis:0}") long pauseMillis) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.activityDetailRepository = activityDetailRepository;
+        this.userActivityReadModel = userActivityReadModel;
+        this.batchTransaction = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    /**
+     * 기사와 의존 행을 모두 지운다.
+     *
+     * @return 삭제한 행 수 (기사 포함). 기사가 이미 없으면 0
+     */
+    public long purge(UUID articleId) {
+        long startedAt = System.nanoTime();
+        jdbcTemplate.update(MARK_DELETED_SQL, articleId);
+        List<UUID> affectedUsers = activityDetailRepository.findActivityUserIdsByArticleId(articleId);
+
+        long views = deleteInBatches(DELETE_VIEWS_SQL, articleId);
+        long comments = purgeComments(articleId);
+        long mappings = deleteInBatches(DELETE_INTEREST_MAPPINGS_SQL, articleId);
+        int article = jdbcTemplate.update(DELETE_ARTICLE_SQL, articleId);
+        userActivityReadModel.evictAllAfterCommit(affectedUsers);
+
+        logger.info("기사 물리 삭제 완료: {} - 조회 활동 {}건, 댓글/좋아요 {}건, 관심사 연결 {}건 ({}ms)",
+            articleId, views, comments, mappings, (System.nanoTime() - startedAt) / 1_000_000);
+        return views + comments + mappings + article;
+    }
+
+    // 발행일 [from, to) 구간의 논리 삭제된 기사 ID 를 키셋 방식으로 batch-size 개씩 가져온다
+    public List<UUID> findSoftDeleted(Timestamp from, Timestamp to, UUID after, int limit) {
+        return jdbcTemplate.queryForList(SELECT_SOFT_DELETED_SQL, UUID.class, from, to,
+            after != null ? after : new UUID(0L, 0L), limit);
+    }
+
+    private long deleteInBatches(String sql, UUID articleId) {
+        long total = 0;
+        while (true) {
+            Integer deleted = batchTransaction.execute(status -> jdbcTemplate.update(sql, articleId, batchSize));
+            total += deleted;
+            if (deleted < batchSize) {
+                return total;
+            }
+            pause();
+        }
+    }
+
+    // 댓글 batch 마다 좋아요를 batch 단위로 먼저 지우고, 활동 참조를 끊은 뒤 댓글을 지운다
+    private long purgeComments(UUID articleId) {
+        long total = 0;
+        while (true) {
+            List<UUID> comments = jdbcTemplate.queryForList(SELECT_COMMENTS_SQL, UUID.class, articleId, batchSize);
+            if (comments.isEmpty()) {
+                return total;
+            }
+            total += purgeLikes(comments);
+            total += batchTransaction.execute(status -> {
+                updateWithIds(DETACH_COMMENT_ACTIVITIES_SQL, comments);
+                return updateWithIds(DELETE_COMMENTS_SQL, comments);
+            });
+            pause();
+        }
+    }
+
+    private long purgeLikes(List<UUID> comments) {
+        long total = 0;
+        while (true) {
+            List<UUID> likes = jdbcTemplate.query(connection -> {
+                var statement = connection.prepareStatement(SELECT_LIKES_SQL);
+                statement.setArray(1, connection.createArrayOf("uuid", comments.toArray()));
+                statement.setInt(2, batchSize);
+                return statement;
+            }, (rs, rowNum) -> rs.getObject(1, UUID.class));
+            if (likes.isEmpty()) {
+                return total;
+            }
+            total += batchTransaction.execute(status -> {
+                updateWithIds(DETACH_LIKE_ACTIVITIES_SQL, likes);
+                return updateWithIds(DELETE_LIKES_SQL, likes);
+            });
+            if (likes.size() < batchSize) {
+                return total;
+            }
+            pause();
+        }
+    }
+
+    private int updateWithIds(String sql, List<UUID> ids) {
+        return jdbcTemplate.update(connection -> {
+            var statement = connection.prepareStatement(sql);
+            Array array = connection.createArrayOf("uuid", ids.toArray());
+            statement.setArray(1, array);
+            return statement;
+        });
+    }
+
+    // batch 사이에 쉬어 WAL/복제 지연이 한꺼번에 몰리지 않게 한다
+    private void pause() {
+        if (pauseMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("기사 물리 삭제 중단", e);
+        }
+    }
+}
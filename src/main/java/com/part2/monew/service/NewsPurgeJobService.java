@@ -0,0 +1,182 @@
+package com.part2.monew.service;
+
+import com.part2.monew.dto.response.PurgeJobResponse;
+import com.part2.monew.global.exception.article.InvalidDateRangeException;
+import com.part2.monew.global.exception.article.PurgeJobNotFoundException;
+import com.part2.monew.util.DateTimeUtil;
+import jakarta.annotation.PreDestroy;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기간 물리 삭제 작업
+ * - 발행일 구간의 논리 삭제된 기사를 키셋 방식으로 batch-size 개씩 가져와 NewsPurgeEngine 으로 한 건씩 지운다.
+ * - 요청 시 작업 ID 만 돌려주고, 진행 상태(삭제/실패 기사 수, 삭제 행 수)는 Redis hash 에 두어 어느 노드에서든 조회할 수 있다.
+ * - 기사마다 독립적으로 커밋되므로, 중단된 구간은 같은 기간으로 다시 요청하면 남은 기사만 지운다.
+ */
+@Slf4j
+@Component
+public class NewsPurgeJobService {
+
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+
+    private static final String KEY_PREFIX = "purge:job:";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_FROM = "fromDate";
+    private static final String FIELD_TO = "toDate";
+    private static final String FIELD_PURGED = "purged";
+    private static final String FIELD_FAILED = "failed";
+    private static final String FIELD_DELETED_ROWS = "deletedRows";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+
+    private final NewsPurgeEngine newsPurgeEngine;
+    private final RedissonClient redisson;
+    private final ExecutorService workers;
+    private final int batchSize;
+    private final int maxDays;
+    private final Duration jobTtl;
+
+    public NewsPurgeJobService(NewsPurgeEngine newsPurgeEngine,
+        RedissonClient redisson,
+        @Value("${monew.article.purge.parallelism:2}") int parallelism,
+        @Value("${monew.article.purge.batch-size:1000}") int batchSize,
+        @Value("${monew.article.purge.max-days:366}") int maxDays,
+        @Value("${monew.article.purge.job-ttl-days:7}") long jobTtlDays) {
+        this.newsPurgeEngine = newsPurgeEngine;
+        this.redisson = redisson;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "news-purge-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.batchSize = batchSize;
+        this.maxDays = maxDays;
+        this.jobTtl = Duration.ofDays(jobTtlDays);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중이던 작업은 RUNNING 으로 남고, 같은 기간으로 다시 요청하면 남은 기사부터 지운다
+        workers.shutdownNow();
+    }
+
+    public PurgeJobResponse start(String fromDate, String toDate) {
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(fromDate);
+            to = LocalDate.parse(toDate);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new InvalidDateRangeException();
+        }
+        long length = ChronoUnit.DAYS.between(from, to) + 1;
+        if (length < 1 || length > maxDays) {
+            throw new InvalidDateRangeException();
+        }
+        String jobId = UUID.randomUUID().toString();
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_STATUS, STATUS_RUNNING);
+        fields.put(FIELD_FROM, fromDate);
+        fields.put(FIELD_TO, toDate);
+        fields.put(FIELD_PURGED, "0");
+        fields.put(FIELD_FAILED, "0");
+        fields.put(FIELD_DELETED_ROWS, "0");
+        fields.put(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        RMap<String, String> job = jobMap(jobId);
+        job.putAll(fields);
+        job.expire(jobTtl);
+
+        log.info("기사 물리 삭제 작업 시작 - 작업 ID: {}, 기간: {} ~ {}", jobId, fromDate, toDate);
+        // 발행일 검색(ArticleController)/백업과 같게 Asia/Seoul 기준 [from 00:00, to 다음 날 00:00) 로 자른다
+        Timestamp fromTs = DateTimeUtil.parseTimestamp(from.toString());
+        Timestamp toTs = DateTimeUtil.parseTimestampAsNextDayStart(to.toString());
+        workers.execute(() -> run(jobId, fromTs, toTs));
+        return status(jobId);
+    }
+
+    public PurgeJobResponse status(String jobId) {
+        Map<String, String> fields = jobMap(jobId).readAllMap();
+        if (!fields.containsKey(FIELD_STATUS)) {
+            throw new PurgeJobNotFoundException();
+        }
+        return new PurgeJobResponse(jobId, fields.get(FIELD_STATUS), fields.get(FIELD_FROM), fields.get(FIELD_TO),
+            Long.parseLong(fields.getOrDefault(FIELD_PURGED, "0")),
+            Long.parseLong(fields.getOrDefault(FIELD_FAILED, "0")),
+            Long.parseLong(fields.getOrDefault(FIELD_DELETED_ROWS, "0")));
+    }
+
+    private void run(String jobId, Timestamp from, Timestamp to) {
+        long purged = 0;
+        long failed = 0;
+        long deletedRows = 0;
+        String status = STATUS_COMPLETED;
+        try {
+            UUID after = null;
+            while (!Thread.currentThread().isInterrupted()) {
+                List<UUID> articleIds = newsPurgeEngine.findSoftDeleted(from, to, after, batchSize);
+                if (articleIds.isEmpty()) {
+                    break;
+                }
+                for (UUID articleId : articleIds) {
+                    try {
+                        deletedRows += newsPurgeEngine.purge(articleId);
+                        purged++;
+                    } catch (Exception e) {
+                        // 실패한 기사는 논리 삭제 상태로 남아 다음 작업에서 다시 대상이 된다
+                        log.error("기사 물리 삭제 실패 - 작업 ID: {}, 기사: {}, 오류: {}", jobId, articleId, e.getMessage(), e);
+                        failed++;
+                    }
+                }
+                after = articleIds.get(articleIds.size() - 1);
+                putProgress(jobId, purged, failed, deletedRows);
+            }
+        } catch (Exception e) {
+            log.error("기사 물리 삭제 작업 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage(), e);
+            status = STATUS_FAILED;
+        }
+        if (failed > 0) {
+            status = STATUS_FAILED;
+        }
+        putProgress(jobId, purged, failed, deletedRows);
+        jobMap(jobId).fastPut(FIELD_STATUS, status);
+        log.info("기사 물리 삭제 작업 종료 - 작업 ID: {}, 상태: {}, 삭제 {}건, 실패 {}건, 삭제 행 {}건",
+            jobId, status, purged, failed, deletedRows);
+    }
+
+    private void putProgress(String jobId, long purged, long failed, long deletedRows) {
+        try {
+            RMap<String, String> job = jobMap(jobId);
+            job.fastPut(FIELD_PURGED, String.valueOf(purged));
+            job.fastPut(FIELD_FAILED, String.valueOf(failed));
+            job.fastPut(FIELD_DELETED_ROWS, String.valueOf(deletedRows));
+            job.fastPut(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 진행 상태 기록 실패는 삭제 자체를 막지 않는다
+            log.warn("기사 물리 삭제 진행 상태 기록 실패 - 작업 ID: {}, 오류: {}", jobId, e.getMessage());
+        }
+    }
+
+    private RMap<String, String> jobMap(String jobId) {
+        return redisson.getMap(KEY_PREFIX + jobId, StringCodec.INSTANCE);
+    }
+}
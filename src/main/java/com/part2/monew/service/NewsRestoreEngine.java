@@ -0,0 +1,429 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.part2.monew.storage.S3LogUploader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 뉴스 백업 복구 엔진
+ * - 백업 파일을 Jackson 스트리밍 파서로 한 건씩 읽어 chunk 단위로 묶는다. (이전 JSON 배열 백업도 같은 경로로 읽음)
+ *   컬럼형 백업(.mnwc)은 ColumnarBackupReader 로 블록 단위로 읽는다.
+ * - chunk 마다 JDBC batch insert 후 커밋한다. 이미 있는 source_url(unique 인덱스)이나 ID 는 ON CONFLICT DO NOTHING 으로 건너뛰므로,
+ *   동시에 수집/복구되는 기사와 경합해도 중복 행이나 chunk 실패가 생기지 않고, 건너뛴 수는 행별 갱신 수로 센다.
+ * - 메모리는 chunk 크기로 묶이고, 실패하더라도 이미 커밋된 chunk 는 유지되므로 다시 실행하면 이어서 복구된다.
+ * - 카탈로그 체크섬이 있으면 먼저 저장된 바이트를 한 번 읽어 SHA-256 을 비교하고, 다르면 아무것도 넣지 않은 채 IOException 으로 실패시킨다.
+ * - 증분 백업 재생(replay)은 기사 ID 기준으로 갱신하고 없으면 넣되, 더 최근에 수정된 행은 덮어쓰지 않는다.
+ *   source_url 이 다른 ID 의 기사에 이미 있으면 그 기사로 다시 매겨(re-key) 갱신하므로, URL 충돌로 재생이 중단되지 않는다.
+ */
+@Component
+public class NewsRestoreEngine {
+
+    private static final Logger logger = LoggerFactory.getLogger(NewsRestoreEngine.class);
+
+    private static final String INSERT_SQL = """
+        INSERT INTO news_articles (news_article_id, source_in, source_url, title, published_date, summary,
+                                   view_counts, comment_counts, is_deleted, created_at, updated_at)
+        VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+        """;
+
+    // 충돌 대상을 지정하지 않아 source_url unique 인덱스와 PK 충돌을 모두 건너뛴다 (H2 PostgreSQL 모드와도 호환)
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL.strip() + " ON CONFLICT DO NOTHING";
+
+    // 더 최근에 수정된 행은 덮어쓰지 않는다
+    private static final String UPDATE_IF_NEWER_SQL = """
+        UPDATE news_articles
+        SET source_in = ?, source_url = ?, title = ?, published_date = ?, summary = ?,
+            view_counts = ?, comment_counts = ?, is_deleted = ?, updated_at = ?
+        WHERE news_article_id = ? AND (updated_at IS NULL OR updated_at <= ?)
+        """;
+
+    private final S3LogUploader s3LogUploader;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate chunkTransaction;
+    private final ObjectReader backupReader;
+    private final int chunkSize;
+
+    public NewsRestoreEngine(S3LogUploader s3LogUploader,
+        JdbcTemplate jdbcTemplate,
+        PlatformTransactionManager transactionManager,
+        @Value("${monew.backup.restore.chunk-size:1000}") int chunkSize) {
+        this.s3LogUploader = s3LogUploader;
+        this.jdbcTemplate = jdbcTemplate;
+        this.chunkTransaction = new TransactionTemplate(transactionManager);
+        this.backupReader = new ObjectMapper().registerModule(new JavaTimeModule())
+            .readerFor(BackupArticle.class);
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * 백업 파일 하나를 복구한다. 새 형식(gzip NDJSON)이 없으면 같은 날짜의 이전 JSON 백업을 읽는다.
+     *
+     * @param forceActive true 면 백업의 삭제 여부와 관계없이 활성 상태로 복구
+     * @return 백업 파일이 없으면 null
+     */
+    public RestoreResult restore(String s3Key, boolean forceActive) throws IOException {
+        return restore(s3Key, forceActive, null);
+    }
+
+    /**
+     * @param expectedChecksum 카탈로그에 기록된 SHA-256 (hex). null 이면 검증하지 않는다
+     */
+    public RestoreResult restore(String s3Key, boolean forceActive, String expectedChecksum) throws IOException {
+        return restore(s3Key, forceActive, expectedChecksum, result -> {
+        });
+    }
+
+    /**
+     * @param onChunk chunk 가 커밋될 때마다 누적 결과로 호출된다 (진행 상태 기록/heartbeat 용)
+     */
+    public RestoreResult restore(String s3Key, boolean forceActive, String expectedChecksum,
+        Consumer<RestoreResult> onChunk) throws IOException {
+        InputStream backupStream = s3LogUploader.downloadNewsBackup(s3Key);
+        if (backupStream == null && !s3LogUploader.isLegacyBackupKey(s3Key) && !s3LogUploader.isColumnarBackupKey(s3Key)) {
+            s3Key = s3LogUploader.toLegacyBackupKey(s3Key);
+            backupStream = s3LogUploader.downloadNewsBackup(s3Key);
+            // 체크섬은 카탈로그에 등록된 원래 키의 것이다
+            expectedChecksum = null;
+        }
+        if (backupStream == null) {
+            return null;
+        }
+        if (expectedChecksum != null) {
+            // 손상된 백업의 chunk 가 커밋되지 않도록 넣기 전에 검증하고, 복구는 새로 받은 스트림으로 한다
+            verifyChecksum(s3Key, backupStream, expectedChecksum);
+            backupStream = s3LogUploader.downloadNewsBackup(s3Key);
+            if (backupStream == null) {
+                return null;
+            }
+        }
+
+        // 컬럼형 백업은 컬럼마다 압축되어 있으므로 gzip 을 풀지 않는다
+        boolean gzip = !s3LogUploader.isLegacyBackupKey(s3Key) && !s3LogUploader.isColumnarBackupKey(s3Key);
+        return process(s3Key, backupStream, gzip, (chunk, result) -> restoreChunk(chunk, forceActive, result), onChunk);
+    }
+
+    /**
+     * 증분 백업 파일(스냅샷/변경분)을 재생한다. 같은 ID 의 행은 백업 쪽이 더 최근일 때만 갱신한다.
+     *
+     * @return 백업 파일이 없으면 null
+     */
+    public RestoreResult replay(String s3Key) throws IOException {
+        InputStream backupStream = s3LogUploader.downloadNewsBackup(s3Key);
+        if (backupStream == null) {
+            return null;
+        }
+        return process(s3Key, backupStream, true, this::replayChunk, result -> {
+        });
+    }
+
+    // gzip 헤더가 깨져 있어도 저장소 스트림이 닫히도록 압축 해제 스트림은 try 안에서 연다
+    private RestoreResult process(String s3Key, InputStream backupStream, boolean gzip, ChunkHandler handler,
+        Consumer<RestoreResult> onChunk) throws IOException {
+        long startedAt = System.nanoTime();
+        RestoreResult result = new RestoreResult(s3Key);
+        try (InputStream raw = backupStream;
+            InputStream source = gzip ? new GZIPInputStream(raw, 64 * 1024) : raw;
+            BackupIterator articles = open(s3Key, source)) {
+            List<BackupArticle> chunk = new ArrayList<>(chunkSize);
+            while (articles.hasNext()) {
+                chunk.add(articles.next());
+                if (chunk.size() == chunkSize) {
+                    handler.handle(chunk, result);
+                    logProgress(result, startedAt);
+                    onChunk.accept(result);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                handler.handle(chunk, result);
+                onChunk.accept(result);
+            }
+        } catch (UncheckedIOException e) {
+            // 순회 중 손상/잘림은 다른 읽기 실패와 같게 IOException 으로 알린다
+            throw e.getCause();
+        }
+
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        logger.info("백업 복구 완료: {} - 읽음 {}건, 복구 {}건, 건너뜀 {}건 ({}ms, {}건/초)",
+            s3Key, result.read, result.restored, result.skipped, elapsedMillis, result.read * 1000 / elapsedMillis);
+        return result;
+    }
+
+    // 저장된 바이트 그대로(gzip 을 풀기 전) 해시한다
+    private static void verifyChecksum(String s3Key, InputStream backupStream, String expectedChecksum)
+        throws IOException {
+        MessageDigest digest = sha256();
+        try (InputStream raw = new DigestInputStream(backupStream, digest)) {
+            raw.transferTo(OutputStream.nullOutputStream());
+        }
+        String actual = HexFormat.of().formatHex(digest.digest());
+        if (!actual.equalsIgnoreCase(expectedChecksum)) {
+            throw new IOException("백업 체크섬 불일치: " + s3Key + " (기대 " + expectedChecksum + ", 실제 " + actual + ")");
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // readValues 는 루트가 배열이면 원소를, 아니면 줄 단위 루트 값을 차례로 읽는다
+    private BackupIterator open(String s3Key, InputStream source) throws IOException {
+        if (s3LogUploader.isColumnarBackupKey(s3Key)) {
+            return BackupIterator.of(new ColumnarBackupReader(source));
+        }
+        MappingIterator<BackupArticle> values = backupReader.readValues(source);
+        return BackupIterator.of(values);
+    }
+
+    private void restoreChunk(List<BackupArticle> chunk, boolean forceActive, RestoreResult result) {
+        // 같은 chunk 안의 중복 URL 은 먼저 나온 것만 남긴다
+        Map<String, BackupArticle> byUrl = new LinkedHashMap<>();
+        for (BackupArticle article : chunk) {
+            if (article.sourceUrl() != null) {
+                byUrl.putIfAbsent(article.sourceUrl(), article);
+            }
+        }
+
+        int inserted = 0;
+        if (!byUrl.isEmpty()) {
+            List<BackupArticle> unique = new ArrayList<>(byUrl.values());
+            inserted = countApplied(chunkTransaction.execute(status -> writeAll(INSERT_IF_ABSENT_SQL, unique, forceActive)));
+        }
+
+        result.read += chunk.size();
+        result.restored += inserted;
+        result.skipped += chunk.size() - inserted;
+    }
+
+    // 갱신되지 않은 행(없는 기사, 더 최근에 수정된 기사)만 넣고, 이미 있으면 충돌로 건너뛴다
+    private void replayChunk(List<BackupArticle> chunk, RestoreResult result) {
+        int applied = chunkTransaction.execute(status -> {
+            List<BackupArticle> articles = rekeyByUrl(chunk);
+            int[] updated = updateAll(articles);
+            List<BackupArticle> missing = new ArrayList<>();
+            for (int i = 0; i < articles.size(); i++) {
+                if (updated[i] <= 0) {
+                    missing.add(articles.get(i));
+                }
+            }
+            int inserted = missing.isEmpty() ? 0 : countApplied(writeAll(INSERT_IF_ABSENT_SQL, missing, false));
+            return articles.size() - missing.size() + inserted;
+        });
+        result.read += chunk.size();
+        result.restored += applied;
+        result.skipped += chunk.size() - applied;
+    }
+
+    // source_url 은 unique 이므로 다른 ID 의 기사가 이미 가진 URL 은 그 기사의 ID 로 재생한다 (chunk 안에서는 먼저 나온 ID)
+    private List<BackupArticle> rekeyByUrl(List<BackupArticle> chunk) {
+        List<String> urls = chunk.stream().map(BackupArticle::sourceUrl).filter(Objects::nonNull).distinct().toList();
+        Map<String, UUID> owners = new HashMap<>();
+        if (!urls.isEmpty()) {
+            jdbcTemplate.query("SELECT source_url, news_article_id FROM news_articles WHERE source_url IN ("
+                    + String.join(", ", Collections.nCopies(urls.size(), "?")) + ")",
+                rs -> {
+                    owners.put(rs.getString(1), rs.getObject(2, UUID.class));
+                }, urls.toArray());
+        }
+
+        List<BackupArticle> rekeyed = new ArrayList<>(chunk.size());
+        for (BackupArticle article : chunk) {
+            BackupArticle withId = article.id() != null ? article : article.withId(UUID.randomUUID());
+            if (withId.sourceUrl() == null) {
+                rekeyed.add(withId);
+                continue;
+            }
+            UUID owner = owners.putIfAbsent(withId.sourceUrl(), withId.id());
+            rekeyed.add(owner == null || owner.equals(withId.id()) ? withId : withId.withId(owner));
+        }
+        return rekeyed;
+    }
+
+    private int[] updateAll(List<BackupArticle> articles) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return jdbcTemplate.batchUpdate(UPDATE_IF_NEWER_SQL, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BackupArticle article = articles.get(i);
+                Timestamp updatedAt = article.updatedAt() != null ? article.updatedAt() : now;
+                ps.setString(1, article.sourceIn());
+                ps.setString(2, article.sourceUrl());
+                ps.setString(3, article.title());
+                ps.setTimestamp(4, article.publishedDate());
+                ps.setString(5, article.summary());
+                ps.setLong(6, article.viewCount() != null ? article.viewCount() : 0L);
+                ps.setLong(7, article.commentCount() != null ? article.commentCount() : 0L);
+                ps.setBoolean(8, Boolean.TRUE.equals(article.isDeleted()));
+                ps.setTimestamp(9, updatedAt);
+                ps.setObject(10, article.id());
+                ps.setTimestamp(11, updatedAt);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return articles.size();
+            }
+        });
+    }
+
+    // 충돌로 건너뛴 행은 0 으로 온다
+    private static int countApplied(int[] counts) {
+        int applied = 0;
+        for (int count : counts) {
+            // 드라이버가 batch 를 합쳐 실행하면(reWriteBatchedInserts) 행별 결과 대신 SUCCESS_NO_INFO 를 준다
+            if (count > 0 || count == Statement.SUCCESS_NO_INFO) {
+                applied++;
+            }
+        }
+        return applied;
+    }
+
+    private int[] writeAll(String sql, List<BackupArticle> articles, boolean forceActive) {
+        Timestamp now = new Timestamp(System.currentTimeMillis());
+        return jdbcTemplate.batchUpdate(sql, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                BackupArticle article = articles.get(i);
+                ps.setObject(1, article.id() != null ? article.id() : UUID.randomUUID());
+                ps.setString(2, article.sourceIn());
+                ps.setString(3, article.sourceUrl());
+                ps.setString(4, article.title());
+                ps.setTimestamp(5, article.publishedDate());
+                ps.setString(6, article.summary());
+                ps.setLong(7, article.viewCount() != null ? article.viewCount() : 0L);
+                ps.setLong(8, article.commentCount() != null ? article.commentCount() : 0L);
+                ps.setBoolean(9, !forceActive && Boolean.TRUE.equals(article.isDeleted()));
+                ps.setTimestamp(10, article.createdAt() != null ? article.createdAt() : now);
+                ps.setTimestamp(11, article.updatedAt() != null ? article.updatedAt() : now);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return articles.size();
+            }
+        });
+    }
+
+    private void logProgress(RestoreResult result, long startedAt) {
+        long elapsedMillis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        logger.info("백업 복구 진행 중: {} - 읽음 {}건, 복구 {}건 ({}건/초)",
+            result.key, result.read, result.restored, result.read * 1000 / elapsedMillis);
+    }
+
+    @JsonIgnoreProperties(ignoreUnknown = true)
+    record BackupArticle(
+        UUID id,
+        String sourceIn,
+        String sourceUrl,
+        String title,
+        Timestamp publishedDate,
+        String summary,
+        Long viewCount,
+        Long commentCount,
+        Boolean isDeleted,
+        Timestamp createdAt,
+        Timestamp updatedAt
+    ) {
+
+        BackupArticle withId(UUID newId) {
+            return new BackupArticle(newId, sourceIn, sourceUrl, title, publishedDate, summary, viewCount, commentCount,
+                isDeleted, createdAt, updatedAt);
+        }
+    }
+
+    // 형식별 reader 를 같은 방식으로 순회하고 닫는다
+    private interface BackupIterator extends Iterator<BackupArticle>, Closeable {
+
+        static <T extends Iterator<BackupArticle> & Closeable> BackupIterator of(T reader) {
+            return new BackupIterator() {
+                @Override
+                public boolean hasNext() {
+                    return reader.hasNext();
+                }
+
+                @Override
+                public BackupArticle next() {
+                    return reader.next();
+                }
+
+                @Override
+                public void close() throws IOException {
+                    reader.close();
+                }
+            };
+        }
+    }
+
+    @FunctionalInterface
+    private interface ChunkHandler {
+
+        void handle(List<BackupArticle> chunk, RestoreResult result);
+    }
+
+    public static final class RestoreResult {
+
+        private final String key;
+        private long read;
+        private long restored;
+        private long skipped;
+
+        private RestoreResult(String key) {
+            this.key = key;
+        }
+
+        public String getKey() {
+            return key;
+        }
+
+        public long getRead() {
+            return read;
+        }
+
+        public long getRestored() {
+            return restored;
+        }
+
+        public long getSkipped() {
+            return skipped;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.RestoreJobDayResponse;
+import com.part2.monew.dto.response.RestoreJobResponse;
+import com.part2.monew.global.exception.article.InvalidDateRangeException;
+import com.part2.monew.global.exception.article.RestoreJobAlreadyRunningException;
+import com.part2.monew.global.exception.article.RestoreJobNotFoundException;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 기간 복구 작업
+ * - 요청 시 작업 ID 만 돌려주고, 날짜별 복구를 크기가 제한된 worker pool 에서 병렬로 실행한다.
+ * - 작업/날짜별 진행 상태는 Redis hash 에 두어 어느 노드에서든 조회할 수 있다.
+ * - 날짜마다 독립적으로 커밋되므로, 재개하면 완료되지 않은 날짜만 다시 실행한다.
+ * - 실행 중인 날짜는 chunk 마다 진행 수와 updatedAt 을 갱신(heartbeat)하고, 날짜별 lock 을 잡고 실행하므로
+ *   재개가 같은 날짜를 다른 노드와 동시에 복구하지 않는다.
+ * - 날짜별 백업 키는 백업 카탈로그에서 한 번에 정하고, 백업이 없는 날짜는 조회 없이 MISSING 으로 둔다.
+ */
+@Slf4j
+@Component
+public class NewsRestoreJobService {
+
+    public static final String STATUS_PENDING = "PENDING";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_COMPLETED = "COMPLETED";
+    public static final String STATUS_FAILED = "FAILED";
+    // 해당 날짜의 백업 파일이 없음 (완료로 취급)
+    public static final String STATUS_MISSING = "MISSING";
+
+    private static final String KEY_PREFIX = "restore:job:";
+    private static final String FIELD_STATUS = "status";
+    private static final String FIELD_FROM = "fromDate";
+    private static final String FIELD_TO = "toDate";
+    private static final String FIELD_UPDATED_AT = "updatedAt";
+    private static final String DAY_PREFIX = "day:";
+    private static final String LOCK_PREFIX = "lock:restore:job:";
+
+    private final NewsRestoreEngine newsRestoreEngine;
+    private final NewsBackupCatalog newsBackupCatalog;
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+    private final ThreadPoolExecutor workers;
+    private final int maxDays;
+    private final Duration jobTtl;
+    private final Duration staleAfter;
+
+    public NewsRestoreJobService(NewsRestoreEngine newsRestoreEngine,
+        NewsBackupCatalog newsBackupCatalog,
+        RedissonClient redisson,
+        ObjectMapper objectMapper,
+        @Value("${monew.backup.restore.parallelism:4}") int parallelism,
+        @Value("${monew.backup.restore.queue-capacity:1000}") int queueCapacity,
+        @Value("${monew.backup.restore.max-days:366}") int maxDays,
+        @Value("${monew.backup.restore.job-ttl-days:7}") long jobTtlDays,
+        @Value("${monew.backup.restore.stale-after-minutes:30}") long staleAfterMinutes) {
+        this.newsRestoreEngine = newsRestoreEngine;
+        this.newsBackupCatalog = newsBackupCatalog;
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(parallelism, parallelism, 0L, TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(queueCapacity), runnable -> {
+                Thread thread = new Thread(runnable, "news-restore-" + threadNumber.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            });
+        this.maxDays = maxDays;
+        this.jobTtl = Duration.ofDays(jobTtlDays);
+        this.staleAfter = Duration.ofMinutes(staleAfterMinutes);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중이던 날짜는 RUNNING 으로 남고, stale-after 이후 재개할 수 있다 (날짜별 lock 은 watchdog 이 멈추면 풀린다)
+        workers.shutdownNow();
+    }
+
+    public RestoreJobResponse start(String fromDate, String toDate) {
+        List<LocalDate> days = parseRange(fromDate, toDate);
+        Map<LocalDate, NewsBackupCatalog.Entry> plan = newsBackupCatalog.plan(days.get(0), days.get(days.size() - 1));
+        String jobId = UUID.randomUUID().toString();
+
+        Map<String, String> fields = new LinkedHashMap<>();
+        fields.put(FIELD_STATUS, STATUS_RUNNING);
+        fields.put(FIELD_FROM, fromDate);
+        fields.put(FIELD_TO, toDate);
+        fields.put(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        for (LocalDate day : days) {
+            String status = plan.containsKey(day) ? STATUS_PENDING : STATUS_MISSING;
+            fields.put(DAY_PREFIX + day, write(new RestoreJobDayResponse(day.toString(), status, 0, 0, 0, null)));
+        }
+        RMap<String, String> job = jobMap(jobId);
+        job.putAll(fields);
+        job.expire(jobTtl);
+
+        log.info("기사 복구 작업 시작 - 작업 ID: {}, 기간: {} ~ {} ({}일, 백업 {}개)", jobId, fromDate, toDate,
+            days.size(), plan.size());
+        if (plan.isEmpty()) {
+            finish(jobId);
+        } else {
+            submit(jobId, plan);
+        }
+        return status(jobId);
+    }
+
+    // 완료되지 않은 날짜(대기/실패, 중단된 실행)만 다시 실행한다
+    public RestoreJobResponse resume(String jobId) {
+        RMap<String, String> job = jobMap(jobId);
+        String status = job.get(FIELD_STATUS);
+        if (status == null) {
+            throw new RestoreJobNotFoundException();
+        }
+        if (STATUS_RUNNING.equals(status) && !isStale(job)) {
+            throw new RestoreJobAlreadyRunningException();
+        }
+        // 여러 노드가 동시에 재개하지 않도록 상태를 CAS 로 바꾼다
+        if (!job.replace(FIELD_STATUS, status, STATUS_RUNNING)) {
+            throw new RestoreJobAlreadyRunningException();
+        }
+        job.fastPut(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        job.expire(jobTtl);
+
+        List<LocalDate> days = new ArrayList<>();
+        for (RestoreJobDayResponse day : readDays(job)) {
+            if (!STATUS_COMPLETED.equals(day.status()) && !STATUS_MISSING.equals(day.status())) {
+                days.add(LocalDate.parse(day.date()));
+            }
+        }
+        Map<LocalDate, NewsBackupCatalog.Entry> plan = days.isEmpty()
+            ? new TreeMap<>()
+            : newsBackupCatalog.plan(days.get(0), days.get(days.size() - 1));
+        plan.keySet().retainAll(days);
+        for (LocalDate day : days) {
+            if (!plan.containsKey(day)) {
+                putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_MISSING, 0, 0, 0, null));
+            }
+        }
+        log.info("기사 복구 작업 재개 - 작업 ID: {}, 남은 백업 {}개", jobId, plan.size());
+        if (plan.isEmpty()) {
+            finish(jobId);
+        } else {
+            submit(jobId, plan);
+        }
+        return status(jobId);
+    }
+
+    public RestoreJobResponse status(String jobId) {
+        RMap<String, String> job = jobMap(jobId);
+        Map<String, String> fields = job.readAllMap();
+        if (!fields.containsKey(FIELD_STATUS)) {
+            throw new RestoreJobNotFoundException();
+        }
+        List<RestoreJobDayResponse> days = readDays(fields);
+        long restored = 0;
+        for (RestoreJobDayResponse day : days) {
+            restored += day.restored();
+        }
+        return new RestoreJobResponse(jobId, fields.get(FIELD_STATUS), fields.get(FIELD_FROM), fields.get(FIELD_TO),
+            restored, days);
+    }
+
+    private void submit(String jobId, Map<LocalDate, NewsBackupCatalog.Entry> plan) {
+        AtomicInteger remaining = new AtomicInteger(plan.size());
+        for (Map.Entry<LocalDate, NewsBackupCatalog.Entry> backup : plan.entrySet()) {
+            LocalDate day = backup.getKey();
+            NewsBackupCatalog.Entry entry = backup.getValue();
+            try {
+                workers.execute(() -> runDay(jobId, day, entry, remaining));
+            } catch (RejectedExecutionException e) {
+                // 대기열이 가득 차면 실패로 남겨 두고 재개 시 다시 실행한다
+                putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_FAILED, 0, 0, 0, "복구 대기열이 가득 찼습니다."));
+                if (remaining.decrementAndGet() == 0) {
+                    finish(jobId);
+                }
+            }
+        }
+    }
+
+    private void runDay(String jobId, LocalDate day, NewsBackupCatalog.Entry entry, AtomicInteger remaining) {
+        // lock 은 watchdog 이 실행 중에 연장하고, 노드가 죽으면 lease 가 끝나 다른 노드가 재개할 수 있다
+        RLock lock = redisson.getLock(LOCK_PREFIX + jobId + ":" + day);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(0, TimeUnit.SECONDS);
+            if (!locked) {
+                log.info("다른 노드에서 복구 중인 날짜여서 건너뜁니다 - 작업 ID: {}, 날짜: {}", jobId, day);
+                return;
+            }
+            putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_RUNNING, 0, 0, 0, null));
+            NewsRestoreEngine.RestoreResult result = newsRestoreEngine.restore(entry.key(), false, entry.checksum(), progress ->
+                putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_RUNNING,
+                    progress.getRead(), progress.getRestored(), progress.getSkipped(), null)));
+            if (result == null) {
+                putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_MISSING, 0, 0, 0, null));
+            } else {
+                putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_COMPLETED,
+                    result.getRead(), result.getRestored(), result.getSkipped(), null));
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("기사 복구 실패 - 작업 ID: {}, 날짜: {}, 오류: {}", jobId, day, e.getMessage(), e);
+            putDay(jobId, new RestoreJobDayResponse(day.toString(), STATUS_FAILED, 0, 0, 0, e.getMessage()));
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+            if (remaining.decrementAndGet() == 0) {
+                finish(jobId);
+            }
+        }
+    }
+
+    private void finish(String jobId) {
+        RMap<String, String> job = jobMap(jobId);
+        List<RestoreJobDayResponse> days = readDays(job);
+        if (days.stream().anyMatch(day -> STATUS_RUNNING.equals(day.status()))) {
+            // 다른 노드가 아직 실행 중인 날짜가 있으면 그 노드가 끝낼 때 상태를 정한다
+            return;
+        }
+        boolean failed = days.stream().anyMatch(day -> STATUS_FAILED.equals(day.status()));
+        job.fastPut(FIELD_STATUS, failed ? STATUS_FAILED : STATUS_COMPLETED);
+        job.fastPut(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        log.info("기사 복구 작업 종료 - 작업 ID: {}, 상태: {}", jobId, failed ? STATUS_FAILED : STATUS_COMPLETED);
+    }
+
+    private void putDay(String jobId, RestoreJobDayResponse day) {
+        try {
+            RMap<String, String> job = jobMap(jobId);
+            job.fastPut(DAY_PREFIX + day.date(), write(day));
+            job.fastPut(FIELD_UPDATED_AT, String.valueOf(System.currentTimeMillis()));
+        } catch (Exception e) {
+            // 진행 상태 기록 실패는 복구 자체를 막지 않는다
+            log.warn("기사 복구 진행 상태 기록 실패 - 작업 ID: {}, 날짜: {}, 오류: {}", jobId, day.date(), e.getMessage());
+        }
+    }
+
+    // 실행하던 노드가 종료되어 RUNNING 으로 남은 작업인지 (실행 중인 날짜는 chunk 마다 updatedAt 을 갱신한다)
+    private boolean isStale(RMap<String, String> job) {
+        String updatedAt = job.get(FIELD_UPDATED_AT);
+        return updatedAt == null
+            || System.currentTimeMillis() - Long.parseLong(updatedAt) > staleAfter.toMillis();
+    }
+
+    private List<LocalDate> parseRange(String fromDate, String toDate) {
+        LocalDate from;
+        LocalDate to;
+        try {
+            from = LocalDate.parse(fromDate);
+            to = LocalDate.parse(toDate);
+        } catch (DateTimeParseException | NullPointerException e) {
+            throw new InvalidDateRangeException();
+        }
+        long length = ChronoUnit.DAYS.between(from, to) + 1;
+        if (length < 1 || length > maxDays) {
+            throw new InvalidDateRangeException();
+        }
+        List<LocalDate> days = new ArrayList<>((int) length);
+        for (LocalDate day = from; !day.isAfter(to); day = day.plusDays(1)) {
+            days.add(day);
+        }
+        return days;
+    }
+
+    private List<RestoreJobDayResponse> readDays(RMap<String, String> job) {
+        return readDays(job.readAllMap());
+    }
+
+    private List<RestoreJobDayResponse> readDays(Map<String, String> fields) {
+        List<RestoreJobDayResponse> days = new ArrayList<>();
+        for (Map.Entry<String, String> field : fields.entrySet()) {
+            if (field.getKey().startsWith(DAY_PREFIX)) {
+                try {
+                    days.add(objectMapper.readValue(field.getValue(), RestoreJobDayResponse.class));
+                } catch (JsonProcessingException e) {
+                    log.warn("기사 복구 진행 상태 파싱 실패 - 필드: {}", field.getKey());
+                }
+            }
+        }
+        days.sort((a, b) -> a.date().compareTo(b.date()));
+        return days;
+    }
+
+    private RMap<String, String> jobMap(String jobId) {
+        return redisson.getMap(KEY_PREFIX + jobId, StringCodec.INSTANCE);
+    }
+
+    private String write(RestoreJobDayResponse day) {
+        try {
+            return objectMapper.writeValueAsString(day);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("복구 진행 상태 직렬화 실패", e);
+        }
+    }
+}
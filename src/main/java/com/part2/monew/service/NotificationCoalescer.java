@@ -0,0 +1,194 @@
+package com.part2.monew.service;
+
+import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.entity.Notification;
+import com.part2.monew.entity.User;
+import com.part2.monew.repository.NotificationRepository;
+import com.part2.monew.repository.UserRepository;
+import com.part2.monew.util.TransactionUtil;
+import java.sql.Timestamp;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 반복 알림 묶음 처리
+ * - (수신자, resourceType, resourceId) 단위로 일정 시간 동안 이벤트를 Redis 에 모았다가 창이 닫히면 한 번에 반영한다.
+ * - 아직 확인하지 않은 같은 대상의 알림이 있으면 새 행 대신 "X님 외 N명이…" 로 갱신하고, 목록 맨 앞으로 다시 올린다.
+ * - 누적 수는 알림 행을 커밋한 뒤에 반영한 만큼만 차감한다. 반영 도중 들어온 이벤트는 남고,
+ *   DB 반영에 실패하면 아무것도 지우지 않은 채 키를 pending 에 되돌려 다음 주기에 다시 반영한다.
+ */
+@Slf4j
+@Service
+public class NotificationCoalescer {
+
+    private static final String KEY_PREFIX = "notification:digest:";
+    private static final String PENDING_KEY = "notification:digest:pending";
+
+    // KEYS: count, meta, pending / ARGV: actor, action, ttlMillis, deadline, digestKey
+    static final String SUBMIT_SCRIPT = """
+        redis.call('incr', KEYS[1])
+        redis.call('pexpire', KEYS[1], ARGV[3])
+        redis.call('hset', KEYS[2], 'actor', ARGV[1])
+        redis.call('hsetnx', KEYS[2], 'action', ARGV[2])
+        redis.call('pexpire', KEYS[2], ARGV[3])
+        redis.call('zadd', KEYS[3], 'NX', ARGV[4], ARGV[5])
+        return 1
+        """;
+
+    // KEYS: count, meta. 누적 수와 마지막 사용자/동작을 읽기만 한다 -> {count, actor, action}
+    static final String READ_SCRIPT = """
+        local count = redis.call('get', KEYS[1]) or '0'
+        local actor = redis.call('hget', KEYS[2], 'actor') or ''
+        local action = redis.call('hget', KEYS[2], 'action') or ''
+        return {count, actor, action}
+        """;
+
+    // KEYS: count, meta / ARGV: 반영한 수. 반영한 만큼 빼고, 남은 이벤트가 없으면 함께 지운다 -> 남은 수
+    static final String SETTLE_SCRIPT = """
+        local remaining = redis.call('decrby', KEYS[1], ARGV[1])
+        if remaining <= 0 then
+            redis.call('del', KEYS[1], KEYS[2])
+        end
+        return remaining
+        """;
+
+    private final RedissonClient redisson;
+    private final NotificationService notificationService;
+    private final NotificationPushService notificationPushService;
+    private final NotificationRepository notificationRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final long windowMillis;
+    private final int flushBatchSize;
+
+    public NotificationCoalescer(RedissonClient redisson,
+        NotificationService notificationService,
+        NotificationPushService notificationPushService,
+        NotificationRepository notificationRepository,
+        UserRepository userRepository,
+        PlatformTransactionManager transactionManager,
+        @Value("${monew.notification.digest.window-millis:60000}") long windowMillis,
+        @Value("${monew.notification.digest.flush-batch-size:500}") int flushBatchSize) {
+        this.redisson = redisson;
+        this.notificationService = notificationService;
+        this.notificationPushService = notificationPushService;
+        this.notificationRepository = notificationRepository;
+        this.userRepository = userRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.windowMillis = windowMillis;
+        this.flushBatchSize = flushBatchSize;
+    }
+
+    // 원본 이벤트가 커밋된 뒤에만 집계한다 (롤백된 좋아요는 알림에 포함하지 않음)
+    public void submitAfterCommit(UUID recipientId, String actorName, String resourceType, UUID resourceId, String action) {
+        TransactionUtil.runAfterCommit(() -> submit(recipientId, actorName, resourceType, resourceId, action));
+    }
+
+    public void submit(UUID recipientId, String actorName, String resourceType, UUID resourceId, String action) {
+        String key = KEY_PREFIX + recipientId + ":" + resourceType + ":" + resourceId;
+        // 창이 닫혀도 flush 가 돌지 못한 경우를 대비한 만료 시간, 창의 첫 이벤트만 마감 시각을 정한다 (ZADD NX)
+        long ttlMillis = windowMillis * 10;
+        long deadline = System.currentTimeMillis() + windowMillis;
+        script().eval(RScript.Mode.READ_WRITE, SUBMIT_SCRIPT, RScript.ReturnType.INTEGER,
+            List.<Object>of(key + ":count", key + ":meta", PENDING_KEY),
+            actorName, action, String.valueOf(ttlMillis), String.valueOf(deadline), key);
+    }
+
+    @Scheduled(fixedDelayString = "${monew.notification.digest.flush-interval-millis:5000}")
+    public void flushDueDigests() {
+        RScoredSortedSet<String> pending = pendingKeys();
+        Collection<String> dueKeys = pending.valueRange(
+            Double.NEGATIVE_INFINITY, true, System.currentTimeMillis(), true, 0, flushBatchSize);
+
+        int flushed = 0;
+        for (String key : dueKeys) {
+            // pending 에서 제거에 성공한 노드만 처리한다
+            if (!pending.remove(key)) {
+                continue;
+            }
+            try {
+                if (flush(key)) {
+                    flushed++;
+                }
+            } catch (Exception e) {
+                // 누적 수는 그대로 남아 있으므로 키만 되돌려 다음 창에 다시 반영한다
+                pending.add(System.currentTimeMillis() + windowMillis, key);
+                log.error("알림 묶음 반영 실패, 다음 주기에 다시 반영합니다 - 키: {}, 오류: {}", key, e.getMessage(), e);
+            }
+        }
+        if (flushed > 0) {
+            log.debug("알림 묶음 반영 완료: {}건", flushed);
+        }
+    }
+
+    private boolean flush(String key) {
+        List<Object> keys = List.of(key + ":count", key + ":meta");
+        List<Object> current = script().eval(RScript.Mode.READ_ONLY, READ_SCRIPT, RScript.ReturnType.MULTI, keys);
+        long count = Long.parseLong((String) current.get(0));
+        String actor = (String) current.get(1);
+        String action = (String) current.get(2);
+        if (count <= 0 || actor.isEmpty()) {
+            return false;
+        }
+
+        // key = notification:digest:{recipientId}:{resourceType}:{resourceId}
+        String[] parts = key.substring(KEY_PREFIX.length()).split(":");
+        UUID recipientId = UUID.fromString(parts[0]);
+        String resourceType = parts[1];
+        UUID resourceId = UUID.fromString(parts[2]);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            Optional<Notification> existing = notificationRepository
+                .findFirstByUserIdAndResourceTypeAndResourceIdAndConfirmedFalseOrderByCreatedAtDesc(
+                    recipientId, resourceType, resourceId);
+
+            if (existing.isPresent()) {
+                Notification notification = existing.get();
+                int actorCount = notification.getActorCount() + (int) count;
+                String content = digestContent(actor, actorCount, action);
+                Timestamp now = new Timestamp(System.currentTimeMillis());
+                notificationRepository.updateDigest(notification.getId(), actorCount, content, now);
+                notificationPushService.publishAfterCommit(new NotificationResponse(notification.getId(), now, now,
+                    false, recipientId, content, resourceType, resourceId));
+                return;
+            }
+
+            User recipient = userRepository.getReferenceById(recipientId);
+            Notification created = notificationService.createNotification(
+                recipient, digestContent(actor, (int) count, action), resourceType, resourceId);
+            if (count > 1) {
+                created.setActorCount((int) count);
+            }
+        });
+        // 커밋된 뒤에만 차감한다. 여기서 실패하면 같은 이벤트가 다음 묶음에 한 번 더 세어질 수 있지만 빠지지는 않는다
+        script().eval(RScript.Mode.READ_WRITE, SETTLE_SCRIPT, RScript.ReturnType.INTEGER, keys, String.valueOf(count));
+        return true;
+    }
+
+    private String digestContent(String actor, int actorCount, String action) {
+        if (actorCount <= 1) {
+            return actor + "님이 " + action;
+        }
+        return actor + "님 외 " + (actorCount - 1) + "명이 " + action;
+    }
+
+    private RScript script() {
+        return redisson.getScript(StringCodec.INSTANCE);
+    }
+
+    private RScoredSortedSet<String> pendingKeys() {
+        return redisson.getScoredSortedSet(PENDING_KEY, StringCodec.INSTANCE);
+    }
+}
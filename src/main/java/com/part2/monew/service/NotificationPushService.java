@@ -0,0 +1,172 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.util.TransactionUtil;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RTopic;
+import org.redisson.api.RTopicAsync;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 알림 실시간 전송 (SSE)
+ * - 모든 노드가 하나의 Redis 채널을 구독하고, 메시지의 userId 로 자신이 가진 연결에만 전달한다.
+ * - SseEmitter 는 비동기 요청이므로 연결당 서블릿 스레드를 점유하지 않는다.
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    private static final String TOPIC_NAME = "channel:notifications";
+    private static final String EVENT_NAME = "notifications";
+
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+    private final long emitterTimeoutMillis;
+
+    private final Map<UUID, Set<SseEmitter>> emitters = new ConcurrentHashMap<>();
+    private RTopic topic;
+    private int listenerId;
+
+    public NotificationPushService(RedissonClient redisson, ObjectMapper objectMapper,
+        @Value("${monew.notification.stream.timeout-millis:1800000}") long emitterTimeoutMillis) {
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+        this.emitterTimeoutMillis = emitterTimeoutMillis;
+    }
+
+    @PostConstruct
+    public void subscribeTopic() {
+        topic = redisson.getTopic(TOPIC_NAME, StringCodec.INSTANCE);
+        listenerId = topic.addListener(String.class, (channel, message) -> deliverLocally(message));
+    }
+
+    @PreDestroy
+    public void unsubscribeTopic() {
+        if (topic != null) {
+            topic.removeListener(listenerId);
+        }
+        emitters.values().forEach(set -> set.forEach(SseEmitter::complete));
+        emitters.clear();
+    }
+
+    public SseEmitter connect(UUID userId) {
+        SseEmitter emitter = createEmitter();
+        // 추가까지 한 번의 compute 안에서 해야 removeEmitter 가 빈 set 을 지우는 사이에 끼어 연결이 고아가 되지 않는다
+        Set<SseEmitter> userEmitters = emitters.compute(userId, (id, set) -> {
+            Set<SseEmitter> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(emitter);
+            return target;
+        });
+
+        emitter.onCompletion(() -> removeEmitter(userId, emitter));
+        emitter.onTimeout(() -> removeEmitter(userId, emitter));
+        emitter.onError(e -> removeEmitter(userId, emitter));
+
+        // 연결 직후 더미 이벤트를 보내지 않으면 일부 프록시가 응답을 버퍼링한다
+        try {
+            emitter.send(SseEmitter.event().name("connect").data("connected"));
+        } catch (IOException e) {
+            removeEmitter(userId, emitter);
+        }
+        log.debug("알림 스트림 연결 - 사용자 ID: {}, 노드 내 연결 수: {}", userId, userEmitters.size());
+        return emitter;
+    }
+
+    SseEmitter createEmitter() {
+        return new SseEmitter(emitterTimeoutMillis);
+    }
+
+    // 커밋 이후 전체 노드로 발행 (롤백된 알림은 전송하지 않음)
+    public void publishAfterCommit(NotificationResponse notification) {
+        TransactionUtil.runAfterCommit(() -> publish(notification));
+    }
+
+    public void publish(NotificationResponse notification) {
+        try {
+            String message = objectMapper.writeValueAsString(
+                new PushMessage(notification.userId(), notification));
+            topic.publish(message);
+        } catch (Exception e) {
+            // 실시간 전송 실패는 알림 저장에 영향을 주지 않는다 (클라이언트는 목록 조회로 복구)
+            log.warn("알림 발행 실패 - 알림 ID: {}, 오류: {}", notification.id(), e.getMessage());
+        }
+    }
+
+    // 여러 알림을 한 번의 왕복(RBatch)으로 발행한다 (관심사 알림 fan-out 배치)
+    public void publishAll(List<NotificationResponse> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        try {
+            RBatch batch = redisson.createBatch();
+            RTopicAsync batchTopic = batch.getTopic(TOPIC_NAME, StringCodec.INSTANCE);
+            for (NotificationResponse notification : notifications) {
+                batchTopic.publishAsync(objectMapper.writeValueAsString(
+                    new PushMessage(notification.userId(), notification)));
+            }
+            batch.execute();
+        } catch (Exception e) {
+            log.warn("알림 일괄 발행 실패 - {}건, 오류: {}", notifications.size(), e.getMessage());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${monew.notification.stream.heartbeat-millis:30000}")
+    public void sendHeartbeat() {
+        emitters.forEach((userId, set) -> set.forEach(emitter -> {
+            try {
+                emitter.send(SseEmitter.event().comment("ping"));
+            } catch (Exception e) {
+                removeEmitter(userId, emitter);
+            }
+        }));
+    }
+
+    private void deliverLocally(String message) {
+        try {
+            PushMessage pushMessage = objectMapper.readValue(message, PushMessage.class);
+            Set<SseEmitter> userEmitters = emitters.get(pushMessage.userId());
+            if (userEmitters == null || userEmitters.isEmpty()) {
+                return;
+            }
+
+            NotificationResponse notification = pushMessage.notification();
+            for (SseEmitter emitter : userEmitters) {
+                try {
+                    emitter.send(SseEmitter.event()
+                        .id(notification.id().toString())
+                        .name(EVENT_NAME)
+                        .data(notification));
+                } catch (Exception e) {
+                    removeEmitter(pushMessage.userId(), emitter);
+                }
+            }
+        } catch (Exception e) {
+            log.warn("알림 메시지 처리 실패: {}", e.getMessage());
+        }
+    }
+
+    private void removeEmitter(UUID userId, SseEmitter emitter) {
+        emitters.computeIfPresent(userId, (id, set) -> {
+            set.remove(emitter);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    record PushMessage(UUID userId, NotificationResponse notification) {
+    }
+}
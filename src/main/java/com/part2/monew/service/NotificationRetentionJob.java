@@ -0,0 +1,122 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.NotificationRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 확인된 알림 보존 기간 정리
+ * - 한 번의 대량 DELETE 대신 PK 배치 단위로 삭제하고 배치 사이에 쉬어 WAL/복제 지연 급증을 막는다.
+ * - 분산 락으로 여러 인스턴스 중 한 곳에서만 실행한다.
+ */
+@Slf4j
+@Component
+public class NotificationRetentionJob {
+
+    private static final String LOCK_KEY = "lock:notification:retention";
+
+    private final NotificationRepository notificationRepository;
+    private final RedissonClient redisson;
+    private final int retentionDays;
+    private final int batchSize;
+    private final long pauseMillis;
+    private final int maxBatches;
+
+    private final Counter deletedCounter;
+    private final Counter batchCounter;
+    private final Counter skippedCounter;
+    private final Timer runTimer;
+
+    public NotificationRetentionJob(NotificationRepository notificationRepository,
+        RedissonClient redisson,
+        MeterRegistry meterRegistry,
+        @Value("${monew.notification.retention.days:7}") int retentionDays,
+        @Value("${monew.notification.retention.batch-size:5000}") int batchSize,
+        @Value("${monew.notification.retention.pause-millis:200}") long pauseMillis,
+        @Value("${monew.notification.retention.max-batches:2000}") int maxBatches) {
+        this.notificationRepository = notificationRepository;
+        this.redisson = redisson;
+        this.retentionDays = retentionDays;
+        this.batchSize = batchSize;
+        this.pauseMillis = pauseMillis;
+        this.maxBatches = maxBatches;
+
+        this.deletedCounter = Counter.builder("monew.notification.retention.deleted")
+            .description("보존 기간이 지나 삭제된 알림 수")
+            .register(meterRegistry);
+        this.batchCounter = Counter.builder("monew.notification.retention.batches")
+            .description("실행된 삭제 배치 수")
+            .register(meterRegistry);
+        this.skippedCounter = Counter.builder("monew.notification.retention.skipped")
+            .description("다른 인스턴스가 실행 중이라 건너뛴 횟수")
+            .register(meterRegistry);
+        this.runTimer = Timer.builder("monew.notification.retention.duration")
+            .description("보존 기간 정리 전체 소요 시간")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(cron = "${monew.notification.retention.cron:0 0 9 * * *}")
+    public void deleteOldConfirmedNotifications() {
+        RLock lock = redisson.getLock(LOCK_KEY);
+        boolean locked = false;
+        try {
+            // leaseTime 없이 획득해 작업이 길어져도 watchdog 이 락을 연장한다
+            locked = lock.tryLock(0, TimeUnit.SECONDS);
+            if (!locked) {
+                skippedCounter.increment();
+                log.info("다른 인스턴스에서 알림 보존 기간 정리가 진행 중이어서 건너뜁니다.");
+                return;
+            }
+            runTimer.record(this::purge);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            if (locked && lock.isHeldByCurrentThread()) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void purge() {
+        Timestamp before = Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays));
+        long total = 0;
+        int batches = 0;
+
+        try {
+            int deleted;
+            do {
+                deleted = notificationRepository.deleteConfirmedBatchBefore(before, batchSize);
+                total += deleted;
+                batches++;
+                deletedCounter.increment(deleted);
+                batchCounter.increment();
+
+                if (batches % 100 == 0) {
+                    log.info("알림 보존 기간 정리 진행 중 - 배치: {}, 삭제: {}건", batches, total);
+                }
+                // 다음 배치가 있을 때만 쉰다 (마지막 배치/상한 도달 뒤에는 바로 끝낸다)
+                if (deleted == batchSize && batches < maxBatches && pauseMillis > 0) {
+                    Thread.sleep(pauseMillis);
+                }
+            } while (deleted == batchSize && batches < maxBatches);
+
+            if (batches >= maxBatches) {
+                log.warn("알림 보존 기간 정리 배치 상한 도달 - 남은 건은 다음 실행에서 처리합니다. 삭제: {}건", total);
+            }
+            log.info("알림 보존 기간 정리 완료 - 기준: {}, 배치: {}, 삭제: {}건", before, batches, total);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("알림 보존 기간 정리 중단 - 삭제: {}건", total);
+        }
+    }
+}
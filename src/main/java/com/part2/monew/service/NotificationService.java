@@ -2,17 +2,22 @@ package com.part2.monew.service;
 
 import com.part2.monew.dto.request.NotificationCursorRequest;
 import com.part2.monew.dto.response.CursorPageResponse;
+import com.part2.monew.dto.response.NotificationBulkConfirmResponse;
 import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.dto.response.UnreadNotificationCountResponse;
 import com.part2.monew.entity.Notification;
 import com.part2.monew.entity.QNotification;
 import com.part2.monew.entity.User;
 
+import java.util.List;
 import java.util.UUID;
 
 public interface NotificationService {
     Notification createNotification(User user, String content, String resourceType, UUID resourceId);
-    void updatedAll(UUID notificationId);
+    int updatedAll(UUID userId);
+    NotificationBulkConfirmResponse updatedBulk(UUID userId, List<UUID> notificationIds);
     void updated(UUID notificationId, UUID userId);
     CursorPageResponse<NotificationResponse> getNoConfirmedNotifications(UUID userId, NotificationCursorRequest request);
+    UnreadNotificationCountResponse getUnreadCount(UUID userId);
 
 }
@@ -0,0 +1,235 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.NotificationRepository;
+import com.part2.monew.util.TransactionUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.OptionalLong;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBatch;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RScriptAsync;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+/**
+ * 사용자별 미확인 알림 수 (Redis 카운터)
+ * - 생성/확인 시 증감하고, 키가 없으면 DB COUNT 로 채운다.
+ * - 어긋난 것으로 의심되는 사용자(키 없음, 음수)를 먼저, 남는 몫으로 최근 증감이 있었던 사용자를 주기적으로 테이블 값과 맞춘다.
+ * - 재조정은 COUNT 전에 읽은 값과 비교해 바뀌지 않았을 때만 쓰므로, 그 사이 반영된 증감을 덮어쓰지 않는다.
+ * - 다만 COUNT 에 이미 포함된 행의 afterCommit 증가가 재조정 뒤에 반영되면 값이 크게 어긋난다.
+ *   그 증가가 사용자를 다시 '최근 증감' 대상에 올리므로 다음 재조정에서 바로잡힌다.
+ */
+@Slf4j
+@Service
+public class NotificationUnreadCounter {
+
+    private static final String COUNTER_KEY_PREFIX = "notification:unread:";
+    private static final String RECONCILE_SET_KEY = "notification:unread:reconcile";
+    private static final String TOUCHED_SET_KEY = "notification:unread:touched";
+    private static final String RECONCILE_LOCK_KEY = "lock:notification:unread-reconcile";
+    private static final Duration COUNTER_TTL = Duration.ofHours(6);
+    private static final int RECONCILE_ATTEMPTS = 3;
+
+    // 키가 있을 때만 증감하고 최근 증감 사용자에 올린다. 반환: {0} (키 없음) 또는 {1, 증감 직후 값}. 음수는 0 으로 맞춘다
+    static final String ADD_IF_EXISTS_SCRIPT = """
+        if redis.call('exists', KEYS[1]) == 0 then
+            return {0}
+        end
+        local value = redis.call('incrby', KEYS[1], ARGV[1])
+        if value < 0 then
+            redis.call('set', KEYS[1], 0)
+        end
+        redis.call('pexpire', KEYS[1], ARGV[2])
+        redis.call('sadd', KEYS[2], ARGV[3])
+        return {1, value}
+        """;
+
+    // 현재 값이 기대값('' 는 키 없음)과 같을 때만 쓴다
+    static final String COMPARE_AND_SET_SCRIPT = """
+        local current = redis.call('get', KEYS[1])
+        if (current == false and ARGV[1] == '') or current == ARGV[1] then
+            redis.call('set', KEYS[1], ARGV[2], 'PX', ARGV[3])
+            return 1
+        end
+        return 0
+        """;
+
+    private final RedissonClient redisson;
+    private final NotificationRepository notificationRepository;
+    private final int reconcileBatchSize;
+
+    public NotificationUnreadCounter(RedissonClient redisson,
+        NotificationRepository notificationRepository,
+        @Value("${monew.notification.unread-counter.reconcile-batch-size:500}") int reconcileBatchSize) {
+        this.redisson = redisson;
+        this.notificationRepository = notificationRepository;
+        this.reconcileBatchSize = reconcileBatchSize;
+    }
+
+    // Postgres 를 조회하지 않는다. 카운터가 없으면 재조정 대상에 올린다.
+    public OptionalLong get(UUID userId) {
+        RAtomicLong counter = counter(userId);
+        if (!counter.isExists()) {
+            markForReconcile(userId);
+            return OptionalLong.empty();
+        }
+        return OptionalLong.of(Math.max(0L, counter.get()));
+    }
+
+    public long getOrLoad(UUID userId) {
+        OptionalLong cached = get(userId);
+        if (cached.isPresent()) {
+            return cached.getAsLong();
+        }
+        return reconcile(userId);
+    }
+
+    // 이미 커밋된 변경을 반영할 때 사용 (afterCommit 콜백 안에서는 새 동기화를 등록할 수 없다)
+    public void increment(UUID userId, long delta) {
+        add(userId, delta);
+    }
+
+    // 여러 사용자를 한 번의 왕복(RBatch)으로 증감한다 (관심사 알림 fan-out 배치)
+    public void incrementAll(Collection<UUID> userIds, long delta) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> targets = List.copyOf(userIds);
+        RBatch batch = redisson.createBatch();
+        RScriptAsync batchScript = batch.getScript(StringCodec.INSTANCE);
+        for (UUID userId : targets) {
+            String key = COUNTER_KEY_PREFIX + userId;
+            batchScript.evalAsync(key, RScript.Mode.READ_WRITE, ADD_IF_EXISTS_SCRIPT, RScript.ReturnType.MULTI,
+                List.<Object>of(key, TOUCHED_SET_KEY), String.valueOf(delta),
+                String.valueOf(COUNTER_TTL.toMillis()), userId.toString());
+        }
+        List<?> responses = batch.execute().getResponses();
+        List<String> drifted = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            @SuppressWarnings("unchecked")
+            List<Long> result = (List<Long>) responses.get(i);
+            if (needsReconcile(result)) {
+                drifted.add(targets.get(i).toString());
+            }
+        }
+        if (!drifted.isEmpty()) {
+            redisson.getSet(RECONCILE_SET_KEY, StringCodec.INSTANCE).addAll(drifted);
+        }
+    }
+
+    // 증감이 반영됐는지 알 수 없는 사용자(재시도 중 이미 있던 알림 등)를 재조정 대상에 올린다
+    public void markForReconcile(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        redisson.getSet(RECONCILE_SET_KEY, StringCodec.INSTANCE)
+            .addAll(userIds.stream().map(UUID::toString).toList());
+    }
+
+    public void incrementAfterCommit(UUID userId, long delta) {
+        TransactionUtil.runAfterCommit(() -> add(userId, delta));
+    }
+
+    public void decrementAfterCommit(UUID userId, long delta) {
+        TransactionUtil.runAfterCommit(() -> add(userId, -delta));
+    }
+
+    public void resetAfterCommit(UUID userId) {
+        TransactionUtil.runAfterCommit(() -> {
+            RAtomicLong counter = counter(userId);
+            counter.set(0L);
+            counter.expire(COUNTER_TTL);
+        });
+    }
+
+    public long reconcile(UUID userId) {
+        String key = COUNTER_KEY_PREFIX + userId;
+        long count = 0;
+        for (int attempt = 0; attempt < RECONCILE_ATTEMPTS; attempt++) {
+            String before = redisson.<String>getBucket(key, StringCodec.INSTANCE).get();
+            count = notificationRepository.countByUserIdAndConfirmedFalse(userId);
+            Boolean written = script().eval(key, RScript.Mode.READ_WRITE, COMPARE_AND_SET_SCRIPT,
+                RScript.ReturnType.BOOLEAN, List.<Object>of(key),
+                before == null ? "" : before, String.valueOf(count), String.valueOf(COUNTER_TTL.toMillis()));
+            if (Boolean.TRUE.equals(written)) {
+                return count;
+            }
+        }
+        // 계속 변경되는 중이면 다음 재조정에 맡긴다
+        markForReconcile(userId);
+        return count;
+    }
+
+    @Scheduled(fixedDelayString = "${monew.notification.unread-counter.reconcile-interval-millis:600000}")
+    public void reconcilePending() {
+        RLock lock = redisson.getLock(RECONCILE_LOCK_KEY);
+        boolean locked = false;
+        try {
+            locked = lock.tryLock(0, 5, TimeUnit.MINUTES);
+            if (!locked) {
+                return;
+            }
+
+            RSet<String> pending = redisson.getSet(RECONCILE_SET_KEY, StringCodec.INSTANCE);
+            Set<String> userIds = new HashSet<>(pending.removeRandom(reconcileBatchSize));
+            if (userIds.size() < reconcileBatchSize) {
+                RSet<String> touched = redisson.getSet(TOUCHED_SET_KEY, StringCodec.INSTANCE);
+                userIds.addAll(touched.removeRandom(reconcileBatchSize - userIds.size()));
+            }
+            for (String userId : userIds) {
+                reconcile(UUID.fromString(userId));
+            }
+            if (!userIds.isEmpty()) {
+                log.info("미확인 알림 카운터 재조정 완료: {}명", userIds.size());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            log.error("미확인 알림 카운터 재조정 중 오류 발생: {}", e.getMessage(), e);
+        } finally {
+            if (locked) {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void add(UUID userId, long delta) {
+        String key = COUNTER_KEY_PREFIX + userId;
+        List<Long> result = script().eval(key, RScript.Mode.READ_WRITE, ADD_IF_EXISTS_SCRIPT,
+            RScript.ReturnType.MULTI, List.<Object>of(key, TOUCHED_SET_KEY), String.valueOf(delta),
+            String.valueOf(COUNTER_TTL.toMillis()), userId.toString());
+        if (needsReconcile(result)) {
+            markForReconcile(userId);
+        }
+    }
+
+    // 카운터가 없을 때 증감하면 잘못된 값이 생기고, 음수가 됐다면 이미 어긋난 것이므로 재조정에 맡긴다
+    private static boolean needsReconcile(List<Long> result) {
+        return result.get(0) == 0L || result.get(1) < 0;
+    }
+
+    private RScript script() {
+        return redisson.getScript(StringCodec.INSTANCE);
+    }
+
+    private void markForReconcile(UUID userId) {
+        redisson.getSet(RECONCILE_SET_KEY, StringCodec.INSTANCE).add(userId.toString());
+    }
+
+    private RAtomicLong counter(UUID userId) {
+        return redisson.getAtomicLong(COUNTER_KEY_PREFIX + userId);
+    }
+}
@@ -5,11 +5,9 @@ import com.part2.monew.dto.request.NewsArticleDto;
 import com.part2.monew.entity.Interest;
 import com.part2.monew.entity.InterestNewsArticle;
 import com.part2.monew.entity.NewsArticle;
-import com.part2.monew.entity.UserSubscriber;
 import com.part2.monew.repository.InterestKeywordRepository;
 import com.part2.monew.repository.InterestNewsArticleRepository;
 import com.part2.monew.repository.InterestRepository;
-import com.part2.monew.repository.UserSubscriberRepository;
 import com.part2.monew.service.impl.NewsArticleService;
 
 import com.part2.monew.service.newsprovider.NewsProvider;
@@ -34,25 +32,24 @@ public class SimpleNewsCollectionService {
     private final InterestRepository interestRepository;
     private final InterestKeywordRepository interestKeywordRepository;
     private final InterestNewsArticleRepository interestNewsArticleRepository;
-    private final UserSubscriberRepository userSubscriberRepository;
     private final NewsProviderProperties newsProviderProperties;
     private final List<NewsProvider> newsProviders;
     private final CategoryKeywordService categoryKeywordService;
+    private final InterestArticleNotifier interestArticleNotifier;
 
     public SimpleNewsCollectionService(NewsArticleService newsArticleService, InterestRepository interestRepository,
         InterestKeywordRepository interestKeywordRepository,
         InterestNewsArticleRepository interestNewsArticleRepository,
-        UserSubscriberRepository userSubscriberRepository,
         NewsProviderProperties newsProviderProperties, List<NewsProvider> newsProviders,
-        CategoryKeywordService categoryKeywordService) {
+        CategoryKeywordService categoryKeywordService, InterestArticleNotifier interestArticleNotifier) {
         this.newsArticleService = newsArticleService;
         this.interestRepository = interestRepository;
         this.interestKeywordRepository = interestKeywordRepository;
         this.interestNewsArticleRepository = interestNewsArticleRepository;
-        this.userSubscriberRepository = userSubscriberRepository;
         this.newsProviderProperties = newsProviderProperties;
         this.newsProviders = newsProviders;
         this.categoryKeywordService = categoryKeywordService;
+        this.interestArticleNotifier = interestArticleNotifier;
         
         log.info("SimpleNewsCollectionService 초기화 완료 - CategoryKeywordService 사용");
     }
@@ -97,31 +94,23 @@ public class SimpleNewsCollectionService {
     }
 
     private Map<String, List<String>> getUserInterestKeywords() {
-        // 실제 사용자들이 구독한 관심사만 가져오기 (JOIN FETCH로 lazy loading 문제 해결)
-        List<UserSubscriber> subscribedInterests = userSubscriberRepository.findAllWithInterest();
+        // 구독자가 있는 관심사의 키워드 매핑만 한 번에 조회
+        Map<String, List<String>> keywordsByInterestName = new HashMap<>();
+        for (Object[] mapping : interestKeywordRepository.findSubscribedInterestKeywordMappings()) {
+            keywordsByInterestName.computeIfAbsent((String) mapping[0], key -> new ArrayList<>()).add((String) mapping[1]);
+        }
         Map<String, List<String>> interestKeywordsMap = new HashMap<>();
-        Set<String> processedInterests = new HashSet<>();
 
-        for (UserSubscriber subscription : subscribedInterests) {
-            Interest interest = subscription.getInterest();
-            String interestName = interest.getName();
-            
-            // 중복 처리 방지
-            if (processedInterests.contains(interestName)) {
-                continue;
-            }
-            processedInterests.add(interestName);
+        for (Map.Entry<String, List<String>> entry : keywordsByInterestName.entrySet()) {
+            String interestName = entry.getKey();
+            List<String> originalKeywords = entry.getValue();
+            Set<String> expandedKeywords = expandKeywordsWithCategoryService(originalKeywords);
+            interestKeywordsMap.put(interestName, new ArrayList<>(expandedKeywords));
 
-            List<String> originalKeywords = interestKeywordRepository.findKeywordsByInterestName(interestName);
-            if (!originalKeywords.isEmpty()) {
-                Set<String> expandedKeywords = expandKeywordsWithCategoryService(originalKeywords);
-                interestKeywordsMap.put(interestName, new ArrayList<>(expandedKeywords));
-
-                log.info("구독된 관심사 '{}': {}개 → {}개 키워드 확장", interestName, originalKeywords.size(),
-                    expandedKeywords.size());
-                log.info("  원본: {}", originalKeywords);
-                log.info("  확장: {}", expandedKeywords);
-            }
+            log.info("구독된 관심사 '{}': {}개 → {}개 키워드 확장", interestName, originalKeywords.size(),
+                expandedKeywords.size());
+            log.info("  원본: {}", originalKeywords);
+            log.info("  확장: {}", expandedKeywords);
         }
 
         if (interestKeywordsMap.isEmpty()) {
@@ -568,6 +557,7 @@ public class SimpleNewsCollectionService {
             .collect(Collectors.toMap(Interest::getName, interest -> interest));
 
         int totalMappings = 0;
+        Map<Interest, Integer> newArticleCounts = new HashMap<>();
 
         for (NewsArticle article : savedArticles) {
             for (Map.Entry<String, List<String>> entry : interestKeywordsMap.entrySet()) {
@@ -582,6 +572,7 @@ public class SimpleNewsCollectionService {
                         InterestNewsArticle mapping = InterestNewsArticle.create(interest, article);
                         interestNewsArticleRepository.save(mapping);
                         totalMappings++;
+                        newArticleCounts.merge(interest, 1, Integer::sum);
                         String mappingTitle = article.getTitle() != null ? article.getTitle() : "제목 없음";
                         log.debug("매핑 생성: '{}' → '{}'",
                             mappingTitle != null && mappingTitle.length() > 30 ? mappingTitle.substring(0, 30)
@@ -592,5 +583,14 @@ public class SimpleNewsCollectionService {
         }
 
         log.info("관심사 매핑 완료: {}개", totalMappings);
+
+        // 구독자 알림은 커밋 이후 관심사별로 한 번만 보낸다
+        interestArticleNotifier.notifyAfterCommit(newArticleCounts.entrySet().stream()
+            .map(entry -> new InterestArticleNotifier.InterestArticles(
+                entry.getKey().getId(),
+                entry.getKey().getName(),
+                entry.getKey().getSubscriberCount(),
+                entry.getValue()))
+            .toList());
     }
 }
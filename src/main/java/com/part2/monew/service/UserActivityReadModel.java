@@ -0,0 +1,298 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.UserArticleViewsActivityDto;
+import com.part2.monew.dto.response.UserCommentActivityDto;
+import com.part2.monew.dto.response.UserCommentLikeActivityDto;
+import com.part2.monew.dto.response.UserSubscriptionActivityResponse;
+import com.part2.monew.util.TransactionUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RBatch;
+import org.redisson.api.RFuture;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 활동 내역 read model
+ * - 구독(관심사 ID 별 hash)과 최근 댓글/좋아요/조회 기사(각 최대 10건 list)를 Redis 에 두고 한 번의 batch 로 읽는다.
+ * - 댓글/좋아요/구독/조회 이벤트가 커밋되면 해당 항목만 앞에 추가하고, 수정·삭제처럼 위치를 특정하기 어려운 변경은 문서를 비운다.
+ * - loaded 키가 있을 때만 문서가 완전한 것으로 보고, 모든 키는 loaded 키와 같은 시각에 만료된다.
+ * - 모든 변경은 사용자별 version 을 올리는 Lua 스크립트로 반영한다. DB 에서 다시 만든 문서는 읽기 전에 받은 version 이
+ *   그대로일 때만 저장하므로, 읽는 도중 커밋된 변경이 빠진 문서가 TTL 동안 남지 않는다.
+ */
+@Slf4j
+@Component
+public class UserActivityReadModel {
+
+    public static final int MAX_ITEMS = 10;
+
+    private static final String KEY_PREFIX = "user:activity:";
+    private static final String LOADED = ":loaded";
+    private static final String SUBSCRIPTIONS = ":subscriptions";
+    private static final String COMMENTS = ":comments";
+    private static final String COMMENT_LIKES = ":comment-likes";
+    private static final String ARTICLE_VIEWS = ":article-views";
+    private static final String VERSION = ":version";
+    private static final int EVICT_BATCH_SIZE = 500;
+
+    // KEYS: loaded, version, 대상 키 / ARGV: version TTL, 'lpush'|'hset'|'hdel', 값...
+    // 문서가 적재되어 있을 때만 반영하고, 새로 만든 키도 loaded 키와 같은 시각에 만료되게 한다
+    static final String APPLY_SCRIPT = """
+        redis.call('incr', KEYS[2])
+        redis.call('pexpire', KEYS[2], ARGV[1])
+        local remaining = redis.call('pttl', KEYS[1])
+        if remaining <= 0 then
+            return 0
+        end
+        if ARGV[2] == 'lpush' then
+            redis.call('lpush', KEYS[3], ARGV[3])
+            redis.call('ltrim', KEYS[3], 0, tonumber(ARGV[4]) - 1)
+        elseif ARGV[2] == 'hset' then
+            redis.call('hset', KEYS[3], ARGV[3], ARGV[4])
+        else
+            redis.call('hdel', KEYS[3], ARGV[3])
+        end
+        if redis.call('exists', KEYS[3]) == 1 then
+            redis.call('pexpire', KEYS[3], remaining)
+        end
+        return 1
+        """;
+
+    // KEYS: loaded, version / ARGV: version TTL
+    static final String EVICT_SCRIPT = """
+        redis.call('incr', KEYS[2])
+        redis.call('pexpire', KEYS[2], ARGV[1])
+        redis.call('del', KEYS[1])
+        return 1
+        """;
+
+    // KEYS: loaded, version, subscriptions, comments, comment-likes, article-views
+    // ARGV: 읽기 전 version('' 는 없음), TTL, 구독 수, (관심사 ID, 항목)..., 그리고 목록마다 (개수, 항목...)
+    static final String STORE_SCRIPT = """
+        if (redis.call('get', KEYS[2]) or '') ~= ARGV[1] then
+            return 0
+        end
+        redis.call('del', KEYS[3], KEYS[4], KEYS[5], KEYS[6])
+        local i = 3
+        local count = tonumber(ARGV[i])
+        i = i + 1
+        for j = 1, count do
+            redis.call('hset', KEYS[3], ARGV[i], ARGV[i + 1])
+            i = i + 2
+        end
+        if count > 0 then
+            redis.call('pexpire', KEYS[3], ARGV[2])
+        end
+        for k = 4, 6 do
+            count = tonumber(ARGV[i])
+            i = i + 1
+            for j = 1, count do
+                redis.call('rpush', KEYS[k], ARGV[i])
+                i = i + 1
+            end
+            if count > 0 then
+                redis.call('pexpire', KEYS[k], ARGV[2])
+            end
+        end
+        redis.call('set', KEYS[1], '1', 'PX', ARGV[2])
+        return 1
+        """;
+
+    private final RedissonClient redisson;
+    private final ObjectMapper objectMapper;
+    private final Duration ttl;
+
+    public UserActivityReadModel(RedissonClient redisson, ObjectMapper objectMapper,
+        @Value("${monew.user-activity.ttl-minutes:30}") long ttlMinutes) {
+        this.redisson = redisson;
+        this.objectMapper = objectMapper;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public Optional<Document> find(UUID userId) {
+        try {
+            String prefix = KEY_PREFIX + userId;
+            RBatch batch = redisson.createBatch();
+            RFuture<Boolean> loaded = batch.getBucket(prefix + LOADED, StringCodec.INSTANCE).isExistsAsync();
+            RFuture<Collection<String>> subscriptions = batch.<String, String>getMap(prefix + SUBSCRIPTIONS, StringCodec.INSTANCE)
+                .readAllValuesAsync();
+            RFuture<List<String>> comments = batch.<String>getList(prefix + COMMENTS, StringCodec.INSTANCE).readAllAsync();
+            RFuture<List<String>> commentLikes = batch.<String>getList(prefix + COMMENT_LIKES, StringCodec.INSTANCE).readAllAsync();
+            RFuture<List<String>> articleViews = batch.<String>getList(prefix + ARTICLE_VIEWS, StringCodec.INSTANCE).readAllAsync();
+            batch.execute();
+
+            if (!Boolean.TRUE.equals(loaded.toCompletableFuture().join())) {
+                return Optional.empty();
+            }
+            return Optional.of(new Document(
+                readAll(subscriptions.toCompletableFuture().join(), UserSubscriptionActivityResponse.class),
+                readAll(comments.toCompletableFuture().join(), UserCommentActivityDto.class),
+                readAll(commentLikes.toCompletableFuture().join(), UserCommentLikeActivityDto.class),
+                readAll(articleViews.toCompletableFuture().join(), UserArticleViewsActivityDto.class)));
+        } catch (Exception e) {
+            // 문서를 읽지 못하면 DB 조회로 응답한다
+            log.warn("사용자 활동 문서 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    // DB 에서 문서를 다시 만들기 전에 읽어 두고 store 에 넘긴다. 읽지 못하면 null (저장하지 않음)
+    public String version(UUID userId) {
+        try {
+            String version = redisson.<String>getBucket(KEY_PREFIX + userId + VERSION, StringCodec.INSTANCE).get();
+            return version != null ? version : "";
+        } catch (Exception e) {
+            log.warn("사용자 활동 문서 버전 조회 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            return null;
+        }
+    }
+
+    // DB 에서 다시 만든 문서로 교체한다. 그 사이 변경이 있었으면 저장하지 않고 다음 조회 때 다시 만든다
+    public void store(UUID userId, String version, Document document) {
+        if (version == null) {
+            return;
+        }
+        try {
+            String prefix = KEY_PREFIX + userId;
+            List<Object> args = new ArrayList<>();
+            args.add(version);
+            args.add(String.valueOf(ttl.toMillis()));
+            args.add(String.valueOf(document.subscriptions().size()));
+            for (UserSubscriptionActivityResponse subscription : document.subscriptions()) {
+                args.add(subscription.getInterestId().toString());
+                args.add(write(subscription));
+            }
+            addList(args, document.comments());
+            addList(args, document.commentLikes());
+            addList(args, document.articleViews());
+            boolean stored = script().eval(RScript.Mode.READ_WRITE, STORE_SCRIPT, RScript.ReturnType.BOOLEAN,
+                List.<Object>of(prefix + LOADED, prefix + VERSION, prefix + SUBSCRIPTIONS, prefix + COMMENTS,
+                    prefix + COMMENT_LIKES, prefix + ARTICLE_VIEWS),
+                args.toArray());
+            if (!stored) {
+                log.debug("사용자 활동 문서 저장 생략 (읽는 도중 변경됨) - 사용자 ID: {}", userId);
+            }
+        } catch (Exception e) {
+            log.warn("사용자 활동 문서 저장 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+    }
+
+    public void pushCommentAfterCommit(UUID userId, UserCommentActivityDto comment) {
+        TransactionUtil.runAfterCommit(() -> push(userId, COMMENTS, comment));
+    }
+
+    public void pushCommentLikeAfterCommit(UUID userId, UserCommentLikeActivityDto commentLike) {
+        TransactionUtil.runAfterCommit(() -> push(userId, COMMENT_LIKES, commentLike));
+    }
+
+    public void pushArticleViewAfterCommit(UUID userId, UserArticleViewsActivityDto articleView) {
+        TransactionUtil.runAfterCommit(() -> push(userId, ARTICLE_VIEWS, articleView));
+    }
+
+    public void putSubscriptionAfterCommit(UUID userId, UserSubscriptionActivityResponse subscription) {
+        TransactionUtil.runAfterCommit(() -> apply(userId, SUBSCRIPTIONS, "hset",
+            subscription.getInterestId().toString(), write(subscription)));
+    }
+
+    public void removeSubscriptionAfterCommit(UUID userId, UUID interestId) {
+        TransactionUtil.runAfterCommit(() -> apply(userId, SUBSCRIPTIONS, "hdel", interestId.toString()));
+    }
+
+    // 댓글 수정/삭제, 좋아요 취소처럼 기존 항목을 고쳐야 하는 변경은 다음 조회 때 DB 에서 다시 만든다
+    public void evictAfterCommit(UUID userId) {
+        TransactionUtil.runAfterCommit(() -> evictAll(List.of(userId)));
+    }
+
+    // 관심사 수정/삭제, 기사 삭제처럼 여러 사용자의 문서에 걸친 변경은 해당 사용자 문서를 모두 비운다
+    public void evictAllAfterCommit(Collection<UUID> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<UUID> targets = List.copyOf(userIds);
+        TransactionUtil.runAfterCommit(() -> evictAll(targets));
+    }
+
+    private void push(UUID userId, String section, Object item) {
+        apply(userId, section, "lpush", write(item), String.valueOf(MAX_ITEMS));
+    }
+
+    private void apply(UUID userId, String section, String operation, String... values) {
+        String prefix = KEY_PREFIX + userId;
+        Object[] args = new Object[values.length + 2];
+        args[0] = String.valueOf(ttl.toMillis());
+        args[1] = operation;
+        System.arraycopy(values, 0, args, 2, values.length);
+        try {
+            script().eval(RScript.Mode.READ_WRITE, APPLY_SCRIPT, RScript.ReturnType.BOOLEAN,
+                List.<Object>of(prefix + LOADED, prefix + VERSION, prefix + section), args);
+        } catch (Exception e) {
+            // 반영에 실패하면 문서를 비워 오래된 내용을 돌려주지 않게 한다
+            log.warn("사용자 활동 문서 갱신 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+            evictAll(List.of(userId));
+        }
+    }
+
+    private void evictAll(List<UUID> userIds) {
+        for (int from = 0; from < userIds.size(); from += EVICT_BATCH_SIZE) {
+            List<UUID> chunk = userIds.subList(from, Math.min(from + EVICT_BATCH_SIZE, userIds.size()));
+            try {
+                RBatch batch = redisson.createBatch();
+                for (UUID userId : chunk) {
+                    String prefix = KEY_PREFIX + userId;
+                    batch.getScript(StringCodec.INSTANCE).evalAsync(RScript.Mode.READ_WRITE, EVICT_SCRIPT,
+                        RScript.ReturnType.BOOLEAN, List.<Object>of(prefix + LOADED, prefix + VERSION),
+                        String.valueOf(ttl.toMillis()));
+                }
+                batch.execute();
+            } catch (Exception e) {
+                // loaded 키도 TTL 로 만료되므로 오래된 문서가 남는 시간은 제한된다
+                log.warn("사용자 활동 문서 무효화 실패 - 사용자 {}명, 오류: {}", chunk.size(), e.getMessage());
+            }
+        }
+    }
+
+    private void addList(List<Object> args, List<?> items) {
+        args.add(String.valueOf(items.size()));
+        for (Object item : items) {
+            args.add(write(item));
+        }
+    }
+
+    private RScript script() {
+        return redisson.getScript(StringCodec.INSTANCE);
+    }
+
+    private String write(Object value) {
+        try {
+            return objectMapper.writeValueAsString(value);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("사용자 활동 항목 직렬화 실패", e);
+        }
+    }
+
+    private <T> List<T> readAll(Collection<String> values, Class<T> type) throws JsonProcessingException {
+        List<T> items = new ArrayList<>(values.size());
+        for (String value : values) {
+            items.add(objectMapper.readValue(value, type));
+        }
+        return items;
+    }
+
+    public record Document(
+        List<UserSubscriptionActivityResponse> subscriptions,
+        List<UserCommentActivityDto> comments,
+        List<UserCommentLikeActivityDto> commentLikes,
+        List<UserArticleViewsActivityDto> articleViews
+    ) {
+    }
+}
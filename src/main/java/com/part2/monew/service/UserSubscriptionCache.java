@@ -0,0 +1,128 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.UserSubscriberRepository;
+import com.part2.monew.util.TransactionUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import lombok.extern.slf4j.Slf4j;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자별 구독 관심사 ID 집합 (Redis)
+ * - 관심사 검색의 subscribedByMe, 사용자 활동 조회에서 구독 테이블을 다시 조회하지 않도록 한다.
+ * - 구독/취소 커밋 후 집합을 갱신하고, 키가 없으면 DB 에서 한 번 읽어 채운다.
+ * - 구독/취소마다 사용자별 버전을 올리고, DB 에서 읽은 집합은 읽기 전 버전이 그대로일 때만 저장한다.
+ *   읽는 도중 커밋된 구독이 빠진 집합이 TTL 동안 남지 않는다.
+ */
+@Slf4j
+@Component
+public class UserSubscriptionCache {
+
+    private static final String KEY_PREFIX = "user:subscriptions:";
+    // 구독이 없는 사용자도 캐시되도록 넣어 두는 표시 값 (Redis 는 빈 Set 을 저장하지 않음)
+    private static final String LOADED_MARKER = "-";
+
+    // KEYS: set, version / ARGV: ttlMillis, 'add'|'remove', interestId
+    private static final String APPLY_SCRIPT = """
+        redis.call('incr', KEYS[2])
+        redis.call('pexpire', KEYS[2], ARGV[1])
+        if redis.call('exists', KEYS[1]) == 1 then
+            if ARGV[2] == 'add' then
+                redis.call('sadd', KEYS[1], ARGV[3])
+            else
+                redis.call('srem', KEYS[1], ARGV[3])
+            end
+        end
+        return 1
+        """;
+
+    // KEYS: set, version / ARGV: 읽기 전 버전('' 는 없음), ttlMillis, members...
+    private static final String STORE_IF_UNCHANGED_SCRIPT = """
+        local version = redis.call('get', KEYS[2]) or ''
+        if version ~= ARGV[1] or redis.call('exists', KEYS[1]) == 1 then
+            return 0
+        end
+        for i = 3, #ARGV do
+            redis.call('sadd', KEYS[1], ARGV[i])
+        end
+        redis.call('pexpire', KEYS[1], ARGV[2])
+        return 1
+        """;
+
+    private final RedissonClient redisson;
+    private final UserSubscriberRepository userSubscriberRepository;
+    private final Duration ttl;
+
+    public UserSubscriptionCache(RedissonClient redisson, UserSubscriberRepository userSubscriberRepository,
+        @Value("${monew.interest.subscription-cache.ttl-minutes:60}") long ttlMinutes) {
+        this.redisson = redisson;
+        this.userSubscriberRepository = userSubscriberRepository;
+        this.ttl = Duration.ofMinutes(ttlMinutes);
+    }
+
+    public Set<UUID> getSubscribedInterestIds(UUID userId) {
+        if (userId == null) {
+            return Set.of();
+        }
+
+        RSet<String> cached = subscriptions(userId);
+        Set<String> members = cached.readAll();
+        if (!members.isEmpty()) {
+            Set<UUID> interestIds = new HashSet<>();
+            for (String member : members) {
+                if (!LOADED_MARKER.equals(member)) {
+                    interestIds.add(UUID.fromString(member));
+                }
+            }
+            return interestIds;
+        }
+
+        String versionKey = KEY_PREFIX + userId + ":version";
+        String version = redisson.<String>getBucket(versionKey, StringCodec.INSTANCE).get();
+        List<UUID> loaded = userSubscriberRepository.findInterestIdsByUserId(userId);
+        try {
+            List<Object> args = new ArrayList<>(loaded.size() + 3);
+            args.add(version == null ? "" : version);
+            args.add(String.valueOf(ttl.toMillis()));
+            args.add(LOADED_MARKER);
+            loaded.forEach(id -> args.add(id.toString()));
+            script().eval(RScript.Mode.READ_WRITE, STORE_IF_UNCHANGED_SCRIPT, RScript.ReturnType.BOOLEAN,
+                List.<Object>of(KEY_PREFIX + userId, versionKey), args.toArray());
+        } catch (Exception e) {
+            log.warn("구독 캐시 저장 실패 - 사용자 ID: {}, 오류: {}", userId, e.getMessage());
+        }
+        return new HashSet<>(loaded);
+    }
+
+    // 아직 적재되지 않은 사용자는 버전만 올리고, 다음 조회 때 DB 에서 채운다
+    public void addAfterCommit(UUID userId, UUID interestId) {
+        TransactionUtil.runAfterCommit(() -> apply(userId, "add", interestId));
+    }
+
+    public void removeAfterCommit(UUID userId, UUID interestId) {
+        TransactionUtil.runAfterCommit(() -> apply(userId, "remove", interestId));
+    }
+
+    private void apply(UUID userId, String operation, UUID interestId) {
+        script().eval(RScript.Mode.READ_WRITE, APPLY_SCRIPT, RScript.ReturnType.BOOLEAN,
+            List.<Object>of(KEY_PREFIX + userId, KEY_PREFIX + userId + ":version"),
+            String.valueOf(ttl.toMillis()), operation, interestId.toString());
+    }
+
+    private RScript script() {
+        return redisson.getScript(StringCodec.INSTANCE);
+    }
+
+    private RSet<String> subscriptions(UUID userId) {
+        return redisson.getSet(KEY_PREFIX + userId, StringCodec.INSTANCE);
+    }
+}
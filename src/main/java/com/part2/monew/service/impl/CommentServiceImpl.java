@@ -7,6 +7,8 @@ import com.part2.monew.dto.request.CreateCommentRequest;
 import com.part2.monew.dto.response.CommentLikeResponse;
 import com.part2.monew.dto.response.CommentResponse;
 import com.part2.monew.dto.response.CursorResponse;
+import com.part2.monew.dto.response.UserCommentActivityDto;
+import com.part2.monew.dto.response.UserCommentLikeActivityDto;
 import com.part2.monew.entity.CommentLike;
 import com.part2.monew.entity.CommentsManagement;
 import com.part2.monew.entity.NewsArticle;
@@ -22,7 +24,8 @@ import com.part2.monew.repository.CommentRepository;
 import com.part2.monew.repository.NewsArticleRepository;
 import com.part2.monew.repository.UserRepository;
 import com.part2.monew.service.CommentService;
-import com.part2.monew.service.NotificationService;
+import com.part2.monew.service.NotificationCoalescer;
+import com.part2.monew.service.UserActivityReadModel;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.redisson.api.RLock;
@@ -55,7 +58,8 @@ public class CommentServiceImpl implements CommentService {
     private final CommentLikeRepository commentLikeRepository;
     private final UserRepository userRepository;
     private final NewsArticleRepository articleRepository;
-    private final NotificationService notificationService;
+    private final NotificationCoalescer notificationCoalescer;
+    private final UserActivityReadModel userActivityReadModel;
 
     // CommentServiceImpl 맨 위에 추가
     @Autowired
@@ -170,6 +174,8 @@ public class CommentServiceImpl implements CommentService {
         article.incrementCommentCount();
         articleRepository.save(article);
 
+        userActivityReadModel.pushCommentAfterCommit(user.getId(), UserCommentActivityDto.of(saveComment));
+
         return CommentResponse.of(saveComment);
 
     }
@@ -185,6 +191,7 @@ public class CommentServiceImpl implements CommentService {
                 .orElseThrow(CommentNotFoundException::new);
 
         commentsManagement.update(content);
+        userActivityReadModel.evictAfterCommit(commentsManagement.getUser().getId());
 
         return CommentResponse.of(commentsManagement);
     }
@@ -217,15 +224,17 @@ public class CommentServiceImpl implements CommentService {
         int totalLike = commentTotalLike(commentsManagement);
 
         commentsManagement.updateTotalCount(totalLike);
+        userActivityReadModel.pushCommentLikeAfterCommit(user.getId(), UserCommentLikeActivityDto.of(saveComment));
 
         User commentOwner = commentsManagement.getUser();
         if (!commentOwner.getId().equals(user.getId())) {
-            String content = (user.getNickname()+"님이 나의 댓글을 좋아합니다.");
-            notificationService.createNotification(
-                    commentOwner,
-                    content,
+            // 같은 댓글의 좋아요 알림은 일정 시간 묶어서 "X님 외 N명이…" 한 건으로 반영된다
+            notificationCoalescer.submitAfterCommit(
+                    commentOwner.getId(),
+                    user.getNickname(),
                     "COMMENT",
-                    commentsManagement.getId()
+                    commentsManagement.getId(),
+                    "나의 댓글을 좋아합니다."
             );
         }
 
@@ -251,6 +260,7 @@ public class CommentServiceImpl implements CommentService {
         int totalLike = commentTotalLike(commentsManagement);
 
         commentsManagement.updateTotalCount(totalLike);
+        userActivityReadModel.evictAfterCommit(userId);
     }
 
     @Override
@@ -269,6 +279,7 @@ public class CommentServiceImpl implements CommentService {
         articleRepository.save(article);
 
         commentsManagement.delete();
+        userActivityReadModel.evictAfterCommit(commentsManagement.getUser().getId());
 
     }
 
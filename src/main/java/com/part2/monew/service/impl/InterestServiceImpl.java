@@ -4,11 +4,12 @@ import com.part2.monew.dto.request.InterestRegisterRequestDto;
 import com.part2.monew.dto.request.InterestUpdateRequestDto;
 import com.part2.monew.dto.response.CursorPageResponse;
 import com.part2.monew.dto.response.InterestDto;
+import com.part2.monew.dto.response.InterestSuggestionResponse;
 import com.part2.monew.dto.response.SubscriptionResponse;
+import com.part2.monew.dto.response.UserSubscriptionActivityResponse;
 import com.part2.monew.entity.Interest;
 import com.part2.monew.entity.InterestKeyword;
 import com.part2.monew.entity.Keyword;
-import com.part2.monew.entity.User;
 import com.part2.monew.entity.UserSubscriber;
 import com.part2.monew.global.exception.BusinessException;
 import com.part2.monew.global.exception.ErrorCode;
@@ -16,14 +17,20 @@ import com.part2.monew.global.exception.interest.SimilarInterestExistsException;
 import com.part2.monew.mapper.InterestMapper;
 import com.part2.monew.mapper.SubscriptionMapper;
 import com.part2.monew.repository.InterestRepository;
-import com.part2.monew.repository.KeywordRepository;
 import com.part2.monew.repository.UserRepository;
 import com.part2.monew.repository.UserSubscriberRepository;
+import com.part2.monew.service.InterestArticleNotifier;
+import com.part2.monew.service.InterestAutocompleteIndex;
+import com.part2.monew.service.InterestCountStrategy;
+import com.part2.monew.service.InterestNameIndex;
 import com.part2.monew.service.InterestService;
-import java.util.Optional;
+import com.part2.monew.service.KeywordResolver;
+import com.part2.monew.service.UserActivityReadModel;
+import com.part2.monew.service.UserSubscriptionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.similarity.JaroWinklerSimilarity;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -35,13 +42,21 @@ import java.util.UUID;
 @Slf4j
 @RequiredArgsConstructor
 public class InterestServiceImpl implements InterestService {
+  private static final int SUBSCRIBER_PAGE_SIZE = 1000;
+
   private final InterestRepository interestRepository;
-  private final KeywordRepository keywordRepository;
+  private final KeywordResolver keywordResolver;
+  private final UserSubscriptionCache userSubscriptionCache;
+  private final InterestArticleNotifier interestArticleNotifier;
+  private final InterestCountStrategy interestCountStrategy;
+  private final InterestAutocompleteIndex interestAutocompleteIndex;
+  private final UserActivityReadModel userActivityReadModel;
   private final InterestMapper interestMapper;
   private final JaroWinklerSimilarity jaroWinklerSimilarity = new JaroWinklerSimilarity();
   private final UserRepository userRepository;
   private final UserSubscriberRepository userSubscriberRepository;
   private final SubscriptionMapper subscriptionMapper;
+  private final InterestNameIndex interestNameIndex;
 
   @Transactional
   @Override
@@ -52,8 +67,9 @@ public class InterestServiceImpl implements InterestService {
           String.format("이미 존재하는 관심사 이름입니다: %s", newInterestName));
     }
 
-    List<String> existingInterestNames = interestRepository.findAllNames();
-    for (String existingName : existingInterestNames) {
+    // 전체 이름 대신 bigram 인덱스가 골라준 후보만 유사도를 계산한다
+    List<String> candidateNames = interestNameIndex.findCandidates(newInterestName);
+    for (String existingName : candidateNames) {
       double similarityScore = jaroWinklerSimilarity.apply(newInterestName.toLowerCase(),
           existingName.toLowerCase());
       double similarityPercent = similarityScore * 100.0;
@@ -69,14 +85,7 @@ public class InterestServiceImpl implements InterestService {
     interest.setSubscriberCount(0);
 
     List<InterestKeyword> newInterestKeywords = new ArrayList<>();
-    for (String keywordName : requestDto.keywords()) {
-      Keyword keywordEntity = keywordRepository.findByName(keywordName)
-          .orElseGet(() -> {
-            Keyword newKeyword = new Keyword();
-            newKeyword.setName(keywordName);
-            return keywordRepository.save(newKeyword);
-          });
-
+    for (Keyword keywordEntity : keywordResolver.resolve(requestDto.keywords())) {
       InterestKeyword interestKeyword = new InterestKeyword();
       interestKeyword.setInterest(interest);
       interestKeyword.setKeyword(keywordEntity);
@@ -84,8 +93,12 @@ public class InterestServiceImpl implements InterestService {
       newInterestKeywords.add(interestKeyword);
     }
     interest.setInterestKeywords(newInterestKeywords);
+    interest.syncKeywordText();
 
     Interest savedInterest = interestRepository.save(interest);
+    interestNameIndex.addAfterCommit(savedInterest.getName());
+    interestAutocompleteIndex.upsertAfterCommit(savedInterest.getId(), savedInterest.getName());
+    interestCountStrategy.invalidateAfterCommit();
     boolean subscribedByMe = false;
     return interestMapper.toDto(savedInterest, subscribedByMe);
   }
@@ -98,18 +111,9 @@ public class InterestServiceImpl implements InterestService {
         .orElseThrow(() -> new BusinessException(ErrorCode.INTEREST_NOT_FOUND,
             String.format("수정할 관심사를 찾을 수 없습니다. ID: %s", interestId)));
 
-    List<Keyword> newKeywordEntities = new ArrayList<>();
-    if (requestDto.keywords() != null) {
-      for (String keywordName : requestDto.keywords()) {
-        Keyword keywordEntity = keywordRepository.findByName(keywordName)
-            .orElseGet(() -> {
-              Keyword newKeyword = new Keyword();
-              newKeyword.setName(keywordName);
-              return keywordRepository.save(newKeyword);
-            });
-        newKeywordEntities.add(keywordEntity);
-      }
-    }
+    List<Keyword> newKeywordEntities = requestDto.keywords() != null
+        ? keywordResolver.resolve(requestDto.keywords())
+        : List.of();
 
     interestToUpdate.getInterestKeywords().clear();
 
@@ -119,8 +123,12 @@ public class InterestServiceImpl implements InterestService {
       newInterestKeyword.setKeyword(keywordEntity);
       interestToUpdate.getInterestKeywords().add(newInterestKeyword);
     }
+    interestToUpdate.syncKeywordText();
 
     Interest updatedInterest = interestRepository.save(interestToUpdate);
+    interestAutocompleteIndex.upsertAfterCommit(updatedInterest.getId(), updatedInterest.getName());
+    evictSubscriberActivities(interestId);
+    interestCountStrategy.invalidateAfterCommit();
     boolean subscribedByMe = false;
 
     return interestMapper.toDto(updatedInterest, subscribedByMe);
@@ -130,7 +138,7 @@ public class InterestServiceImpl implements InterestService {
   @Override
   public CursorPageResponse<InterestDto> searchInterests(
       String keyword, String orderBy, String direction,
-      String cursor, String after, int limit, UUID requestUserId) {
+      String cursor, String after, int limit, boolean includeTotal, UUID requestUserId) {
 
     if (!("name".equalsIgnoreCase(orderBy) || "subscriberCount".equalsIgnoreCase(orderBy))) {
       log.warn("Invalid orderBy parameter: {}", orderBy);
@@ -145,15 +153,31 @@ public class InterestServiceImpl implements InterestService {
       throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "페이지 크기(limit)는 1에서 50 사이여야 합니다.");
     }
 
-    return interestRepository.searchInterestsWithQueryDsl(
+    CursorPageResponse<InterestDto> page = interestRepository.searchInterestsWithQueryDsl(
         keyword,
         orderBy,
         direction,
         cursor,
         after,
         limit,
-        requestUserId
+        userSubscriptionCache.getSubscribedInterestIds(requestUserId)
     );
+    if (!includeTotal) {
+      return page;
+    }
+
+    long totalElements = interestCountStrategy.count(keyword, () -> interestRepository.countInterests(keyword));
+    return CursorPageResponse.of(page.content(), page.nextCursor(), page.nextAfter(), totalElements, page.hasNext());
+  }
+
+  @Override
+  public List<InterestSuggestionResponse> autocomplete(String prefix, int limit) {
+    // 인덱스가 노드마다 미리 계산해 둔 상위 개수(top-k)를 넘는 요청은 받지 않는다
+    int maxLimit = interestAutocompleteIndex.maxLimit();
+    if (limit < 1 || limit > maxLimit) {
+      throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "자동완성 개수(limit)는 1에서 " + maxLimit + " 사이여야 합니다.");
+    }
+    return interestAutocompleteIndex.suggest(prefix, limit);
   }
 
   @Transactional
@@ -165,7 +189,12 @@ public class InterestServiceImpl implements InterestService {
 
     log.info("관심사 삭제 요청 - ID: {}, 요청자 ID: {}", interestId, requestUserId);
 
+    // 구독 행이 함께 지워지기 전에 구독자를 모아 둔다
+    evictSubscriberActivities(interestId);
     interestRepository.delete(interestToDelete);
+    interestNameIndex.removeAfterCommit(interestToDelete.getName());
+    interestAutocompleteIndex.deleteAfterCommit(interestId, interestToDelete.getName());
+    interestCountStrategy.invalidateAfterCommit();
 
     log.info("관심사 삭제 완료 - ID: {}", interestId);
   }
@@ -173,52 +202,64 @@ public class InterestServiceImpl implements InterestService {
   @Transactional
   @Override
   public SubscriptionResponse subscribeToInterest(UUID interestId, UUID requestUserId) {
-    User user = userRepository.findById(requestUserId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.USER_NOT_FOUND));
-
-    Interest interest = interestRepository.findById(interestId)
-        .orElseThrow(() -> new BusinessException(ErrorCode.INTEREST_NOT_FOUND));
+    if (!userRepository.existsById(requestUserId)) {
+      throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+    }
+    // 구독자 수 증가 이후에 엔티티를 읽도록 여기서는 존재 여부만 확인한다
+    if (!interestRepository.existsById(interestId)) {
+      throw new BusinessException(ErrorCode.INTEREST_NOT_FOUND);
+    }
 
-    if (userSubscriberRepository.existsByUser_IdAndInterest_Id(requestUserId, interestId)) {
+    // exists-then-insert 대신 unique 제약에 맡겨 동시 요청에도 한 건만 들어간다
+    int inserted = userSubscriberRepository.insertIfAbsent(UUID.randomUUID(), requestUserId, interestId);
+    if (inserted == 0) {
       throw new BusinessException(ErrorCode.ALREADY_SUBSCRIBED_INTEREST);
     }
+    interestRepository.incrementSubscriberCount(interestId);
+    userSubscriptionCache.addAfterCommit(requestUserId, interestId);
+    interestArticleNotifier.seedWatermarkAfterCommit(requestUserId, interestId);
 
-    UserSubscriber newSubscription = new UserSubscriber();
-    newSubscription.setUser(user);
-    newSubscription.setInterest(interest);
-    UserSubscriber savedSubscription = userSubscriberRepository.save(newSubscription);
-
-    interest.setSubscriberCount(interest.getSubscriberCount() + 1);
-    Interest updatedInterest = interestRepository.save(interest);
+    UserSubscriber savedSubscription = userSubscriberRepository.findByUser_IdAndInterest_Id(requestUserId, interestId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.INTEREST_NOT_FOUND));
+    Interest updatedInterest = interestRepository.findById(interestId)
+        .orElseThrow(() -> new BusinessException(ErrorCode.INTEREST_NOT_FOUND));
 
     log.info("사용자(ID: {})가 관심사(ID: {}, 이름: '{}')를 구독했습니다. 현재 구독자 수: {}",
         requestUserId, interestId, updatedInterest.getName(), updatedInterest.getSubscriberCount());
 
+    userActivityReadModel.putSubscriptionAfterCommit(requestUserId, UserSubscriptionActivityResponse.of(updatedInterest));
+
     return subscriptionMapper.toSubscriptionResponse(savedSubscription, updatedInterest);
   }
 
   @Transactional
   @Override
   public void unsubscribeFromInterest(UUID interestId, UUID requestUserId) {
-    Interest interest = interestRepository.findById(interestId)
-        .orElse(null);
-    Optional<UserSubscriber> existingSubscriptionOpt = userSubscriberRepository.findByUser_IdAndInterest_Id(requestUserId, interestId);
-    if (existingSubscriptionOpt.isPresent()) {
-      UserSubscriber existingSubscription = existingSubscriptionOpt.get();
-      userSubscriberRepository.delete(existingSubscription);
-
-      if (interest != null) {
-        int currentSubscribers = interest.getSubscriberCount();
-        interest.setSubscriberCount(Math.max(0, currentSubscribers - 1));
-        interestRepository.save(interest);
-        log.info("사용자(ID: {})가 관심사(ID: {}, 이름: '{}') 구독을 취소했습니다. 현재 구독자 수: {}",
-            requestUserId, interestId, interest.getName(), interest.getSubscriberCount());
-      } else {
-        log.warn("구독 취소 처리 중: 구독 정보는 존재하나 관심사(ID: {})를 찾을 수 없습니다. 구독 정보만 삭제합니다.", interestId);
-      }
+    int deleted = userSubscriberRepository.deleteByUserIdAndInterestId(requestUserId, interestId);
+    if (deleted > 0) {
+      interestRepository.decrementSubscriberCount(interestId);
+      userSubscriptionCache.removeAfterCommit(requestUserId, interestId);
+      userActivityReadModel.removeSubscriptionAfterCommit(requestUserId, interestId);
+      log.info("사용자(ID: {})가 관심사(ID: {}) 구독을 취소했습니다.", requestUserId, interestId);
     } else {
       log.info("사용자(ID: {})는 관심사(ID: {})를 이미 구독하고 있지 않거나, 관심사 자체가 존재하지 않습니다. 구독 취소 요청을 스킵합니다.",
           requestUserId, interestId);
     }
   }
+
+  // 구독 항목에 관심사 이름/키워드가 들어 있으므로 구독자들의 활동 문서를 커밋 후 비운다
+  private void evictSubscriberActivities(UUID interestId) {
+    List<UUID> subscriberIds = new ArrayList<>();
+    UUID after = new UUID(0L, 0L);
+    while (true) {
+      List<UUID> page = userSubscriberRepository.findSubscriberUserIdsAfter(interestId, after,
+          PageRequest.of(0, SUBSCRIBER_PAGE_SIZE));
+      subscriberIds.addAll(page);
+      if (page.size() < SUBSCRIBER_PAGE_SIZE) {
+        break;
+      }
+      after = page.get(page.size() - 1);
+    }
+    userActivityReadModel.evictAllAfterCommit(subscriberIds);
+  }
 }
@@ -1,12 +1,10 @@
 package com.part2.monew.service.impl;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
 import com.part2.monew.dto.request.FilterDto;
 import com.part2.monew.dto.request.RequestCursorDto;
 import com.part2.monew.dto.response.NewsArticleResponseDto;
 import com.part2.monew.dto.response.PaginatedResponseDto;
+import com.part2.monew.dto.response.UserArticleViewsActivityDto;
 import com.part2.monew.entity.ActivityDetail;
 import com.part2.monew.entity.NewsArticle;
 import com.part2.monew.entity.User;
@@ -20,18 +18,21 @@ import com.part2.monew.repository.ActivityDetailRepository;
 import com.part2.monew.repository.CommentRepository;
 import com.part2.monew.repository.NewsArticleRepository;
 import com.part2.monew.repository.UserRepository;
+import com.part2.monew.service.NewsBackupCatalog;
+import com.part2.monew.service.NewsBackupWriter;
+import com.part2.monew.service.NewsPurgeEngine;
+import com.part2.monew.service.NewsRestoreEngine;
+import com.part2.monew.service.UserActivityReadModel;
 import com.part2.monew.storage.S3LogUploader;
-import com.part2.monew.util.DateTimeUtil;
-import java.io.InputStream;
 import java.sql.Timestamp;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.stream.Collectors;
 import lombok.Getter;
@@ -52,20 +53,29 @@ public class NewsArticleService {
     private final ActivityDetailRepository activityDetailRepository;
     private final UserRepository userRepository;
     private final CommentRepository commentRepository;
-    private final ObjectMapper objectMapper;
+    private final UserActivityReadModel userActivityReadModel;
+    private final NewsBackupWriter newsBackupWriter;
+    private final NewsRestoreEngine newsRestoreEngine;
+    private final NewsBackupCatalog newsBackupCatalog;
+    private final NewsPurgeEngine newsPurgeEngine;
 
     public NewsArticleService(NewsArticleRepository newsArticleRepository,
         NewsArticleMapper newsArticleMapper, S3LogUploader s3LogUploader,
         ActivityDetailRepository activityDetailRepository, UserRepository userRepository,
-        CommentRepository commentRepository) {
+        CommentRepository commentRepository, UserActivityReadModel userActivityReadModel,
+        NewsBackupWriter newsBackupWriter, NewsRestoreEngine newsRestoreEngine,
+        NewsBackupCatalog newsBackupCatalog, NewsPurgeEngine newsPurgeEngine) {
         this.newsArticleRepository = newsArticleRepository;
         this.newsArticleMapper = newsArticleMapper;
         this.s3LogUploader = s3LogUploader;
         this.activityDetailRepository = activityDetailRepository;
         this.userRepository = userRepository;
         this.commentRepository = commentRepository;
-        this.objectMapper = new ObjectMapper();
-        this.objectMapper.registerModule(new JavaTimeModule());
+        this.userActivityReadModel = userActivityReadModel;
+        this.newsBackupWriter = newsBackupWriter;
+        this.newsRestoreEngine = newsRestoreEngine;
+        this.newsBackupCatalog = newsBackupCatalog;
+        this.newsPurgeEngine = newsPurgeEngine;
     }
 
     @Transactional(readOnly = true)
@@ -242,6 +252,8 @@ public class NewsArticleService {
         try {
             article.softDelete();
             newsArticleRepository.save(article);
+            // 활동 문서의 조회/댓글/좋아요 항목에 삭제된 기사가 남지 않게 한다
+            userActivityReadModel.evictAllAfterCommit(activityDetailRepository.findActivityUserIdsByArticleId(articleId));
             logger.info("뉴스 기사 논리 삭제 완료: {}", articleId);
         } catch (Exception e) {
             logger.error("뉴스 기사 논리 삭제 실패: {}", articleId, e);
@@ -249,110 +261,71 @@ public class NewsArticleService {
         }
     }
 
-    @Transactional
+    // 엔티티 cascade 로 댓글/활동을 전부 불러오지 않고, 의존 행을 batch 단위 집합 DELETE 로 지운다
     public void hardDeleteArticle(UUID articleId) {
-        NewsArticle article = newsArticleRepository.findById(articleId)
-            .orElseThrow(ArticleNotFoundException::new);
+        if (!newsArticleRepository.existsById(articleId)) {
+            throw new ArticleNotFoundException();
+        }
 
         try {
-            newsArticleRepository.delete(article);
+            newsPurgeEngine.purge(articleId);
         } catch (Exception e) {
+            logger.error("기사 물리 삭제 실패: {} - {}", articleId, e.getMessage(), e);
             throw new ArticleDeleteFailedException();
         }
     }
 
 
-    @Transactional
-    public void restoreDataByDateRange(String fromDate, String toDate) {
+    // chunk 마다 커밋하므로 메서드 전체를 하나의 트랜잭션으로 묶지 않는다
+    public long restoreDataByDateRange(String fromDate, String toDate) {
         DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy-MM-dd");
         LocalDate from = LocalDate.parse(fromDate, formatter);
         LocalDate to = LocalDate.parse(toDate, formatter);
 
         logger.info("데이터 복구 요청: {} ~ {}", fromDate, toDate);
 
-        List<NewsArticle> restoredArticles = new ArrayList<>();
-        for (LocalDate date = from; !date.isAfter(to); date = date.plusDays(1)) {
-            String s3Key = s3LogUploader.getBackupFileKey(date);
-            try (InputStream backupStream = s3LogUploader.downloadNewsBackup(s3Key)) {
-                if (backupStream == null) {
-                    logger.warn("{} 날짜의 백업 파일이 S3에 없습니다. Key: {}", date, s3Key);
+        // 백업이 있는 날짜만 카탈로그에서 골라 복구한다
+        Map<LocalDate, NewsBackupCatalog.Entry> plan = newsBackupCatalog.plan(from, to);
+        logger.info("복구 대상 백업 {}개 (요청 기간 {}일)", plan.size(), from.datesUntil(to.plusDays(1)).count());
+
+        long restoredCount = 0;
+        for (Map.Entry<LocalDate, NewsBackupCatalog.Entry> backup : plan.entrySet()) {
+            LocalDate date = backup.getKey();
+            String s3Key = backup.getValue().key();
+            try {
+                NewsRestoreEngine.RestoreResult result = newsRestoreEngine.restore(s3Key, false, backup.getValue().checksum());
+                if (result == null) {
+                    logger.warn("{} 날짜의 백업 파일이 카탈로그에는 있지만 저장소에 없습니다. Key: {}", date, s3Key);
                     continue;
                 }
-
-                List<NewsArticle> articlesFromBackup = objectMapper.readValue(backupStream,
-                    new TypeReference<>() {
-                    });
-
-                if (articlesFromBackup != null && !articlesFromBackup.isEmpty()) {
-                    logger.info("{} 날짜의 백업에서 {}개 기사 로드됨. Key: {}", date, articlesFromBackup.size(),
-                        s3Key);
-                    for (NewsArticle article : articlesFromBackup) {
-                        // DB에 이미 존재하는지 확인
-                        if (!newsArticleRepository.existsBySourceUrl(article.getSourceUrl())) {
-
-                            NewsArticle newArticle = NewsArticle.builder()
-                                .sourceIn(article.getSourceIn()).sourceUrl(article.getSourceUrl())
-                                .title(article.getTitle()).publishedDate(article.getPublishedDate())
-                                .summary(article.getSummary()).viewCount(article.getViewCount())
-                                .commentCount(article.getCommentCount())
-                                .isDeleted(article.getIsDeleted()).build();
-                            newsArticleRepository.save(newArticle);
-                            restoredArticles.add(newArticle);
-                            logger.debug("복구된 기사 저장: {}", newArticle.getSourceUrl());
-                        } else {
-                            logger.debug("이미 존재하는 기사 (복구 건너뜀): {}", article.getSourceUrl());
-                        }
-                    }
-                }
+                restoredCount += result.getRestored();
             } catch (Exception e) {
                 logger.error("{} 날짜의 데이터 복구 중 오류 발생. Key: {}. Error: {}", date, s3Key,
                     e.getMessage(), e);
             }
         }
-
+        logger.info("데이터 복구 완료: {} ~ {}, 총 {}개 기사 복구됨", fromDate, toDate, restoredCount);
+        return restoredCount;
     }
 
-    @Transactional
-    public int restoreFromLatestBackup() {
+    public long restoreFromLatestBackup() {
         logger.info("최신 백업에서 삭제된 기사 복구 시작");
 
         try {
-            String latestBackupKey = s3LogUploader.getLatestBackupKey();
-            int restoredCount = 0;
-
-            try (InputStream backupStream = s3LogUploader.downloadNewsBackup(
-                latestBackupKey)) {
-                if (backupStream == null) {
-                    logger.warn("최신 백업 파일이 S3에 없습니다. Key: {}", latestBackupKey);
-                    return 0;
-                }
-
-                List<NewsArticle> articlesFromBackup = objectMapper.readValue(backupStream,
-                    new TypeReference<>() {
-                    });
-
-                if (articlesFromBackup != null && !articlesFromBackup.isEmpty()) {
-
-                    for (NewsArticle article : articlesFromBackup) {
-                        if (!newsArticleRepository.existsBySourceUrl(article.getSourceUrl())) {
-
-                            NewsArticle newArticle = NewsArticle.builder()
-                                .sourceIn(article.getSourceIn()).sourceUrl(article.getSourceUrl())
-                                .title(article.getTitle()).publishedDate(article.getPublishedDate())
-                                .summary(article.getSummary()).viewCount(article.getViewCount())
-                                .commentCount(article.getCommentCount())
-                                .isDeleted(false) // 복구된 기사는 활성 상태
-                                .build();
-
-                            newsArticleRepository.save(newArticle);
-                            restoredCount++;
-                        }
-                    }
-                }
+            Optional<NewsBackupCatalog.Entry> latest = newsBackupCatalog.latest();
+            if (latest.isEmpty()) {
+                logger.warn("백업 카탈로그에 등록된 백업이 없습니다.");
+                return 0;
+            }
+            String latestBackupKey = latest.get().key();
+            NewsRestoreEngine.RestoreResult result = newsRestoreEngine.restore(latestBackupKey, true, latest.get().checksum());
+            if (result == null) {
+                logger.warn("최신 백업 파일이 S3에 없습니다. Key: {}", latestBackupKey);
+                return 0;
             }
 
-            logger.info("최신 백업 복구 완료: 총 {}개 기사 복구됨. Key: {}", restoredCount, latestBackupKey);
-            return restoredCount;
+            logger.info("최신 백업 복구 완료: 총 {}개 기사 복구됨. Key: {}", result.getRestored(), result.getKey());
+            return result.getRestored();
 
         } catch (Exception e) {
             logger.error("최신 백업 복구 중 오류 발생: {}", e.getMessage(), e);
@@ -364,23 +337,9 @@ public class NewsArticleService {
     public void backupDataByDate(LocalDate date) {
         logger.info("데이터 백업 시작: {}", date);
 
-        Timestamp startOfDayTimestamp = DateTimeUtil.parseTimestamp(date.toString());
-        Timestamp nextDayStartTimestamp = DateTimeUtil.parseTimestampAsNextDayStart(date.toString());
-
-        List<NewsArticle> articlesToBackup = newsArticleRepository.findByIsDeletedFalseAndPublishedDateBetween(
-            startOfDayTimestamp, nextDayStartTimestamp);
-
-        if (articlesToBackup.isEmpty()) {
-            logger.info("{} 날짜에 백업할 뉴스 기사가 없습니다.", date);
-            return;
-        }
-
         try {
-            byte[] jsonData = objectMapper.writeValueAsBytes(articlesToBackup);
-            String s3Key = s3LogUploader.getBackupFileKey(date);
-            s3LogUploader.uploadNewsBackup(jsonData, s3Key);
-            logger.info("데이터 백업 완료: {} 날짜의 {}개 기사. S3 Key: {}", date, articlesToBackup.size(),
-                s3Key);
+            long backedUp = newsBackupWriter.backupDay(date);
+            logger.info("데이터 백업 완료: {} 날짜의 {}개 기사", date, backedUp);
         } catch (Exception e) {
             logger.error("{} 날짜의 데이터 백업 중 오류 발생: {}", date, e.getMessage(), e);
             throw new RuntimeException(date + " 날짜 데이터 백업 실패", e);
@@ -408,6 +367,7 @@ public class NewsArticleService {
                 .viewedAt(new Timestamp(System.currentTimeMillis())).build();
 
             activityDetailRepository.save(activityDetail);
+            userActivityReadModel.pushArticleViewAfterCommit(userId, UserArticleViewsActivityDto.of(activityDetail));
 
         } else {
             logger.info("이미 조회한 기사이므로 조회수 증가 안함");
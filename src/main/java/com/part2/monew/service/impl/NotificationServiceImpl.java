@@ -2,22 +2,29 @@ package com.part2.monew.service.impl;
 
 import com.part2.monew.dto.request.NotificationCursorRequest;
 import com.part2.monew.dto.response.CursorPageResponse;
+import com.part2.monew.dto.response.NotificationBulkConfirmResponse;
 import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.dto.response.UnreadNotificationCountResponse;
 import com.part2.monew.entity.Notification;
 import com.part2.monew.entity.User;
+import com.part2.monew.global.exception.notification.NoParsingException;
 import com.part2.monew.global.exception.user.NoPermissionToUpdateException;
 import com.part2.monew.repository.NotificationRepository;
 import com.part2.monew.repository.UserRepository;
+import com.part2.monew.service.InterestArticleNotifier;
+import com.part2.monew.service.NotificationPushService;
 import com.part2.monew.service.NotificationService;
+import com.part2.monew.service.NotificationUnreadCounter;
 import lombok.RequiredArgsConstructor;
-import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
 import java.sql.Timestamp;
 import java.time.Instant;
-import java.time.LocalDateTime;
 import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.UUID;
@@ -26,15 +33,25 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class NotificationServiceImpl implements NotificationService {
+    private static final int CONFIRM_CHUNK_SIZE = 1000;
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final String CURSOR_DELIMITER = "|";
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
+    private final NotificationPushService notificationPushService;
+    private final NotificationUnreadCounter notificationUnreadCounter;
+    private final InterestArticleNotifier interestArticleNotifier;
 
     @Transactional
     @Override
     public Notification createNotification(User user, String content, String resourceType, UUID resourceId) {
         Notification notification = new Notification(user, content, resourceType, resourceId);
+        Notification saved = notificationRepository.saveAndFlush(notification);
 
-        return notificationRepository.save(notification);
+        notificationUnreadCounter.incrementAfterCommit(user.getId(), 1);
+        notificationPushService.publishAfterCommit(NotificationResponse.of(saved));
+        return saved;
     }
 
     @Transactional
@@ -45,72 +62,125 @@ public class NotificationServiceImpl implements NotificationService {
         if(!Objects.requireNonNull(notification).getUser().getId().equals(userId)){
             throw new NoPermissionToUpdateException("알림 확인 권한이 없습니다.");
         }
-        notification.setConfirmed(true);
-
+        // 이미 확인된 알림을 다시 확인해도 카운터는 줄지 않는다
+        if (!notification.isConfirmed()) {
+            notification.setConfirmed(true);
+            notificationUnreadCounter.decrementAfterCommit(userId, 1);
+        }
     }
 
-    @Transactional
+    // 트랜잭션 없이 청크마다 커밋해 긴 트랜잭션과 대량 flush 를 피한다
     @Override
-    public void updatedAll(UUID userId) {
-        List<Notification> notifications = notificationRepository.findByUserIdAndConfirmedFalse(userId);
-        for (Notification n : notifications) {
-            n.setConfirmed(true);
-        }
+    public int updatedAll(UUID userId) {
+        int total = 0;
+        int updated;
+        do {
+            updated = notificationRepository.confirmUnconfirmedChunk(userId, CONFIRM_CHUNK_SIZE);
+            total += updated;
+        } while (updated == CONFIRM_CHUNK_SIZE);
+
+        notificationUnreadCounter.resetAfterCommit(userId);
+        return total;
     }
 
-    @Scheduled(cron = "0 0 9 * * *")
     @Transactional
-    public void deleteOldConfirmedNotifications() {
-        Timestamp oneWeekAgo = Timestamp.valueOf(LocalDateTime.now().minusWeeks(1));
-        notificationRepository.deleteConfirmedNotificationsBefore(oneWeekAgo);
+    @Override
+    public NotificationBulkConfirmResponse updatedBulk(UUID userId, List<UUID> notificationIds) {
+        int confirmed = notificationRepository.confirmByIds(userId, new HashSet<>(notificationIds));
+        if (confirmed > 0) {
+            notificationUnreadCounter.decrementAfterCommit(userId, confirmed);
+        }
+        return new NotificationBulkConfirmResponse(confirmed);
     }
 
     @Override
     public CursorPageResponse<NotificationResponse> getNoConfirmedNotifications(UUID userId, NotificationCursorRequest request) {
-        int limit = (request.limit() != null && request.limit() > 0) ? request.limit() : 10;
-        int limitPlusOne = limit + 1;
+        int limit = (request.limit() != null && request.limit() > 0) ? Math.min(request.limit(), MAX_PAGE_SIZE) : 10;
 
-        List<Notification> notifications;
-        Timestamp cursorTs = null;
-        if (request.cursor() != null) {
-            try {
-                cursorTs = Timestamp.from(Instant.parse(request.cursor()));
-            } catch (Exception e) {
-                throw new RuntimeException(e);
-            }
+        PageCursor cursor = null;
+        if (request.cursor() != null && !request.cursor().isBlank()) {
+            cursor = decodeCursor(request.cursor());
+        } else if (request.after() != null && !request.after().isBlank()) {
+            cursor = new PageCursor(parseInstant(request.after()), null);
         }
 
-        if (cursorTs == null) {
-            notifications = notificationRepository.findTop51ByUserIdAndConfirmedFalseOrderByCreatedAtDesc(userId);
-        } else {
-            notifications = notificationRepository.findTop51ByUserIdAndConfirmedFalseAndCreatedAtLessThanOrderByCreatedAtDesc(userId, cursorTs);
+        // 구독자가 많은 관심사의 알림은 조회 시점에 반영된다 (첫 페이지에서만)
+        if (cursor == null) {
+            interestArticleNotifier.materializePulledNotifications(userId);
         }
 
-        boolean hasNext = notifications.size() == limitPlusOne;
+        List<Notification> notifications = notificationRepository.findUnconfirmedByUserId(
+                userId,
+                cursor != null ? cursor.createdAt() : null,
+                cursor != null ? cursor.id() : null,
+                limit);
+
+        boolean hasNext = notifications.size() > limit;
         if (hasNext) {
             notifications = notifications.subList(0, limit);
         }
 
         List<NotificationResponse> content = notifications.stream()
-                .map(n -> new NotificationResponse(
-                        n.getId(),
-                        n.getCreatedAt(),
-                        n.getUpdatedAt(),
-                        n.isConfirmed(),
-                        n.getUser().getId(),
-                        n.getContent(),
-                        n.getResourceType(),
-                        n.getResourceId()
-                ))
+                .map(NotificationResponse::of)
                 .collect(Collectors.toList());
 
-        String nextCursor = (hasNext && !content.isEmpty())
-                ? content.get(content.size() - 1).createdAt().toString()
-                : null;
+        String nextCursor = null;
+        String nextAfter = null;
+        if (hasNext && !content.isEmpty()) {
+            NotificationResponse last = content.get(content.size() - 1);
+            nextCursor = encodeCursor(last.createdAt(), last.id());
+            nextAfter = last.createdAt().toInstant().toString();
+        }
 
-        long totalElements = notificationRepository.countByUserIdAndConfirmedFalse(userId);
+        long totalElements = notificationUnreadCounter.getOrLoad(userId);
 
+        return CursorPageResponse.of(content, nextCursor, nextAfter, totalElements, hasNext);
+    }
+
+    // 커서는 "createdAt|notificationId" 를 Base64 URL 인코딩한 불투명 문자열
+    private String encodeCursor(Timestamp createdAt, UUID id) {
+        String raw = createdAt.toInstant() + CURSOR_DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private PageCursor decodeCursor(String cursor) {
+        // 이전 버전 클라이언트가 보내는 ISO-8601 커서도 허용한다
+        if (cursor.indexOf(':') >= 0) {
+            return new PageCursor(parseInstant(cursor), null);
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int delimiter = raw.indexOf(CURSOR_DELIMITER);
+            if (delimiter < 0) {
+                throw new NoParsingException();
+            }
+            return new PageCursor(
+                    Timestamp.from(Instant.parse(raw.substring(0, delimiter))),
+                    UUID.fromString(raw.substring(delimiter + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new NoParsingException();
+        }
+    }
+
+    // ISO-8601 과 이전 응답의 Timestamp 문자열(yyyy-MM-dd HH:mm:ss.fff) 모두 허용
+    private Timestamp parseInstant(String value) {
+        try {
+            return Timestamp.from(Instant.parse(value));
+        } catch (DateTimeParseException e) {
+            try {
+                return Timestamp.valueOf(value);
+            } catch (IllegalArgumentException ex) {
+                throw new NoParsingException();
+            }
+        }
+    }
+
+    @Override
+    public UnreadNotificationCountResponse getUnreadCount(UUID userId) {
+        // 카운터가 있으면 Redis 만 읽고, TTL 로 사라졌으면 COUNT 로 다시 채운다 (목록 조회와 같음)
+        return new UnreadNotificationCountResponse(notificationUnreadCounter.getOrLoad(userId));
+    }
 
-        return CursorPageResponse.of(content, nextCursor, nextCursor, totalElements, hasNext);
+    private record PageCursor(Timestamp createdAt, UUID id) {
     }
 }
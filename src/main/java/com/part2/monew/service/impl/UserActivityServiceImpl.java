@@ -4,12 +4,16 @@ import com.part2.monew.dto.response.*;
 import com.part2.monew.entity.User;
 import com.part2.monew.global.exception.user.UserNotFoundException;
 import com.part2.monew.repository.*;
+import com.part2.monew.service.UserActivityReadModel;
 import com.part2.monew.service.UserActivityService;
+import com.part2.monew.service.UserSubscriptionCache;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 
 
@@ -18,20 +22,50 @@ import java.util.UUID;
 public class UserActivityServiceImpl implements UserActivityService {
 
   private final UserRepository userRepository;
-  private final UserSubscriberRepository userSubscriberRepository;
+  private final InterestRepository interestRepository;
+  private final UserSubscriptionCache userSubscriptionCache;
   private final CommentRepository commentRepository;
   private final CommentLikeRepository commentLikeRepository;
   private final ActivityDetailRepository activityDetailRepository;
+  private final UserActivityReadModel userActivityReadModel;
 
   @Override
   @Transactional(readOnly = true)
   public UserActivityResponse getUserActivity(UUID userId) {
+    // 탈퇴한 사용자는 read model 이 남아 있어도 조회되지 않도록 PK 조회로 확인한다
     User user = userRepository.findByIdAndActiveTrue(userId)
         .orElseThrow(UserNotFoundException::new);
 
-    List<UserSubscriptionActivityResponse> subscriptions = userSubscriberRepository.findInterestsByUser(user).stream()
-        .map(UserSubscriptionActivityResponse::of)
-        .toList();
+    UserActivityReadModel.Document document = userActivityReadModel.find(userId)
+        .orElseGet(() -> {
+          // DB 를 읽기 전의 버전으로 저장해, 읽는 도중 반영된 변경을 덮어쓰지 않게 한다
+          String version = userActivityReadModel.version(userId);
+          UserActivityReadModel.Document loaded = loadDocument(userId);
+          userActivityReadModel.store(userId, version, loaded);
+          return loaded;
+        });
+
+    return UserActivityResponse.builder()
+        .id(user.getId())
+        .email(user.getEmail())
+        .nickname(user.getNickname())
+        .createdAt(user.getCreatedAt())
+        .subscriptions(document.subscriptions())
+        .comments(document.comments())
+        .commentLikes(document.commentLikes())
+        .articleViews(document.articleViews())
+        .build();
+  }
+
+  // read model 이 없을 때만 DB 에서 항목별 최대 10건으로 다시 만든다
+  private UserActivityReadModel.Document loadDocument(UUID userId) {
+    // 구독 ID 는 캐시에서, 관심사와 키워드는 fetch join 한 번으로 가져온다
+    Set<UUID> subscribedInterestIds = userSubscriptionCache.getSubscribedInterestIds(userId);
+    List<UserSubscriptionActivityResponse> subscriptions = subscribedInterestIds.isEmpty()
+        ? List.of()
+        : interestRepository.findAllWithKeywordsByIdIn(subscribedInterestIds).stream()
+            .map(UserSubscriptionActivityResponse::of)
+            .toList();
 
     List<UserCommentActivityDto> comments = commentRepository.findTop10RecentCommentsByUserId(userId).stream()
         .map(UserCommentActivityDto::of)
@@ -43,20 +77,10 @@ public class UserActivityServiceImpl implements UserActivityService {
         .toList();
 
     List<UserArticleViewsActivityDto> articleViews = activityDetailRepository
-        .findRecentViewedArticlesByUser(user).stream()
-        .limit(10)
+        .findRecentViewedArticlesByUserId(userId, PageRequest.of(0, UserActivityReadModel.MAX_ITEMS)).stream()
         .map(UserArticleViewsActivityDto::of)
         .toList();
 
-    return UserActivityResponse.builder()
-        .id(user.getId())
-        .email(user.getEmail())
-        .nickname(user.getNickname())
-        .createdAt(user.getCreatedAt())
-        .subscriptions(subscriptions)
-        .comments(comments)
-        .commentLikes(commentLikes)
-        .articleViews(articleViews)
-        .build();
+    return new UserActivityReadModel.Document(subscriptions, comments, commentLikes, articleViews);
   }
 }
@@ -0,0 +1,33 @@
+package com.part2.monew.storage;
+
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 백업/로그 저장소
+ * - monew.storage.type 에 따라 S3(s3) 또는 로컬 파일시스템(local) 구현이 등록된다.
+ * - 키는 "backups/news/2025-01-01.ndjson.gz" 처럼 '/' 로 구분한 경로 형태를 쓴다.
+ */
+public interface BackupStorage {
+
+    // 스트리밍 쓰기. close() 로 완료하고, 실패 시 abort() 로 쓰던 내용을 버린다
+    BackupUpload openUpload(String key, String contentType);
+
+    // 없으면 null
+    InputStream openRead(String key);
+
+    // 작은 객체를 통째로 교체한다 (읽는 쪽은 이전 내용 또는 새 내용만 본다)
+    void put(String key, byte[] data, String contentType);
+
+    void delete(Collection<String> keys);
+
+    // prefix 아래의 객체 목록 (키 순서 보장 없음)
+    List<StoredObject> list(String prefix);
+
+    // 로그/알림에 쓰는 저장 위치 설명 (버킷 이름, 로컬 루트 경로)
+    String location();
+
+    record StoredObject(String key, long size) {
+    }
+}
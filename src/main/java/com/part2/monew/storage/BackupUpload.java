@@ -0,0 +1,14 @@
+package com.part2.monew.storage;
+
+import java.io.OutputStream;
+
+/**
+ * 저장소로 스트리밍하는 OutputStream
+ * - close() 가 정상 종료되어야 객체가 보이고, abort() 하면 쓰던 내용은 남지 않는다.
+ */
+public abstract class BackupUpload extends OutputStream {
+
+    public abstract void abort();
+
+    public abstract long getBytesWritten();
+}
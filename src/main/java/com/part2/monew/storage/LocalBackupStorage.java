@@ -0,0 +1,232 @@
+package com.part2.monew.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로컬 파일시스템 저장소 (단일 노드/온프레미스, 오프라인 벤치마크용)
+ * - 쓰기는 같은 디렉토리의 임시 파일에 FileChannel 로 쓴 뒤 atomic move 로 교체하므로 읽는 쪽은 완성된 파일만 본다.
+ * - 읽기는 메모리 매핑으로 한다.
+ */
+@Component
+@ConditionalOnProperty(name = "monew.storage.type", havingValue = "local", matchIfMissing = true)
+public class LocalBackupStorage implements BackupStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(LocalBackupStorage.class);
+
+    private static final int WRITE_BUFFER_SIZE = 1024 * 1024;
+
+    private final Path root;
+
+    public LocalBackupStorage(@Value("${monew.storage.local.root-path:./monew-storage}") String rootPath) {
+        this.root = Paths.get(rootPath).toAbsolutePath().normalize();
+    }
+
+    @Override
+    public BackupUpload openUpload(String key, String contentType) {
+        Path target = resolve(key);
+        Path temp = tempFileFor(target);
+        try {
+            Files.createDirectories(target.getParent());
+            return new LocalUpload(target, temp, FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE));
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 백업 파일 생성 실패: " + target, e);
+        }
+    }
+
+    @Override
+    public InputStream openRead(String key) {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            return null;
+        }
+        try {
+            return new MappedFileInputStream(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 백업 파일 열기 실패: " + path, e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType) {
+        Path target = resolve(key);
+        Path temp = tempFileFor(target);
+        try {
+            Files.createDirectories(target.getParent());
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE_NEW, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(data);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                channel.force(false);
+            }
+            moveIntoPlace(temp, target);
+        } catch (IOException e) {
+            deleteQuietly(temp);
+            throw new UncheckedIOException("로컬 백업 파일 저장 실패: " + target, e);
+        }
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException e) {
+                logger.warn("로컬 백업 파일 삭제 실패: {} - {}", key, e.getMessage());
+            }
+        }
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix) {
+        Path directory = resolve(prefix);
+        if (!Files.isDirectory(directory)) {
+            return List.of();
+        }
+        try (Stream<Path> paths = Files.walk(directory)) {
+            return paths.filter(Files::isRegularFile)
+                .filter(path -> !path.getFileName().toString().contains(".tmp-"))
+                .map(path -> new StoredObject(root.relativize(path).toString().replace('\\', '/'), sizeOf(path)))
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("로컬 백업 목록 조회 실패: " + directory, e);
+        }
+    }
+
+    @Override
+    public String location() {
+        return root.toString();
+    }
+
+    // 키가 루트 밖을 가리키지 않도록 한다 (예: "../")
+    private Path resolve(String key) {
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root)) {
+            throw new IllegalArgumentException("저장소 루트 밖의 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private static long sizeOf(Path path) {
+        try {
+            return Files.size(path);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static Path tempFileFor(Path target) {
+        return target.resolveSibling(target.getFileName() + ".tmp-" + UUID.randomUUID());
+    }
+
+    private static void moveIntoPlace(Path temp, Path target) throws IOException {
+        Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            logger.warn("로컬 임시 파일 삭제 실패: {} - {}", path, e.getMessage());
+        }
+    }
+
+    private static final class LocalUpload extends BackupUpload {
+
+        private final Path target;
+        private final Path temp;
+        private final FileChannel channel;
+        private final ByteBuffer buffer = ByteBuffer.allocateDirect(WRITE_BUFFER_SIZE);
+        private long bytesWritten;
+        private boolean closed;
+
+        private LocalUpload(Path target, Path temp, FileChannel channel) {
+            this.target = target;
+            this.temp = temp;
+            this.channel = channel;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (!buffer.hasRemaining()) {
+                drain();
+            }
+            buffer.put((byte) b);
+            bytesWritten++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (!buffer.hasRemaining()) {
+                    drain();
+                }
+                int chunk = Math.min(len, buffer.remaining());
+                buffer.put(b, off, chunk);
+                off += chunk;
+                len -= chunk;
+                bytesWritten += chunk;
+            }
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            try {
+                drain();
+                channel.force(false);
+                channel.close();
+                moveIntoPlace(temp, target);
+            } catch (IOException e) {
+                channel.close();
+                deleteQuietly(temp);
+                throw e;
+            }
+        }
+
+        @Override
+        public void abort() {
+            closed = true;
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warn("로컬 백업 파일 닫기 실패: {} - {}", temp, e.getMessage());
+            }
+            deleteQuietly(temp);
+        }
+
+        @Override
+        public long getBytesWritten() {
+            return bytesWritten;
+        }
+
+        private void drain() throws IOException {
+            buffer.flip();
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+            buffer.clear();
+        }
+    }
+}
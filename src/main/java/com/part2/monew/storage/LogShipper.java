@@ -0,0 +1,313 @@
+package com.part2.monew.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.util.SlackNotificationService;
+import jakarta.annotation.PreDestroy;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+import java.util.zip.GZIPOutputStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그 파일 증분 업로드
+ * - 파일(inode)별로 어디까지 올렸는지 상태 파일에 기록해 두고, 매번 그 이후에 추가된 바이트만 gzip 으로 압축해 올린다.
+ *   logback 이 application.log 를 날짜 파일로 굴려도 inode 가 같으므로 이미 올린 앞부분은 다시 올리지 않는다.
+ * - 파일들은 크기가 제한된 worker pool 에서 병렬로 올리고, 저장소 업로드(S3 multipart)로 스트리밍하므로 로컬 임시 파일이 없다.
+ * - 실패한 업로드는 지수 백오프로 재시도하고, 최종 실패는 실행이 끝난 뒤 Slack 알림 한 건으로 모아 보낸다.
+ * - 실행은 업로드가 모두 끝날 때까지(재시도 대기 포함) 스케줄러 스레드 하나를 잡지만, 스케줄러 풀
+ *   (spring.task.scheduling.pool.size) 이 여러 스레드라 다른 예약 작업은 막지 않는다.
+ */
+@Component
+public class LogShipper {
+
+    private static final Logger logger = LoggerFactory.getLogger(LogShipper.class);
+
+    private static final String LOG_KEY_PREFIX = "logs/";
+    private static final String STATE_FILE_NAME = ".shipper-state.json";
+    private static final String CONTENT_TYPE = "application/gzip";
+    private static final int COPY_BUFFER_SIZE = 64 * 1024;
+    private static final long MAX_BACKOFF_MILLIS = 60_000;
+    // logback TimeBasedRollingPolicy 로 굴려진 파일 (예: application.2025-01-01.log) 은 더 이상 바뀌지 않는다
+    private static final Pattern ROLLED_LOG = Pattern.compile(".*\\.\\d{4}-\\d{2}-\\d{2}(\\.\\d+)?\\.log$");
+
+    private final BackupStorage backupStorage;
+    private final SlackNotificationService slackNotificationService;
+    private final ObjectMapper objectMapper;
+    private final Path logDir;
+    private final int maxAttempts;
+    private final long backoffMillis;
+    private final ExecutorService workers;
+
+    public LogShipper(BackupStorage backupStorage,
+        SlackNotificationService slackNotificationService,
+        ObjectMapper objectMapper,
+        @Value("${monew.logs.shipping.directory:./.logs}") String logDir,
+        @Value("${monew.logs.shipping.parallelism:4}") int parallelism,
+        @Value("${monew.logs.shipping.max-attempts:5}") int maxAttempts,
+        @Value("${monew.logs.shipping.backoff-millis:1000}") long backoffMillis) {
+        this.backupStorage = backupStorage;
+        this.slackNotificationService = slackNotificationService;
+        this.objectMapper = objectMapper;
+        this.logDir = Paths.get(logDir);
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.backoffMillis = backoffMillis;
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(parallelism, runnable -> {
+            Thread thread = new Thread(runnable, "log-shipper-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 올리던 구간은 상태에 기록되지 않으므로 다음 실행에서 다시 올린다
+        workers.shutdownNow();
+    }
+
+    @Scheduled(cron = "${monew.logs.shipping.cron:0 5 0 * * *}")
+    public void shipLogs() {
+        if (!Files.isDirectory(logDir)) {
+            String errorMessage = String.format("S3 업로드 경고: 로그 디렉토리 '%s'가 존재하지 않거나 디렉토리가 아닙니다.", logDir);
+            logger.warn(errorMessage);
+            slackNotificationService.sendNotification(errorMessage);
+            return;
+        }
+        long startedAt = System.currentTimeMillis();
+        Map<String, Progress> previous = loadState();
+        Map<String, Progress> next = new ConcurrentHashMap<>();
+        ConcurrentLinkedQueue<String> failures = new ConcurrentLinkedQueue<>();
+        AtomicLong shippedBytes = new AtomicLong();
+        AtomicLong uploadedBytes = new AtomicLong();
+
+        List<CompletableFuture<Void>> tasks = new ArrayList<>();
+        for (Path file : listLogFiles()) {
+            LogFile logFile;
+            try {
+                logFile = LogFile.of(file);
+            } catch (IOException e) {
+                failures.add(file.getFileName() + ": " + e.getMessage());
+                continue;
+            }
+            Progress progress = previous.get(logFile.id());
+            long offset = progress != null ? progress.offset() : 0;
+            if (logFile.size() < offset) {
+                // 잘리거나 다른 파일로 바뀐 경우 처음부터 다시 올린다
+                logger.warn("로그 파일이 줄어들어 처음부터 다시 업로드합니다: {} ({} → {} bytes)", logFile.name(), offset, logFile.size());
+                offset = 0;
+            }
+            if (logFile.size() == offset) {
+                next.put(logFile.id(), new Progress(logFile.name(), offset));
+                continue;
+            }
+            long from = offset;
+            tasks.add(CompletableFuture.runAsync(() -> {
+                try {
+                    long uploaded = shipWithRetry(logFile, from);
+                    next.put(logFile.id(), new Progress(logFile.name(), logFile.size()));
+                    shippedBytes.addAndGet(logFile.size() - from);
+                    uploadedBytes.addAndGet(uploaded);
+                } catch (Exception e) {
+                    if (e instanceof InterruptedException) {
+                        Thread.currentThread().interrupt();
+                    }
+                    // 실패한 파일은 이전 위치를 유지해 다음 실행에서 다시 올린다
+                    if (progress != null) {
+                        next.put(logFile.id(), progress);
+                    }
+                    failures.add(logFile.name() + ": " + e.getClass().getSimpleName() + " - " + e.getMessage());
+                }
+            }, workers));
+        }
+        CompletableFuture.allOf(tasks.toArray(CompletableFuture[]::new)).join();
+
+        // 사라진(보존 기간이 지나 삭제된) 파일의 상태는 next 에 없으므로 자연히 정리된다
+        saveState(next);
+        logger.info("로그 업로드 완료 - 파일 {}개, 새 데이터 {} bytes, 업로드 {} bytes (압축), 실패 {}개, {}ms",
+            tasks.size(), shippedBytes.get(), uploadedBytes.get(), failures.size(), System.currentTimeMillis() - startedAt);
+        if (!failures.isEmpty()) {
+            notifyFailures(failures);
+        }
+    }
+
+    private long shipWithRetry(LogFile logFile, long offset) throws Exception {
+        String key = keyFor(logFile, offset);
+        for (int attempt = 1; ; attempt++) {
+            try {
+                long uploaded = ship(logFile, offset, key);
+                logger.info("로그 업로드 성공: {} [{}~{}] → {} ({} bytes)", logFile.name(), offset, logFile.size(), key, uploaded);
+                return uploaded;
+            } catch (IOException | RuntimeException e) {
+                if (attempt >= maxAttempts) {
+                    logger.error("로그 업로드 실패 ({}회 시도): {} → {}", attempt, logFile.name(), key, e);
+                    throw e;
+                }
+                long delay = backoff(attempt);
+                logger.warn("로그 업로드 실패, {}ms 후 재시도 ({}/{}): {} - {}", delay, attempt, maxAttempts, logFile.name(), e.getMessage());
+                Thread.sleep(delay);
+            }
+        }
+    }
+
+    // 상태에 기록된 위치부터 목록을 만든 시점의 크기까지만 올린다 (그 뒤에 쓰인 로그는 다음 실행에서)
+    private long ship(LogFile logFile, long offset, String key) throws IOException {
+        BackupUpload upload = backupStorage.openUpload(key, CONTENT_TYPE);
+        try {
+            // gzip 은 실패해도 닫아 Deflater 네이티브 메모리를 풀고, 업로드는 끝까지 쓴 경우에만 아래에서 닫아 완료한다
+            try (FileChannel channel = FileChannel.open(logFile.path(), StandardOpenOption.READ);
+                GZIPOutputStream gzip = new GZIPOutputStream(new UncloseableOutputStream(upload), COPY_BUFFER_SIZE)) {
+                channel.position(offset);
+                InputStream in = Channels.newInputStream(channel);
+                byte[] buffer = new byte[COPY_BUFFER_SIZE];
+                long remaining = logFile.size() - offset;
+                while (remaining > 0) {
+                    int read = in.read(buffer, 0, (int) Math.min(buffer.length, remaining));
+                    if (read < 0) {
+                        throw new IOException("로그 파일이 읽는 도중 줄어들었습니다: " + logFile.name());
+                    }
+                    gzip.write(buffer, 0, read);
+                    remaining -= read;
+                }
+            }
+            upload.close();
+            return upload.getBytesWritten();
+        } catch (IOException | RuntimeException e) {
+            upload.abort();
+            throw e;
+        }
+    }
+
+    /**
+     * 굴려진 파일은 이름이 고유하므로 "logs/{이름}.gz" (이어서 올리는 구간이면 시작 위치를 붙인다),
+     * 현재 쓰이는 파일은 매일 같은 이름이므로 올린 날짜와 시작 위치를 붙인다.
+     */
+    private static String keyFor(LogFile logFile, long offset) {
+        if (logFile.rolled()) {
+            return LOG_KEY_PREFIX + logFile.name() + (offset == 0 ? "" : "." + offset) + ".gz";
+        }
+        return LOG_KEY_PREFIX + logFile.name() + "." + LocalDate.now() + "." + offset + ".gz";
+    }
+
+    // 지수 백오프 + jitter (여러 파일이 동시에 같은 간격으로 재시도하지 않도록)
+    private long backoff(int attempt) {
+        long delay = Math.min(MAX_BACKOFF_MILLIS, backoffMillis << Math.min(attempt - 1, 16));
+        return delay / 2 + ThreadLocalRandom.current().nextLong(delay / 2 + 1);
+    }
+
+    private void notifyFailures(ConcurrentLinkedQueue<String> failures) {
+        StringBuilder message = new StringBuilder()
+            .append("❌ 로그 업로드 실패 알림\n")
+            .append("저장소: '").append(backupStorage.location()).append("'\n")
+            .append("실패 ").append(failures.size()).append("건 (다음 실행에서 다시 시도합니다)\n");
+        for (String failure : failures) {
+            message.append("- ").append(failure).append('\n');
+        }
+        slackNotificationService.sendNotification(message.toString());
+    }
+
+    private List<Path> listLogFiles() {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(logDir, "*.log")) {
+            for (Path file : stream) {
+                if (Files.isRegularFile(file)) {
+                    files.add(file);
+                }
+            }
+        } catch (IOException e) {
+            logger.error("로그 디렉토리 목록 조회 실패: {}", logDir, e);
+        }
+        return files;
+    }
+
+    private Map<String, Progress> loadState() {
+        Path stateFile = logDir.resolve(STATE_FILE_NAME);
+        if (!Files.isRegularFile(stateFile)) {
+            return new HashMap<>();
+        }
+        try {
+            return new HashMap<>(objectMapper.readValue(stateFile.toFile(), ShipState.class).files());
+        } catch (IOException e) {
+            // 상태를 잃으면 남아 있는 로그를 한 번 더 올릴 뿐이다
+            logger.warn("로그 업로드 상태 파일을 읽지 못해 처음부터 업로드합니다: {} - {}", stateFile, e.getMessage());
+            return new HashMap<>();
+        }
+    }
+
+    private void saveState(Map<String, Progress> files) {
+        Path stateFile = logDir.resolve(STATE_FILE_NAME);
+        Path temp = logDir.resolve(STATE_FILE_NAME + ".tmp");
+        try {
+            objectMapper.writeValue(temp.toFile(), new ShipState(new HashMap<>(files)));
+            Files.move(temp, stateFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            logger.error("로그 업로드 상태 저장 실패: {}", stateFile, e);
+        }
+    }
+
+    // 감싼 스트림을 닫지 않는다 (close 는 flush 만)
+    private static final class UncloseableOutputStream extends FilterOutputStream {
+
+        UncloseableOutputStream(OutputStream out) {
+            super(out);
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            out.write(b, off, len);
+        }
+
+        @Override
+        public void close() throws IOException {
+            flush();
+        }
+    }
+
+    record ShipState(Map<String, Progress> files) {
+    }
+
+    record Progress(String name, long offset) {
+    }
+
+    /**
+     * @param id 파일 식별자. 이름이 바뀌어도(롤링) 같은 파일로 보도록 가능하면 inode 를 쓴다
+     */
+    private record LogFile(Path path, String id, String name, long size, boolean rolled) {
+
+        static LogFile of(Path path) throws IOException {
+            BasicFileAttributes attributes = Files.readAttributes(path, BasicFileAttributes.class);
+            String name = path.getFileName().toString();
+            Object fileKey = attributes.fileKey();
+            String id = fileKey != null ? fileKey.toString() : name;
+            return new LogFile(path, id, name, attributes.size(), ROLLED_LOG.matcher(name).matches());
+        }
+    }
+}
@@ -0,0 +1,88 @@
+package com.part2.monew.storage;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * 파일을 일정 크기 구간씩 메모리 매핑해 읽는 InputStream
+ * - 읽기가 커널 페이지 캐시에서 바로 이루어져 read() 시스템 호출/복사가 없고, 2GB 를 넘는 파일도 구간을 옮겨 가며 읽는다.
+ */
+final class MappedFileInputStream extends InputStream {
+
+    private static final long WINDOW_SIZE = 64L * 1024 * 1024;
+
+    private final FileChannel channel;
+    private final long size;
+    private long windowStart;
+    private MappedByteBuffer window;
+
+    MappedFileInputStream(Path path) throws IOException {
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        this.size = channel.size();
+        this.window = map(0);
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        if (!ensureRemaining()) {
+            return -1;
+        }
+        int chunk = Math.min(len, window.remaining());
+        window.get(b, off, chunk);
+        return chunk;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = 0;
+        while (skipped < n && ensureRemaining()) {
+            int chunk = (int) Math.min(n - skipped, window.remaining());
+            window.position(window.position() + chunk);
+            skipped += chunk;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() {
+        long remaining = size - (windowStart + window.position());
+        return (int) Math.min(Integer.MAX_VALUE, remaining);
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private boolean ensureRemaining() throws IOException {
+        if (window.hasRemaining()) {
+            return true;
+        }
+        long next = windowStart + window.limit();
+        if (next >= size) {
+            return false;
+        }
+        window = map(next);
+        return true;
+    }
+
+    private MappedByteBuffer map(long start) throws IOException {
+        windowStart = start;
+        return channel.map(FileChannel.MapMode.READ_ONLY, start, Math.min(WINDOW_SIZE, size - start));
+    }
+}
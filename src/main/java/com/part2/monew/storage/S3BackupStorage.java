@@ -0,0 +1,198 @@
+package com.part2.monew.storage;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.Delete;
+import software.amazon.awssdk.services.s3.model.DeleteObjectsRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.ListObjectsV2Request;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.ObjectIdentifier;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+/**
+ * S3 저장소
+ * - 스트리밍 백업은 동기 클라이언트 멀티파트(S3MultipartUploadStream), 다운로드는 CRT 비동기 클라이언트로 한다.
+ *   CRT 클라이언트는 range GET 을 병렬로 보내 순서대로 이어 붙인다.
+ * - 업로드에는 CRC32 체크섬을 붙이고, 다운로드는 클라이언트가 응답 체크섬으로 검증한다.
+ */
+@Component
+@ConditionalOnProperty(name = "monew.storage.type", havingValue = "s3")
+public class S3BackupStorage implements BackupStorage {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3BackupStorage.class);
+
+    // DeleteObjects 는 요청당 최대 1000개
+    private static final int DELETE_BATCH_SIZE = 1000;
+
+    private final S3Client s3Client;
+    private final S3AsyncClient s3AsyncClient;
+    private final S3TransferMetrics metrics;
+    private final String bucket;
+    private final int partSizeMb;
+    private final int maxPartsInFlight;
+
+    public S3BackupStorage(S3Client s3Client,
+        S3AsyncClient s3AsyncClient,
+        MeterRegistry meterRegistry,
+        @Qualifier("BucketName") String bucket,
+        @Value("${monew.backup.part-size-mb:8}") int partSizeMb,
+        @Value("${monew.backup.max-parts-in-flight:2}") int maxPartsInFlight) {
+        this.s3Client = s3Client;
+        this.s3AsyncClient = s3AsyncClient;
+        this.metrics = new S3TransferMetrics(meterRegistry);
+        this.bucket = bucket;
+        this.partSizeMb = partSizeMb;
+        this.maxPartsInFlight = maxPartsInFlight;
+    }
+
+    @Override
+    public BackupUpload openUpload(String key, String contentType) {
+        return new S3MultipartUploadStream(s3Client, metrics, bucket, key, contentType,
+            partSizeMb * 1024 * 1024, maxPartsInFlight);
+    }
+
+    @Override
+    public InputStream openRead(String key) {
+        long startedNanos = System.nanoTime();
+        try {
+            InputStream stream = s3AsyncClient.getObject(GetObjectRequest.builder().bucket(bucket).key(key).build(),
+                AsyncResponseTransformer.toBlockingInputStream()).join();
+            return new MeteredInputStream(stream, startedNanos);
+        } catch (CompletionException e) {
+            if (isNotFound(e.getCause())) {
+                return null;
+            }
+            metrics.recordFailure(S3TransferMetrics.DOWNLOAD);
+            throw unwrap(e);
+        }
+    }
+
+    @Override
+    public void put(String key, byte[] data, String contentType) {
+        s3Client.putObject(PutObjectRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .contentType(contentType)
+                .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                .build(),
+            RequestBody.fromBytes(data));
+    }
+
+    @Override
+    public void delete(Collection<String> keys) {
+        List<ObjectIdentifier> objects = keys.stream()
+            .map(key -> ObjectIdentifier.builder().key(key).build())
+            .toList();
+        for (int from = 0; from < objects.size(); from += DELETE_BATCH_SIZE) {
+            s3Client.deleteObjects(DeleteObjectsRequest.builder()
+                .bucket(bucket)
+                .delete(Delete.builder()
+                    .objects(objects.subList(from, Math.min(from + DELETE_BATCH_SIZE, objects.size())))
+                    .quiet(true)
+                    .build())
+                .build());
+        }
+        logger.debug("S3 객체 삭제: {}개", objects.size());
+    }
+
+    @Override
+    public List<StoredObject> list(String prefix) {
+        return s3Client.listObjectsV2Paginator(ListObjectsV2Request.builder().bucket(bucket).prefix(prefix).build())
+            .contents().stream()
+            .map(object -> new StoredObject(object.key(), object.size()))
+            .toList();
+    }
+
+    @Override
+    public String location() {
+        return "s3://" + bucket;
+    }
+
+    private static boolean isNotFound(Throwable cause) {
+        return cause instanceof NoSuchKeyException
+            || (cause instanceof S3Exception s3Exception && s3Exception.statusCode() == 404);
+    }
+
+    // 비동기 클라이언트 예외는 CompletionException 으로 감싸져 오므로 원래 SDK 예외를 던진다
+    private static RuntimeException unwrap(CompletionException e) {
+        return e.getCause() instanceof RuntimeException cause ? cause : e;
+    }
+
+    // 끝까지 읽으면 받은 바이트 수와 소요 시간을 성공으로, 읽다가 오류가 나면 실패로 기록한다
+    // (끝까지 읽지 않고 닫은 경우는 전송이 끝난 것이 아니므로 기록하지 않는다)
+    private final class MeteredInputStream extends FilterInputStream {
+
+        private final long startedNanos;
+        private long bytesRead;
+        private boolean recorded;
+
+        private MeteredInputStream(InputStream in, long startedNanos) {
+            super(in);
+            this.startedNanos = startedNanos;
+        }
+
+        @Override
+        public int read() throws IOException {
+            try {
+                int b = super.read();
+                if (b >= 0) {
+                    bytesRead++;
+                } else {
+                    recordSuccess();
+                }
+                return b;
+            } catch (IOException | RuntimeException e) {
+                recordFailure();
+                throw e;
+            }
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            try {
+                int read = super.read(b, off, len);
+                if (read > 0) {
+                    bytesRead += read;
+                } else if (read < 0) {
+                    recordSuccess();
+                }
+                return read;
+            } catch (IOException | RuntimeException e) {
+                recordFailure();
+                throw e;
+            }
+        }
+
+        private void recordSuccess() {
+            if (!recorded) {
+                recorded = true;
+                metrics.recordSuccess(S3TransferMetrics.DOWNLOAD, bytesRead, startedNanos);
+            }
+        }
+
+        private void recordFailure() {
+            if (!recorded) {
+                recorded = true;
+                metrics.recordFailure(S3TransferMetrics.DOWNLOAD);
+            }
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.part2.monew.storage;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.ChecksumAlgorithm;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+/**
+ * 고정 크기 파트로 나눠 S3 멀티파트 업로드를 하는 OutputStream
+ * - 파트 버퍼가 차면 백그라운드 스레드로 업로드하고, 동시에 올라가는 파트 수를 제한해 메모리를 (maxInFlight + 1) * partSize 로 묶는다.
+ * - 쓰는 쪽(DB 스캔)과 업로드가 겹쳐 진행되며, close() 에서 남은 파트를 올리고 업로드를 완료한다. 실패하면 업로드를 중단(abort)한다.
+ * - 파트마다 CRC32 체크섬을 함께 보내 S3 가 받은 바이트를 검증하고, 완료 시 파트 체크섬으로 전체 객체 체크섬을 만든다.
+ */
+public class S3MultipartUploadStream extends BackupUpload {
+
+    private static final Logger logger = LoggerFactory.getLogger(S3MultipartUploadStream.class);
+
+    public static final int MIN_PART_SIZE = 5 * 1024 * 1024;
+
+    private final S3Client s3Client;
+    private final S3TransferMetrics metrics;
+    private final String bucket;
+    private final String key;
+    private final String uploadId;
+    private final int partSize;
+    private final Semaphore inFlight;
+    private final ExecutorService uploader;
+    private final List<CompletableFuture<CompletedPart>> parts = new ArrayList<>();
+    private final long startedNanos = System.nanoTime();
+
+    private byte[] buffer;
+    private int position;
+    private long bytesWritten;
+    private boolean closed;
+    private boolean aborted;
+
+    S3MultipartUploadStream(S3Client s3Client, S3TransferMetrics metrics, String bucket, String key,
+        String contentType, int partSize, int maxInFlight) {
+        this.s3Client = s3Client;
+        this.metrics = metrics;
+        this.bucket = bucket;
+        this.key = key;
+        this.partSize = Math.max(partSize, MIN_PART_SIZE);
+        this.inFlight = new Semaphore(Math.max(1, maxInFlight));
+        this.uploader = Executors.newFixedThreadPool(Math.max(1, maxInFlight));
+        this.buffer = new byte[this.partSize];
+        this.uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+            .bucket(bucket)
+            .key(key)
+            .contentType(contentType)
+            .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+            .build()).uploadId();
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        if (position == buffer.length) {
+            flushPart();
+        }
+        buffer[position++] = (byte) b;
+        bytesWritten++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        while (len > 0) {
+            if (position == buffer.length) {
+                flushPart();
+            }
+            int chunk = Math.min(len, buffer.length - position);
+            System.arraycopy(b, off, buffer, position, chunk);
+            position += chunk;
+            off += chunk;
+            len -= chunk;
+            bytesWritten += chunk;
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        try {
+            // 마지막 파트는 5MB 보다 작아도 된다 (빈 객체도 파트 1개로 완료)
+            if (position > 0 || parts.isEmpty()) {
+                flushPart();
+            }
+            List<CompletedPart> completed = new ArrayList<>(parts.size());
+            for (CompletableFuture<CompletedPart> part : parts) {
+                completed.add(part.get());
+            }
+            s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .multipartUpload(CompletedMultipartUpload.builder().parts(completed).build())
+                .build());
+            metrics.recordSuccess(S3TransferMetrics.UPLOAD, bytesWritten, startedNanos);
+            logger.info("S3 멀티파트 업로드 완료: {} ({} bytes, {} parts)", key, bytesWritten, completed.size());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abort();
+            throw new IOException("S3 멀티파트 업로드 중단: " + key, e);
+        } catch (ExecutionException | RuntimeException e) {
+            abort();
+            throw new IOException("S3 멀티파트 업로드 실패: " + key, e);
+        } finally {
+            uploader.shutdown();
+        }
+    }
+
+    // 쓰기 도중 예외가 나면 호출해 올라간 파트를 정리한다. close() 실패 후 호출 측이 다시 불러도 한 번만 처리한다
+    @Override
+    public void abort() {
+        if (aborted) {
+            return;
+        }
+        aborted = true;
+        closed = true;
+        metrics.recordFailure(S3TransferMetrics.UPLOAD);
+        parts.forEach(part -> part.cancel(true));
+        uploader.shutdownNow();
+        try {
+            s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+                .bucket(bucket)
+                .key(key)
+                .uploadId(uploadId)
+                .build());
+        } catch (Exception e) {
+            logger.warn("S3 멀티파트 업로드 abort 실패: {} - {}", key, e.getMessage());
+        }
+    }
+
+    @Override
+    public long getBytesWritten() {
+        return bytesWritten;
+    }
+
+    private void flushPart() throws IOException {
+        try {
+            inFlight.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 파트 업로드 대기 중 인터럽트: " + key, e);
+        }
+        // 이미 실패한 파트가 있으면 더 쓰지 않는다
+        for (CompletableFuture<CompletedPart> part : parts) {
+            if (part.isCompletedExceptionally()) {
+                inFlight.release();
+                throw new IOException("S3 파트 업로드 실패: " + key);
+            }
+        }
+
+        int partNumber = parts.size() + 1;
+        byte[] data = buffer;
+        int length = position;
+        parts.add(CompletableFuture.supplyAsync(() -> {
+            try {
+                UploadPartResponse response = s3Client.uploadPart(UploadPartRequest.builder()
+                        .bucket(bucket)
+                        .key(key)
+                        .uploadId(uploadId)
+                        .partNumber(partNumber)
+                        .contentLength((long) length)
+                        .checksumAlgorithm(ChecksumAlgorithm.CRC32)
+                        .build(),
+                    RequestBody.fromInputStream(new ByteArrayInputStream(data, 0, length), length));
+                return CompletedPart.builder()
+                    .partNumber(partNumber)
+                    .eTag(response.eTag())
+                    .checksumCRC32(response.checksumCRC32())
+                    .build();
+            } finally {
+                inFlight.release();
+            }
+        }, uploader));
+
+        // 업로드 중인 버퍼를 재사용하지 않도록 새 버퍼를 쓴다 (GC 가 완료된 파트 버퍼를 회수)
+        buffer = new byte[partSize];
+        position = 0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.part2.monew.storage;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * S3 전송 메트릭 (operation 태그: upload, download)
+ * - monew.storage.s3.bytes: 전송한 바이트 수
+ * - monew.storage.s3.latency: 요청 시작부터 전송 완료까지 걸린 시간
+ * - monew.storage.s3.failures: 실패한 전송 수
+ */
+class S3TransferMetrics {
+
+    static final String UPLOAD = "upload";
+    static final String DOWNLOAD = "download";
+
+    private final MeterRegistry meterRegistry;
+
+    S3TransferMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    void recordSuccess(String operation, long bytes, long startedNanos) {
+        Counter.builder("monew.storage.s3.bytes")
+            .description("S3 로 주고받은 바이트 수")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .increment(bytes);
+        Timer.builder("monew.storage.s3.latency")
+            .description("S3 전송 소요 시간")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .record(System.nanoTime() - startedNanos, TimeUnit.NANOSECONDS);
+    }
+
+    void recordFailure(String operation) {
+        Counter.builder("monew.storage.s3.failures")
+            .description("실패한 S3 전송 수")
+            .tag("operation", operation)
+            .register(meterRegistry)
+            .increment();
+    }
+}
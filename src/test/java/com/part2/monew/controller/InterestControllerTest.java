@@ -4,6 +4,7 @@ import com.part2.monew.dto.request.InterestRegisterRequestDto;
 import com.part2.monew.dto.request.InterestUpdateRequestDto;
 import com.part2.monew.dto.response.CursorPageResponse;
 import com.part2.monew.dto.response.InterestDto;
+import com.part2.monew.dto.response.InterestSuggestionResponse;
 import com.part2.monew.global.exception.BusinessException;
 import com.part2.monew.global.exception.ErrorCode;
 import com.part2.monew.global.exception.ErrorResponse;
@@ -307,7 +308,7 @@ class InterestControllerTest extends ControllerTestSupport {
     );
 
     given(interestService.searchInterests(
-        eq(keyword), eq(orderBy), eq(direction), eq(cursor), eq(after), eq(limit), eq(requestUserId)
+        eq(keyword), eq(orderBy), eq(direction), eq(cursor), eq(after), eq(limit), eq(true), eq(requestUserId)
     )).willReturn(mockResponse);
 
     ResultActions resultActions = mockMvc.perform(get(BASE_URL)
@@ -328,7 +329,7 @@ class InterestControllerTest extends ControllerTestSupport {
         .andExpect(jsonPath("$.nextCursor").value("NextInterestName"))
         .andExpect(jsonPath("$.totalElements").value(1L));
 
-    verify(interestService).searchInterests(eq(keyword), eq(orderBy), eq(direction), eq(cursor), eq(after), eq(limit), eq(requestUserId));
+    verify(interestService).searchInterests(eq(keyword), eq(orderBy), eq(direction), eq(cursor), eq(after), eq(limit), eq(true), eq(requestUserId));
   }
 
   @Test
@@ -343,7 +344,7 @@ class InterestControllerTest extends ControllerTestSupport {
     );
 
     given(interestService.searchInterests(
-        isNull(), eq(orderBy), eq(direction), isNull(), isNull(), eq(expectedDefaultLimit), eq(requestUserId)
+        isNull(), eq(orderBy), eq(direction), isNull(), isNull(), eq(expectedDefaultLimit), eq(true), eq(requestUserId)
     )).willReturn(mockResponse);
 
     ResultActions resultActions = mockMvc.perform(get(BASE_URL)
@@ -355,7 +356,7 @@ class InterestControllerTest extends ControllerTestSupport {
 
     resultActions.andExpect(status().isOk());
 
-    verify(interestService).searchInterests(isNull(), eq(orderBy), eq(direction), isNull(), isNull(), eq(expectedDefaultLimit), eq(requestUserId));
+    verify(interestService).searchInterests(isNull(), eq(orderBy), eq(direction), isNull(), isNull(), eq(expectedDefaultLimit), eq(true), eq(requestUserId));
   }
 
   @Test
@@ -436,4 +437,30 @@ class InterestControllerTest extends ControllerTestSupport {
 
     verify(interestService).deleteInterest(eq(nonExistentInterestId), eq(requestUserId));
   }
+
+  @Test
+  @DisplayName("[자동완성] prefix 로 관심사/키워드 추천 조회 성공")
+  void autocomplete_success() throws Exception {
+    UUID interestId = UUID.randomUUID();
+    List<InterestSuggestionResponse> suggestions = List.of(
+        new InterestSuggestionResponse("INTEREST", "경제", interestId, 120L),
+        new InterestSuggestionResponse("KEYWORD", "경기", null, 80L)
+    );
+    given(interestService.autocomplete(eq("경"), eq(5))).willReturn(suggestions);
+
+    ResultActions resultActions = mockMvc.perform(get(BASE_URL + "/autocomplete")
+            .param("prefix", "경")
+            .param("limit", "5")
+            .accept(MediaType.APPLICATION_JSON))
+        .andDo(print());
+
+    resultActions
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$[0].text").value("경제"))
+        .andExpect(jsonPath("$[0].interestId").value(interestId.toString()))
+        .andExpect(jsonPath("$[1].type").value("KEYWORD"))
+        .andExpect(jsonPath("$[1].interestId").doesNotExist());
+
+    verify(interestService).autocomplete(eq("경"), eq(5));
+  }
 }
@@ -0,0 +1,82 @@
+package com.part2.monew.controller;
+
+import com.part2.monew.dto.request.NotificationBulkConfirmRequest;
+import com.part2.monew.dto.response.NotificationBulkConfirmResponse;
+import com.part2.monew.support.ControllerTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+class NotificationControllerTest extends ControllerTestSupport {
+
+  private static final String BASE_URL = "/api/notifications";
+
+  private final UUID requestUserId = UUID.randomUUID();
+
+  @Test
+  @DisplayName("알림 선택 확인 성공 - 확인된 수를 반환한다")
+  void bulkConfirm_success() throws Exception {
+    List<UUID> ids = List.of(UUID.randomUUID(), UUID.randomUUID());
+    given(notificationService.updatedBulk(requestUserId, ids)).willReturn(new NotificationBulkConfirmResponse(2));
+
+    mockMvc.perform(patch(BASE_URL + "/bulk")
+            .header("Monew-Request-User-ID", requestUserId.toString())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new NotificationBulkConfirmRequest(ids))))
+        .andDo(print())
+        .andExpect(status().isOk())
+        .andExpect(jsonPath("$.confirmedCount").value(2));
+  }
+
+  @Test
+  @DisplayName("알림 선택 확인 실패 - 한 번에 1000개를 넘기면 400")
+  void bulkConfirm_fail_tooManyIds() throws Exception {
+    List<UUID> ids = Stream.generate(UUID::randomUUID).limit(1001).toList();
+
+    mockMvc.perform(patch(BASE_URL + "/bulk")
+            .header("Monew-Request-User-ID", requestUserId.toString())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new NotificationBulkConfirmRequest(ids))))
+        .andExpect(status().isBadRequest());
+
+    verify(notificationService, never()).updatedBulk(any(), anyList());
+  }
+
+  @Test
+  @DisplayName("알림 선택 확인 실패 - 빈 목록이면 400")
+  void bulkConfirm_fail_empty() throws Exception {
+    mockMvc.perform(patch(BASE_URL + "/bulk")
+            .header("Monew-Request-User-ID", requestUserId.toString())
+            .contentType(MediaType.APPLICATION_JSON)
+            .content(objectMapper.writeValueAsString(new NotificationBulkConfirmRequest(List.of()))))
+        .andExpect(status().isBadRequest());
+
+    verify(notificationService, never()).updatedBulk(any(), anyList());
+  }
+
+  @Test
+  @DisplayName("알림 전체 확인 성공 - 204")
+  void confirmAll_success() throws Exception {
+    given(notificationService.updatedAll(requestUserId)).willReturn(3);
+
+    mockMvc.perform(patch(BASE_URL)
+            .header("Monew-Request-User-ID", requestUserId.toString()))
+        .andExpect(status().isNoContent());
+
+    verify(notificationService).updatedAll(requestUserId);
+  }
+}
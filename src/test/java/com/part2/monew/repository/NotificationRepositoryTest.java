@@ -0,0 +1,159 @@
+package com.part2.monew.repository;
+
+import com.part2.monew.entity.Notification;
+import com.part2.monew.entity.User;
+import com.part2.monew.mapper.InterestMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+class NotificationRepositoryTest {
+
+    @Autowired
+    private TestEntityManager em;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @MockitoBean
+    private InterestMapper interestMapper;
+
+    private User user;
+    private User otherUser;
+
+    @BeforeEach
+    void setUp() {
+        user = em.persist(new User("알림", "notify@example.com", "pass123", true, Timestamp.from(Instant.now())));
+        otherUser = em.persist(new User("다른", "other@example.com", "pass123", true, Timestamp.from(Instant.now())));
+    }
+
+    @DisplayName("미확인 알림을 청크 크기만큼씩 확인하고, 다른 사용자의 알림은 건드리지 않는다.")
+    @Test
+    void confirmUnconfirmedChunk() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            notify(user);
+        }
+        Notification others = notify(otherUser);
+        em.flush();
+
+        //when
+        List<Integer> chunks = new ArrayList<>();
+        int updated;
+        do {
+            updated = notificationRepository.confirmUnconfirmedChunk(user.getId(), 2);
+            chunks.add(updated);
+        } while (updated == 2);
+
+        //then
+        assertThat(chunks).containsExactly(2, 2, 1);
+        assertThat(notificationRepository.countByUserIdAndConfirmedFalse(user.getId())).isZero();
+        assertThat(notificationRepository.countByUserIdAndConfirmedFalse(otherUser.getId())).isEqualTo(1);
+        em.clear();
+        assertThat(em.find(Notification.class, others.getId()).isConfirmed()).isFalse();
+    }
+
+    @DisplayName("ID 로 확인할 때 내 미확인 알림만 확인하고 그 수를 반환한다.")
+    @Test
+    void confirmByIds() {
+        //given
+        Notification unconfirmed = notify(user);
+        Notification alreadyConfirmed = notify(user);
+        alreadyConfirmed.setConfirmed(true);
+        Notification others = notify(otherUser);
+        em.flush();
+
+        //when
+        int confirmed = notificationRepository.confirmByIds(user.getId(),
+                List.of(unconfirmed.getId(), alreadyConfirmed.getId(), others.getId(), UUID.randomUUID()));
+
+        //then
+        assertThat(confirmed).isEqualTo(1);
+        em.clear();
+        assertThat(em.find(Notification.class, unconfirmed.getId()).isConfirmed()).isTrue();
+        assertThat(em.find(Notification.class, others.getId()).isConfirmed()).isFalse();
+    }
+
+    @DisplayName("생성 시각이 같은 알림도 (createdAt, id) 키셋으로 빠짐/중복 없이 페이지를 넘긴다.")
+    @Test
+    void findUnconfirmedByUserId_keysetOnEqualCreatedAt() {
+        //given
+        for (int i = 0; i < 5; i++) {
+            notify(user);
+        }
+        notify(otherUser);
+        em.flush();
+        Timestamp sameTime = Timestamp.from(Instant.parse("2025-06-01T00:00:00Z"));
+        em.getEntityManager().createNativeQuery("UPDATE notifications SET created_at = :createdAt")
+                .setParameter("createdAt", sameTime)
+                .executeUpdate();
+        em.clear();
+        List<UUID> expected = notificationRepository.findUnconfirmedByUserId(user.getId(), null, null, 100).stream()
+                .map(Notification::getId)
+                .toList();
+
+        //when
+        List<UUID> paged = new ArrayList<>();
+        Timestamp cursorCreatedAt = null;
+        UUID cursorId = null;
+        boolean hasNext = true;
+        while (hasNext) {
+            List<Notification> page = notificationRepository.findUnconfirmedByUserId(user.getId(), cursorCreatedAt, cursorId, 2);
+            hasNext = page.size() > 2;
+            List<Notification> content = hasNext ? page.subList(0, 2) : page;
+            content.forEach(notification -> paged.add(notification.getId()));
+            Notification last = content.get(content.size() - 1);
+            cursorCreatedAt = last.getCreatedAt();
+            cursorId = last.getId();
+        }
+
+        //then
+        assertThat(expected).hasSize(5);
+        assertThat(paged).containsExactlyElementsOf(expected);
+    }
+
+    @DisplayName("이전 형식 커서(createdAt 만)는 그 시각보다 이전 알림만 조회한다.")
+    @Test
+    void findUnconfirmedByUserId_legacyCursor() {
+        //given
+        Notification older = notify(user);
+        Notification newer = notify(user);
+        em.flush();
+        setCreatedAt(older, "2025-06-01T00:00:00Z");
+        setCreatedAt(newer, "2025-06-02T00:00:00Z");
+        em.clear();
+
+        //when
+        List<Notification> page = notificationRepository.findUnconfirmedByUserId(user.getId(),
+                Timestamp.from(Instant.parse("2025-06-02T00:00:00Z")), null, 10);
+
+        //then
+        assertThat(page).extracting(Notification::getId).containsExactly(older.getId());
+    }
+
+    private void setCreatedAt(Notification notification, String instant) {
+        em.getEntityManager().createNativeQuery("UPDATE notifications SET created_at = :createdAt WHERE notification_id = :id")
+                .setParameter("createdAt", Timestamp.from(Instant.parse(instant)))
+                .setParameter("id", notification.getId())
+                .executeUpdate();
+    }
+
+    private Notification notify(User recipient) {
+        return em.persist(new Notification(recipient, "새 댓글이 달렸습니다.", "COMMENT", UUID.randomUUID()));
+    }
+}
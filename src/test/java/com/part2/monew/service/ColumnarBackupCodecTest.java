@@ -0,0 +1,147 @@
+package com.part2.monew.service;
+
+import com.part2.monew.service.NewsRestoreEngine.BackupArticle;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ColumnarBackupCodecTest {
+
+  @Test
+  @DisplayName("[왕복] 여러 블록에 걸친 기사를 쓴 순서 그대로 읽는다 (null 포함)")
+  void roundTrip_acrossBlocks() throws IOException {
+    List<BackupArticle> articles = new ArrayList<>();
+    long base = 1_700_000_000_000L;
+    for (int i = 0; i < 25; i++) {
+      articles.add(new BackupArticle(
+          UUID.randomUUID(),
+          "source-" + (i % 3),
+          "https://news.example.com/" + i,
+          "제목 " + i,
+          new Timestamp(base + i * 60_000L),
+          i % 5 == 0 ? null : "요약 " + i,
+          (long) i,
+          (long) -i,
+          i % 2 == 0,
+          new Timestamp(base - i * 1_000L),
+          i % 4 == 0 ? null : new Timestamp(base + i)
+      ));
+    }
+    articles.add(new BackupArticle(null, null, null, null, null, null, null, null, null, null, null));
+
+    assertThat(readAll(write(articles, 7))).containsExactlyElementsOf(articles);
+  }
+
+  @Test
+  @DisplayName("[왕복] 기사가 없으면 빈 결과를 반환한다")
+  void roundTrip_empty() throws IOException {
+    assertThat(readAll(write(List.of(), 10))).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[크기] 반복되는 출처와 가까운 시각은 행당 몇 바이트로 저장된다")
+  void encoding_isCompact() throws IOException {
+    List<BackupArticle> articles = new ArrayList<>();
+    for (int i = 0; i < 1000; i++) {
+      articles.add(new BackupArticle(new UUID(0x1234L, i), "한국경제 전체뉴스", "https://www.hankyung.com/article/" + i,
+          "제목", new Timestamp(1_700_000_000_000L + i), "요약", 0L, 0L, false,
+          new Timestamp(1_700_000_000_000L + i), new Timestamp(1_700_000_000_000L + i)));
+    }
+
+    // 출처는 사전 항목 1개 + 번호, 시각은 1ms 차이만 저장된다 (같은 내용의 NDJSON 한 줄은 300 bytes 이상)
+    assertThat(write(articles, 4096).length).isLessThan(1000 * 10);
+  }
+
+  @Test
+  @DisplayName("[검증] 끝 표시 전에 잘린 파일은 읽기에 실패한다")
+  void read_truncatedFails() throws IOException {
+    byte[] data = write(List.of(new BackupArticle(UUID.randomUUID(), "s", "u", "t", null, null, 1L, 2L, false, null, null)), 10);
+    byte[] truncated = Arrays.copyOf(data, data.length - 4);
+
+    assertThatThrownBy(() -> readAll(truncated)).isInstanceOf(UncheckedIOException.class);
+  }
+
+  @Test
+  @DisplayName("[검증] 더 새로운 형식 버전은 읽지 않는다")
+  void read_rejectsNewerVersion() throws IOException {
+    byte[] data = write(List.of(), 10);
+    data[7] = (byte) (ColumnarBackupWriter.FORMAT_VERSION + 1);
+
+    assertThatThrownBy(() -> readAll(data)).isInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("[검증] 블록 행 수가 컬럼 내용과 맞지 않으면 IOException 으로 실패한다")
+  void read_rowCountMismatchFails() throws IOException {
+    byte[] data = write(sampleArticles(5), 10);
+    byte[] fewer = data.clone();
+    ByteBuffer.wrap(fewer).putInt(8, 4);
+    byte[] more = data.clone();
+    ByteBuffer.wrap(more).putInt(8, 6);
+
+    assertThatThrownBy(() -> readAll(fewer)).isInstanceOf(UncheckedIOException.class)
+        .hasCauseInstanceOf(IOException.class);
+    assertThatThrownBy(() -> readAll(more)).isInstanceOf(UncheckedIOException.class)
+        .hasCauseInstanceOf(IOException.class);
+  }
+
+  @Test
+  @DisplayName("[검증] 손상된 바이트는 배열 범위 오류가 아니라 IOException 으로만 실패한다")
+  void read_corruptedBytesFailWithIOException() throws IOException {
+    byte[] data = write(sampleArticles(20), 8);
+    Random random = new Random(42);
+
+    for (int i = 0; i < 500; i++) {
+      byte[] corrupted = data.clone();
+      int position = 8 + random.nextInt(corrupted.length - 8);
+      corrupted[position] = (byte) random.nextInt(256);
+      try {
+        readAll(corrupted);
+      } catch (IOException | UncheckedIOException e) {
+        // 손상을 알아챈 경우 (같은 값으로 바뀌었거나 내용만 달라진 경우는 정상적으로 읽힌다)
+      }
+    }
+  }
+
+  private static List<BackupArticle> sampleArticles(int count) {
+    List<BackupArticle> articles = new ArrayList<>();
+    for (int i = 0; i < count; i++) {
+      articles.add(new BackupArticle(UUID.randomUUID(), "source-" + (i % 2), "https://news.example.com/" + i,
+          "제목 " + i, new Timestamp(1_700_000_000_000L + i), i % 3 == 0 ? null : "요약", (long) i, 0L,
+          i % 2 == 0, new Timestamp(1_700_000_000_000L), null));
+    }
+    return articles;
+  }
+
+  private static byte[] write(List<BackupArticle> articles, int blockRows) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    ColumnarBackupWriter writer = new ColumnarBackupWriter(out, blockRows);
+    for (BackupArticle article : articles) {
+      writer.write(article);
+    }
+    writer.finish();
+    return out.toByteArray();
+  }
+
+  private static List<BackupArticle> readAll(byte[] data) throws IOException {
+    List<BackupArticle> result = new ArrayList<>();
+    try (ColumnarBackupReader reader = new ColumnarBackupReader(new ByteArrayInputStream(data))) {
+      reader.forEachRemaining(result::add);
+    }
+    return result;
+  }
+}
@@ -0,0 +1,255 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.repository.UserSubscriberRepository;
+import com.part2.monew.service.InterestArticleNotifier.FanOutJob;
+import com.part2.monew.service.InterestArticleNotifier.InterestArticles;
+import com.part2.monew.service.InterestArticleNotifier.Watermark;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class InterestArticleNotifierTest {
+
+  private static final int PUSH_THRESHOLD = 10;
+  private static final int BATCH_SIZE = 2;
+  private static final UUID MIN_UUID = new UUID(0L, 0L);
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private UserSubscriberRepository userSubscriberRepository;
+
+  @Mock
+  private NotificationUnreadCounter notificationUnreadCounter;
+
+  @Mock
+  private NotificationPushService notificationPushService;
+
+  @Mock
+  private RMap<String, String> jobs;
+
+  @Mock
+  private RMap<String, String> failedJobs;
+
+  @Mock
+  private RLock lock;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, String> storedJobs = new ConcurrentHashMap<>();
+  private final Map<String, String> storedFailedJobs = new ConcurrentHashMap<>();
+  // INSERT 배치마다 꺼내 쓰는 결과: 예외면 던지고, 숫자면 모든 행의 update count 로 쓴다 (비면 1)
+  private final Deque<Object> insertResults = new ArrayDeque<>();
+  private InterestArticleNotifier notifier;
+
+  private final UUID interestId = UUID.randomUUID();
+  private final UUID user1 = new UUID(0L, 1L);
+  private final UUID user2 = new UUID(0L, 2L);
+  private final UUID user3 = new UUID(0L, 3L);
+
+  @BeforeEach
+  void setUp() {
+    notifier = new InterestArticleNotifier(jdbcTemplate, transactionManager, redisson, objectMapper,
+        userSubscriberRepository, notificationUnreadCounter, notificationPushService,
+        PUSH_THRESHOLD, BATCH_SIZE, 1000, 7, 3);
+    lenient().when(redisson.<String, String>getMap("notification:interest-fanout:jobs", StringCodec.INSTANCE))
+        .thenReturn(jobs);
+    lenient().when(redisson.<String, String>getMap("notification:interest-fanout:failed", StringCodec.INSTANCE))
+        .thenReturn(failedJobs);
+    backByMap(jobs, storedJobs);
+    backByMap(failedJobs, storedFailedJobs);
+    lenient().when(redisson.getLock(startsWith("lock:notification:interest-fanout:"))).thenReturn(lock);
+    lenient().when(lock.tryLock()).thenReturn(true);
+    lenient().when(lock.isHeldByCurrentThread()).thenReturn(true);
+    lenient().when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+      Object result = insertResults.isEmpty() ? 1 : insertResults.poll();
+      if (result instanceof RuntimeException e) {
+        throw e;
+      }
+      int[] counts = new int[invocation.<List<?>>getArgument(1).size()];
+      Arrays.fill(counts, (Integer) result);
+      return counts;
+    });
+  }
+
+  @Test
+  @DisplayName("[push] 구독자가 기준 이하면 user_id 키셋 배치로 알림을 넣고, 카운터/발행은 배치마다 한 번에 보낸다")
+  void notify_pushFansOutInBatches() {
+    givenSubscribers(MIN_UUID, user1, user2);
+    givenSubscribers(user2, user3);
+
+    notifier.notifyInterest(new InterestArticles(interestId, "경제", 3, 2));
+
+    verify(jdbcTemplate, times(2)).batchUpdate(anyString(), anyList());
+    verify(notificationUnreadCounter).incrementAll(List.of(user1, user2), 1);
+    verify(notificationUnreadCounter).incrementAll(List.of(user3), 1);
+    verify(notificationPushService, times(2)).publishAll(anyList());
+    assertThat(storedJobs).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[pull] 구독자가 기준을 넘으면 이벤트 로그에만 기록하고 알림 행은 만들지 않는다")
+  void notify_pullAppendsEvent(@Mock RScoredSortedSet<String> events, @Mock RSet<String> pullInterests) {
+    given(redisson.<String>getScoredSortedSet("notification:interest-events:" + interestId, StringCodec.INSTANCE))
+        .willReturn(events);
+    given(redisson.<String>getSet("notification:pull-interests", StringCodec.INSTANCE)).willReturn(pullInterests);
+
+    notifier.notifyInterest(new InterestArticles(interestId, "경제", PUSH_THRESHOLD + 1, 2));
+
+    verify(events).add(anyDouble(), anyString());
+    verify(pullInterests).add(interestId.toString());
+    verifyNoInteractions(jdbcTemplate, userSubscriberRepository, notificationUnreadCounter);
+    assertThat(storedJobs).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[재시도] 배치가 실패하면 마지막으로 끝낸 cursor 를 남기고, 재시도는 그 다음 구독자부터 보낸다")
+  void failedBatchResumesFromCursor() throws Exception {
+    givenSubscribers(MIN_UUID, user1, user2);
+    givenSubscribers(user2, user3);
+    insertResults.add(1);
+    insertResults.add(new QueryTimeoutException("timeout"));
+
+    notifier.notifyInterest(new InterestArticles(interestId, "경제", 3, 2));
+
+    assertThat(storedJobs).hasSize(1);
+    FanOutJob pending = objectMapper.readValue(storedJobs.values().iterator().next(), FanOutJob.class);
+    assertThat(pending.lastUserId()).isEqualTo(user2);
+    assertThat(pending.attempts()).isEqualTo(1);
+
+    notifier.resumePendingFanOuts();
+
+    assertThat(storedJobs).isEmpty();
+    verify(userSubscriberRepository, times(1)).findSubscriberUserIdsAfter(interestId, MIN_UUID, PageRequest.of(0, BATCH_SIZE));
+    verify(notificationUnreadCounter, times(1)).incrementAll(List.of(user1, user2), 1);
+    verify(notificationUnreadCounter, times(1)).incrementAll(List.of(user3), 1);
+  }
+
+  @Test
+  @DisplayName("[재시도] 이미 들어간 행은 같은 알림 ID 로 충돌해 중복되지 않고, 해당 사용자는 카운터 재조정에 맡긴다")
+  void retryAfterCommittedInsertDoesNotDuplicate() {
+    givenSubscribers(MIN_UUID, user1);
+    // 첫 시도: 행은 커밋됐지만 카운터 증가에서 실패
+    willThrow(new IllegalStateException("redis down")).willDoNothing()
+        .given(notificationUnreadCounter).incrementAll(anyList(), eq(1L));
+
+    notifier.notifyInterest(new InterestArticles(interestId, "경제", 1, 2));
+    insertResults.add(0);
+    notifier.resumePendingFanOuts();
+
+    verify(notificationUnreadCounter).markForReconcile(List.of(user1));
+    verify(notificationUnreadCounter).incrementAll(List.of(), 1);
+    assertThat(storedJobs).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[재시도] 시도 횟수가 상한에 닿으면 작업을 실패 목록으로 옮겨 남긴다")
+  void exhaustedJobMovesToFailed() {
+    givenSubscribers(MIN_UUID, user1);
+    for (int i = 0; i < 3; i++) {
+      insertResults.add(new QueryTimeoutException("timeout"));
+    }
+
+    notifier.notifyInterest(new InterestArticles(interestId, "경제", 1, 2));
+    notifier.resumePendingFanOuts();
+    notifier.resumePendingFanOuts();
+
+    assertThat(storedJobs).isEmpty();
+    assertThat(storedFailedJobs).hasSize(1);
+    verify(notificationUnreadCounter, never()).incrementAll(anyList(), eq(1L));
+  }
+
+  @Test
+  @DisplayName("[워터마크] 'millis|eventId,...' 를 읽고 쓰며, 없거나 형식이 다르면 보존 기간 시작부터 읽는다")
+  void watermark_parseAndFormat() {
+    UUID eventA = UUID.randomUUID();
+    UUID eventB = UUID.randomUUID();
+
+    assertThat(Watermark.parse(null, 500L)).isEqualTo(new Watermark(500L, Set.of()));
+    assertThat(Watermark.parse("1700", 500L)).isEqualTo(new Watermark(500L, Set.of()));
+    assertThat(Watermark.parse("1700|", 500L)).isEqualTo(new Watermark(1700L, Set.of()));
+    assertThat(Watermark.parse("1700|" + eventA + "," + eventB, 500L))
+        .isEqualTo(new Watermark(1700L, Set.of(eventA, eventB)));
+
+    Watermark watermark = new Watermark(1700L, Set.of(eventA));
+    assertThat(Watermark.parse(watermark.format(), 0L)).isEqualTo(watermark);
+  }
+
+  @Test
+  @DisplayName("[워터마크] 같은 ms 의 이벤트는 ID 로 구분하고, 더 늦은 이벤트가 오면 시각과 ID 를 새로 잡는다")
+  void watermark_coversAndAdvance() {
+    UUID eventA = UUID.randomUUID();
+    UUID eventB = UUID.randomUUID();
+    UUID eventC = UUID.randomUUID();
+    Watermark watermark = new Watermark(1700L, Set.of(eventA));
+
+    assertThat(watermark.covers(1699L, eventC)).isTrue();
+    assertThat(watermark.covers(1700L, eventA)).isTrue();
+    assertThat(watermark.covers(1700L, eventB)).isFalse();
+    assertThat(watermark.covers(1701L, eventA)).isFalse();
+
+    assertThat(watermark.advance(1700L, eventB)).isEqualTo(new Watermark(1700L, Set.of(eventA, eventB)));
+    assertThat(watermark.advance(1701L, eventC)).isEqualTo(new Watermark(1701L, Set.of(eventC)));
+    assertThat(watermark.advance(1699L, eventC)).isSameAs(watermark);
+  }
+
+  private void givenSubscribers(UUID after, UUID... userIds) {
+    given(userSubscriberRepository.findSubscriberUserIdsAfter(interestId, after, PageRequest.of(0, BATCH_SIZE)))
+        .willReturn(List.of(userIds));
+  }
+
+  private static void backByMap(RMap<String, String> map, Map<String, String> store) {
+    lenient().when(map.get(anyString())).thenAnswer(invocation -> store.get(invocation.<String>getArgument(0)));
+    lenient().when(map.fastPut(anyString(), anyString())).thenAnswer(invocation ->
+        store.put(invocation.getArgument(0), invocation.getArgument(1)) == null);
+    lenient().when(map.fastRemove(anyString())).thenAnswer(invocation -> {
+      store.remove(invocation.<String>getArgument(0));
+      return 1L;
+    });
+    lenient().when(map.readAllValues()).thenAnswer(invocation -> List.copyOf(store.values()));
+  }
+}
@@ -0,0 +1,135 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.InterestSuggestionResponse;
+import com.part2.monew.entity.Interest;
+import com.part2.monew.repository.InterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InterestAutocompleteIndexTest {
+
+  private static final int TOP_K = 20;
+
+  @Mock
+  private InterestRepository interestRepository;
+
+  @Mock
+  private InterestNameIndex interestNameIndex;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RTopic topic;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private InterestAutocompleteIndex index;
+  private MessageListener<String> listener;
+
+  @BeforeEach
+  @SuppressWarnings("unchecked")
+  void setUp() {
+    given(redisson.getTopic("channel:interest-catalog", StringCodec.INSTANCE)).willReturn(topic);
+    index = new InterestAutocompleteIndex(interestRepository, interestNameIndex, redisson, objectMapper, TOP_K, 4);
+    index.subscribeTopic();
+    ArgumentCaptor<MessageListener<String>> captor = ArgumentCaptor.forClass(MessageListener.class);
+    verify(topic).addListener(eq(String.class), captor.capture());
+    listener = captor.getValue();
+  }
+
+  @Test
+  @DisplayName("[조회] API 최대 limit(top-k) 만큼 결과를 돌려준다")
+  void suggest_returnsUpToTopK() {
+    List<Object[]> rows = new ArrayList<>();
+    for (int i = 0; i < 25; i++) {
+      rows.add(row(UUID.randomUUID(), "경제" + i, i, null));
+    }
+    given(interestRepository.findAllCatalogRows()).willReturn(rows);
+    index.rebuild();
+
+    assertThat(index.maxLimit()).isEqualTo(TOP_K);
+    assertThat(index.suggest("경제", TOP_K)).hasSize(TOP_K)
+        .extracting(InterestSuggestionResponse::subscriberCount)
+        .startsWith(24L, 23L, 22L);
+  }
+
+  @Test
+  @DisplayName("[변경] 바뀐 관심사/키워드는 trie 를 다시 만들지 않고 변경분으로 순위에 반영한다")
+  void refresh_appliesChangesWithoutRebuild() throws Exception {
+    UUID economyId = UUID.randomUUID();
+    UUID sportsId = UUID.randomUUID();
+    given(interestRepository.findAllCatalogRows()).willReturn(List.of(
+        row(economyId, "경제", 10, "주식"),
+        row(sportsId, "경기 결과", 50, "축구")));
+    index.rebuild();
+    assertThat(index.suggest("경", 5)).extracting(InterestSuggestionResponse::text).containsExactly("경기 결과", "경제");
+
+    given(interestRepository.findById(economyId)).willReturn(Optional.of(interest(economyId, "경제", 100, "주식\n금리")));
+    listener.onMessage("channel:interest-catalog", change("UPSERT", economyId, "경제"));
+    index.refreshIfDirty();
+
+    assertThat(index.suggest("경", 5)).extracting(InterestSuggestionResponse::text).containsExactly("경제", "경기 결과");
+    assertThat(index.suggest("금", 5)).extracting(InterestSuggestionResponse::subscriberCount).containsExactly(100L);
+    assertThat(index.suggest("주", 5)).extracting(InterestSuggestionResponse::subscriberCount).containsExactly(100L);
+    verify(interestRepository, times(1)).findAllCatalogRows();
+  }
+
+  @Test
+  @DisplayName("[재구성] 재구성 중 도착한 삭제는 읽어 온 카탈로그 위에 다시 반영한다")
+  void rebuild_reappliesChangesArrivingDuringLoad() throws Exception {
+    UUID deletedId = UUID.randomUUID();
+    UUID keptId = UUID.randomUUID();
+    willAnswer(invocation -> {
+      listener.onMessage("channel:interest-catalog", change("DELETE", deletedId, "경제"));
+      List<Object[]> rows = new ArrayList<>();
+      rows.add(row(deletedId, "경제", 10, null));
+      rows.add(row(keptId, "경기", 5, null));
+      return rows;
+    }).given(interestRepository).findAllCatalogRows();
+
+    index.rebuild();
+
+    assertThat(index.suggest("경", 5)).extracting(InterestSuggestionResponse::interestId).containsExactly(keptId);
+  }
+
+  private String change(String type, UUID interestId, String name) throws Exception {
+    return objectMapper.writeValueAsString(new InterestAutocompleteIndex.CatalogChange(
+        InterestAutocompleteIndex.ChangeType.valueOf(type), interestId, name));
+  }
+
+  private static Object[] row(UUID id, String name, int subscriberCount, String keywordText) {
+    return new Object[]{id, name, subscriberCount, keywordText};
+  }
+
+  private static Interest interest(UUID id, String name, int subscriberCount, String keywordText) {
+    Interest interest = new Interest();
+    interest.setId(id);
+    interest.setName(name);
+    interest.setSubscriberCount(subscriberCount);
+    interest.setKeywordText(keywordText);
+    return interest;
+  }
+}
@@ -0,0 +1,85 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.InterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class InterestNameIndexTest {
+
+  private static final int MAX_CANDIDATES = 20;
+
+  @Mock
+  private InterestRepository interestRepository;
+
+  private InterestNameIndex interestNameIndex;
+
+  @BeforeEach
+  void setUp() {
+    interestNameIndex = new InterestNameIndex(interestRepository, MAX_CANDIDATES);
+  }
+
+  @Test
+  @DisplayName("[정규화] 한글 음절은 자모로 분해하고 공백과 기호는 제거한다")
+  void normalize_decomposesJamo() {
+    assertThat(InterestNameIndex.normalize("경제")).hasSize(5);
+    assertThat(InterestNameIndex.normalize("AI 기술!")).isEqualTo(InterestNameIndex.normalize("ai기술"));
+  }
+
+  @Test
+  @DisplayName("[후보] 받침 하나만 다른 이름도 후보로 찾는다")
+  void findCandidates_jamoLevelMatch() {
+    interestNameIndex.replaceAll(List.of("경제", "정치", "스포츠"));
+
+    List<String> candidates = interestNameIndex.findCandidates("겅제");
+
+    assertThat(candidates).first().isEqualTo("경제");
+  }
+
+  @Test
+  @DisplayName("[삭제] 삭제된 이름은 후보에서 제외된다")
+  void remove_excludesName() {
+    interestNameIndex.replaceAll(List.of("매우비슷한이름이다", "다른관심사"));
+
+    interestNameIndex.remove("매우비슷한이름이다");
+
+    assertThat(interestNameIndex.findCandidates("매우비슷한이름")).doesNotContain("매우비슷한이름이다");
+    assertThat(interestNameIndex.size()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[후보] 관심사 10만 개에서도 후보 수는 상한을 넘지 않는다 (조회 시간은 InterestNameIndexBenchmark)")
+  void findCandidates_100kInterests() {
+    List<String> names = randomNames(100_000, new Random(42));
+    names.add("매우비슷한이름이다");
+    interestNameIndex.replaceAll(names);
+
+    for (String query : randomNames(1_000, new Random(7))) {
+      assertThat(interestNameIndex.findCandidates(query)).hasSizeLessThanOrEqualTo(MAX_CANDIDATES);
+    }
+    assertThat(interestNameIndex.findCandidates("매우비슷한이름")).contains("매우비슷한이름이다");
+  }
+
+  private List<String> randomNames(int count, Random random) {
+    List<String> names = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      int length = 2 + random.nextInt(5);
+      StringBuilder name = new StringBuilder(length);
+      for (int j = 0; j < length; j++) {
+        name.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+      }
+      names.add(name.toString());
+    }
+    return names;
+  }
+}
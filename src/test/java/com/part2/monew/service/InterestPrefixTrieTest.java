@@ -0,0 +1,96 @@
+package com.part2.monew.service;
+
+import com.part2.monew.service.InterestPrefixTrie.Term;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class InterestPrefixTrieTest {
+
+  @Test
+  @DisplayName("[조회] prefix 로 시작하는 항목을 점수 내림차순으로 반환한다")
+  void lookup_ranksByScore() {
+    InterestPrefixTrie trie = InterestPrefixTrie.build(List.of(
+        new Term("경제", 10, 0),
+        new Term("경기", 30, 1),
+        new Term("경제정책", 20, 2),
+        new Term("정치", 100, 3)
+    ), 10);
+
+    assertThat(trie.lookup("경", 10)).containsExactly(1, 2, 0);
+    assertThat(trie.lookup("경제", 10)).containsExactly(2, 0);
+    assertThat(trie.lookup("경", 2)).containsExactly(1, 2);
+  }
+
+  @Test
+  @DisplayName("[조회] 일치하는 prefix 가 없으면 빈 결과를 반환한다")
+  void lookup_noMatch() {
+    InterestPrefixTrie trie = InterestPrefixTrie.build(List.of(new Term("스포츠", 1, 0)), 10);
+
+    assertThat(trie.lookup("야", 10)).isEmpty();
+    assertThat(trie.lookup("스포츠중계", 10)).isEmpty();
+    assertThat(InterestPrefixTrie.EMPTY.lookup("a", 10)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[구성] 노드마다 상위 K 개만 보관한다")
+  void build_keepsTopK() {
+    List<Term> terms = new ArrayList<>();
+    for (int i = 0; i < 50; i++) {
+      terms.add(new Term("a" + i, i, i));
+    }
+    InterestPrefixTrie trie = InterestPrefixTrie.build(terms, 3);
+
+    assertThat(trie.lookup("a", 10)).containsExactly(49, 48, 47);
+    assertThat(trie.lookup("", 10)).containsExactly(49, 48, 47);
+  }
+
+  @Test
+  @DisplayName("[정규화] 입력 중인 음절도 자모 단위 prefix 로 일치한다")
+  void normalize_matchesPartialSyllable() {
+    InterestPrefixTrie trie = InterestPrefixTrie.build(
+        List.of(new Term(InterestAutocompleteIndex.normalize("경제"), 1, 0)), 10);
+
+    assertThat(trie.lookup(InterestAutocompleteIndex.normalize("겨"), 10)).containsExactly(0);
+    assertThat(trie.lookup(InterestAutocompleteIndex.normalize(" 경 "), 10)).containsExactly(0);
+  }
+
+  @Test
+  @DisplayName("[벤치마크] 항목 10만 개에서도 조회는 마이크로초 단위로 끝난다")
+  void lookup_100kTerms() {
+    Random random = new Random(42);
+    List<Term> terms = new ArrayList<>();
+    for (int i = 0; i < 100_000; i++) {
+      terms.add(new Term(InterestAutocompleteIndex.normalize(randomName(random)), random.nextInt(10_000), i));
+    }
+    InterestPrefixTrie trie = InterestPrefixTrie.build(terms, 10);
+
+    List<String> prefixes = new ArrayList<>();
+    for (int i = 0; i < 10_000; i++) {
+      String name = InterestAutocompleteIndex.normalize(randomName(random));
+      prefixes.add(name.substring(0, 1 + random.nextInt(name.length())));
+    }
+    long started = System.nanoTime();
+    for (String prefix : prefixes) {
+      assertThat(trie.lookup(prefix, 10).length).isLessThanOrEqualTo(10);
+    }
+    double averageMicros = (System.nanoTime() - started) / 1_000.0 / prefixes.size();
+
+    // assertThat 오버헤드를 포함한 여유 있는 상한
+    assertThat(averageMicros).isLessThan(100.0);
+  }
+
+  private String randomName(Random random) {
+    int length = 2 + random.nextInt(5);
+    StringBuilder name = new StringBuilder(length);
+    for (int j = 0; j < length; j++) {
+      name.append((char) ('가' + random.nextInt('힣' - '가' + 1)));
+    }
+    return name.toString();
+  }
+}
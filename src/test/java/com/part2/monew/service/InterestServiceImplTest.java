@@ -3,15 +3,19 @@ package com.part2.monew.service;
 import com.part2.monew.dto.request.InterestRegisterRequestDto;
 import com.part2.monew.dto.request.InterestUpdateRequestDto;
 import com.part2.monew.dto.response.InterestDto;
+import com.part2.monew.dto.response.SubscriptionResponse;
 import com.part2.monew.entity.Interest;
 import com.part2.monew.entity.InterestKeyword;
 import com.part2.monew.entity.Keyword;
+import com.part2.monew.entity.UserSubscriber;
 import com.part2.monew.global.exception.BusinessException;
 import com.part2.monew.global.exception.ErrorCode;
 import com.part2.monew.global.exception.interest.SimilarInterestExistsException;
 import com.part2.monew.mapper.InterestMapper;
+import com.part2.monew.mapper.SubscriptionMapper;
 import com.part2.monew.repository.InterestRepository;
-import com.part2.monew.repository.KeywordRepository;
+import com.part2.monew.repository.UserRepository;
+import com.part2.monew.repository.UserSubscriberRepository;
 import com.part2.monew.service.impl.InterestServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -21,6 +25,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.util.Arrays;
@@ -48,11 +53,38 @@ class InterestServiceImplTest {
   private InterestRepository interestRepository;
 
   @Mock
-  private KeywordRepository keywordRepository;
+  private KeywordResolver keywordResolver;
 
   @Mock
   private InterestMapper interestMapper;
 
+  @Mock
+  private InterestNameIndex interestNameIndex;
+
+  @Mock
+  private InterestCountStrategy interestCountStrategy;
+
+  @Mock
+  private InterestAutocompleteIndex interestAutocompleteIndex;
+
+  @Mock
+  private UserActivityReadModel userActivityReadModel;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private UserSubscriberRepository userSubscriberRepository;
+
+  @Mock
+  private UserSubscriptionCache userSubscriptionCache;
+
+  @Mock
+  private SubscriptionMapper subscriptionMapper;
+
+  @Mock
+  private InterestArticleNotifier interestArticleNotifier;
+
   @InjectMocks
   private InterestServiceImpl interestService; // 사용자님이 사용하신 실제 서비스 구현 클래스명
 
@@ -85,18 +117,13 @@ class InterestServiceImplTest {
     );
 
     given(interestRepository.existsByName(registerRequestDto.name())).willReturn(false);
-    given(interestRepository.findAllNames()).willReturn(Collections.emptyList());
+    given(interestNameIndex.findCandidates(registerRequestDto.name())).willReturn(Collections.emptyList());
     given(interestMapper.fromRegisterRequestDto(registerRequestDto)).willReturn(interestFromMapper);
 
     Keyword keyword1Entity = new Keyword(); keyword1Entity.setId(UUID.randomUUID()); keyword1Entity.setName("키워드1");
     Keyword keyword2Entity = new Keyword(); keyword2Entity.setId(UUID.randomUUID()); keyword2Entity.setName("키워드2");
 
-    given(keywordRepository.findByName("키워드1")).willReturn(Optional.empty());
-    given(keywordRepository.findByName("키워드2")).willReturn(Optional.empty());
-
-    given(keywordRepository.save(any(Keyword.class)))
-        .willReturn(keyword1Entity)
-        .willReturn(keyword2Entity);
+    given(keywordResolver.resolve(registerRequestDto.keywords())).willReturn(List.of(keyword1Entity, keyword2Entity));
 
     ArgumentCaptor<Interest> interestCaptorForSave = ArgumentCaptor.forClass(Interest.class);
     given(interestRepository.save(interestCaptorForSave.capture())).willReturn(savedInterest);
@@ -120,16 +147,10 @@ class InterestServiceImplTest {
     assertThat(savedKeywordNames).containsExactlyInAnyOrder("키워드1", "키워드2");
 
     verify(interestRepository).existsByName(registerRequestDto.name());
-    verify(interestRepository).findAllNames();
+    verify(interestNameIndex).findCandidates(registerRequestDto.name());
+    verify(interestRepository, never()).findAllNames();
     verify(interestMapper).fromRegisterRequestDto(registerRequestDto);
-    verify(keywordRepository).findByName("키워드1");
-    verify(keywordRepository).findByName("키워드2");
-
-    ArgumentCaptor<Keyword> keywordSaveCaptor = ArgumentCaptor.forClass(Keyword.class);
-    verify(keywordRepository, times(2)).save(keywordSaveCaptor.capture());
-    List<Keyword> capturedSavedKeywords = keywordSaveCaptor.getAllValues();
-    assertThat(capturedSavedKeywords.get(0).getName()).isEqualTo("키워드1");
-    assertThat(capturedSavedKeywords.get(1).getName()).isEqualTo("키워드2");
+    verify(keywordResolver, times(1)).resolve(registerRequestDto.keywords());
 
     verify(interestRepository).save(any(Interest.class));
     verify(interestMapper).toDto(savedInterest, false);
@@ -157,15 +178,13 @@ class InterestServiceImplTest {
     );
 
     given(interestRepository.existsByName(registerRequestDto.name())).willReturn(false);
-    given(interestRepository.findAllNames()).willReturn(Collections.emptyList());
+    given(interestNameIndex.findCandidates(registerRequestDto.name())).willReturn(Collections.emptyList());
     given(interestMapper.fromRegisterRequestDto(registerRequestDto)).willReturn(interestFromMapper);
 
     Keyword existingKeyword = new Keyword(); existingKeyword.setId(UUID.randomUUID()); existingKeyword.setName("기존키워드");
     Keyword newKeyword = new Keyword(); newKeyword.setId(UUID.randomUUID()); newKeyword.setName("신규키워드");
 
-    given(keywordRepository.findByName("기존키워드")).willReturn(Optional.of(existingKeyword));
-    given(keywordRepository.findByName("신규키워드")).willReturn(Optional.empty());
-    given(keywordRepository.save(argThat(k -> k.getName().equals("신규키워드")))).willReturn(newKeyword);
+    given(keywordResolver.resolve(registerRequestDto.keywords())).willReturn(List.of(existingKeyword, newKeyword));
 
     given(interestRepository.save(any(Interest.class))).willReturn(savedInterest);
     given(interestMapper.toDto(savedInterest, false)).willReturn(expectedResponseDto);
@@ -175,9 +194,12 @@ class InterestServiceImplTest {
     assertThat(actualDto).isNotNull();
     assertThat(actualDto.name()).isEqualTo(registerRequestDto.name());
 
-    verify(keywordRepository).findByName("기존키워드");
-    verify(keywordRepository).findByName("신규키워드");
-    verify(keywordRepository, times(1)).save(argThat(k -> k.getName().equals("신규키워드"))); // 신규키워드만 저장
+    ArgumentCaptor<Interest> interestCaptor = ArgumentCaptor.forClass(Interest.class);
+    verify(keywordResolver, times(1)).resolve(registerRequestDto.keywords()); // 기존/신규 키워드를 한 번에 처리
+    verify(interestRepository).save(interestCaptor.capture());
+    assertThat(interestCaptor.getValue().getInterestKeywords())
+        .extracting(ik -> ik.getKeyword().getId())
+        .containsExactly(existingKeyword.getId(), newKeyword.getId());
     verify(interestRepository).save(any(Interest.class));
   }
 
@@ -203,7 +225,7 @@ class InterestServiceImplTest {
     InterestRegisterRequestDto similarRequestDto = new InterestRegisterRequestDto(newName, Arrays.asList("키워드A"));
 
     given(interestRepository.existsByName(newName)).willReturn(false);
-    given(interestRepository.findAllNames()).willReturn(List.of(existingSimilarName, "완전다른이름1", "완전다른이름2"));
+    given(interestNameIndex.findCandidates(newName)).willReturn(List.of(existingSimilarName, "완전다른이름1", "완전다른이름2"));
 
     SimilarInterestExistsException exception = assertThrows(SimilarInterestExistsException.class, () -> {
       interestService.registerInterest(similarRequestDto, requestUserId);
@@ -241,17 +263,15 @@ class InterestServiceImplTest {
     Keyword newKeywordA = new Keyword(); newKeywordA.setId(UUID.randomUUID()); newKeywordA.setName("새키워드A");
     Keyword newKeywordB = new Keyword(); newKeywordB.setId(UUID.randomUUID()); newKeywordB.setName("새키워드B");
 
-    given(keywordRepository.findByName("새키워드A")).willReturn(Optional.empty());
-    given(keywordRepository.findByName("새키워드B")).willReturn(Optional.empty());
-
-    given(keywordRepository.save(any(Keyword.class)))
-        .willReturn(newKeywordA)
-        .willReturn(newKeywordB);
+    given(keywordResolver.resolve(updateRequestDto.keywords())).willReturn(List.of(newKeywordA, newKeywordB));
 
     ArgumentCaptor<Interest> interestCaptor = ArgumentCaptor.forClass(Interest.class);
     given(interestRepository.save(interestCaptor.capture())).willAnswer(invocation -> invocation.getArgument(0));
 
     given(interestMapper.toDto(any(Interest.class), eq(false))).willReturn(expectedUpdatedDto);
+    UUID subscriberId = UUID.randomUUID();
+    given(userSubscriberRepository.findSubscriberUserIdsAfter(eq(existingInterestId), any(UUID.class), any(PageRequest.class)))
+        .willReturn(List.of(subscriberId));
 
     InterestDto actualUpdatedDto = interestService.updateInterestKeywords(existingInterestId, updateRequestDto, requestUserId);
 
@@ -268,14 +288,11 @@ class InterestServiceImplTest {
 
     verify(interestRepository).findById(existingInterestId);
 
-    ArgumentCaptor<Keyword> keywordSaveCaptor = ArgumentCaptor.forClass(Keyword.class);
-    verify(keywordRepository, times(2)).save(keywordSaveCaptor.capture());
-    List<Keyword> capturedSavedKeywords = keywordSaveCaptor.getAllValues();
-    assertThat(capturedSavedKeywords.get(0).getName()).isEqualTo("새키워드A");
-    assertThat(capturedSavedKeywords.get(1).getName()).isEqualTo("새키워드B");
+    verify(keywordResolver, times(1)).resolve(updateRequestDto.keywords());
 
     verify(interestRepository).save(any(Interest.class));
     verify(interestMapper).toDto(any(Interest.class), eq(false));
+    verify(userActivityReadModel).evictAllAfterCommit(List.of(subscriberId));
   }
 
   @Test
@@ -291,6 +308,64 @@ class InterestServiceImplTest {
     assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.INTEREST_NOT_FOUND);
     assertThat(exception.getDetailMessage()).isEqualTo(String.format("수정할 관심사를 찾을 수 없습니다. ID: %s", nonExistentInterestId));
 
-    verify(keywordRepository, never()).findByName(anyString());
+    verify(keywordResolver, never()).resolve(any());
+  }
+
+  @Test
+  @DisplayName("[구독] 구독 행이 들어가면 구독자 수를 SQL 로 1 증가시킨다")
+  void subscribeToInterest_incrementsCount() {
+    UUID interestId = UUID.randomUUID();
+    Interest interest = new Interest();
+    interest.setId(interestId);
+    interest.setName("경제");
+    interest.setSubscriberCount(8);
+    UserSubscriber subscription = new UserSubscriber();
+    SubscriptionResponse expected = new SubscriptionResponse(UUID.randomUUID(), interestId, "경제", List.of(), 8L, null);
+    given(userRepository.existsById(requestUserId)).willReturn(true);
+    given(interestRepository.existsById(interestId)).willReturn(true);
+    given(userSubscriberRepository.insertIfAbsent(any(UUID.class), eq(requestUserId), eq(interestId))).willReturn(1);
+    given(userSubscriberRepository.findByUser_IdAndInterest_Id(requestUserId, interestId)).willReturn(Optional.of(subscription));
+    given(interestRepository.findById(interestId)).willReturn(Optional.of(interest));
+    given(subscriptionMapper.toSubscriptionResponse(subscription, interest)).willReturn(expected);
+
+    SubscriptionResponse response = interestService.subscribeToInterest(interestId, requestUserId);
+
+    assertThat(response).isEqualTo(expected);
+    verify(interestRepository, times(1)).incrementSubscriberCount(interestId);
+    verify(userSubscriptionCache).addAfterCommit(requestUserId, interestId);
+    verify(interestArticleNotifier).seedWatermarkAfterCommit(requestUserId, interestId);
+  }
+
+  @Test
+  @DisplayName("[구독] 이미 구독 중이면 구독자 수를 바꾸지 않고 실패한다")
+  void subscribeToInterest_alreadySubscribed() {
+    UUID interestId = UUID.randomUUID();
+    given(userRepository.existsById(requestUserId)).willReturn(true);
+    given(interestRepository.existsById(interestId)).willReturn(true);
+    given(userSubscriberRepository.insertIfAbsent(any(UUID.class), eq(requestUserId), eq(interestId))).willReturn(0);
+
+    BusinessException exception = assertThrows(BusinessException.class,
+        () -> interestService.subscribeToInterest(interestId, requestUserId));
+
+    assertThat(exception.getErrorCode()).isEqualTo(ErrorCode.ALREADY_SUBSCRIBED_INTEREST);
+    verify(interestRepository, never()).incrementSubscriberCount(any());
+    verify(userSubscriptionCache, never()).addAfterCommit(any(), any());
+  }
+
+  @Test
+  @DisplayName("[구독 취소] 구독 행이 지워진 경우에만 구독자 수를 1 감소시킨다")
+  void unsubscribeFromInterest_decrementsOnlyWhenDeleted() {
+    UUID subscribedId = UUID.randomUUID();
+    UUID notSubscribedId = UUID.randomUUID();
+    given(userSubscriberRepository.deleteByUserIdAndInterestId(requestUserId, subscribedId)).willReturn(1);
+    given(userSubscriberRepository.deleteByUserIdAndInterestId(requestUserId, notSubscribedId)).willReturn(0);
+
+    interestService.unsubscribeFromInterest(subscribedId, requestUserId);
+    interestService.unsubscribeFromInterest(notSubscribedId, requestUserId);
+
+    verify(interestRepository, times(1)).decrementSubscriberCount(subscribedId);
+    verify(interestRepository, never()).decrementSubscriberCount(notSubscribedId);
+    verify(userSubscriptionCache).removeAfterCommit(requestUserId, subscribedId);
+    verify(userSubscriptionCache, never()).removeAfterCommit(requestUserId, notSubscribedId);
   }
 }
@@ -0,0 +1,77 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.InterestRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class InterestSubscriberCountReconcilerTest {
+
+  private static final int BATCH_SIZE = 2;
+
+  @Mock
+  private InterestRepository interestRepository;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private InterestSubscriberCountReconciler reconciler;
+
+  private final UUID first = new UUID(0L, 1L);
+  private final UUID second = new UUID(0L, 2L);
+  private final UUID third = new UUID(0L, 3L);
+
+  @BeforeEach
+  void setUp() {
+    reconciler = new InterestSubscriberCountReconciler(interestRepository, redisson, transactionManager, BATCH_SIZE);
+  }
+
+  @Test
+  @DisplayName("[보정] batch 단위로 훑으며 어긋난 관심사만 잠근 뒤 다시 센 값으로 맞춘다")
+  void reconcileAll_locksOnlyDriftedRowsPerBatch() {
+    given(interestRepository.findIdsAfter(new UUID(0L, 0L), BATCH_SIZE)).willReturn(List.of(first, second));
+    given(interestRepository.findSubscriberCountDrift(List.of(first, second))).willReturn(List.of(second));
+    given(interestRepository.reconcileSubscriberCounts(List.of(second))).willReturn(1);
+    given(interestRepository.findIdsAfter(second, BATCH_SIZE)).willReturn(List.of(third));
+    given(interestRepository.findSubscriberCountDrift(List.of(third))).willReturn(List.of());
+
+    int corrected = reconciler.reconcileAll();
+
+    assertThat(corrected).isEqualTo(1);
+    InOrder inOrder = inOrder(interestRepository);
+    inOrder.verify(interestRepository).lockForSubscriberCountReconcile(List.of(second));
+    inOrder.verify(interestRepository).reconcileSubscriberCounts(List.of(second));
+    verify(interestRepository, never()).lockForSubscriberCountReconcile(List.of(third));
+  }
+
+  @Test
+  @DisplayName("[보정] 어긋난 관심사가 없으면 잠그지 않는다")
+  void reconcileAll_noDrift() {
+    given(interestRepository.findIdsAfter(new UUID(0L, 0L), BATCH_SIZE)).willReturn(List.of(first));
+    given(interestRepository.findSubscriberCountDrift(List.of(first))).willReturn(List.of());
+
+    assertThat(reconciler.reconcileAll()).isZero();
+    verify(interestRepository, never()).lockForSubscriberCountReconcile(anyCollection());
+    verify(interestRepository, never()).reconcileSubscriberCounts(anyCollection());
+  }
+}
@@ -0,0 +1,140 @@
+package com.part2.monew.service;
+
+import com.part2.monew.entity.Keyword;
+import com.part2.monew.repository.KeywordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class KeywordResolverTest {
+
+  @Mock
+  private KeywordRepository keywordRepository;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private KeywordResolver keywordResolver;
+
+  @BeforeEach
+  void setUp() {
+    keywordResolver = new KeywordResolver(keywordRepository, jdbcTemplate, 100);
+  }
+
+  @Test
+  @DisplayName("[조회] 이미 있는 키워드는 IN 조회 한 번으로 찾고 INSERT 하지 않는다")
+  void resolve_existingKeywords() {
+    Keyword economy = keyword("경제");
+    Keyword stock = keyword("주식");
+    given(keywordRepository.findAllByNameIn(List.of("경제", "주식"))).willReturn(List.of(stock, economy));
+
+    List<Keyword> result = keywordResolver.resolve(List.of("경제", "주식"));
+
+    assertThat(result).extracting(Keyword::getName).containsExactly("경제", "주식");
+    assertThat(result).extracting(Keyword::getId).containsExactly(economy.getId(), stock.getId());
+    verify(jdbcTemplate, never()).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+  }
+
+  @Test
+  @DisplayName("[생성] 없는 키워드만 한 번의 INSERT 로 만들고 입력 순서대로 반환한다")
+  void resolve_newKeywords() throws SQLException {
+    Keyword economy = keyword("경제");
+    given(keywordRepository.findAllByNameIn(List.of("금리", "경제", "환율"))).willReturn(List.of(economy));
+    UUID rateId = UUID.randomUUID();
+    UUID exchangeId = UUID.randomUUID();
+    givenInsertReturns(Map.of("금리", rateId, "환율", exchangeId));
+
+    List<Keyword> result = keywordResolver.resolve(List.of("금리", "경제", "환율"));
+
+    assertThat(result).extracting(Keyword::getName).containsExactly("금리", "경제", "환율");
+    assertThat(result).extracting(Keyword::getId).containsExactly(rateId, economy.getId(), exchangeId);
+    verify(jdbcTemplate, times(1)).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+  }
+
+  @Test
+  @DisplayName("[중복] 요청 안의 중복/null 이름은 한 번만 조회하고 한 번만 반환한다")
+  void resolve_duplicatesInRequest() {
+    Keyword economy = keyword("경제");
+    given(keywordRepository.findAllByNameIn(List.of("경제"))).willReturn(List.of(economy));
+
+    List<Keyword> result = keywordResolver.resolve(Arrays.asList("경제", null, "경제", "경제"));
+
+    assertThat(result).extracting(Keyword::getId).containsExactly(economy.getId());
+  }
+
+  @Test
+  @DisplayName("[동시 등록] 다른 트랜잭션이 먼저 넣어 RETURNING 에 없는 이름은 다시 조회한다")
+  void resolve_conflictedInsertIsReread() throws SQLException {
+    Keyword raced = keyword("반도체");
+    given(keywordRepository.findAllByNameIn(List.of("반도체")))
+        .willReturn(List.of())
+        .willReturn(List.of(raced));
+    givenInsertReturns(Map.of());
+
+    List<Keyword> result = keywordResolver.resolve(List.of("반도체"));
+
+    assertThat(result).extracting(Keyword::getId).containsExactly(raced.getId());
+  }
+
+  @Test
+  @DisplayName("[캐시] 한 번 찾은 키워드는 다음 요청에서 조회하지 않는다")
+  void resolve_cachedKeywords() {
+    Keyword economy = keyword("경제");
+    given(keywordRepository.findAllByNameIn(List.of("경제"))).willReturn(List.of(economy));
+    keywordResolver.resolve(List.of("경제"));
+
+    List<Keyword> result = keywordResolver.resolve(List.of("경제"));
+
+    assertThat(result).extracting(Keyword::getId).containsExactly(economy.getId());
+    verify(keywordRepository, times(1)).findAllByNameIn(anyCollection());
+  }
+
+  private void givenInsertReturns(Map<String, UUID> rows) throws SQLException {
+    List<ResultSet> resultSets = new ArrayList<>();
+    for (Map.Entry<String, UUID> row : rows.entrySet()) {
+      ResultSet rs = mock(ResultSet.class);
+      given(rs.getString("name")).willReturn(row.getKey());
+      given(rs.getObject("keyword_id", UUID.class)).willReturn(row.getValue());
+      resultSets.add(rs);
+    }
+    willAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(1);
+      for (ResultSet rs : resultSets) {
+        handler.processRow(rs);
+      }
+      return null;
+    }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+  }
+
+  private static Keyword keyword(String name) {
+    Keyword keyword = new Keyword();
+    keyword.setId(UUID.randomUUID());
+    keyword.setName(name);
+    return keyword;
+  }
+}
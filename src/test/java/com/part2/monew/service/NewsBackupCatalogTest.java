@@ -0,0 +1,134 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.part2.monew.service.NewsBackupCatalog.Entry;
+import com.part2.monew.storage.LocalBackupStorage;
+import com.part2.monew.storage.S3LogUploader;
+import com.part2.monew.util.SlackNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+@ExtendWith(MockitoExtension.class)
+class NewsBackupCatalogTest {
+
+  private static final LocalDate DAY1 = LocalDate.of(2024, 1, 1);
+  private static final LocalDate DAY2 = LocalDate.of(2024, 1, 2);
+  private static final LocalDate DAY3 = LocalDate.of(2024, 1, 3);
+
+  @TempDir
+  Path root;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RLock lock;
+
+  private S3LogUploader s3LogUploader;
+  private NewsBackupCatalog catalog;
+
+  @BeforeEach
+  void setUp() throws InterruptedException {
+    s3LogUploader = new S3LogUploader(mock(SlackNotificationService.class), new LocalBackupStorage(root.toString()));
+    catalog = new NewsBackupCatalog(s3LogUploader, redisson, new ObjectMapper().registerModule(new JavaTimeModule()));
+    lenient().when(redisson.getLock(anyString())).thenReturn(lock);
+    lenient().when(lock.tryLock(10, TimeUnit.SECONDS)).thenReturn(true);
+    lenient().when(lock.isHeldByCurrentThread()).thenReturn(true);
+  }
+
+  @Test
+  @DisplayName("[등록] 같은 키를 다시 등록하면 항목을 교체한다")
+  void record_replacesSameKey() {
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY1), DAY1, 10, "a", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY1), DAY1, 12, "b", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+
+    Map<LocalDate, Entry> plan = catalog.plan(DAY1, DAY1);
+
+    assertThat(plan).hasSize(1);
+    assertThat(plan.get(DAY1).rows()).isEqualTo(12);
+    assertThat(plan.get(DAY1).checksum()).isEqualTo("b");
+  }
+
+  @Test
+  @DisplayName("[최신] 가장 늦은 날짜, 같은 날짜면 새 형식의 백업을 고른다")
+  void latest_prefersLatestDateThenNewerFormat() {
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY1), DAY1, 1, "a", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY2), DAY2, 1, "b", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    catalog.record(entry(s3LogUploader.getColumnarBackupFileKey(DAY2), DAY2, 1, "c", NewsBackupCatalog.FORMAT_COLUMNAR));
+
+    assertThat(catalog.latest().orElseThrow().key()).isEqualTo(s3LogUploader.getColumnarBackupFileKey(DAY2));
+  }
+
+  @Test
+  @DisplayName("[계획] 기간 안의 날짜만, 날짜마다 새 형식 백업 하나로 계획한다")
+  void plan_picksNewestFormatPerDayInRange() {
+    catalog.record(entry(s3LogUploader.getLegacyBackupFileKey(DAY1), DAY1, 1, null, NewsBackupCatalog.FORMAT_LEGACY_JSON));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY1), DAY1, 1, "a", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY2), DAY2, 1, "b", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY3), DAY3, 1, "c", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+
+    Map<LocalDate, Entry> plan = catalog.plan(DAY1, DAY2);
+
+    assertThat(plan.keySet()).containsExactly(DAY1, DAY2);
+    assertThat(plan.get(DAY1).key()).isEqualTo(s3LogUploader.getBackupFileKey(DAY1));
+  }
+
+  @Test
+  @DisplayName("[생성] 카탈로그가 없으면 저장소 목록의 일일 백업으로 만든다")
+  void plan_bootstrapsFromListing() {
+    put(s3LogUploader.getLegacyBackupFileKey(DAY1));
+    put(s3LogUploader.getBackupFileKey(DAY2));
+    put("backups/news/incremental/manifest.json");
+
+    Map<LocalDate, Entry> plan = catalog.plan(DAY1, DAY3);
+
+    assertThat(plan.keySet()).containsExactly(DAY1, DAY2);
+    assertThat(plan.get(DAY1).formatVersion()).isEqualTo(NewsBackupCatalog.FORMAT_LEGACY_JSON);
+    assertThat(plan.get(DAY2).rows()).isEqualTo(-1);
+    assertThat(plan.get(DAY2).checksum()).isNull();
+  }
+
+  @Test
+  @DisplayName("[reconcile] 등록이 빠진 백업은 목록으로 추가하고, 저장소에 없는 항목은 빼며 기존 항목은 유지한다")
+  void reconcile_addsUnrecordedAndDropsMissing() {
+    put(s3LogUploader.getBackupFileKey(DAY1));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY1), DAY1, 10, "a", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    catalog.record(entry(s3LogUploader.getBackupFileKey(DAY2), DAY2, 10, "b", NewsBackupCatalog.FORMAT_NDJSON_GZIP));
+    put(s3LogUploader.getBackupFileKey(DAY3));
+
+    catalog.reconcile();
+
+    Map<LocalDate, Entry> plan = catalog.plan(DAY1, DAY3);
+    assertThat(plan.keySet()).containsExactly(DAY1, DAY3);
+    assertThat(plan.get(DAY1).checksum()).isEqualTo("a");
+    assertThat(plan.get(DAY3).checksum()).isNull();
+  }
+
+  private void put(String key) {
+    s3LogUploader.putBackupObject(key, "backup".getBytes(StandardCharsets.UTF_8), NewsBackupWriter.CONTENT_TYPE);
+  }
+
+  private static Entry entry(String key, LocalDate day, long rows, String checksum, int format) {
+    return new Entry(key, day, day, rows, 100, checksum, format, System.currentTimeMillis());
+  }
+}
@@ -0,0 +1,151 @@
+package com.part2.monew.service;
+
+import com.part2.monew.storage.LocalBackupStorage;
+import com.part2.monew.storage.S3LogUploader;
+import com.part2.monew.util.SlackNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsBackupWriterTest {
+
+  private static final LocalDate DATE = LocalDate.of(2024, 1, 15);
+
+  @TempDir
+  Path root;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  @Mock
+  private SlackNotificationService slackNotificationService;
+
+  @Mock
+  private NewsBackupCatalog newsBackupCatalog;
+
+  private S3LogUploader s3LogUploader;
+  private NewsBackupWriter writer;
+
+  @BeforeEach
+  void setUp() {
+    s3LogUploader = new S3LogUploader(slackNotificationService, new LocalBackupStorage(root.toString()));
+    writer = new NewsBackupWriter(jdbcTemplate, transactionManager, s3LogUploader, newsBackupCatalog, 100,
+        "ndjson", 4096);
+  }
+
+  @Test
+  @DisplayName("[스트리밍] 커서로 읽은 행을 NDJSON gzip 으로 올리고 저장된 바이트의 SHA-256 을 카탈로그에 기록한다")
+  void backupDay_streamsRowsAndRecordsChecksum() throws Exception {
+    List<ResultSet> rows = new ArrayList<>();
+    for (int i = 0; i < 3; i++) {
+      rows.add(article("https://news.example.com/" + i));
+    }
+    givenRows(rows);
+
+    long backedUp = writer.backupDay(DATE);
+
+    assertThat(backedUp).isEqualTo(3);
+    byte[] stored = Files.readAllBytes(root.resolve(s3LogUploader.getBackupFileKey(DATE)));
+    List<String> lines;
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        new GZIPInputStream(new ByteArrayInputStream(stored)), StandardCharsets.UTF_8))) {
+      lines = reader.lines().toList();
+    }
+    assertThat(lines).hasSize(3);
+    assertThat(lines.get(0)).contains("\"sourceUrl\":\"https://news.example.com/0\"").contains("\"isDeleted\":false");
+
+    ArgumentCaptor<NewsBackupCatalog.Entry> entry = ArgumentCaptor.forClass(NewsBackupCatalog.Entry.class);
+    verify(newsBackupCatalog).record(entry.capture());
+    assertThat(entry.getValue().rows()).isEqualTo(3);
+    assertThat(entry.getValue().bytes()).isEqualTo(stored.length);
+    assertThat(entry.getValue().checksum())
+        .isEqualTo(HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(stored)));
+    assertThat(entry.getValue().formatVersion()).isEqualTo(NewsBackupCatalog.FORMAT_NDJSON_GZIP);
+  }
+
+  @Test
+  @DisplayName("[실패] 읽는 도중 오류가 나면 업로드를 중단하고 파일도 카탈로그 기록도 남기지 않는다")
+  void backupDay_abortsOnReadFailure() throws Exception {
+    ResultSet first = article("https://news.example.com/0");
+    willAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(1);
+      handler.processRow(first);
+      throw new DataAccessResourceFailureException("connection reset");
+    }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+    assertThatThrownBy(() -> writer.backupDay(DATE)).isInstanceOf(IllegalStateException.class);
+
+    try (Stream<Path> files = Files.walk(root)) {
+      assertThat(files.filter(Files::isRegularFile)).isEmpty();
+    }
+    verify(newsBackupCatalog, never()).record(any());
+  }
+
+  private void givenRows(List<ResultSet> rows) {
+    willAnswer(invocation -> {
+      RowCallbackHandler handler = invocation.getArgument(1);
+      for (ResultSet rs : rows) {
+        handler.processRow(rs);
+      }
+      return null;
+    }).given(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+  }
+
+  private static ResultSet article(String sourceUrl) throws SQLException {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    ResultSet rs = mock(ResultSet.class);
+    given(rs.getString("news_article_id")).willReturn(UUID.randomUUID().toString());
+    given(rs.getString("source_in")).willReturn("NAVER");
+    given(rs.getString("source_url")).willReturn(sourceUrl);
+    given(rs.getString("title")).willReturn("제목");
+    given(rs.getTimestamp("published_date")).willReturn(now);
+    given(rs.getString("summary")).willReturn("요약");
+    given(rs.getLong("view_counts")).willReturn(1L);
+    given(rs.getLong("comment_counts")).willReturn(0L);
+    given(rs.getBoolean("is_deleted")).willReturn(false);
+    given(rs.getTimestamp("created_at")).willReturn(now);
+    given(rs.getTimestamp("updated_at")).willReturn(now);
+    return rs;
+  }
+}
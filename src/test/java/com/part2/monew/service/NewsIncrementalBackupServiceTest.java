@@ -0,0 +1,215 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.service.NewsIncrementalBackupService.Entry;
+import com.part2.monew.service.NewsIncrementalBackupService.Manifest;
+import com.part2.monew.storage.LocalBackupStorage;
+import com.part2.monew.storage.S3LogUploader;
+import com.part2.monew.util.SlackNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RedissonClient;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsIncrementalBackupServiceTest {
+
+  private static final long LAG_MILLIS = 60_000L;
+  private static final String PREFIX = "backups/news/incremental/";
+
+  @TempDir
+  Path root;
+
+  @Mock
+  private NewsBackupWriter newsBackupWriter;
+
+  @Mock
+  private NewsRestoreEngine newsRestoreEngine;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private LocalBackupStorage storage;
+  private S3LogUploader s3LogUploader;
+  private NewsIncrementalBackupService service;
+
+  @BeforeEach
+  void setUp() {
+    storage = new LocalBackupStorage(root.toString());
+    s3LogUploader = new S3LogUploader(mock(SlackNotificationService.class), storage);
+    service = new NewsIncrementalBackupService(newsBackupWriter, newsRestoreEngine, s3LogUploader, redisson,
+        objectMapper, jdbcTemplate, LAG_MILLIS / 1000, 7);
+  }
+
+  @Test
+  @DisplayName("[변경분] manifest 가 없으면 스냅샷부터 만들고 워터마크를 현재 - safety-lag 로 둔다")
+  void backupChanges_withoutManifestCompacts() {
+    givenNoWriteTransaction();
+    given(newsBackupWriter.backupSnapshot(anyString(), any(Timestamp.class))).willReturn(5L);
+    long before = System.currentTimeMillis() - LAG_MILLIS;
+
+    service.backupChanges();
+
+    Manifest manifest = service.loadManifest();
+    assertThat(manifest.snapshot().key()).startsWith(PREFIX + "snapshots/");
+    assertThat(manifest.snapshot().rows()).isEqualTo(5);
+    assertThat(manifest.deltas()).isEmpty();
+    assertThat(manifest.watermark()).isBetween(before, System.currentTimeMillis() - LAG_MILLIS);
+  }
+
+  @Test
+  @DisplayName("[변경분] 이전 워터마크 초과 ~ 새 워터마크 구간을 변경분으로 내보내고 manifest 에 추가한다")
+  void backupChanges_appendsDelta() throws Exception {
+    long watermark = System.currentTimeMillis() - 600_000L;
+    saveManifest(new Manifest(NewsIncrementalBackupService.FORMAT_VERSION, watermark,
+        new Entry(PREFIX + "snapshots/1.ndjson.gz", 0, watermark, 10), List.of()));
+    givenNoWriteTransaction();
+    given(newsBackupWriter.backupChanges(anyString(), eq(new Timestamp(watermark)), any(Timestamp.class))).willReturn(3L);
+
+    service.backupChanges();
+
+    Manifest manifest = service.loadManifest();
+    assertThat(manifest.deltas()).hasSize(1);
+    Entry delta = manifest.deltas().get(0);
+    assertThat(delta.from()).isEqualTo(watermark);
+    assertThat(delta.to()).isEqualTo(manifest.watermark());
+    assertThat(delta.rows()).isEqualTo(3);
+    assertThat(delta.key()).isEqualTo(PREFIX + "deltas/" + watermark + "-" + delta.to() + ".ndjson.gz");
+  }
+
+  @Test
+  @DisplayName("[워터마크] 쓰기 중인 트랜잭션이 있으면 워터마크가 그 시작 시각을 넘지 않는다")
+  void backupChanges_holdsWatermarkAtOldestWriteTransaction() throws Exception {
+    long watermark = System.currentTimeMillis() - 600_000L;
+    long oldestTransaction = System.currentTimeMillis() - 300_000L;
+    saveManifest(new Manifest(NewsIncrementalBackupService.FORMAT_VERSION, watermark,
+        new Entry(PREFIX + "snapshots/1.ndjson.gz", 0, watermark, 10), List.of()));
+    given(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class))).willReturn(new Timestamp(oldestTransaction));
+    given(newsBackupWriter.backupChanges(anyString(), any(Timestamp.class), any(Timestamp.class))).willReturn(1L);
+
+    service.backupChanges();
+
+    ArgumentCaptor<Timestamp> until = ArgumentCaptor.forClass(Timestamp.class);
+    verify(newsBackupWriter).backupChanges(anyString(), eq(new Timestamp(watermark)), until.capture());
+    assertThat(until.getValue().getTime()).isEqualTo(oldestTransaction);
+    assertThat(service.loadManifest().watermark()).isEqualTo(oldestTransaction);
+  }
+
+  @Test
+  @DisplayName("[변경분] 바뀐 기사가 없으면 파일은 지우고 워터마크만 옮긴다")
+  void backupChanges_withoutChangesMovesWatermarkOnly() throws Exception {
+    long watermark = System.currentTimeMillis() - 600_000L;
+    saveManifest(new Manifest(NewsIncrementalBackupService.FORMAT_VERSION, watermark,
+        new Entry(PREFIX + "snapshots/1.ndjson.gz", 0, watermark, 10), List.of()));
+    givenNoWriteTransaction();
+    given(newsBackupWriter.backupChanges(anyString(), any(Timestamp.class), any(Timestamp.class))).willAnswer(invocation -> {
+      s3LogUploader.putBackupObject(invocation.getArgument(0), new byte[0], NewsBackupWriter.CONTENT_TYPE);
+      return 0L;
+    });
+
+    service.backupChanges();
+
+    ArgumentCaptor<String> key = ArgumentCaptor.forClass(String.class);
+    verify(newsBackupWriter).backupChanges(key.capture(), any(Timestamp.class), any(Timestamp.class));
+    Manifest manifest = service.loadManifest();
+    assertThat(manifest.deltas()).isEmpty();
+    assertThat(manifest.watermark()).isGreaterThan(watermark);
+    assertThat(root.resolve(key.getValue())).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("[compaction] 새 스냅샷으로 manifest 를 교체한 뒤 이전 스냅샷/변경분 파일을 지운다")
+  void compact_replacesManifestAndDeletesObsoleteFiles() throws Exception {
+    String oldSnapshot = PREFIX + "snapshots/1.ndjson.gz";
+    String oldDelta = PREFIX + "deltas/1-2.ndjson.gz";
+    s3LogUploader.putBackupObject(oldSnapshot, "s".getBytes(StandardCharsets.UTF_8), NewsBackupWriter.CONTENT_TYPE);
+    s3LogUploader.putBackupObject(oldDelta, "d".getBytes(StandardCharsets.UTF_8), NewsBackupWriter.CONTENT_TYPE);
+    saveManifest(new Manifest(NewsIncrementalBackupService.FORMAT_VERSION, 2,
+        new Entry(oldSnapshot, 0, 1, 10), List.of(new Entry(oldDelta, 1, 2, 1))));
+    givenNoWriteTransaction();
+    given(newsBackupWriter.backupSnapshot(anyString(), any(Timestamp.class))).willReturn(11L);
+
+    service.compact();
+
+    Manifest manifest = service.loadManifest();
+    assertThat(manifest.snapshot().key()).isNotEqualTo(oldSnapshot);
+    assertThat(manifest.snapshot().rows()).isEqualTo(11);
+    assertThat(manifest.deltas()).isEmpty();
+    assertThat(root.resolve(oldSnapshot)).doesNotExist();
+    assertThat(root.resolve(oldDelta)).doesNotExist();
+  }
+
+  @Test
+  @DisplayName("[복구] 스냅샷 → 변경분 순서로 재생하고 반영 수를 합친다")
+  void restore_replaysSnapshotThenDeltas() throws Exception {
+    String snapshot = PREFIX + "snapshots/1.ndjson.gz";
+    String delta1 = PREFIX + "deltas/1-2.ndjson.gz";
+    String delta2 = PREFIX + "deltas/2-3.ndjson.gz";
+    saveManifest(new Manifest(NewsIncrementalBackupService.FORMAT_VERSION, 3,
+        new Entry(snapshot, 0, 1, 10), List.of(new Entry(delta1, 1, 2, 1), new Entry(delta2, 2, 3, 1))));
+    NewsRestoreEngine.RestoreResult snapshotResult = result(10);
+    NewsRestoreEngine.RestoreResult deltaResult = result(1);
+    given(newsRestoreEngine.replay(snapshot)).willReturn(snapshotResult);
+    given(newsRestoreEngine.replay(delta1)).willReturn(deltaResult);
+    given(newsRestoreEngine.replay(delta2)).willReturn(deltaResult);
+
+    long applied = service.restore();
+
+    assertThat(applied).isEqualTo(12);
+    InOrder order = inOrder(newsRestoreEngine);
+    order.verify(newsRestoreEngine).replay(snapshot);
+    order.verify(newsRestoreEngine).replay(delta1);
+    order.verify(newsRestoreEngine).replay(delta2);
+  }
+
+  @Test
+  @DisplayName("[복구] manifest 에 있는 파일이 없으면 실패한다")
+  void restore_failsWhenFileIsMissing() throws Exception {
+    String snapshot = PREFIX + "snapshots/1.ndjson.gz";
+    saveManifest(new Manifest(NewsIncrementalBackupService.FORMAT_VERSION, 1,
+        new Entry(snapshot, 0, 1, 10), List.of()));
+    given(newsRestoreEngine.replay(snapshot)).willReturn(null);
+
+    assertThatThrownBy(() -> service.restore()).isInstanceOf(IllegalStateException.class);
+  }
+
+  private void givenNoWriteTransaction() {
+    given(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class))).willReturn(null);
+  }
+
+  private void saveManifest(Manifest manifest) throws Exception {
+    s3LogUploader.putBackupObject(PREFIX + "manifest.json", objectMapper.writeValueAsBytes(manifest), "application/json");
+  }
+
+  private static NewsRestoreEngine.RestoreResult result(long restored) {
+    NewsRestoreEngine.RestoreResult result = mock(NewsRestoreEngine.RestoreResult.class);
+    given(result.getRestored()).willReturn(restored);
+    return result;
+  }
+}
@@ -0,0 +1,160 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.ActivityDetailRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsPurgeEngineTest {
+
+  private static final int BATCH_SIZE = 2;
+  private static final Pattern TABLE = Pattern.compile("(?:UPDATE|FROM) (\\w+)");
+
+  @Mock
+  private JdbcTemplate jdbcTemplate;
+
+  @Mock
+  private ActivityDetailRepository activityDetailRepository;
+
+  @Mock
+  private UserActivityReadModel userActivityReadModel;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private NewsPurgeEngine engine;
+
+  private final UUID articleId = UUID.randomUUID();
+  private final List<String> executed = new ArrayList<>();
+
+  @BeforeEach
+  void setUp() {
+    engine = new NewsPurgeEngine(jdbcTemplate, activityDetailRepository, userActivityReadModel,
+        transactionManager, BATCH_SIZE, 0);
+  }
+
+  @Test
+  @DisplayName("[삭제] 논리 삭제 후 조회 활동 → 좋아요 → 댓글 → 관심사 연결 → 기사 순으로 batch 단위로 지운다")
+  void purge_deletesInForeignKeyOrder() throws Exception {
+    UUID userId = UUID.randomUUID();
+    given(activityDetailRepository.findActivityUserIdsByArticleId(articleId)).willReturn(List.of(userId));
+    given(jdbcTemplate.update(contains("SET is_deleted = true, updated_at = now()"), eq(articleId)))
+        .willAnswer(recording(1));
+    // batch 가 가득 차면 한 번 더, 덜 차면 멈춘다
+    given(jdbcTemplate.update(contains("DELETE FROM activity_details"), eq(articleId), eq(BATCH_SIZE)))
+        .willAnswer(recording(2, 1));
+    given(jdbcTemplate.queryForList(contains("FROM comments_managements"), eq(UUID.class), eq(articleId),
+        eq(BATCH_SIZE))).willAnswer(recording(List.of(UUID.randomUUID(), UUID.randomUUID()), List.of()));
+    given(jdbcTemplate.query(any(PreparedStatementCreator.class), any(RowMapper.class)))
+        .willAnswer(preparedRecording(List.of(UUID.randomUUID())));
+    given(jdbcTemplate.update(any(PreparedStatementCreator.class))).willAnswer(invocation -> {
+      String sql = prepare(invocation.getArgument(0));
+      if (sql.startsWith("DELETE FROM comments_like")) {
+        return 1;
+      }
+      return sql.startsWith("DELETE FROM comments_managements") ? 2 : 0;
+    });
+    given(jdbcTemplate.update(contains("DELETE FROM interests_news_articles"), eq(articleId), eq(BATCH_SIZE)))
+        .willAnswer(recording(0));
+    given(jdbcTemplate.update(contains("DELETE FROM news_articles"), eq(articleId))).willAnswer(recording(1));
+
+    long deleted = engine.purge(articleId);
+
+    assertThat(executed).extracting(NewsPurgeEngineTest::summarize).containsExactly(
+        "UPDATE news_articles",
+        "DELETE activity_details",
+        "DELETE activity_details",
+        "SELECT comments_managements",
+        "SELECT comments_like",
+        "UPDATE activity_details",
+        "DELETE comments_like",
+        "UPDATE activity_details",
+        "DELETE comments_managements",
+        "SELECT comments_managements",
+        "DELETE interests_news_articles",
+        "DELETE news_articles");
+    // 조회 활동 3 + 좋아요 1 + 댓글 2 + 기사 1
+    assertThat(deleted).isEqualTo(7);
+    verify(userActivityReadModel).evictAllAfterCommit(List.of(userId));
+  }
+
+  @Test
+  @DisplayName("[대상 조회] 첫 페이지는 가장 작은 UUID 다음부터 키셋으로 조회한다")
+  void findSoftDeleted_startsFromZeroUuid() {
+    Timestamp from = Timestamp.valueOf("2024-01-01 00:00:00");
+    Timestamp to = Timestamp.valueOf("2024-01-02 00:00:00");
+    given(jdbcTemplate.queryForList(anyString(), eq(UUID.class), eq(from), eq(to), eq(new UUID(0L, 0L)), eq(100)))
+        .willReturn(List.of(articleId));
+
+    assertThat(engine.findSoftDeleted(from, to, null, 100)).containsExactly(articleId);
+  }
+
+  // 실행한 SQL 을 기록하고 호출마다 다음 결과를 돌려준다 (마지막 결과는 반복)
+  private Answer<Object> recording(Object... results) {
+    Iterator<Object> iterator = Arrays.asList(results).iterator();
+    Object[] last = new Object[1];
+    return invocation -> {
+      executed.add(invocation.getArgument(0));
+      if (iterator.hasNext()) {
+        last[0] = iterator.next();
+      }
+      return last[0];
+    };
+  }
+
+  private Answer<Object> preparedRecording(Object result) {
+    return invocation -> {
+      prepare(invocation.getArgument(0));
+      return result;
+    };
+  }
+
+  // PreparedStatementCreator 를 가짜 연결에 실행해 준비된 SQL 을 기록한다
+  private String prepare(PreparedStatementCreator creator) throws Exception {
+    Connection connection = mock(Connection.class);
+    List<String> prepared = new ArrayList<>();
+    given(connection.prepareStatement(anyString())).willAnswer(invocation -> {
+      prepared.add(invocation.getArgument(0));
+      return mock(PreparedStatement.class);
+    });
+    creator.createPreparedStatement(connection);
+    executed.add(prepared.get(0));
+    return prepared.get(0).strip();
+  }
+
+  private static String summarize(String sql) {
+    String statement = sql.strip();
+    Matcher table = TABLE.matcher(statement);
+    table.find();
+    return statement.substring(0, statement.indexOf(' ')) + " " + table.group(1);
+  }
+}
@@ -0,0 +1,139 @@
+package com.part2.monew.service;
+
+import com.part2.monew.dto.response.PurgeJobResponse;
+import com.part2.monew.global.exception.article.InvalidDateRangeException;
+import com.part2.monew.global.exception.article.PurgeJobNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NewsPurgeJobServiceTest {
+
+  // 2024-01-01 ~ 2024-01-02 (Asia/Seoul)
+  private static final Timestamp FROM = Timestamp.from(Instant.parse("2023-12-31T15:00:00Z"));
+  private static final Timestamp TO = Timestamp.from(Instant.parse("2024-01-02T15:00:00Z"));
+
+  @Mock
+  private NewsPurgeEngine newsPurgeEngine;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RMap<String, String> job;
+
+  private final Map<String, String> fields = new ConcurrentHashMap<>();
+  private NewsPurgeJobService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new NewsPurgeJobService(newsPurgeEngine, redisson, 1, 2, 31, 7);
+    lenient().when(redisson.<String, String>getMap(anyString(), eq(StringCodec.INSTANCE))).thenReturn(job);
+    lenient().when(job.readAllMap()).thenAnswer(invocation -> new TreeMap<>(fields));
+    lenient().when(job.fastPut(anyString(), anyString())).thenAnswer(invocation ->
+        fields.put(invocation.getArgument(0), invocation.getArgument(1)) == null);
+    lenient().when(job.expire(any(Duration.class))).thenReturn(true);
+    lenient().doAnswer(invocation -> {
+      fields.putAll(invocation.getArgument(0));
+      return null;
+    }).when(job).putAll(anyMap());
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("[실행] 마지막 ID 다음부터 키셋으로 batch 를 가져와 빈 페이지가 나올 때까지 지운다")
+  void start_purgesPageByPageWithKeyset() throws Exception {
+    UUID first = new UUID(0L, 1L);
+    UUID second = new UUID(0L, 2L);
+    UUID third = new UUID(0L, 3L);
+    given(newsPurgeEngine.findSoftDeleted(eq(FROM), eq(TO), isNull(), eq(2))).willReturn(List.of(first, second));
+    given(newsPurgeEngine.findSoftDeleted(FROM, TO, second, 2)).willReturn(List.of(third));
+    given(newsPurgeEngine.findSoftDeleted(FROM, TO, third, 2)).willReturn(List.of());
+    given(newsPurgeEngine.purge(first)).willReturn(4L);
+    given(newsPurgeEngine.purge(second)).willReturn(1L);
+    given(newsPurgeEngine.purge(third)).willReturn(2L);
+
+    PurgeJobResponse started = service.start("2024-01-01", "2024-01-02");
+
+    PurgeJobResponse finished = awaitStatus(started.jobId(), NewsPurgeJobService.STATUS_COMPLETED);
+    assertThat(finished.status()).isEqualTo(NewsPurgeJobService.STATUS_COMPLETED);
+    assertThat(finished.purgedArticleCount()).isEqualTo(3);
+    assertThat(finished.failedArticleCount()).isZero();
+    assertThat(finished.deletedRowCount()).isEqualTo(7);
+  }
+
+  @Test
+  @DisplayName("[실행] 한 기사가 실패해도 나머지를 지우고 작업은 FAILED 로 끝난다")
+  void start_continuesAfterArticleFailure() throws Exception {
+    UUID first = new UUID(0L, 1L);
+    UUID second = new UUID(0L, 2L);
+    given(newsPurgeEngine.findSoftDeleted(eq(FROM), eq(TO), isNull(), eq(2))).willReturn(List.of(first, second));
+    given(newsPurgeEngine.findSoftDeleted(FROM, TO, second, 2)).willReturn(List.of());
+    given(newsPurgeEngine.purge(first)).willThrow(new IllegalStateException("lock timeout"));
+    given(newsPurgeEngine.purge(second)).willReturn(3L);
+
+    PurgeJobResponse started = service.start("2024-01-01", "2024-01-02");
+
+    PurgeJobResponse finished = awaitStatus(started.jobId(), NewsPurgeJobService.STATUS_FAILED);
+    assertThat(finished.status()).isEqualTo(NewsPurgeJobService.STATUS_FAILED);
+    assertThat(finished.purgedArticleCount()).isEqualTo(1);
+    assertThat(finished.failedArticleCount()).isEqualTo(1);
+    assertThat(finished.deletedRowCount()).isEqualTo(3);
+  }
+
+  @Test
+  @DisplayName("[검증] 종료일이 시작일보다 앞서거나 최대 기간을 넘으면 InvalidDateRangeException")
+  void start_rejectsInvalidRange() {
+    assertThatThrownBy(() -> service.start("2024-01-02", "2024-01-01"))
+        .isInstanceOf(InvalidDateRangeException.class);
+    assertThatThrownBy(() -> service.start("2024-01-01", "2024-03-01"))
+        .isInstanceOf(InvalidDateRangeException.class);
+    verifyNoInteractions(newsPurgeEngine, redisson);
+  }
+
+  @Test
+  @DisplayName("[조회] 없는 작업 ID 는 PurgeJobNotFoundException")
+  void status_notFound() {
+    assertThatThrownBy(() -> service.status("missing")).isInstanceOf(PurgeJobNotFoundException.class);
+  }
+
+  private PurgeJobResponse awaitStatus(String jobId, String status) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!status.equals(fields.get("status")) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    return service.status(jobId);
+  }
+}
@@ -0,0 +1,217 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.part2.monew.service.NewsRestoreEngine.BackupArticle;
+import com.part2.monew.service.NewsRestoreEngine.RestoreResult;
+import com.part2.monew.storage.BackupUpload;
+import com.part2.monew.storage.LocalBackupStorage;
+import com.part2.monew.storage.S3LogUploader;
+import com.part2.monew.util.SlackNotificationService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+class NewsRestoreEngineTest {
+
+  private static final String DDL = """
+      CREATE TABLE news_articles (
+          news_article_id UUID PRIMARY KEY,
+          source_in VARCHAR(255),
+          source_url VARCHAR(2048) NOT NULL,
+          title VARCHAR(255),
+          published_date TIMESTAMP,
+          summary TEXT,
+          view_counts BIGINT NOT NULL DEFAULT 0,
+          comment_counts BIGINT NOT NULL DEFAULT 0,
+          is_deleted BOOLEAN NOT NULL DEFAULT false,
+          created_at TIMESTAMP,
+          updated_at TIMESTAMP
+      );
+      CREATE UNIQUE INDEX uk_news_articles_source_url ON news_articles (source_url);
+      """;
+
+  @TempDir
+  Path root;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private JdbcTemplate jdbcTemplate;
+  private S3LogUploader s3LogUploader;
+  private NewsRestoreEngine engine;
+
+  @BeforeEach
+  void setUp() {
+    DriverManagerDataSource dataSource = new DriverManagerDataSource(
+        "jdbc:h2:mem:restore-" + UUID.randomUUID() + ";MODE=PostgreSQL;DB_CLOSE_DELAY=-1", "sa", "");
+    jdbcTemplate = new JdbcTemplate(dataSource);
+    jdbcTemplate.execute(DDL);
+    s3LogUploader = new S3LogUploader(mock(SlackNotificationService.class), new LocalBackupStorage(root.toString()));
+    engine = new NewsRestoreEngine(s3LogUploader, jdbcTemplate, new DataSourceTransactionManager(dataSource), 2);
+  }
+
+  @Test
+  @DisplayName("[복구] chunk 로 나눠 넣고, 이미 있는 URL 과 다른 chunk 의 중복 URL 은 충돌로 건너뛴다")
+  void restore_skipsExistingAndDuplicateUrlsAcrossChunks() throws IOException {
+    jdbcTemplate.update("INSERT INTO news_articles (news_article_id, source_url, title) VALUES (?, ?, ?)",
+        UUID.randomUUID(), url(0), "기존 기사");
+    String key = writeBackup(LocalDate.of(2024, 1, 1), List.of(
+        article(url(0), false), article(url(1), false), article(url(2), false), article(url(3), false),
+        article(url(1), false)));
+
+    RestoreResult result = engine.restore(key, false);
+
+    assertThat(result.getRead()).isEqualTo(5);
+    assertThat(result.getRestored()).isEqualTo(3);
+    assertThat(result.getSkipped()).isEqualTo(2);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_articles", Long.class)).isEqualTo(4);
+    assertThat(jdbcTemplate.queryForObject("SELECT title FROM news_articles WHERE source_url = ?", String.class, url(0)))
+        .isEqualTo("기존 기사");
+  }
+
+  @Test
+  @DisplayName("[복구] forceActive 면 삭제된 기사도 활성 상태로, 아니면 삭제 상태 그대로 복구한다")
+  void restore_forceActive() throws IOException {
+    String forced = writeBackup(LocalDate.of(2024, 1, 2), List.of(article(url(10), true)));
+    String kept = writeBackup(LocalDate.of(2024, 1, 3), List.of(article(url(11), true)));
+
+    engine.restore(forced, true);
+    engine.restore(kept, false);
+
+    assertThat(isDeleted(url(10))).isFalse();
+    assertThat(isDeleted(url(11))).isTrue();
+  }
+
+  @Test
+  @DisplayName("[체크섬] 카탈로그 체크섬과 저장된 바이트의 SHA-256 이 같으면 복구한다")
+  void restore_matchingChecksum() throws Exception {
+    String key = writeBackup(LocalDate.of(2024, 1, 4), List.of(article(url(20), false)));
+
+    RestoreResult result = engine.restore(key, false, sha256(key));
+
+    assertThat(result.getRestored()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[체크섬] 체크섬이 다르면 한 건도 넣지 않고 IOException 으로 실패한다")
+  void restore_checksumMismatch() throws IOException {
+    String key = writeBackup(LocalDate.of(2024, 1, 5), List.of(
+        article(url(21), false), article(url(22), false), article(url(23), false)));
+
+    assertThatThrownBy(() -> engine.restore(key, false, "00".repeat(32)))
+        .isInstanceOf(IOException.class)
+        .hasMessageContaining("체크섬");
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_articles", Long.class)).isZero();
+  }
+
+  @Test
+  @DisplayName("[재생] 다른 ID 의 기사가 가진 URL 은 그 기사로 갱신하고, 없는 기사는 넣고, 더 최근 기사는 덮어쓰지 않는다")
+  void replay_rekeysUrlConflictsAndKeepsNewerRows() throws IOException {
+    Timestamp old = Timestamp.valueOf("2024-01-01 00:00:00");
+    Timestamp newer = Timestamp.valueOf("2024-02-01 00:00:00");
+    UUID existingId = UUID.randomUUID();
+    UUID recentId = UUID.randomUUID();
+    jdbcTemplate.update("INSERT INTO news_articles (news_article_id, source_url, title, updated_at) VALUES (?, ?, ?, ?)",
+        existingId, url(30), "기존 기사", old);
+    jdbcTemplate.update("INSERT INTO news_articles (news_article_id, source_url, title, updated_at) VALUES (?, ?, ?, ?)",
+        recentId, url(32), "최근 기사", newer);
+    String key = writeBackup(LocalDate.of(2024, 1, 6), List.of(
+        article(UUID.randomUUID(), url(30), "재생 기사", newer),
+        article(UUID.randomUUID(), url(31), "새 기사", newer),
+        article(recentId, url(32), "이전 기사", old)));
+
+    RestoreResult result = engine.replay(key);
+
+    assertThat(result.getRead()).isEqualTo(3);
+    assertThat(result.getRestored()).isEqualTo(2);
+    assertThat(result.getSkipped()).isEqualTo(1);
+    assertThat(jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_articles", Long.class)).isEqualTo(3);
+    assertThat(jdbcTemplate.queryForObject("SELECT title FROM news_articles WHERE news_article_id = ?", String.class,
+        existingId)).isEqualTo("재생 기사");
+    assertThat(jdbcTemplate.queryForObject("SELECT title FROM news_articles WHERE source_url = ?", String.class, url(31)))
+        .isEqualTo("새 기사");
+    assertThat(jdbcTemplate.queryForObject("SELECT title FROM news_articles WHERE news_article_id = ?", String.class,
+        recentId)).isEqualTo("최근 기사");
+  }
+
+  @Test
+  @DisplayName("[복구] 백업 파일이 없으면 null 을 반환한다")
+  void restore_missingBackup() throws IOException {
+    assertThat(engine.restore(s3LogUploader.getBackupFileKey(LocalDate.of(2023, 12, 31)), false)).isNull();
+  }
+
+  @Test
+  @DisplayName("[복구] gzip 헤더가 깨진 백업은 IOException 으로 실패하고 저장소 스트림을 닫는다")
+  void restore_corruptGzipClosesSourceStream() {
+    AtomicBoolean closed = new AtomicBoolean();
+    S3LogUploader uploader = mock(S3LogUploader.class);
+    given(uploader.downloadNewsBackup("backups/news/broken.ndjson.gz"))
+        .willReturn(new ByteArrayInputStream("not gzip".getBytes(StandardCharsets.UTF_8)) {
+          @Override
+          public void close() throws IOException {
+            closed.set(true);
+            super.close();
+          }
+        });
+    NewsRestoreEngine brokenEngine = new NewsRestoreEngine(uploader, jdbcTemplate,
+        new DataSourceTransactionManager(jdbcTemplate.getDataSource()), 2);
+
+    assertThatThrownBy(() -> brokenEngine.restore("backups/news/broken.ndjson.gz", false)).isInstanceOf(IOException.class);
+    assertThat(closed).isTrue();
+  }
+
+  private String writeBackup(LocalDate date, List<BackupArticle> articles) throws IOException {
+    String key = s3LogUploader.getBackupFileKey(date);
+    BackupUpload upload = s3LogUploader.openBackupUpload(key, NewsBackupWriter.CONTENT_TYPE);
+    try (SequenceWriter writer = objectMapper.writer().withRootValueSeparator("\n")
+        .writeValues(new GZIPOutputStream(upload))) {
+      writer.writeAll(articles);
+    }
+    return key;
+  }
+
+  private String sha256(String key) throws Exception {
+    byte[] stored = Files.readAllBytes(root.resolve(key));
+    return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(stored));
+  }
+
+  private boolean isDeleted(String sourceUrl) {
+    return jdbcTemplate.queryForObject("SELECT is_deleted FROM news_articles WHERE source_url = ?", Boolean.class,
+        sourceUrl);
+  }
+
+  private static BackupArticle article(String sourceUrl, boolean deleted) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    return new BackupArticle(UUID.randomUUID(), "NAVER", sourceUrl, "복구 기사", now, "요약", 3L, 0L, deleted, now, now);
+  }
+
+  private static BackupArticle article(UUID id, String sourceUrl, String title, Timestamp updatedAt) {
+    return new BackupArticle(id, "NAVER", sourceUrl, title, updatedAt, "요약", 3L, 0L, false, updatedAt, updatedAt);
+  }
+
+  private static String url(int index) {
+    return "https://news.example.com/articles/" + index;
+  }
+}
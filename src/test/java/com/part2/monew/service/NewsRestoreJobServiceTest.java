@@ -0,0 +1,199 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.RestoreJobDayResponse;
+import com.part2.monew.dto.response.RestoreJobResponse;
+import com.part2.monew.global.exception.article.RestoreJobAlreadyRunningException;
+import com.part2.monew.global.exception.article.RestoreJobNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RMap;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.after;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NewsRestoreJobServiceTest {
+
+  private static final LocalDate DAY1 = LocalDate.of(2024, 1, 1);
+  private static final LocalDate DAY2 = LocalDate.of(2024, 1, 2);
+  private static final String KEY1 = "backups/news/news-backup-2024-01-01.ndjson.gz";
+
+  @Mock
+  private NewsRestoreEngine newsRestoreEngine;
+
+  @Mock
+  private NewsBackupCatalog newsBackupCatalog;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RMap<String, String> job;
+
+  @Mock
+  private RLock lock;
+
+  private final ObjectMapper objectMapper = new ObjectMapper();
+  private final Map<String, String> fields = new ConcurrentHashMap<>();
+  private NewsRestoreJobService service;
+
+  @BeforeEach
+  void setUp() {
+    service = new NewsRestoreJobService(newsRestoreEngine, newsBackupCatalog, redisson, objectMapper, 1, 10, 31, 7, 30);
+    lenient().when(redisson.<String, String>getMap(anyString(), eq(StringCodec.INSTANCE))).thenReturn(job);
+    lenient().when(job.get(anyString())).thenAnswer(invocation -> fields.get(invocation.<String>getArgument(0)));
+    lenient().when(job.readAllMap()).thenAnswer(invocation -> new TreeMap<>(fields));
+    lenient().when(job.fastPut(anyString(), anyString())).thenAnswer(invocation ->
+        fields.put(invocation.getArgument(0), invocation.getArgument(1)) == null);
+    lenient().when(job.replace(anyString(), anyString(), anyString())).thenAnswer(invocation ->
+        fields.replace(invocation.getArgument(0), invocation.getArgument(1), invocation.getArgument(2)));
+    lenient().when(job.expire(any(Duration.class))).thenReturn(true);
+    lenient().doAnswer(invocation -> {
+      fields.putAll(invocation.getArgument(0));
+      return null;
+    }).when(job).putAll(anyMap());
+  }
+
+  @AfterEach
+  void tearDown() {
+    service.shutdown();
+  }
+
+  @Test
+  @DisplayName("[시작] 백업이 있는 날짜만 복구하고 없는 날짜는 MISSING 으로 두고 작업을 완료한다")
+  void start_restoresPlannedDaysAndMarksMissing() throws Exception {
+    given(newsBackupCatalog.plan(DAY1, DAY2)).willReturn(plan(DAY1, KEY1));
+    givenLock(true);
+    NewsRestoreEngine.RestoreResult result = result(4, 3, 1);
+    given(newsRestoreEngine.restore(eq(KEY1), eq(false), eq("checksum"), any())).willReturn(result);
+
+    RestoreJobResponse started = service.start("2024-01-01", "2024-01-02");
+
+    RestoreJobResponse finished = awaitStatus(started.jobId(), NewsRestoreJobService.STATUS_COMPLETED);
+    assertThat(finished.days()).extracting(RestoreJobDayResponse::status)
+        .containsExactly(NewsRestoreJobService.STATUS_COMPLETED, NewsRestoreJobService.STATUS_MISSING);
+    assertThat(finished.restoredArticleCount()).isEqualTo(3);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("[진행] chunk 가 커밋될 때마다 날짜별 진행 수와 updatedAt 을 갱신한다")
+  void start_heartbeatsOnEveryChunk() throws Exception {
+    given(newsBackupCatalog.plan(DAY1, DAY1)).willReturn(plan(DAY1, KEY1));
+    givenLock(true);
+    Map<String, String> seen = new ConcurrentHashMap<>();
+    NewsRestoreEngine.RestoreResult progress = result(2, 1, 1);
+    NewsRestoreEngine.RestoreResult result = result(2, 1, 1);
+    willAnswer(invocation -> {
+      fields.put("updatedAt", "0");
+      Consumer<NewsRestoreEngine.RestoreResult> onChunk = invocation.getArgument(3);
+      onChunk.accept(progress);
+      seen.put("day", fields.get("day:" + DAY1));
+      seen.put("updatedAt", fields.get("updatedAt"));
+      return result;
+    }).given(newsRestoreEngine).restore(eq(KEY1), eq(false), eq("checksum"), any());
+
+    RestoreJobResponse started = service.start("2024-01-01", "2024-01-01");
+
+    awaitStatus(started.jobId(), NewsRestoreJobService.STATUS_COMPLETED);
+    RestoreJobDayResponse heartbeat = objectMapper.readValue(seen.get("day"), RestoreJobDayResponse.class);
+    assertThat(heartbeat.status()).isEqualTo(NewsRestoreJobService.STATUS_RUNNING);
+    assertThat(heartbeat.read()).isEqualTo(2);
+    assertThat(Long.parseLong(seen.get("updatedAt"))).isPositive();
+  }
+
+  @Test
+  @DisplayName("[재개] 최근에 갱신된 실행 중 작업은 재개하지 않는다")
+  void resume_rejectsRunningJobWithRecentHeartbeat() {
+    fields.put("status", NewsRestoreJobService.STATUS_RUNNING);
+    fields.put("updatedAt", String.valueOf(System.currentTimeMillis()));
+
+    assertThatThrownBy(() -> service.resume("job-1")).isInstanceOf(RestoreJobAlreadyRunningException.class);
+  }
+
+  @Test
+  @DisplayName("[재개] 다른 노드가 lock 을 잡고 실행 중인 날짜는 다시 복구하지 않고 작업을 끝내지 않는다")
+  void resume_skipsDayLockedByAnotherNode() throws Exception {
+    fields.put("status", NewsRestoreJobService.STATUS_RUNNING);
+    fields.put("fromDate", "2024-01-01");
+    fields.put("toDate", "2024-01-01");
+    fields.put("updatedAt", "0");
+    fields.put("day:" + DAY1, objectMapper.writeValueAsString(
+        new RestoreJobDayResponse(DAY1.toString(), NewsRestoreJobService.STATUS_RUNNING, 0, 0, 0, null)));
+    given(newsBackupCatalog.plan(DAY1, DAY1)).willReturn(plan(DAY1, KEY1));
+    givenLock(false);
+
+    service.resume("job-1");
+
+    verify(lock, timeout(1000)).tryLock(0, TimeUnit.SECONDS);
+    verify(job, after(200).never()).fastPut(eq("status"), anyString());
+    verify(newsRestoreEngine, never()).restore(anyString(), eq(false), any(), any());
+    assertThat(fields.get("status")).isEqualTo(NewsRestoreJobService.STATUS_RUNNING);
+  }
+
+  @Test
+  @DisplayName("[조회] 없는 작업 ID 는 RestoreJobNotFoundException")
+  void status_notFound() {
+    assertThatThrownBy(() -> service.status("missing")).isInstanceOf(RestoreJobNotFoundException.class);
+  }
+
+  private void givenLock(boolean acquired) throws InterruptedException {
+    given(redisson.getLock(anyString())).willReturn(lock);
+    given(lock.tryLock(0, TimeUnit.SECONDS)).willReturn(acquired);
+    if (acquired) {
+      given(lock.isHeldByCurrentThread()).willReturn(true);
+    }
+  }
+
+  private RestoreJobResponse awaitStatus(String jobId, String status) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + 5_000;
+    while (!status.equals(fields.get("status")) && System.currentTimeMillis() < deadline) {
+      Thread.sleep(10);
+    }
+    return service.status(jobId);
+  }
+
+  private static TreeMap<LocalDate, NewsBackupCatalog.Entry> plan(LocalDate day, String key) {
+    TreeMap<LocalDate, NewsBackupCatalog.Entry> plan = new TreeMap<>();
+    plan.put(day, new NewsBackupCatalog.Entry(key, day, day, 4, 100, "checksum",
+        NewsBackupCatalog.FORMAT_NDJSON_GZIP, 0L));
+    return plan;
+  }
+
+  private static NewsRestoreEngine.RestoreResult result(long read, long restored, long skipped) {
+    NewsRestoreEngine.RestoreResult result = mock(NewsRestoreEngine.RestoreResult.class);
+    lenient().when(result.getRead()).thenReturn(read);
+    lenient().when(result.getRestored()).thenReturn(restored);
+    lenient().when(result.getSkipped()).thenReturn(skipped);
+    return result;
+  }
+}
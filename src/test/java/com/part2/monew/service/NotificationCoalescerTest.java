@@ -0,0 +1,208 @@
+package com.part2.monew.service;
+
+import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.entity.Notification;
+import com.part2.monew.entity.User;
+import com.part2.monew.repository.NotificationRepository;
+import com.part2.monew.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RScoredSortedSet;
+import org.redisson.api.RScript;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationCoalescerTest {
+
+  private static final long WINDOW_MILLIS = 60_000L;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RScript script;
+
+  @Mock
+  private RScoredSortedSet<Object> pending;
+
+  @Mock
+  private NotificationService notificationService;
+
+  @Mock
+  private NotificationPushService notificationPushService;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private PlatformTransactionManager transactionManager;
+
+  private NotificationCoalescer coalescer;
+
+  private final UUID recipientId = UUID.randomUUID();
+  private final UUID commentId = UUID.randomUUID();
+  private String digestKey;
+
+  @BeforeEach
+  void setUp() {
+    coalescer = new NotificationCoalescer(redisson, notificationService, notificationPushService,
+        notificationRepository, userRepository, transactionManager, WINDOW_MILLIS, 500);
+    digestKey = "notification:digest:" + recipientId + ":COMMENT:" + commentId;
+  }
+
+  @Test
+  @DisplayName("[집계] 이벤트마다 카운터/메타/마감 시각을 하나의 스크립트로 기록한다")
+  void submit_recordsInOneScript() {
+    given(redisson.getScript(StringCodec.INSTANCE)).willReturn(script);
+    long before = System.currentTimeMillis();
+
+    coalescer.submit(recipientId, "민수", "COMMENT", commentId, "내 댓글을 좋아합니다.");
+
+    ArgumentCaptor<Object> deadline = ArgumentCaptor.forClass(Object.class);
+    verify(script).eval(eq(RScript.Mode.READ_WRITE), eq(NotificationCoalescer.SUBMIT_SCRIPT),
+        eq(RScript.ReturnType.INTEGER),
+        eq(List.<Object>of(digestKey + ":count", digestKey + ":meta", "notification:digest:pending")),
+        eq("민수"), eq("내 댓글을 좋아합니다."), eq(String.valueOf(WINDOW_MILLIS * 10)), deadline.capture(),
+        eq(digestKey));
+    assertThat(Long.parseLong((String) deadline.getValue())).isBetween(before + WINDOW_MILLIS,
+        System.currentTimeMillis() + WINDOW_MILLIS);
+  }
+
+  @Test
+  @DisplayName("[반영] 미확인 알림이 없으면 누적 수로 새 알림을 만든다")
+  void flush_createsNotification() {
+    givenDueDigest(List.<Object>of("3", "지수", "내 댓글을 좋아합니다."));
+    given(notificationRepository.findFirstByUserIdAndResourceTypeAndResourceIdAndConfirmedFalseOrderByCreatedAtDesc(
+        recipientId, "COMMENT", commentId)).willReturn(Optional.empty());
+    User recipient = new User();
+    given(userRepository.getReferenceById(recipientId)).willReturn(recipient);
+    Notification created = new Notification();
+    given(notificationService.createNotification(recipient, "지수님 외 2명이 내 댓글을 좋아합니다.", "COMMENT", commentId))
+        .willReturn(created);
+
+    coalescer.flushDueDigests();
+
+    assertThat(created.getActorCount()).isEqualTo(3);
+    verify(notificationRepository, never()).updateDigest(any(), anyInt(), anyString(), any());
+    verifySettled("3");
+  }
+
+  @Test
+  @DisplayName("[반영] 미확인 알림이 있으면 인원 수/내용을 갱신하고 생성 시각을 현재로 옮긴다")
+  void flush_updatesExistingDigest() {
+    givenDueDigest(List.<Object>of("2", "지수", "내 댓글을 좋아합니다."));
+    Notification existing = new Notification();
+    existing.setId(UUID.randomUUID());
+    existing.setActorCount(4);
+    existing.setCreatedAt(new Timestamp(0L));
+    given(notificationRepository.findFirstByUserIdAndResourceTypeAndResourceIdAndConfirmedFalseOrderByCreatedAtDesc(
+        recipientId, "COMMENT", commentId)).willReturn(Optional.of(existing));
+    long before = System.currentTimeMillis();
+
+    coalescer.flushDueDigests();
+
+    ArgumentCaptor<Timestamp> now = ArgumentCaptor.forClass(Timestamp.class);
+    verify(notificationRepository).updateDigest(eq(existing.getId()), eq(6),
+        eq("지수님 외 5명이 내 댓글을 좋아합니다."), now.capture());
+    assertThat(now.getValue().getTime()).isGreaterThanOrEqualTo(before);
+
+    ArgumentCaptor<NotificationResponse> pushed = ArgumentCaptor.forClass(NotificationResponse.class);
+    verify(notificationPushService).publishAfterCommit(pushed.capture());
+    assertThat(pushed.getValue().content()).isEqualTo("지수님 외 5명이 내 댓글을 좋아합니다.");
+    assertThat(pushed.getValue().createdAt()).isEqualTo(now.getValue());
+    verifyNoInteractions(notificationService);
+    verifySettled("2");
+  }
+
+  @Test
+  @DisplayName("[반영] DB 반영에 실패하면 누적 수를 지우지 않고 키를 pending 에 되돌린다")
+  void flush_keepsEventsWhenWriteFails() {
+    givenDueDigest(List.<Object>of("2", "지수", "내 댓글을 좋아합니다."));
+    Notification existing = new Notification();
+    existing.setId(UUID.randomUUID());
+    existing.setActorCount(1);
+    given(notificationRepository.findFirstByUserIdAndResourceTypeAndResourceIdAndConfirmedFalseOrderByCreatedAtDesc(
+        recipientId, "COMMENT", commentId)).willReturn(Optional.of(existing));
+    given(notificationRepository.updateDigest(eq(existing.getId()), eq(3), anyString(), any()))
+        .willThrow(new QueryTimeoutException("timeout"));
+    long before = System.currentTimeMillis();
+
+    coalescer.flushDueDigests();
+
+    ArgumentCaptor<Double> retryAt = ArgumentCaptor.forClass(Double.class);
+    verify(pending).add(retryAt.capture(), eq(digestKey));
+    assertThat(retryAt.getValue().longValue()).isBetween(before + WINDOW_MILLIS,
+        System.currentTimeMillis() + WINDOW_MILLIS);
+    verify(script, never()).eval(any(RScript.Mode.class), eq(NotificationCoalescer.SETTLE_SCRIPT),
+        any(RScript.ReturnType.class), anyList(), any(Object[].class));
+    verify(notificationPushService, never()).publishAfterCommit(any());
+  }
+
+  @Test
+  @DisplayName("[반영] 다른 노드가 먼저 꺼낸 키는 건너뛴다")
+  void flush_skipsKeyClaimedByAnotherNode() {
+    given(redisson.getScoredSortedSet("notification:digest:pending", StringCodec.INSTANCE)).willReturn(pending);
+    given(pending.valueRange(anyDouble(), eq(true), anyDouble(), eq(true), eq(0), eq(500)))
+        .willReturn(List.<Object>of(digestKey));
+    given(pending.remove(digestKey)).willReturn(false);
+
+    coalescer.flushDueDigests();
+
+    verify(redisson, never()).getScript(any());
+    verifyNoInteractions(notificationRepository, notificationService);
+  }
+
+  @Test
+  @DisplayName("[반영] 꺼낸 누적 수가 없으면 알림을 만들지 않는다")
+  void flush_ignoresEmptyDigest() {
+    givenDueDigest(List.<Object>of("0", "", ""));
+
+    coalescer.flushDueDigests();
+
+    verifyNoInteractions(notificationRepository, notificationService);
+  }
+
+  private void givenDueDigest(List<Object> current) {
+    given(redisson.getScoredSortedSet("notification:digest:pending", StringCodec.INSTANCE)).willReturn(pending);
+    given(pending.valueRange(anyDouble(), eq(true), anyDouble(), eq(true), eq(0), eq(500)))
+        .willReturn(List.<Object>of(digestKey));
+    given(pending.remove(digestKey)).willReturn(true);
+    given(redisson.getScript(StringCodec.INSTANCE)).willReturn(script);
+    given(script.eval(RScript.Mode.READ_ONLY, NotificationCoalescer.READ_SCRIPT, RScript.ReturnType.MULTI,
+        List.<Object>of(digestKey + ":count", digestKey + ":meta"))).willReturn(current);
+  }
+
+  // 커밋 뒤에 반영한 수만큼만 차감한다
+  private void verifySettled(String count) {
+    verify(script).eval(RScript.Mode.READ_WRITE, NotificationCoalescer.SETTLE_SCRIPT, RScript.ReturnType.INTEGER,
+        List.<Object>of(digestKey + ":count", digestKey + ":meta"), count);
+  }
+}
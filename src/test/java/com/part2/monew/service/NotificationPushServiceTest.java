@@ -0,0 +1,137 @@
+package com.part2.monew.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.dto.response.NotificationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RTopic;
+import org.redisson.api.RedissonClient;
+import org.redisson.api.listener.MessageListener;
+import org.redisson.client.codec.StringCodec;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import java.io.IOException;
+import java.sql.Timestamp;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willDoNothing;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationPushServiceTest {
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RTopic topic;
+
+  @Captor
+  private ArgumentCaptor<MessageListener<String>> listener;
+
+  private final Deque<SseEmitter> created = new ArrayDeque<>();
+  private NotificationPushService service;
+
+  private final UUID userId = UUID.randomUUID();
+  private final UUID otherUserId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    given(redisson.getTopic("channel:notifications", StringCodec.INSTANCE)).willReturn(topic);
+    service = new NotificationPushService(redisson, new ObjectMapper(), 1000L) {
+      @Override
+      SseEmitter createEmitter() {
+        return created.poll();
+      }
+    };
+    service.subscribeTopic();
+    verify(topic).addListener(eq(String.class), listener.capture());
+    // 발행한 메시지는 Redis 를 거쳐 같은 노드의 리스너로 돌아온다
+    lenient().when(topic.publish(any())).thenAnswer(invocation -> {
+      listener.getValue().onMessage("channel:notifications", invocation.getArgument(0));
+      return 1L;
+    });
+  }
+
+  @Test
+  @DisplayName("[전달] 알림은 수신자의 연결에만 보내고 다른 사용자의 연결에는 보내지 않는다")
+  void publish_routesToRecipientOnly() throws IOException {
+    SseEmitter mine = connect(userId);
+    SseEmitter others = connect(otherUserId);
+
+    service.publish(notification(userId));
+
+    // 연결 이벤트 1번 + 알림 1번
+    verify(mine, times(2)).send(any(SseEventBuilder.class));
+    verify(others, times(1)).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("[전달] 한 사용자의 여러 연결에 모두 보낸다")
+  void publish_reachesEveryConnectionOfUser() throws IOException {
+    SseEmitter first = connect(userId);
+    SseEmitter second = connect(userId);
+
+    service.publish(notification(userId));
+
+    verify(first, times(2)).send(any(SseEventBuilder.class));
+    verify(second, times(2)).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("[해제] 완료된 연결에는 더 이상 보내지 않고, 다시 연결하면 새 연결로 받는다")
+  void remove_thenReconnect() throws IOException {
+    SseEmitter closed = connect(userId);
+    ArgumentCaptor<Runnable> completion = ArgumentCaptor.forClass(Runnable.class);
+    verify(closed).onCompletion(completion.capture());
+    completion.getValue().run();
+
+    SseEmitter reconnected = connect(userId);
+    service.publish(notification(userId));
+
+    verify(closed, times(1)).send(any(SseEventBuilder.class));
+    verify(reconnected, times(2)).send(any(SseEventBuilder.class));
+  }
+
+  @Test
+  @DisplayName("[해제] 전송에 실패한 연결은 제거해 다음 알림부터 보내지 않는다")
+  void publish_dropsFailedEmitter() throws IOException {
+    SseEmitter broken = mock(SseEmitter.class);
+    willDoNothing().willThrow(new IOException("broken pipe")).given(broken).send(any(SseEventBuilder.class));
+    created.add(broken);
+    service.connect(userId);
+
+    service.publish(notification(userId));
+    service.publish(notification(userId));
+
+    verify(broken, times(2)).send(any(SseEventBuilder.class));
+  }
+
+  private SseEmitter connect(UUID user) {
+    SseEmitter emitter = mock(SseEmitter.class);
+    created.add(emitter);
+    service.connect(user);
+    return emitter;
+  }
+
+  private static NotificationResponse notification(UUID recipientId) {
+    Timestamp now = new Timestamp(System.currentTimeMillis());
+    return new NotificationResponse(UUID.randomUUID(), now, now, false, recipientId, "새 댓글이 달렸습니다.",
+        "COMMENT", UUID.randomUUID());
+  }
+}
@@ -0,0 +1,118 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.NotificationRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RLock;
+import org.redisson.api.RedissonClient;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationRetentionJobTest {
+
+  private static final int BATCH_SIZE = 100;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RLock lock;
+
+  private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+  @Test
+  @DisplayName("[락] 다른 인스턴스가 실행 중이면 삭제하지 않고 건너뛴 횟수만 센다")
+  void skipsWhenLockedElsewhere() throws InterruptedException {
+    givenLock(false);
+
+    job(0, 10).deleteOldConfirmedNotifications();
+
+    verifyNoInteractions(notificationRepository);
+    verify(lock, never()).unlock();
+    assertThat(meterRegistry.get("monew.notification.retention.skipped").counter().count()).isEqualTo(1);
+  }
+
+  @Test
+  @DisplayName("[배치] 보존 기간 이전의 확인 알림을 배치가 덜 찰 때까지 지우고, 가득 찬 배치 뒤에만 쉰다")
+  void deletesUntilPartialBatchAndPausesBetweenBatches() throws InterruptedException {
+    givenLock(true);
+    given(notificationRepository.deleteConfirmedBatchBefore(any(Timestamp.class), eq(BATCH_SIZE)))
+        .willReturn(BATCH_SIZE, BATCH_SIZE, 7);
+    LocalDateTime startedAt = LocalDateTime.now();
+    long started = System.nanoTime();
+
+    job(50, 10).deleteOldConfirmedNotifications();
+
+    long elapsedMillis = (System.nanoTime() - started) / 1_000_000;
+    assertThat(elapsedMillis).isGreaterThanOrEqualTo(2 * 50);
+    ArgumentCaptor<Timestamp> before = ArgumentCaptor.forClass(Timestamp.class);
+    verify(notificationRepository, times(3)).deleteConfirmedBatchBefore(before.capture(), eq(BATCH_SIZE));
+    assertThat(before.getValue().toLocalDateTime()).isBetween(startedAt.minusDays(7).minusSeconds(1),
+        LocalDateTime.now().minusDays(7));
+    assertThat(meterRegistry.get("monew.notification.retention.deleted").counter().count())
+        .isEqualTo(2 * BATCH_SIZE + 7);
+    assertThat(meterRegistry.get("monew.notification.retention.batches").counter().count()).isEqualTo(3);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("[상한] 배치가 계속 가득 차도 max-batches 에서 멈추고 남은 건은 다음 실행에 맡긴다")
+  void stopsAtMaxBatches() throws InterruptedException {
+    givenLock(true);
+    given(notificationRepository.deleteConfirmedBatchBefore(any(Timestamp.class), anyInt())).willReturn(BATCH_SIZE);
+
+    job(0, 3).deleteOldConfirmedNotifications();
+
+    verify(notificationRepository, times(3)).deleteConfirmedBatchBefore(any(Timestamp.class), eq(BATCH_SIZE));
+    assertThat(meterRegistry.get("monew.notification.retention.deleted").counter().count())
+        .isEqualTo(3 * BATCH_SIZE);
+    verify(lock).unlock();
+  }
+
+  @Test
+  @DisplayName("[배치] 지울 알림이 없으면 한 번만 조회하고 쉬지 않는다")
+  void singleEmptyBatch() throws InterruptedException {
+    givenLock(true);
+    given(notificationRepository.deleteConfirmedBatchBefore(any(Timestamp.class), eq(BATCH_SIZE))).willReturn(0);
+    long started = System.nanoTime();
+
+    job(10_000, 10).deleteOldConfirmedNotifications();
+
+    assertThat((System.nanoTime() - started) / 1_000_000).isLessThan(10_000);
+    verify(notificationRepository, times(1)).deleteConfirmedBatchBefore(any(Timestamp.class), eq(BATCH_SIZE));
+  }
+
+  private NotificationRetentionJob job(long pauseMillis, int maxBatches) {
+    return new NotificationRetentionJob(notificationRepository, redisson, meterRegistry, 7, BATCH_SIZE,
+        pauseMillis, maxBatches);
+  }
+
+  private void givenLock(boolean acquired) throws InterruptedException {
+    given(redisson.getLock("lock:notification:retention")).willReturn(lock);
+    given(lock.tryLock(0, TimeUnit.SECONDS)).willReturn(acquired);
+    if (acquired) {
+      given(lock.isHeldByCurrentThread()).willReturn(true);
+    }
+  }
+}
@@ -0,0 +1,207 @@
+package com.part2.monew.service;
+
+import com.part2.monew.dto.request.NotificationCursorRequest;
+import com.part2.monew.dto.response.CursorPageResponse;
+import com.part2.monew.dto.response.NotificationBulkConfirmResponse;
+import com.part2.monew.dto.response.NotificationResponse;
+import com.part2.monew.entity.Notification;
+import com.part2.monew.entity.User;
+import com.part2.monew.global.exception.notification.NoParsingException;
+import com.part2.monew.repository.NotificationRepository;
+import com.part2.monew.repository.UserRepository;
+import com.part2.monew.service.impl.NotificationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceImplTest {
+
+  private static final int CHUNK = 1000;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  @Mock
+  private UserRepository userRepository;
+
+  @Mock
+  private NotificationPushService notificationPushService;
+
+  @Mock
+  private NotificationUnreadCounter notificationUnreadCounter;
+
+  @Mock
+  private InterestArticleNotifier interestArticleNotifier;
+
+  private NotificationServiceImpl notificationService;
+
+  private final UUID userId = UUID.randomUUID();
+
+  @BeforeEach
+  void setUp() {
+    notificationService = new NotificationServiceImpl(notificationRepository, userRepository,
+        notificationPushService, notificationUnreadCounter, interestArticleNotifier);
+  }
+
+  @Test
+  @DisplayName("[전체 확인] 청크가 가득 차면 다음 청크를 확인하고, 덜 차면 멈춘 뒤 카운터를 0 으로 맞춘다")
+  void updatedAll_confirmsChunkByChunk() {
+    given(notificationRepository.confirmUnconfirmedChunk(userId, CHUNK)).willReturn(CHUNK, CHUNK, 37);
+
+    int confirmed = notificationService.updatedAll(userId);
+
+    assertThat(confirmed).isEqualTo(2 * CHUNK + 37);
+    verify(notificationRepository, times(3)).confirmUnconfirmedChunk(userId, CHUNK);
+    verify(notificationUnreadCounter).resetAfterCommit(userId);
+  }
+
+  @Test
+  @DisplayName("[전체 확인] 마지막 청크가 정확히 가득 차면 빈 청크를 한 번 더 확인하고 멈춘다")
+  void updatedAll_stopsOnEmptyChunk() {
+    given(notificationRepository.confirmUnconfirmedChunk(userId, CHUNK)).willReturn(CHUNK, 0);
+
+    int confirmed = notificationService.updatedAll(userId);
+
+    assertThat(confirmed).isEqualTo(CHUNK);
+    verify(notificationRepository, times(2)).confirmUnconfirmedChunk(userId, CHUNK);
+    verify(notificationUnreadCounter).resetAfterCommit(userId);
+  }
+
+  @Test
+  @DisplayName("[선택 확인] 중복 ID 는 한 번만 넘기고, 실제로 확인된 수만큼 카운터를 줄인다")
+  void updatedBulk_decrementsByConfirmedCount() {
+    UUID first = UUID.randomUUID();
+    UUID second = UUID.randomUUID();
+    given(notificationRepository.confirmByIds(userId, Set.of(first, second))).willReturn(1);
+
+    NotificationBulkConfirmResponse response = notificationService.updatedBulk(userId, List.of(first, second, first));
+
+    assertThat(response.confirmedCount()).isEqualTo(1);
+    verify(notificationUnreadCounter).decrementAfterCommit(userId, 1);
+  }
+
+  @Test
+  @DisplayName("[선택 확인] 확인된 알림이 없으면(이미 확인/다른 사용자 알림) 카운터를 건드리지 않는다")
+  void updatedBulk_nothingConfirmed() {
+    UUID othersNotification = UUID.randomUUID();
+    given(notificationRepository.confirmByIds(userId, Set.of(othersNotification))).willReturn(0);
+
+    NotificationBulkConfirmResponse response = notificationService.updatedBulk(userId, List.of(othersNotification));
+
+    assertThat(response.confirmedCount()).isZero();
+    verify(notificationUnreadCounter, never()).decrementAfterCommit(eq(userId), anyLong());
+  }
+
+  @Test
+  @DisplayName("[목록] limit + 1 건이 오면 다음 페이지가 있고, 마지막 행의 (createdAt, id) 를 불투명 커서로 돌려준다")
+  void list_firstPageEncodesOpaqueCursor() {
+    Timestamp createdAt = Timestamp.from(Instant.parse("2025-06-01T00:00:00.123Z"));
+    List<Notification> rows = List.of(notification(createdAt), notification(createdAt), notification(createdAt));
+    given(notificationRepository.findUnconfirmedByUserId(userId, null, null, 2)).willReturn(rows);
+    given(notificationUnreadCounter.getOrLoad(userId)).willReturn(3L);
+
+    CursorPageResponse<NotificationResponse> page =
+        notificationService.getNoConfirmedNotifications(userId, new NotificationCursorRequest(null, null, 2));
+
+    assertThat(page.hasNext()).isTrue();
+    assertThat(page.content()).extracting(NotificationResponse::id)
+        .containsExactly(rows.get(0).getId(), rows.get(1).getId());
+    String raw = new String(Base64.getUrlDecoder().decode(page.nextCursor()), StandardCharsets.UTF_8);
+    assertThat(raw).isEqualTo("2025-06-01T00:00:00.123Z|" + rows.get(1).getId());
+    assertThat(page.nextAfter()).isEqualTo("2025-06-01T00:00:00.123Z");
+    assertThat(page.totalElements()).isEqualTo(3L);
+    verify(interestArticleNotifier).materializePulledNotifications(userId);
+  }
+
+  @Test
+  @DisplayName("[목록] 돌려준 커서로 요청하면 같은 (createdAt, id) 다음부터 조회하고 pull 알림은 다시 반영하지 않는다")
+  void list_decodesOpaqueCursor() {
+    Timestamp createdAt = Timestamp.from(Instant.parse("2025-06-01T00:00:00.123Z"));
+    UUID lastId = UUID.randomUUID();
+    String cursor = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString((createdAt.toInstant() + "|" + lastId).getBytes(StandardCharsets.UTF_8));
+    given(notificationRepository.findUnconfirmedByUserId(userId, createdAt, lastId, 2)).willReturn(List.of());
+
+    CursorPageResponse<NotificationResponse> page =
+        notificationService.getNoConfirmedNotifications(userId, new NotificationCursorRequest(cursor, null, 2));
+
+    assertThat(page.hasNext()).isFalse();
+    assertThat(page.nextCursor()).isNull();
+    verify(interestArticleNotifier, never()).materializePulledNotifications(any());
+  }
+
+  @Test
+  @DisplayName("[목록] 이전 형식의 ISO-8601 커서와 after 는 createdAt 만으로 이어서 조회한다")
+  void list_acceptsLegacyCursorAndAfter() {
+    Timestamp createdAt = Timestamp.from(Instant.parse("2025-06-01T00:00:00Z"));
+    given(notificationRepository.findUnconfirmedByUserId(userId, createdAt, null, 10)).willReturn(List.of());
+
+    notificationService.getNoConfirmedNotifications(userId,
+        new NotificationCursorRequest("2025-06-01T00:00:00Z", null, null));
+    notificationService.getNoConfirmedNotifications(userId,
+        new NotificationCursorRequest(null, "2025-06-01T00:00:00Z", null));
+
+    verify(notificationRepository, times(2)).findUnconfirmedByUserId(userId, createdAt, null, 10);
+  }
+
+  @Test
+  @DisplayName("[목록] limit 은 최대 100 으로 자르고, 정확히 limit 건이면 다음 페이지가 없다")
+  void list_clampsLimit() {
+    List<Notification> rows = Stream
+        .generate(() -> notification(new Timestamp(System.currentTimeMillis()))).limit(100).toList();
+    given(notificationRepository.findUnconfirmedByUserId(userId, null, null, 100)).willReturn(rows);
+
+    CursorPageResponse<NotificationResponse> page =
+        notificationService.getNoConfirmedNotifications(userId, new NotificationCursorRequest(null, null, 5000));
+
+    assertThat(page.content()).hasSize(100);
+    assertThat(page.hasNext()).isFalse();
+    assertThat(page.nextCursor()).isNull();
+  }
+
+  @Test
+  @DisplayName("[목록] 해석할 수 없는 커서는 NoParsingException")
+  void list_rejectsMalformedCursor() {
+    String noDelimiter = Base64.getUrlEncoder().withoutPadding()
+        .encodeToString("not-a-cursor".getBytes(StandardCharsets.UTF_8));
+
+    assertThatThrownBy(() -> notificationService.getNoConfirmedNotifications(userId,
+        new NotificationCursorRequest(noDelimiter, null, 10))).isInstanceOf(NoParsingException.class);
+    assertThatThrownBy(() -> notificationService.getNoConfirmedNotifications(userId,
+        new NotificationCursorRequest("%%%", null, 10))).isInstanceOf(NoParsingException.class);
+    verifyNoInteractions(notificationRepository);
+  }
+
+  private Notification notification(Timestamp createdAt) {
+    User user = new User();
+    user.setId(userId);
+    Notification notification = new Notification(user, "새 댓글이 달렸습니다.", "COMMENT", UUID.randomUUID());
+    notification.setId(UUID.randomUUID());
+    notification.setCreatedAt(createdAt);
+    return notification;
+  }
+}
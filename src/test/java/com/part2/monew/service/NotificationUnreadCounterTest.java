@@ -0,0 +1,219 @@
+package com.part2.monew.service;
+
+import com.part2.monew.repository.NotificationRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.redisson.api.RAtomicLong;
+import org.redisson.api.RBucket;
+import org.redisson.api.RLock;
+import org.redisson.api.RScript;
+import org.redisson.api.RSet;
+import org.redisson.api.RedissonClient;
+import org.redisson.client.codec.StringCodec;
+
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Redis 는 문자열 키/값과 set 을 담은 맵으로 흉내 낸다.
+ * 스크립트는 ADD_IF_EXISTS_SCRIPT / COMPARE_AND_SET_SCRIPT 의 동작을 그대로 옮겨 실행한다.
+ */
+@ExtendWith(MockitoExtension.class)
+class NotificationUnreadCounterTest {
+
+  private static final String PENDING = "notification:unread:reconcile";
+  private static final String TOUCHED = "notification:unread:touched";
+
+  @Mock
+  private RedissonClient redisson;
+
+  @Mock
+  private RScript script;
+
+  @Mock
+  private NotificationRepository notificationRepository;
+
+  private final Map<String, String> values = new ConcurrentHashMap<>();
+  private final Map<String, Set<String>> sets = new ConcurrentHashMap<>();
+  private NotificationUnreadCounter counter;
+
+  private final UUID userId = UUID.randomUUID();
+  private String key;
+
+  @BeforeEach
+  void setUp() {
+    counter = new NotificationUnreadCounter(redisson, notificationRepository, 500);
+    key = "notification:unread:" + userId;
+    lenient().when(redisson.getScript(StringCodec.INSTANCE)).thenReturn(script);
+    lenient().when(script.eval(anyString(), eq(RScript.Mode.READ_WRITE), anyString(),
+        any(RScript.ReturnType.class), anyList(), any(Object[].class))).thenAnswer(this::eval);
+    lenient().when(redisson.<String>getBucket(anyString(), eq(StringCodec.INSTANCE))).thenAnswer(invocation -> {
+      RBucket<String> bucket = mock(RBucket.class);
+      String name = invocation.getArgument(0);
+      lenient().when(bucket.get()).thenAnswer(get -> values.get(name));
+      return bucket;
+    });
+    lenient().when(redisson.<String>getSet(anyString(), eq(StringCodec.INSTANCE))).thenAnswer(invocation -> {
+      RSet<String> set = mock(RSet.class);
+      Set<String> members = sets.computeIfAbsent(invocation.getArgument(0), name -> new LinkedHashSet<>());
+      lenient().when(set.add(anyString())).thenAnswer(add -> members.add(add.getArgument(0)));
+      lenient().when(set.removeRandom(anyInt())).thenAnswer(remove -> {
+        Set<String> removed = new HashSet<>();
+        for (String member : List.copyOf(members)) {
+          if (removed.size() == remove.<Integer>getArgument(0)) {
+            break;
+          }
+          members.remove(member);
+          removed.add(member);
+        }
+        return removed;
+      });
+      return set;
+    });
+    lenient().when(redisson.getAtomicLong(anyString())).thenAnswer(invocation -> {
+      RAtomicLong atomic = mock(RAtomicLong.class);
+      String name = invocation.getArgument(0);
+      lenient().when(atomic.isExists()).thenAnswer(exists -> values.containsKey(name));
+      lenient().when(atomic.get()).thenAnswer(get -> Long.parseLong(values.get(name)));
+      return atomic;
+    });
+  }
+
+  @Test
+  @DisplayName("[증감] 카운터가 없으면 증가하지 않고 재조정 대상에 올린다")
+  void increment_missingCounterIsQueued() {
+    counter.increment(userId, 1);
+
+    assertThat(values).doesNotContainKey(key);
+    assertThat(members(PENDING)).containsExactly(userId.toString());
+  }
+
+  @Test
+  @DisplayName("[증감] 음수가 되면 0 으로 맞추고 재조정 대상에 올린다")
+  void decrement_belowZeroIsClampedAndQueued() {
+    values.put(key, "1");
+
+    counter.increment(userId, -3);
+
+    assertThat(values.get(key)).isEqualTo("0");
+    assertThat(members(PENDING)).containsExactly(userId.toString());
+  }
+
+  @Test
+  @DisplayName("[증감] 정상 증감은 최근 증감 사용자에만 올리고 재조정 대상에는 올리지 않는다")
+  void increment_existingCounterIsTouched() {
+    values.put(key, "2");
+
+    counter.increment(userId, 1);
+
+    assertThat(values.get(key)).isEqualTo("3");
+    assertThat(members(TOUCHED)).containsExactly(userId.toString());
+    assertThat(members(PENDING)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[재조정] COUNT 전에 읽은 값이 그대로면 테이블 값으로 쓴다")
+  void reconcile_writesCountWhenUnchanged() {
+    values.put(key, "9");
+    given(notificationRepository.countByUserIdAndConfirmedFalse(userId)).willReturn(4L);
+
+    assertThat(counter.reconcile(userId)).isEqualTo(4);
+    assertThat(values.get(key)).isEqualTo("4");
+  }
+
+  @Test
+  @DisplayName("[재조정] COUNT 중에 계속 증감되면 덮어쓰지 않고 다음 재조정에 맡긴다")
+  void reconcile_givesUpWhileConcurrentlyChanged() {
+    values.put(key, "1");
+    given(notificationRepository.countByUserIdAndConfirmedFalse(userId)).willAnswer(invocation -> {
+      counter.increment(userId, 1);
+      return 1L;
+    });
+
+    counter.reconcile(userId);
+
+    // 3번 시도하는 동안 반영된 증가 3건이 그대로 남는다
+    assertThat(values.get(key)).isEqualTo("4");
+    assertThat(members(PENDING)).containsExactly(userId.toString());
+  }
+
+  @Test
+  @DisplayName("[재조정] COUNT 에 포함된 행의 증가가 재조정 뒤에 반영돼 커진 값은 다음 주기에 바로잡는다")
+  void reconcilePending_correctsPositiveDrift() throws InterruptedException {
+    RLock lock = mock(RLock.class);
+    given(redisson.getLock("lock:notification:unread-reconcile")).willReturn(lock);
+    given(lock.tryLock(0, 5, TimeUnit.MINUTES)).willReturn(true);
+    values.put(key, "5");
+    // 6번째 알림은 커밋됐지만 afterCommit 증가는 아직이다
+    given(notificationRepository.countByUserIdAndConfirmedFalse(userId)).willReturn(6L);
+    counter.reconcile(userId);
+    counter.increment(userId, 1);
+    assertThat(values.get(key)).isEqualTo("7");
+
+    counter.reconcilePending();
+
+    assertThat(values.get(key)).isEqualTo("6");
+    assertThat(members(TOUCHED)).isEmpty();
+  }
+
+  @Test
+  @DisplayName("[조회] 카운터가 없으면 COUNT 로 채워 반환한다")
+  void getOrLoad_loadsMissingCounter() {
+    given(notificationRepository.countByUserIdAndConfirmedFalse(userId)).willReturn(3L);
+
+    assertThat(counter.getOrLoad(userId)).isEqualTo(3);
+    assertThat(values.get(key)).isEqualTo("3");
+  }
+
+  private Set<String> members(String name) {
+    return sets.getOrDefault(name, Set.of());
+  }
+
+  // 두 스크립트의 Lua 동작을 옮긴 것 (키 존재/음수/기대값 분기)
+  private Object eval(InvocationOnMock invocation) {
+    String source = invocation.getArgument(2);
+    List<Object> keys = invocation.getArgument(4);
+    Object[] args = invocation.getRawArguments()[5] instanceof Object[] raw ? raw : new Object[0];
+    String counterKey = (String) keys.get(0);
+    if (NotificationUnreadCounter.ADD_IF_EXISTS_SCRIPT.equals(source)) {
+      if (!values.containsKey(counterKey)) {
+        return List.of(0L);
+      }
+      long value = Long.parseLong(values.get(counterKey)) + Long.parseLong((String) args[0]);
+      values.put(counterKey, String.valueOf(Math.max(0L, value)));
+      sets.computeIfAbsent((String) keys.get(1), name -> new LinkedHashSet<>()).add((String) args[2]);
+      return List.of(1L, value);
+    }
+    if (NotificationUnreadCounter.COMPARE_AND_SET_SCRIPT.equals(source)) {
+      String current = values.get(counterKey);
+      if ((current == null && "".equals(args[0])) || Objects.equals(current, args[0])) {
+        values.put(counterKey, (String) args[1]);
+        return true;
+      }
+      return false;
+    }
+    throw new IllegalArgumentException("unexpected script");
+  }
+}
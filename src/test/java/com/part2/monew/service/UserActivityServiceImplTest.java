@@ -11,15 +11,19 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
 import java.sql.Timestamp;
 import java.time.Instant;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ActiveProfiles("test")
@@ -32,7 +36,10 @@ class UserActivityServiceImplTest {
   private UserRepository userRepository;
 
   @Mock
-  private UserSubscriberRepository userSubscriberRepository;
+  private InterestRepository interestRepository;
+
+  @Mock
+  private UserSubscriptionCache userSubscriptionCache;
 
   @Mock
   private CommentRepository commentRepository;
@@ -43,6 +50,9 @@ class UserActivityServiceImplTest {
   @Mock
   private ActivityDetailRepository activityDetailRepository;
 
+  @Mock
+  private UserActivityReadModel userActivityReadModel;
+
   private UUID userId;
   private User mockUser;
   private String testEmail;
@@ -63,7 +73,7 @@ class UserActivityServiceImplTest {
   }
 
   @Test
-  @DisplayName("정상적으로 사용자 활동 내역을 반환한다 - 구독, 댓글, 좋아요, 기사 포함")
+  @DisplayName("read model 이 없으면 DB 에서 활동 내역을 만들어 반환하고 저장한다 - 구독, 댓글, 좋아요, 기사 포함")
   void getUserActivity_success() {
     // mock 구독
     Keyword k1 = new Keyword();
@@ -123,10 +133,14 @@ class UserActivityServiceImplTest {
 
     // given
     when(userRepository.findByIdAndActiveTrue(userId)).thenReturn(Optional.of(mockUser));
-    when(userSubscriberRepository.findInterestsByUser(mockUser)).thenReturn(List.of(interest));
+    when(userActivityReadModel.find(userId)).thenReturn(Optional.empty());
+    when(userActivityReadModel.version(userId)).thenReturn("3");
+    when(userSubscriptionCache.getSubscribedInterestIds(userId)).thenReturn(Set.of(interest.getId()));
+    when(interestRepository.findAllWithKeywordsByIdIn(Set.of(interest.getId()))).thenReturn(List.of(interest));
     when(commentRepository.findTop10RecentCommentsByUserId(userId)).thenReturn(List.of(comment));
     when(commentLikeRepository.findTop10ByUser_IdOrderByCreatedAtDesc(userId)).thenReturn(List.of(commentLike));
-    when(activityDetailRepository.findRecentViewedArticlesByUser(mockUser)).thenReturn(List.of(articleView));
+    when(activityDetailRepository.findRecentViewedArticlesByUserId(userId, PageRequest.of(0, UserActivityReadModel.MAX_ITEMS)))
+        .thenReturn(List.of(articleView));
 
     // when
     UserActivityResponse response = userActivityService.getUserActivity(userId);
@@ -161,10 +175,33 @@ class UserActivityServiceImplTest {
 
     // verify
     verify(userRepository).findByIdAndActiveTrue(userId);
-    verify(userSubscriberRepository).findInterestsByUser(mockUser);
+    verify(userSubscriptionCache).getSubscribedInterestIds(userId);
+    verify(interestRepository).findAllWithKeywordsByIdIn(Set.of(interest.getId()));
     verify(commentRepository).findTop10RecentCommentsByUserId(userId);
     verify(commentLikeRepository).findTop10ByUser_IdOrderByCreatedAtDesc(userId);
-    verify(activityDetailRepository).findRecentViewedArticlesByUser(mockUser);
+    verify(activityDetailRepository).findRecentViewedArticlesByUserId(userId, PageRequest.of(0, UserActivityReadModel.MAX_ITEMS));
+    verify(userActivityReadModel).store(eq(userId), eq("3"), any(UserActivityReadModel.Document.class));
+  }
+
+  @Test
+  @DisplayName("read model 이 있으면 DB 활동 조회 없이 그대로 반환한다")
+  void getUserActivity_servedFromReadModel() {
+    UserCommentActivityDto commentDto = UserCommentActivityDto.builder()
+        .id(UUID.randomUUID())
+        .content("캐시된 댓글")
+        .build();
+    UserActivityReadModel.Document document = new UserActivityReadModel.Document(
+        List.of(), List.of(commentDto), List.of(), List.of());
+
+    when(userRepository.findByIdAndActiveTrue(userId)).thenReturn(Optional.of(mockUser));
+    when(userActivityReadModel.find(userId)).thenReturn(Optional.of(document));
+
+    UserActivityResponse response = userActivityService.getUserActivity(userId);
+
+    assertThat(response.getComments()).extracting(UserCommentActivityDto::getContent).containsExactly("캐시된 댓글");
+    assertThat(response.getSubscriptions()).isEmpty();
+    verify(userActivityReadModel, never()).store(any(), any());
+    verifyNoInteractions(userSubscriptionCache, interestRepository, commentRepository, commentLikeRepository, activityDetailRepository);
   }
 
   @Test
@@ -176,6 +213,6 @@ class UserActivityServiceImplTest {
         .isInstanceOf(UserNotFoundException.class);
 
     verify(userRepository).findByIdAndActiveTrue(userId);
-    verifyNoMoreInteractions(userSubscriberRepository, commentRepository, commentLikeRepository, activityDetailRepository);
+    verifyNoMoreInteractions(userSubscriptionCache, interestRepository, commentRepository, commentLikeRepository, activityDetailRepository);
   }
 }
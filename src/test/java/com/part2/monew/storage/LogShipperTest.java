@@ -0,0 +1,135 @@
+package com.part2.monew.storage;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.part2.monew.util.SlackNotificationService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class LogShipperTest {
+
+  @TempDir
+  Path logDir;
+
+  @TempDir
+  Path storageRoot;
+
+  @Mock
+  private SlackNotificationService slackNotificationService;
+
+  private LocalBackupStorage storage;
+  private LogShipper shipper;
+
+  @BeforeEach
+  void setUp() {
+    storage = new LocalBackupStorage(storageRoot.toString());
+    shipper = shipper(storage, 3);
+  }
+
+  @AfterEach
+  void tearDown() {
+    shipper.shutdown();
+  }
+
+  @Test
+  @DisplayName("[증분] 처음에는 파일 전체를, 다음 실행에서는 이어서 쓰인 부분만 시작 위치를 붙인 키로 올린다")
+  void shipLogs_uploadsOnlyAppendedBytes() throws IOException {
+    Path log = logDir.resolve("application.log");
+    Files.writeString(log, "첫 번째 줄\n");
+    long firstSize = Files.size(log);
+
+    shipper.shipLogs();
+    Files.writeString(log, "두 번째 줄\n", StandardOpenOption.APPEND);
+    shipper.shipLogs();
+
+    String today = LocalDate.now().toString();
+    assertThat(read("logs/application.log." + today + ".0.gz")).isEqualTo("첫 번째 줄\n");
+    assertThat(read("logs/application.log." + today + "." + firstSize + ".gz")).isEqualTo("두 번째 줄\n");
+    verify(slackNotificationService, never()).sendNotification(anyString());
+  }
+
+  @Test
+  @DisplayName("[증분] 바뀌지 않은 파일은 다시 올리지 않는다")
+  void shipLogs_skipsUnchangedFile() throws IOException {
+    Files.writeString(logDir.resolve("application.2024-01-01.log"), "굴려진 로그\n");
+
+    shipper.shipLogs();
+    shipper.shipLogs();
+
+    assertThat(storage.list("logs/")).extracting(BackupStorage.StoredObject::key)
+        .containsExactly("logs/application.2024-01-01.log.gz");
+  }
+
+  @Test
+  @DisplayName("[재시도] 일시적인 업로드 실패는 재시도해서 올린다")
+  void shipLogs_retriesTransientFailure() throws IOException {
+    Files.writeString(logDir.resolve("application.2024-01-01.log"), "재시도 로그\n");
+    BackupStorage flaky = mock(BackupStorage.class);
+    given(flaky.openUpload(anyString(), anyString()))
+        .willThrow(new IllegalStateException("일시 오류"))
+        .willAnswer(invocation -> storage.openUpload(invocation.getArgument(0), invocation.getArgument(1)));
+    LogShipper retrying = shipper(flaky, 3);
+
+    retrying.shipLogs();
+
+    assertThat(read("logs/application.2024-01-01.log.gz")).isEqualTo("재시도 로그\n");
+    verify(flaky, times(2)).openUpload(anyString(), anyString());
+    verify(slackNotificationService, never()).sendNotification(anyString());
+    retrying.shutdown();
+  }
+
+  @Test
+  @DisplayName("[재시도] 끝까지 실패하면 위치를 옮기지 않고 알림을 보내며, 다음 실행에서 처음부터 다시 올린다")
+  void shipLogs_keepsOffsetWhenAllAttemptsFail() throws IOException {
+    Files.writeString(logDir.resolve("application.2024-01-01.log"), "실패 로그\n");
+    BackupStorage broken = mock(BackupStorage.class);
+    given(broken.openUpload(anyString(), anyString())).willThrow(new IllegalStateException("저장소 오류"));
+    given(broken.location()).willReturn("broken");
+    LogShipper failing = shipper(broken, 2);
+
+    failing.shipLogs();
+    failing.shutdown();
+    shipper.shipLogs();
+
+    verify(broken, times(2)).openUpload(anyString(), anyString());
+    verify(slackNotificationService).sendNotification(anyString());
+    assertThat(read("logs/application.2024-01-01.log.gz")).isEqualTo("실패 로그\n");
+  }
+
+  private LogShipper shipper(BackupStorage backupStorage, int maxAttempts) {
+    return new LogShipper(backupStorage, slackNotificationService, new ObjectMapper(), logDir.toString(), 2,
+        maxAttempts, 1);
+  }
+
+  private String read(String key) throws IOException {
+    List<String> keys = storage.list("logs/").stream().map(BackupStorage.StoredObject::key).toList();
+    assertThat(keys).contains(key);
+    try (InputStream in = new GZIPInputStream(storage.openRead(key))) {
+      return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+    }
+  }
+}
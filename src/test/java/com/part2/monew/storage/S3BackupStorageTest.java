@@ -0,0 +1,98 @@
+package com.part2.monew.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.core.async.AsyncResponseTransformer;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.willAnswer;
+
+@ExtendWith(MockitoExtension.class)
+class S3BackupStorageTest {
+
+  @Mock
+  private S3Client s3Client;
+
+  @Mock
+  private S3AsyncClient s3AsyncClient;
+
+  private SimpleMeterRegistry meterRegistry;
+  private S3BackupStorage storage;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    storage = new S3BackupStorage(s3Client, s3AsyncClient, meterRegistry, "bucket", 8, 2);
+  }
+
+  @Test
+  @DisplayName("[메트릭] 끝까지 읽으면 받은 바이트 수를 성공으로 기록한다")
+  void openRead_recordsSuccessAtEof() throws IOException {
+    givenObject(new ByteArrayInputStream(new byte[100]));
+
+    try (InputStream in = storage.openRead("backups/news/a.ndjson.gz")) {
+      in.readAllBytes();
+    }
+
+    assertThat(meterRegistry.counter("monew.storage.s3.bytes", "operation", "download").count()).isEqualTo(100.0);
+    assertThat(meterRegistry.counter("monew.storage.s3.failures", "operation", "download").count()).isZero();
+  }
+
+  @Test
+  @DisplayName("[메트릭] 끝까지 읽지 않고 닫으면 성공으로 기록하지 않는다")
+  void openRead_earlyCloseIsNotRecorded() throws IOException {
+    givenObject(new ByteArrayInputStream(new byte[100]));
+
+    try (InputStream in = storage.openRead("backups/news/a.ndjson.gz")) {
+      in.read(new byte[10]);
+    }
+
+    assertThat(meterRegistry.find("monew.storage.s3.bytes").counter()).isNull();
+    assertThat(meterRegistry.find("monew.storage.s3.failures").counter()).isNull();
+  }
+
+  @Test
+  @DisplayName("[메트릭] 읽다가 오류가 나면 실패로 기록한다")
+  void openRead_recordsFailureOnError() {
+    givenObject(new InputStream() {
+      @Override
+      public int read() throws IOException {
+        throw new IOException("연결 끊김");
+      }
+    });
+
+    assertThatThrownBy(() -> {
+      try (InputStream in = storage.openRead("backups/news/a.ndjson.gz")) {
+        in.read(new byte[10]);
+      }
+    }).isInstanceOf(IOException.class);
+
+    assertThat(meterRegistry.counter("monew.storage.s3.failures", "operation", "download").count()).isEqualTo(1.0);
+    assertThat(meterRegistry.find("monew.storage.s3.bytes").counter()).isNull();
+  }
+
+  private void givenObject(InputStream content) {
+    ResponseInputStream<GetObjectResponse> response =
+        new ResponseInputStream<>(GetObjectResponse.builder().build(), AbortableInputStream.create(content));
+    willAnswer(invocation -> CompletableFuture.completedFuture(response))
+        .given(s3AsyncClient).getObject(any(GetObjectRequest.class), any(AsyncResponseTransformer.class));
+  }
+}
@@ -0,0 +1,146 @@
+package com.part2.monew.storage;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class S3MultipartUploadStreamTest {
+
+  private static final int PART = S3MultipartUploadStream.MIN_PART_SIZE;
+
+  @Mock
+  private S3Client s3Client;
+
+  private SimpleMeterRegistry meterRegistry;
+  private S3TransferMetrics metrics;
+
+  @BeforeEach
+  void setUp() {
+    meterRegistry = new SimpleMeterRegistry();
+    metrics = new S3TransferMetrics(meterRegistry);
+    given(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+        .willReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+  }
+
+  @Test
+  @DisplayName("[파트] partSize 단위로 나눠 올리고 마지막 파트는 남은 크기만 올린 뒤 파트 번호 순으로 완료한다")
+  void close_uploadsFixedSizePartsAndCompletes() throws IOException {
+    givenPartsSucceed();
+    S3MultipartUploadStream upload = open(PART);
+
+    byte[] chunk = new byte[1024 * 1024];
+    for (int i = 0; i < 10; i++) {
+      upload.write(chunk);
+    }
+    upload.write(new byte[100]);
+    upload.close();
+
+    assertThat(partLengths()).containsExactly((long) PART, (long) PART, 100L);
+    ArgumentCaptor<CompleteMultipartUploadRequest> complete = ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+    verify(s3Client).completeMultipartUpload(complete.capture());
+    assertThat(complete.getValue().uploadId()).isEqualTo("upload-1");
+    assertThat(complete.getValue().multipartUpload().parts())
+        .extracting(CompletedPart::partNumber, CompletedPart::eTag)
+        .containsExactly(
+            tuple(1, "etag-1"),
+            tuple(2, "etag-2"),
+            tuple(3, "etag-3"));
+    assertThat(upload.getBytesWritten()).isEqualTo(10L * 1024 * 1024 + 100);
+    assertThat(meterRegistry.counter("monew.storage.s3.bytes", "operation", "upload").count())
+        .isEqualTo(10.0 * 1024 * 1024 + 100);
+  }
+
+  @Test
+  @DisplayName("[파트] 설정한 partSize 가 S3 최소 크기(5MB) 보다 작으면 5MB 로 올린다")
+  void partSize_isRaisedToMinimum() throws IOException {
+    givenPartsSucceed();
+    S3MultipartUploadStream upload = open(1024);
+
+    upload.write(new byte[PART + 10]);
+    upload.close();
+
+    assertThat(partLengths()).containsExactly((long) PART, 10L);
+  }
+
+  @Test
+  @DisplayName("[완료] 아무것도 쓰지 않아도 빈 파트 1개로 완료한다")
+  void close_emptyStreamCompletesWithOnePart() throws IOException {
+    givenPartsSucceed();
+    S3MultipartUploadStream upload = open(PART);
+
+    upload.close();
+    upload.close();
+
+    assertThat(partLengths()).containsExactly(0L);
+    verify(s3Client, times(1)).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+  }
+
+  @Test
+  @DisplayName("[중단] close 실패 후 호출 측이 다시 abort 해도 한 번만 중단하고 실패를 한 번만 센다")
+  void abort_isIdempotent() throws IOException {
+    willThrow(new IllegalStateException("part failed"))
+        .given(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+    S3MultipartUploadStream upload = open(PART);
+    upload.write(new byte[10]);
+
+    assertThatThrownBy(upload::close).isInstanceOf(IOException.class);
+    upload.abort();
+    upload.abort();
+
+    verify(s3Client, times(1)).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+    verify(s3Client, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    assertThat(meterRegistry.counter("monew.storage.s3.failures", "operation", "upload").count()).isEqualTo(1.0);
+  }
+
+  private S3MultipartUploadStream open(int partSize) {
+    return new S3MultipartUploadStream(s3Client, metrics, "bucket", "backups/news/test.ndjson.gz",
+        "application/x-ndjson", partSize, 2);
+  }
+
+  private void givenPartsSucceed() {
+    willAnswer(invocation -> {
+      UploadPartRequest request = invocation.getArgument(0);
+      return UploadPartResponse.builder().eTag("etag-" + request.partNumber()).build();
+    }).given(s3Client).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+  }
+
+  private List<Long> partLengths() {
+    ArgumentCaptor<UploadPartRequest> parts = ArgumentCaptor.forClass(UploadPartRequest.class);
+    verify(s3Client, atLeastOnce()).uploadPart(parts.capture(), any(RequestBody.class));
+    return parts.getAllValues().stream()
+        .sorted(Comparator.comparing(UploadPartRequest::partNumber))
+        .map(UploadPartRequest::contentLength)
+        .toList();
+  }
+}
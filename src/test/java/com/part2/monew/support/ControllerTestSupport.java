@@ -3,11 +3,14 @@ package com.part2.monew.support;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.part2.monew.controller.CommentController;
 import com.part2.monew.controller.InterestController;
+import com.part2.monew.controller.NotificationController;
 import com.part2.monew.controller.UserActivityController;
 import com.part2.monew.controller.UserController;
 import com.part2.monew.mapper.UserMapper;
 import com.part2.monew.service.CommentService;
 import com.part2.monew.service.InterestService;
+import com.part2.monew.service.NotificationPushService;
+import com.part2.monew.service.NotificationService;
 import com.part2.monew.service.UserActivityService;
 import com.part2.monew.service.UserService;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -20,6 +23,7 @@ import org.springframework.test.web.servlet.MockMvc;
 @WebMvcTest(controllers = {
         CommentController.class,
         InterestController.class,
+        NotificationController.class,
         UserActivityController.class,
         UserController.class
 })
@@ -45,4 +49,10 @@ public abstract class ControllerTestSupport {
 
     @MockitoBean
     protected UserMapper userMapper;
+
+    @MockitoBean
+    protected NotificationService notificationService;
+
+    @MockitoBean
+    protected NotificationPushService notificationPushService;
 }